@@ -0,0 +1,79 @@
+package com.fintrackpro.infrastructure.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding one access token per request: full RSA verification against a hit in
+ * {@link CachingJwtDecoder}. The token has the claims {@link JwtService} issues and
+ * is signed with a 2048-bit key, like the one in the README.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtDecoderBenchmark {
+
+    private String token;
+    private JwtDecoder verifying;
+    private JwtDecoder caching;
+
+    @Setup
+    public void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        JwtKeyRing keyRing = new JwtKeyRing(List.of(JwtKeyRing.toJwk(
+                "benchmark", JwtSigningAlgorithm.RS256, keyPair.getPublic(), keyPair.getPrivate())), "benchmark");
+
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuer("fintrack-pro")
+                .issuedAt(now)
+                .expiresAt(now.plus(1, ChronoUnit.HOURS))
+                .subject("benchmark")
+                .claim("email", "benchmark@example.com")
+                .claim("userId", 42L)
+                .claim("type", "access")
+                .build();
+        token = new KeyRingJwtEncoder(keyRing).encode(JwtEncoderParameters.from(claims)).getTokenValue();
+
+        verifying = new NimbusJwtDecoder(new KeyRingJwtProcessor(keyRing));
+        caching = new CachingJwtDecoder(new NimbusJwtDecoder(new KeyRingJwtProcessor(keyRing)), 10_000,
+                new SimpleMeterRegistry());
+        caching.decode(token);
+    }
+
+    @Benchmark
+    public Jwt verify() {
+        return verifying.decode(token);
+    }
+
+    @Benchmark
+    public Jwt cacheHit() {
+        return caching.decode(token);
+    }
+}
@@ -0,0 +1,20 @@
+package com.fintrackpro.application.port.input;
+
+import com.fintrackpro.domain.event.DomainEvent;
+import com.fintrackpro.domain.event.EventPosition;
+
+/**
+ * Asynchronous reaction to a published domain event.
+ * Delivery is at least once: after a crash an event may be handled again, and a handler
+ * that throws gets the event redelivered with backoff. Events of one user arrive in order.
+ */
+public interface DomainEventHandler {
+
+    boolean supports(DomainEvent event);
+
+    /**
+     * @param event    the event
+     * @param position the event's place among the user's events
+     */
+    void handle(DomainEvent event, EventPosition position);
+}
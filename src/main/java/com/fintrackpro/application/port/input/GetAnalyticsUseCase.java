@@ -25,6 +25,8 @@ public interface GetAnalyticsUseCase {
 
     SpendingPatternResponse getSpendingPatterns(Long userId, LocalDate startDate, LocalDate endDate);
 
+    TagSpendingResponse getTagSpending(Long userId, TransactionType type, LocalDate startDate, LocalDate endDate);
+
     ComparisonResponse getComparison(Long userId, String type);
 
     SavingsRateResponse getSavingsRate(Long userId, String period);
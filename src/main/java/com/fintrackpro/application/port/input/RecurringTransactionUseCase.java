@@ -0,0 +1,43 @@
+package com.fintrackpro.application.port.input;
+
+import com.fintrackpro.domain.model.RecurringRule;
+import com.fintrackpro.domain.model.RecurringRuleUpdate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Use case interface for managing recurring rules and materializing their transactions.
+ */
+public interface RecurringTransactionUseCase {
+
+    /**
+     * Claims one batch of due recurring rules and creates all of their occurrences up to {@code asOf}.
+     *
+     * @param asOf      occurrences dated on or before this day are created
+     * @param batchSize maximum number of rules to claim
+     * @return the number of rules claimed; fewer than {@code batchSize} means no due rules are left
+     */
+    int materializeDueOccurrences(LocalDate asOf, int batchSize);
+
+    /**
+     * @return all rules of the user, newest first
+     */
+    List<RecurringRule> getRules(Long userId);
+
+    RecurringRule getRule(Long userId, Long ruleId);
+
+    /**
+     * Changes the template of a rule that has not been cancelled.
+     *
+     * @return the updated rule
+     */
+    RecurringRule updateRule(Long userId, Long ruleId, RecurringRuleUpdate update);
+
+    /**
+     * Stops a rule for good. Transactions it already created are kept; cancelling twice is a no-op.
+     *
+     * @return the cancelled rule
+     */
+    RecurringRule cancelRule(Long userId, Long ruleId);
+}
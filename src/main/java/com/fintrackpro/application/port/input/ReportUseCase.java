@@ -0,0 +1,78 @@
+package com.fintrackpro.application.port.input;
+
+import com.fintrackpro.domain.model.ReportJob;
+import com.fintrackpro.domain.model.StoredBlob;
+import com.fintrackpro.domain.valueobject.ReportFormat;
+import com.fintrackpro.domain.valueobject.ReportType;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Use case interface for asynchronous report generation.
+ */
+public interface ReportUseCase {
+
+    /**
+     * Queues a report. The period is given by {@code period} for monthly statements
+     * ({@code yyyy-MM}) and yearly summaries ({@code yyyy}), and by the dates for category reports.
+     *
+     * @return the queued job
+     */
+    ReportJob submitReport(Long userId, ReportType type, ReportFormat format, String period,
+                           LocalDate startDate, LocalDate endDate);
+
+    ReportJob getReport(Long userId, Long reportId);
+
+    /**
+     * @return the user's most recent report jobs, newest first
+     */
+    List<ReportJob> getRecentReports(Long userId);
+
+    /**
+     * @return the generated file of a completed report
+     */
+    StoredBlob getReportFile(Long userId, Long reportId);
+
+    /**
+     * Copies a byte range of a report file to a channel.
+     */
+    long transferTo(StoredBlob file, long position, long count, WritableByteChannel target) throws IOException;
+
+    /**
+     * Claims queued jobs for this node and marks them running.
+     *
+     * @param limit maximum number of jobs to claim
+     * @return the claimed jobs
+     */
+    List<ReportJob> claimQueuedReports(int limit);
+
+    /**
+     * Generates a claimed report and records the result. Failures are recorded on the job,
+     * not thrown.
+     */
+    void runReport(ReportJob job);
+
+    /**
+     * Puts a claimed job back in the queue, e.g. when no worker could take it.
+     */
+    void releaseReport(ReportJob job);
+
+    /**
+     * Fails running jobs that were started before {@code startedBefore} and never finished.
+     *
+     * @return number of failed jobs
+     */
+    int failStaleReports(LocalDateTime startedBefore);
+
+    /**
+     * Deletes completed and failed jobs older than the retention period, and their files unless
+     * another report or a transaction refers to the same file.
+     *
+     * @return number of deleted jobs
+     */
+    int purgeExpiredReports();
+}
@@ -0,0 +1,30 @@
+package com.fintrackpro.application.port.input;
+
+import com.fintrackpro.domain.model.SyncBatch;
+
+/**
+ * Use case interface for incremental synchronisation of clients that keep a local copy of a
+ * user's wallets, categories and transactions.
+ */
+public interface SyncUseCase {
+
+    /**
+     * Returns up to {@code limit} changes made after the position in {@code since}, oldest first.
+     * Without a token, or with one older than the tombstone retention, everything is returned
+     * as a full sync.
+     *
+     * @param userId the current user
+     * @param since  nextToken of the previous batch, or null
+     * @param limit  maximum number of changes in the batch
+     * @return the changes and the token to continue from
+     */
+    SyncBatch sync(Long userId, String since, int limit);
+
+    /**
+     * Deletes tombstones older than the retention. Tokens issued before that are answered with
+     * a full sync.
+     *
+     * @return number of deleted tombstones
+     */
+    int purgeTombstones();
+}
@@ -0,0 +1,42 @@
+package com.fintrackpro.application.port.input;
+
+import com.fintrackpro.domain.model.StoredBlob;
+import com.fintrackpro.domain.model.Transaction;
+import com.fintrackpro.domain.valueobject.AttachmentKind;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Use case interface for the receipt and attachment files of transactions.
+ */
+public interface TransactionAttachmentUseCase {
+
+    /**
+     * Stores a file and points the transaction's receipt or attachment URL at it.
+     *
+     * @param userId        the current user, who must own the transaction
+     * @param transactionId the transaction ID
+     * @param kind          which file slot to fill
+     * @param content       the file content, streamed into the store
+     * @param contentType   media type of the file
+     * @return the updated transaction
+     */
+    Transaction attach(Long userId, Long transactionId, AttachmentKind kind, InputStream content, String contentType);
+
+    /**
+     * @return the stored file of the given slot
+     */
+    StoredBlob getAttachment(Long userId, Long transactionId, AttachmentKind kind);
+
+    /**
+     * @return the thumbnail of the stored image in the given slot
+     */
+    StoredBlob getThumbnail(Long userId, Long transactionId, AttachmentKind kind);
+
+    /**
+     * Copies a byte range of a stored file to a channel.
+     */
+    long transferTo(StoredBlob blob, long position, long count, WritableByteChannel target) throws IOException;
+}
@@ -0,0 +1,22 @@
+package com.fintrackpro.application.port.input;
+
+import com.fintrackpro.domain.valueobject.AutocompleteField;
+
+import java.util.List;
+
+/**
+ * Use case interface for autocompleting transaction fields while they are typed.
+ */
+public interface TransactionAutocompleteUseCase {
+
+    /**
+     * Suggests values the user entered before that start with the given prefix.
+     *
+     * @param userId the user ID
+     * @param field  the field being typed
+     * @param prefix the typed text; null or empty for the most used values
+     * @param limit  maximum number of suggestions
+     * @return suggestions, most used first
+     */
+    List<String> suggest(Long userId, AutocompleteField field, String prefix, int limit);
+}
@@ -0,0 +1,45 @@
+package com.fintrackpro.application.port.input;
+
+import com.fintrackpro.domain.model.TransactionFilter;
+import com.fintrackpro.domain.model.TransactionListItem;
+
+import java.util.function.Consumer;
+
+/**
+ * Use case interface for exporting a user's transactions.
+ */
+public interface TransactionExportUseCase {
+
+    /**
+     * Takes one of the user's export slots and one of this node's. Each export holds a database
+     * connection until it ends, so the number running at once is bounded.
+     *
+     * @param userId the current user
+     * @return the slot, to be closed when the export has ended
+     * @throws com.fintrackpro.domain.exception.TooManyRequestsException if the user or this node
+     *         already runs the maximum number of exports
+     */
+    ExportSlot reserveSlot(Long userId);
+
+    /**
+     * Hands every matching transaction to {@code rowWriter}, newest first, as it is read.
+     * Rows are never collected, so memory use does not depend on the number exported.
+     *
+     * @param userId    the current user
+     * @param filter    the filter criteria
+     * @param rowWriter receives each row; runs inside a read-only database transaction
+     * @return the number of exported transactions
+     * @throws IllegalStateException if the export runs past its time limit; the rows written so far
+     *         are an incomplete export
+     */
+    long exportTransactions(Long userId, TransactionFilter filter, Consumer<TransactionListItem> rowWriter);
+
+    /**
+     * A reserved export slot; closing it more than once has no effect.
+     */
+    interface ExportSlot extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
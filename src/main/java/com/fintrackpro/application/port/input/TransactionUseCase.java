@@ -1,7 +1,9 @@
 package com.fintrackpro.application.port.input;
 
+import com.fintrackpro.domain.model.CursorPage;
 import com.fintrackpro.domain.model.Transaction;
 import com.fintrackpro.domain.model.TransactionFilter;
+import com.fintrackpro.domain.model.TransactionListItem;
 import com.fintrackpro.domain.valueobject.TransactionType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -41,7 +43,19 @@ public interface TransactionUseCase {
      * @param pageable pagination info
      * @return page of transactions
      */
-    Page<Transaction> getFilteredTransactions(Long userId, TransactionFilter filter, Pageable pageable);
+    Page<TransactionListItem> getFilteredTransactions(Long userId, TransactionFilter filter, Pageable pageable);
+
+    /**
+     * Retrieves transactions with filtering and keyset pagination, newest first.
+     * Unlike offset pages, every page costs the same and no total is counted.
+     *
+     * @param userId the user ID
+     * @param filter the filter criteria
+     * @param cursor cursor returned with the previous page, or null for the first page
+     * @param limit  page size
+     * @return the page and the cursor of the next one
+     */
+    CursorPage<TransactionListItem> getTransactionsAfter(Long userId, TransactionFilter filter, String cursor, int limit);
 
     /**
      * Retrieves all transactions for a user.
@@ -49,7 +63,7 @@ public interface TransactionUseCase {
      * @param userId the user ID
      * @return list of transactions
      */
-    List<Transaction> getUserTransactions(Long userId);
+    List<TransactionListItem> getUserTransactions(Long userId);
 
     /**
      * Retrieves transactions for a specific wallet.
@@ -58,7 +72,7 @@ public interface TransactionUseCase {
      * @param walletId the wallet ID
      * @return list of transactions
      */
-    List<Transaction> getWalletTransactions(Long userId, Long walletId);
+    List<TransactionListItem> getWalletTransactions(Long userId, Long walletId);
 
     /**
      * Retrieves transactions by category.
@@ -67,7 +81,7 @@ public interface TransactionUseCase {
      * @param categoryId the category ID
      * @return list of transactions
      */
-    List<Transaction> getTransactionsByCategory(Long userId, Long categoryId);
+    List<TransactionListItem> getTransactionsByCategory(Long userId, Long categoryId);
 
     /**
      * Retrieves transactions by type.
@@ -76,7 +90,7 @@ public interface TransactionUseCase {
      * @param type   the transaction type
      * @return list of transactions
      */
-    List<Transaction> getTransactionsByType(Long userId, TransactionType type);
+    List<TransactionListItem> getTransactionsByType(Long userId, TransactionType type);
 
     /**
      * Retrieves transactions within a date range.
@@ -86,7 +100,7 @@ public interface TransactionUseCase {
      * @param endDate   the end date
      * @return list of transactions
      */
-    List<Transaction> getTransactionsByDateRange(Long userId, LocalDate startDate, LocalDate endDate);
+    List<TransactionListItem> getTransactionsByDateRange(Long userId, LocalDate startDate, LocalDate endDate);
 
     /**
      * Retrieves recent transactions.
@@ -95,16 +109,17 @@ public interface TransactionUseCase {
      * @param limit  maximum number of transactions
      * @return list of recent transactions
      */
-    List<Transaction> getRecentTransactions(Long userId, int limit);
+    List<TransactionListItem> getRecentTransactions(Long userId, int limit);
 
     /**
-     * Searches transactions by description.
+     * Searches transactions by description, payee, location and notes, best matches first.
      *
      * @param userId     the user ID
      * @param searchTerm the search term
-     * @return list of matching transactions
+     * @param pageable   the page to return
+     * @return page of matching transactions
      */
-    List<Transaction> searchTransactions(Long userId, String searchTerm);
+    Page<TransactionListItem> searchTransactions(Long userId, String searchTerm, Pageable pageable);
 
     /**
      * Updates an existing transaction.
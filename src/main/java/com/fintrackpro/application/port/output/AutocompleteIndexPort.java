@@ -0,0 +1,33 @@
+package com.fintrackpro.application.port.output;
+
+import com.fintrackpro.domain.event.EventPosition;
+import com.fintrackpro.domain.valueobject.AutocompleteField;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Port for the in-memory index of the payees and descriptions each user has entered.
+ */
+public interface AutocompleteIndexPort {
+
+    /**
+     * Finds the values of a field that start with a prefix, ignoring case.
+     *
+     * @param userId the user ID
+     * @param field  the field to complete
+     * @param prefix the typed prefix; empty for the most used values
+     * @param limit  maximum number of values to return
+     * @return values ordered by how often the user entered them
+     */
+    List<String> suggest(Long userId, AutocompleteField field, String prefix, int limit);
+
+    /**
+     * Records that values were entered or removed by the write an event reports.
+     *
+     * @param userId       the user ID
+     * @param weightDeltas change of the number of transactions per field and value
+     * @param position     the event's place among the user's events
+     */
+    void record(Long userId, Map<AutocompleteField, Map<String, Integer>> weightDeltas, EventPosition position);
+}
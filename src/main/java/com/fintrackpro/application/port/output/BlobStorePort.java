@@ -0,0 +1,81 @@
+package com.fintrackpro.application.port.output;
+
+import com.fintrackpro.domain.model.StoredBlob;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Port for storing receipt, attachment and report files by content.
+ */
+public interface BlobStorePort {
+
+    /**
+     * Streams content into the store. Storing content that is already present
+     * returns the existing blob without writing a second copy.
+     *
+     * @param content     the content, read to the end but not closed
+     * @param contentType media type of the content
+     * @return the stored blob
+     */
+    StoredBlob store(InputStream content, String contentType);
+
+    /**
+     * Stores content produced by a writer, e.g. a generated report. The content is written
+     * to disk as it is produced and not subject to the upload size limit.
+     *
+     * @param content     writes the content to the given stream, which it must not close
+     * @param contentType media type of the content
+     * @return the stored blob
+     */
+    StoredBlob store(ContentWriter content, String contentType);
+
+    /**
+     * @param blobId the blob ID
+     * @return the blob, or empty if it is not in the store
+     */
+    Optional<StoredBlob> find(String blobId);
+
+    /**
+     * Returns the thumbnail of an image blob. Thumbnails are created in the background,
+     * so a freshly stored image may not have one yet.
+     *
+     * @param blobId ID of the original image
+     * @return the thumbnail blob, or empty if there is none (yet)
+     */
+    Optional<StoredBlob> findThumbnail(String blobId);
+
+    /**
+     * Copies a byte range of a blob to a channel without loading it onto the heap.
+     *
+     * @param blob     the blob to read
+     * @param position offset of the first byte to copy
+     * @param count    number of bytes to copy
+     * @param target   channel to write to
+     * @return the number of bytes copied
+     */
+    long transferTo(StoredBlob blob, long position, long count, WritableByteChannel target) throws IOException;
+
+    /**
+     * Deletes a blob unless it was stored, or stored again, at or after {@code storedBefore}.
+     * The caller makes sure nothing refers to the blob any more; the time keeps a blob that is
+     * being stored for a new reference right now.
+     *
+     * @param blobId       the blob ID
+     * @param storedBefore only blobs last stored before this time are deleted
+     * @return true if the blob was deleted
+     */
+    boolean deleteIfStoredBefore(String blobId, Instant storedBefore);
+
+    /**
+     * Produces blob content by writing it to a stream.
+     */
+    @FunctionalInterface
+    interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,15 @@
+package com.fintrackpro.application.port.output;
+
+/**
+ * Port for invalidating cached category lists after a user's categories change.
+ */
+public interface CategoryCachePort {
+
+    /**
+     * Drops the cached custom categories of a user. Inside a transaction the entry is dropped
+     * again once it completes, so a read running concurrently cannot cache the old list.
+     *
+     * @param userId the user whose categories changed
+     */
+    void invalidateUserCategories(Long userId);
+}
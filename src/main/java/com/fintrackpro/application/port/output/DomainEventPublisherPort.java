@@ -0,0 +1,28 @@
+package com.fintrackpro.application.port.output;
+
+import com.fintrackpro.domain.event.DomainEvent;
+
+import java.util.List;
+
+/**
+ * Port for publishing domain events.
+ */
+public interface DomainEventPublisherPort {
+
+    /**
+     * Records an event as part of the current transaction. It is delivered to the
+     * registered handlers only after, and only if, that transaction commits.
+     *
+     * @param event the event to publish
+     */
+    void publish(DomainEvent event);
+
+    /**
+     * Records several events as part of the current transaction, preserving their order.
+     *
+     * @param events the events to publish
+     */
+    default void publishAll(List<? extends DomainEvent> events) {
+        events.forEach(this::publish);
+    }
+}
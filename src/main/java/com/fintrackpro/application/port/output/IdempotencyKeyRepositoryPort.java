@@ -0,0 +1,73 @@
+package com.fintrackpro.application.port.output;
+
+import com.fintrackpro.domain.model.IdempotencyRecord;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Port for the idempotency dedupe store.
+ * Claiming, completing and releasing a key join the caller's transaction, which is the one the
+ * request's writes run in, so a key and the writes it guards commit or roll back together.
+ */
+public interface IdempotencyKeyRepositoryPort {
+
+    /**
+     * Finds the stored record for a user's idempotency key.
+     *
+     * @param userId the user ID
+     * @param key    the Idempotency-Key header value
+     * @return the record if the key has been seen and is not expired
+     */
+    Optional<IdempotencyRecord> find(Long userId, String key);
+
+    /**
+     * Finds a completed record among those this instance has recently read, without going to the
+     * database.
+     *
+     * @param userId the user ID
+     * @param key    the Idempotency-Key header value
+     * @return the record if it is cached, completed and not expired
+     */
+    Optional<IdempotencyRecord> findCached(Long userId, String key);
+
+    /**
+     * Atomically claims a key for a new request. A key whose record has expired but is not
+     * purged yet can be claimed again. If another transaction holds an uncommitted claim on the
+     * key, this waits until that transaction ends.
+     *
+     * @param userId      the user ID
+     * @param key         the Idempotency-Key header value
+     * @param requestPath the request path the key is used with
+     * @param requestHash the SHA-256 of the request
+     * @param expiresAt   when the stored outcome may be purged
+     * @return true if the key was claimed, false if it already exists and has not expired
+     */
+    boolean claim(Long userId, String key, String requestPath, byte[] requestHash, LocalDateTime expiresAt);
+
+    /**
+     * Stores the response of a claimed key so retries can replay it.
+     *
+     * @param userId         the user ID
+     * @param key            the Idempotency-Key header value
+     * @param responseStatus the HTTP status of the original response
+     * @param responseBody   the serialized body of the original response
+     */
+    void complete(Long userId, String key, int responseStatus, String responseBody);
+
+    /**
+     * Releases a claimed key whose request was not successful, so the client may retry it.
+     *
+     * @param userId the user ID
+     * @param key    the Idempotency-Key header value
+     */
+    void release(Long userId, String key);
+
+    /**
+     * Deletes all records that expired before the given time.
+     *
+     * @param now the reference time
+     * @return the number of purged records
+     */
+    int deleteExpired(LocalDateTime now);
+}
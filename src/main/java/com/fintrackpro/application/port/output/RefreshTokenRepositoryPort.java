@@ -8,7 +8,12 @@ import java.util.Optional;
 public interface RefreshTokenRepositoryPort {
     Optional<RefreshToken> findByToken(String token);
 
+    /**
+     * Stores a newly issued token; {@code refreshToken.token()} must hold its value.
+     */
     RefreshToken save(RefreshToken refreshToken, Long userId);
 
+    void revoke(Long id);
+
     void revokeAllByUserId(Long userId);
 }
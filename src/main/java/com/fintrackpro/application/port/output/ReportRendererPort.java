@@ -0,0 +1,23 @@
+package com.fintrackpro.application.port.output;
+
+import com.fintrackpro.domain.model.ReportContent;
+import com.fintrackpro.domain.valueobject.ReportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Port for writing report files.
+ */
+public interface ReportRendererPort {
+
+    /**
+     * Writes a report to a stream. Implementations keep only a bounded window of rows in
+     * memory, however many transactions the content holds.
+     *
+     * @param content the report content; its transaction stream is consumed
+     * @param format  the file format
+     * @param out     the target, left open
+     */
+    void render(ReportContent content, ReportFormat format, OutputStream out) throws IOException;
+}
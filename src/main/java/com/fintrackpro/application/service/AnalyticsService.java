@@ -1,6 +1,9 @@
 package com.fintrackpro.application.service;
 
 import com.fintrackpro.application.port.input.GetAnalyticsUseCase;
+import com.fintrackpro.domain.model.CategoryTotal;
+import com.fintrackpro.domain.model.DailyTotal;
+import com.fintrackpro.domain.model.DayOfWeekTotal;
 import com.fintrackpro.domain.port.output.TransactionRepositoryPort;
 import com.fintrackpro.domain.port.output.WalletRepositoryPort;
 import com.fintrackpro.domain.valueobject.TransactionType;
@@ -62,9 +65,9 @@ public class AnalyticsService implements GetAnalyticsUseCase {
                 LocalDate start = yearMonth.atDay(1);
                 LocalDate end = yearMonth.atEndOfMonth();
 
-                List<Object[]> incomeData = transactionRepositoryPort.sumAmountByUserIdAndTypeGroupByDate(userId,
+                List<DailyTotal> incomeData = transactionRepositoryPort.sumAmountByUserIdAndTypeGroupByDate(userId,
                                 TransactionType.INCOME, start, end);
-                List<Object[]> expenseData = transactionRepositoryPort.sumAmountByUserIdAndTypeGroupByDate(userId,
+                List<DailyTotal> expenseData = transactionRepositoryPort.sumAmountByUserIdAndTypeGroupByDate(userId,
                                 TransactionType.EXPENSE, start, end);
 
                 // Map to easier structure (simplified for brevity)
@@ -91,20 +94,20 @@ public class AnalyticsService implements GetAnalyticsUseCase {
         @Transactional(readOnly = true)
         public CategoryBreakdownResponse getCategoryBreakdown(Long userId, TransactionType type, LocalDate startDate,
                         LocalDate endDate) {
-                List<Object[]> results = transactionRepositoryPort.sumAmountByUserIdAndTypeGroupByCategory(userId, type,
-                                startDate, endDate);
+                List<CategoryTotal> results = transactionRepositoryPort.sumAmountByUserIdAndTypeGroupByCategory(userId,
+                                type, startDate, endDate);
                 BigDecimal total = results.stream()
-                                .map(r -> (BigDecimal) r[3])
+                                .map(CategoryTotal::amount)
                                 .reduce(BigDecimal.ZERO, BigDecimal::add);
 
-                List<CategoryBreakdownItemSource> items = results.stream().map(r -> {
-                        BigDecimal amount = (BigDecimal) r[3];
+                List<CategoryBreakdownItemSource> items = results.stream().map(c -> {
+                        BigDecimal amount = c.amount();
                         Double percentage = total.compareTo(BigDecimal.ZERO) > 0
                                         ? amount.multiply(new BigDecimal(100)).divide(total, 2, RoundingMode.HALF_UP)
                                                         .doubleValue()
                                         : 0.0;
-                        return new CategoryBreakdownItemSource(
-                                        (Long) r[0], (String) r[1], amount, percentage, (Long) r[4], (String) r[2]);
+                        return new CategoryBreakdownItemSource(c.categoryId(), c.categoryName(), amount, percentage,
+                                        c.transactionCount(), c.categoryColor());
                 }).collect(Collectors.toList());
 
                 return new CategoryBreakdownResponse(items);
@@ -150,14 +153,37 @@ public class AnalyticsService implements GetAnalyticsUseCase {
         @Override
         @Transactional(readOnly = true)
         public SpendingPatternResponse getSpendingPatterns(Long userId, LocalDate startDate, LocalDate endDate) {
-                List<Object[]> patterns = transactionRepositoryPort.sumAmountByUserIdAndTypeGroupByDayOfWeek(userId,
+                List<DayOfWeekTotal> patterns = transactionRepositoryPort.sumAmountByUserIdAndTypeGroupByDayOfWeek(userId,
                                 TransactionType.EXPENSE, startDate, endDate);
                 List<DaySpending> list = patterns.stream()
-                                .map(r -> new DaySpending((String) r[0], (BigDecimal) r[1], (Long) r[2]))
+                                .map(d -> new DaySpending(d.dayOfWeek(), d.amount(), d.transactionCount()))
                                 .collect(Collectors.toList());
                 return new SpendingPatternResponse(list);
         }
 
+        @Override
+        @Transactional(readOnly = true)
+        public TagSpendingResponse getTagSpending(Long userId, TransactionType type, LocalDate startDate,
+                        LocalDate endDate) {
+                // Percentages are of the type's total, so they can add up to more than 100 with multi-tag rows
+                BigDecimal total = transactionRepositoryPort.sumAmountByUserIdAndTypeAndDateRange(userId, type,
+                                startDate, endDate);
+                BigDecimal base = total != null ? total : BigDecimal.ZERO;
+
+                List<TagSpending> tags = transactionRepositoryPort.sumAmountByUserIdAndTypeGroupByTag(userId, type,
+                                startDate, endDate).stream().map(t -> {
+                                        BigDecimal amount = t.amount();
+                                        Double percentage = base.compareTo(BigDecimal.ZERO) > 0
+                                                        ? amount.multiply(new BigDecimal(100))
+                                                                        .divide(base, 2, RoundingMode.HALF_UP)
+                                                                        .doubleValue()
+                                                        : 0.0;
+                                        return new TagSpending(t.tag(), amount, percentage, t.transactionCount());
+                                }).collect(Collectors.toList());
+
+                return new TagSpendingResponse(base, tags);
+        }
+
         @Override
         @Transactional(readOnly = true)
         public ComparisonResponse getComparison(Long userId, String type) {
@@ -45,6 +45,7 @@ public class AuthService implements AuthUseCase {
     private long lockDurationMinutes;
 
     @Override
+    @Transactional
     public User register(User user) {
         if (userRepositoryPort.findByUsername(user.username()).isPresent()) {
             throw new InvalidRequestException(messageUtil.getMessage("error.username.exists"));
@@ -127,7 +128,7 @@ public class AuthService implements AuthUseCase {
 
         // Generate tokens
         String accessToken = jwtService.generateToken(user.username(), user.email(), user.id());
-        String refreshToken = jwtService.generateRefreshToken(user.username(), user.email(), user.id());
+        String refreshToken = jwtService.generateRefreshToken();
 
         // Save refresh token
         saveRefreshToken(user.id(), refreshToken, ipAddress, userAgent);
@@ -199,12 +200,7 @@ public class AuthService implements AuthUseCase {
         RefreshToken refreshToken = refreshTokenRepositoryPort.findByToken(refreshTokenValue)
                 .orElseThrow(() -> new InvalidRequestException(messageUtil.getMessage("error.invalid.refresh.token")));
 
-        RefreshToken revokedToken = refreshToken.toBuilder()
-                .revoked(true)
-                .revokedAt(LocalDateTime.now())
-                .build();
-
-        refreshTokenRepositoryPort.save(revokedToken, refreshToken.user().id());
+        refreshTokenRepositoryPort.revoke(refreshToken.id());
 
         log.info("User logged out: {}", refreshToken.user().email());
     }
@@ -255,6 +251,7 @@ public class AuthService implements AuthUseCase {
     }
 
     @Override
+    @Transactional
     public void verifyEmail(String token) {
         User user = userRepositoryPort.findByEmailVerificationToken(token)
                 .orElseThrow(() -> new InvalidRequestException(messageUtil.getMessage("error.verification.token.invalid")));
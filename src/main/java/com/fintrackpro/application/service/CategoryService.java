@@ -1,10 +1,12 @@
 package com.fintrackpro.application.service;
 
 import com.fintrackpro.application.port.input.CategoryUseCase;
+import com.fintrackpro.application.port.output.CategoryCachePort;
 import com.fintrackpro.domain.exception.InvalidRequestException;
 import com.fintrackpro.domain.model.Category;
 import com.fintrackpro.domain.port.output.CategoryRepositoryPort;
 import com.fintrackpro.domain.port.output.TransactionRepositoryPort;
+import com.fintrackpro.domain.port.output.UserRepositoryPort;
 import com.fintrackpro.domain.valueobject.CategoryType;
 import com.fintrackpro.infrastructure.util.MessageUtil;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,6 +29,8 @@ public class CategoryService implements CategoryUseCase {
     private final CategoryRepositoryPort categoryRepositoryPort;
     private final MessageUtil messageUtil;
     private final TransactionRepositoryPort transactionRepositoryPort;
+    private final CategoryCachePort categoryCachePort;
+    private final UserRepositoryPort userRepositoryPort;
 
     /**
      * Constructor with optional TransactionRepositoryPort.
@@ -36,10 +40,14 @@ public class CategoryService implements CategoryUseCase {
     public CategoryService(
             CategoryRepositoryPort categoryRepositoryPort,
             MessageUtil messageUtil,
-            @Autowired(required = false) TransactionRepositoryPort transactionRepositoryPort) {
+            @Autowired(required = false) TransactionRepositoryPort transactionRepositoryPort,
+            CategoryCachePort categoryCachePort,
+            UserRepositoryPort userRepositoryPort) {
         this.categoryRepositoryPort = categoryRepositoryPort;
         this.messageUtil = messageUtil;
         this.transactionRepositoryPort = transactionRepositoryPort;
+        this.categoryCachePort = categoryCachePort;
+        this.userRepositoryPort = userRepositoryPort;
     }
 
     private static final String CATEGORY_NOT_FOUND = "Category not found with id: ";
@@ -49,6 +57,7 @@ public class CategoryService implements CategoryUseCase {
     @Transactional
     public Category createCategory(Category category) {
         log.info("Creating new category '{}' for user: {}", category.name(), category.userId());
+        userRepositoryPort.lockForWrite(category.userId());
 
         // 1. Validate input
         validateCategoryRequest(category);
@@ -69,6 +78,7 @@ public class CategoryService implements CategoryUseCase {
         // 4. Build and save category
         Category categoryToCreate = prepareCategoryForCreation(category);
         Category createdCategory = categoryRepositoryPort.save(categoryToCreate);
+        categoryCachePort.invalidateUserCategories(category.userId());
 
         log.info("Successfully created category '{}' (ID: {}) for user {}",
                 createdCategory.name(), createdCategory.id(), category.userId());
@@ -108,6 +118,7 @@ public class CategoryService implements CategoryUseCase {
     @Transactional
     public Category updateCategory(Category category) {
         log.info("Updating category with id: {}", category.id());
+        userRepositoryPort.lockForWrite(category.userId());
 
         Category existingCategory = categoryRepositoryPort.findById(category.id())
                 .orElseThrow(() -> new InvalidRequestException(CATEGORY_NOT_FOUND + category.id()));
@@ -140,7 +151,12 @@ public class CategoryService implements CategoryUseCase {
                 LocalDateTime.now() // Update timestamp
         );
 
-        return categoryRepositoryPort.save(updatedCategory);
+        Category savedCategory = categoryRepositoryPort.save(updatedCategory);
+        categoryCachePort.invalidateUserCategories(existingCategory.userId());
+        if (!Objects.equals(existingCategory.userId(), category.userId())) {
+            categoryCachePort.invalidateUserCategories(category.userId());
+        }
+        return savedCategory;
     }
 
     @Override
@@ -155,6 +171,7 @@ public class CategoryService implements CategoryUseCase {
         if (category.isSystem()) {
             throw new InvalidRequestException("System categories cannot be deleted");
         }
+        userRepositoryPort.lockForWrite(category.userId());
 
         // Check if category has associated transactions
         if (transactionRepositoryPort != null) {
@@ -170,6 +187,7 @@ public class CategoryService implements CategoryUseCase {
         }
 
         categoryRepositoryPort.deleteById(id);
+        categoryCachePort.invalidateUserCategories(category.userId());
         log.info("Successfully deleted category with id: {}", id);
     }
 
@@ -0,0 +1,155 @@
+package com.fintrackpro.application.service;
+
+import com.fintrackpro.application.port.input.RecurringTransactionUseCase;
+import com.fintrackpro.application.port.output.DomainEventPublisherPort;
+import com.fintrackpro.domain.event.TransactionCreatedEvent;
+import com.fintrackpro.domain.exception.ConflictException;
+import com.fintrackpro.domain.exception.InvalidRequestException;
+import com.fintrackpro.domain.exception.ResourceNotFoundException;
+import com.fintrackpro.domain.model.BalanceAdjustmentPlan;
+import com.fintrackpro.domain.model.RecurringRule;
+import com.fintrackpro.domain.model.RecurringRuleUpdate;
+import com.fintrackpro.domain.model.Transaction;
+import com.fintrackpro.domain.port.output.RecurringRuleRepositoryPort;
+import com.fintrackpro.domain.port.output.TransactionRepositoryPort;
+import com.fintrackpro.domain.port.output.UserRepositoryPort;
+import com.fintrackpro.domain.port.output.WalletRepositoryPort;
+import com.fintrackpro.domain.valueobject.RecurrencePattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Service implementation for recurring rules and the materialization of their transactions.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecurringTransactionService implements RecurringTransactionUseCase {
+
+    private final RecurringRuleRepositoryPort recurringRuleRepositoryPort;
+    private final TransactionRepositoryPort transactionRepositoryPort;
+    private final WalletRepositoryPort walletRepositoryPort;
+    private final UserRepositoryPort userRepositoryPort;
+    private final DomainEventPublisherPort domainEventPublisherPort;
+
+    private static final String RECURRING_RULE = "Recurring rule";
+
+    @Value("${app.recurring.max-occurrences-per-rule:1000}")
+    private int maxOccurrencesPerRule;
+
+    @Value("${app.recurring.defer-minutes:60}")
+    private int deferMinutes;
+
+    @Override
+    @Transactional
+    public int materializeDueOccurrences(LocalDate asOf, int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        // Claiming also locks the rules' users, before any of their rows is written
+        List<RecurringRule> claimed = recurringRuleRepositoryPort.claimDue(asOf, now, batchSize);
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        List<Transaction> occurrences = new ArrayList<>();
+        List<RecurringRule> updatedRules = new ArrayList<>(claimed.size());
+
+        for (RecurringRule rule : claimed) {
+            List<LocalDate> dates = rule.dueOccurrences(asOf, maxOccurrencesPerRule);
+            if (dates.isEmpty()) {
+                // Exhausted by COUNT/UNTIL since it was last scheduled
+                updatedRules.add(rule.advance(0));
+                continue;
+            }
+
+            List<Transaction> ruleOccurrences = dates.stream().map(rule::toTransaction).toList();
+
+            // All catch-up occurrences of a rule net into one balance update
+            BalanceAdjustmentPlan plan = BalanceAdjustmentPlan.combine(List.of(), ruleOccurrences);
+            if (!plan.isEmpty() && walletRepositoryPort.applyBalanceAdjustments(rule.userId(), plan) != plan.size()) {
+                log.warn("Deferring recurring rule {}: wallet missing or insufficient funds", rule.id());
+                updatedRules.add(rule.defer(now.plusMinutes(deferMinutes)));
+                continue;
+            }
+
+            occurrences.addAll(ruleOccurrences);
+            updatedRules.add(rule.advance(dates.size()));
+        }
+
+        List<Transaction> saved = transactionRepositoryPort.saveAll(occurrences);
+        domainEventPublisherPort.publishAll(saved.stream().map(TransactionCreatedEvent::new).toList());
+        recurringRuleRepositoryPort.saveAll(updatedRules);
+
+        log.info("Materialized {} recurring transactions from {} rules", occurrences.size(), claimed.size());
+        return claimed.size();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RecurringRule> getRules(Long userId) {
+        log.debug("Fetching recurring rules for user: {}", userId);
+        return recurringRuleRepositoryPort.findByUserId(userId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RecurringRule getRule(Long userId, Long ruleId) {
+        return recurringRuleRepositoryPort.findByIdAndUserId(ruleId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException(RECURRING_RULE, ruleId));
+    }
+
+    @Override
+    @Transactional
+    public RecurringRule updateRule(Long userId, Long ruleId, RecurringRuleUpdate update) {
+        log.info("Updating recurring rule {} for user: {}", ruleId, userId);
+        // Also keeps the materializer, which claims the rule together with its user, off the rule
+        userRepositoryPort.lockForWrite(userId);
+        RecurringRule rule = getRule(userId, ruleId);
+        if (rule.isCancelled()) {
+            throw new ConflictException("Recurring rule " + ruleId + " has been cancelled");
+        }
+
+        RecurringRule updated = rule.toBuilder()
+                .amount(update.amount() != null ? update.amount() : rule.amount())
+                .categoryId(update.categoryId() != null ? update.categoryId() : rule.categoryId())
+                .description(update.description() != null ? update.description() : rule.description())
+                .notes(update.notes() != null ? update.notes() : rule.notes())
+                .payee(update.payee() != null ? update.payee() : rule.payee())
+                .tags(update.tags() != null ? update.tags() : rule.tags())
+                .build();
+        if (update.pattern() != null) {
+            RecurrencePattern pattern = parsePattern(update.pattern());
+            if (!pattern.equals(rule.pattern())) {
+                updated = updated.reschedule(rule.startDate(), pattern);
+            }
+        }
+        return recurringRuleRepositoryPort.save(updated);
+    }
+
+    @Override
+    @Transactional
+    public RecurringRule cancelRule(Long userId, Long ruleId) {
+        log.info("Cancelling recurring rule {} for user: {}", ruleId, userId);
+        userRepositoryPort.lockForWrite(userId);
+        RecurringRule rule = getRule(userId, ruleId);
+        if (rule.isCancelled()) {
+            return rule;
+        }
+        return recurringRuleRepositoryPort.save(rule.cancel(LocalDateTime.now()));
+    }
+
+    private static RecurrencePattern parsePattern(String pattern) {
+        try {
+            return RecurrencePattern.parse(pattern);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid recurring pattern", "pattern", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.fintrackpro.application.service;
+
+import com.fintrackpro.application.port.output.BlobStorePort;
+import com.fintrackpro.application.port.output.ReportRendererPort;
+import com.fintrackpro.domain.model.CategoryTotal;
+import com.fintrackpro.domain.model.DailyTotal;
+import com.fintrackpro.domain.model.MonthlyTotal;
+import com.fintrackpro.domain.model.ReportContent;
+import com.fintrackpro.domain.model.ReportJob;
+import com.fintrackpro.domain.model.StoredBlob;
+import com.fintrackpro.domain.model.TransactionFilter;
+import com.fintrackpro.domain.model.TransactionListItem;
+import com.fintrackpro.domain.port.output.CategoryRepositoryPort;
+import com.fintrackpro.domain.port.output.TransactionRepositoryPort;
+import com.fintrackpro.domain.port.output.WalletRepositoryPort;
+import com.fintrackpro.domain.valueobject.ReportType;
+import com.fintrackpro.domain.valueobject.TransactionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Loads the content of a report and renders it into the blob store.
+ *
+ * Runs in one read-only transaction, which the statement's transaction stream needs until the
+ * last row is written. Only aggregates are held in memory; rows go from the database cursor
+ * to the renderer and from there to disk.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReportGenerator {
+
+    private final TransactionRepositoryPort transactionRepositoryPort;
+    private final WalletRepositoryPort walletRepositoryPort;
+    private final CategoryRepositoryPort categoryRepositoryPort;
+    private final ReportRendererPort reportRendererPort;
+    private final BlobStorePort blobStorePort;
+
+    @Value("${app.export.fetch-size:500}")
+    private int fetchSize;
+
+    @Transactional(readOnly = true)
+    public StoredBlob generate(ReportJob job) {
+        Long userId = job.userId();
+        LocalDate start = job.startDate();
+        LocalDate end = job.endDate();
+        boolean statement = job.type() == ReportType.MONTHLY_STATEMENT;
+
+        BigDecimal income = total(userId, TransactionType.INCOME, start, end);
+        BigDecimal expense = total(userId, TransactionType.EXPENSE, start, end);
+        List<CategoryTotal> incomeCategories = transactionRepositoryPort.sumAmountByUserIdAndTypeGroupByCategory(
+                userId, TransactionType.INCOME, start, end);
+        List<CategoryTotal> expenseCategories = transactionRepositoryPort.sumAmountByUserIdAndTypeGroupByCategory(
+                userId, TransactionType.EXPENSE, start, end);
+        List<MonthlyTotal> months = job.type() == ReportType.YEARLY_SUMMARY
+                ? monthlyTotals(userId, start, end)
+                : List.of();
+
+        Map<Long, String> walletNames = new HashMap<>();
+        Map<Long, String> categoryNames = new HashMap<>();
+        if (statement) {
+            walletRepositoryPort.findByUserId(userId).forEach(w -> walletNames.put(w.id(), w.name()));
+            categoryRepositoryPort.findAllByUserId(userId).forEach(c -> categoryNames.put(c.id(), c.name()));
+        }
+
+        try (Stream<TransactionListItem> transactions = statement
+                ? transactionRepositoryPort.streamAll(userId,
+                        new TransactionFilter(start, end, null, null, null, null, null), fetchSize)
+                : Stream.empty()) {
+            ReportContent content = new ReportContent(job.type(), start, end, income, expense,
+                    incomeCategories, expenseCategories, months, walletNames, categoryNames, transactions);
+            return blobStorePort.store(out -> reportRendererPort.render(content, job.format(), out),
+                    job.format().contentType());
+        }
+    }
+
+    private BigDecimal total(Long userId, TransactionType type, LocalDate start, LocalDate end) {
+        BigDecimal total = transactionRepositoryPort.sumAmountByUserIdAndTypeAndDateRange(userId, type, start, end);
+        return total != null ? total : BigDecimal.ZERO;
+    }
+
+    private List<MonthlyTotal> monthlyTotals(Long userId, LocalDate start, LocalDate end) {
+        Map<YearMonth, BigDecimal> income = byMonth(transactionRepositoryPort.sumAmountByUserIdAndTypeGroupByDate(
+                userId, TransactionType.INCOME, start, end));
+        Map<YearMonth, BigDecimal> expense = byMonth(transactionRepositoryPort.sumAmountByUserIdAndTypeGroupByDate(
+                userId, TransactionType.EXPENSE, start, end));
+
+        List<MonthlyTotal> months = new ArrayList<>();
+        for (YearMonth month = YearMonth.from(start); !month.isAfter(YearMonth.from(end)); month = month.plusMonths(1)) {
+            months.add(new MonthlyTotal(month,
+                    income.getOrDefault(month, BigDecimal.ZERO),
+                    expense.getOrDefault(month, BigDecimal.ZERO)));
+        }
+        return months;
+    }
+
+    private static Map<YearMonth, BigDecimal> byMonth(List<DailyTotal> days) {
+        Map<YearMonth, BigDecimal> months = new HashMap<>();
+        days.forEach(day -> months.merge(YearMonth.from(day.date()), day.amount(), BigDecimal::add));
+        return months;
+    }
+}
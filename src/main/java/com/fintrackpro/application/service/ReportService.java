@@ -0,0 +1,211 @@
+package com.fintrackpro.application.service;
+
+import com.fintrackpro.application.port.input.ReportUseCase;
+import com.fintrackpro.application.port.output.BlobStorePort;
+import com.fintrackpro.domain.exception.ConflictException;
+import com.fintrackpro.domain.exception.InvalidRequestException;
+import com.fintrackpro.domain.exception.ResourceNotFoundException;
+import com.fintrackpro.domain.model.ReportJob;
+import com.fintrackpro.domain.model.StoredBlob;
+import com.fintrackpro.domain.port.output.ReportJobRepositoryPort;
+import com.fintrackpro.domain.port.output.UserRepositoryPort;
+import com.fintrackpro.domain.valueobject.ReportFormat;
+import com.fintrackpro.domain.valueobject.ReportStatus;
+import com.fintrackpro.domain.valueobject.ReportType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Service implementation for report jobs.
+ *
+ * Submitting only records a queued job; report workers claim queued jobs, generate the file
+ * through {@link ReportGenerator} and record the outcome on the job. Finished jobs are purged
+ * after the retention period, together with files nothing else refers to.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReportService implements ReportUseCase {
+
+    private static final String REPORT = "Report";
+    private static final int RECENT_REPORTS_LIMIT = 50;
+    private static final long MAX_CATEGORY_REPORT_DAYS = 5 * 366;
+    private static final int PURGE_BATCH_SIZE = 500;
+    // A file stored this recently may be about to get a new reference, e.g. an attachment upload
+    private static final Duration PURGE_FILE_MIN_AGE = Duration.ofHours(1);
+
+    private final ReportJobRepositoryPort reportJobRepositoryPort;
+    private final UserRepositoryPort userRepositoryPort;
+    private final ReportGenerator reportGenerator;
+    private final BlobStorePort blobStorePort;
+
+    @Value("${app.report.max-active-per-user:3}")
+    private int maxActivePerUser;
+
+    @Value("${app.report.retention-days:30}")
+    private int retentionDays;
+
+    @Override
+    @Transactional
+    public ReportJob submitReport(Long userId, ReportType type, ReportFormat format, String period,
+                                  LocalDate startDate, LocalDate endDate) {
+        userRepositoryPort.lockForWrite(userId);
+        ReportJob job = switch (type) {
+            case MONTHLY_STATEMENT -> {
+                YearMonth month = parsePeriod(period, "yyyy-MM", YearMonth::parse);
+                yield ReportJob.queued(userId, type, format, month.atDay(1), month.atEndOfMonth());
+            }
+            case YEARLY_SUMMARY -> {
+                Year year = parsePeriod(period, "yyyy", Year::parse);
+                yield ReportJob.queued(userId, type, format, year.atDay(1), year.atMonth(12).atEndOfMonth());
+            }
+            case CATEGORY_REPORT -> {
+                validateDateRange(startDate, endDate);
+                yield ReportJob.queued(userId, type, format, startDate, endDate);
+            }
+        };
+        ReportJob saved = reportJobRepositoryPort.saveQueuedIfActiveBelow(job, maxActivePerUser)
+                .orElseThrow(() -> new ConflictException(
+                        "Too many reports in progress; wait until one of them has finished"));
+        log.info("Queued {} report {} for user: {}", type, saved.id(), userId);
+        return saved;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ReportJob getReport(Long userId, Long reportId) {
+        return reportJobRepositoryPort.findByIdAndUserId(reportId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException(REPORT, reportId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReportJob> getRecentReports(Long userId) {
+        return reportJobRepositoryPort.findRecentByUserId(userId, RECENT_REPORTS_LIMIT);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public StoredBlob getReportFile(Long userId, Long reportId) {
+        ReportJob job = getReport(userId, reportId);
+        if (job.status() != ReportStatus.COMPLETED) {
+            throw new ConflictException("Report " + reportId + " is " + job.status() + ", not COMPLETED");
+        }
+        return blobStorePort.find(job.fileId())
+                .orElseThrow(() -> new ResourceNotFoundException("File", "id", job.fileId()));
+    }
+
+    @Override
+    public long transferTo(StoredBlob file, long position, long count, WritableByteChannel target) throws IOException {
+        return blobStorePort.transferTo(file, position, count, target);
+    }
+
+    @Override
+    @Transactional
+    public List<ReportJob> claimQueuedReports(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ReportJob> claimed = reportJobRepositoryPort.lockQueued(limit).stream()
+                .map(job -> job.started(now))
+                .toList();
+        reportJobRepositoryPort.saveAll(claimed);
+        return claimed;
+    }
+
+    @Override
+    public void runReport(ReportJob job) {
+        long started = System.nanoTime();
+        ReportJob finished;
+        try {
+            StoredBlob file = reportGenerator.generate(job);
+            finished = job.completed(file, LocalDateTime.now());
+            log.info("Generated report {} ({} bytes) in {} ms", job.id(), file.size(),
+                    (System.nanoTime() - started) / 1_000_000);
+        } catch (Exception e) {
+            log.warn("Report {} failed", job.id(), e);
+            finished = job.failed("Report generation failed: " + e.getMessage(), LocalDateTime.now());
+        }
+        reportJobRepositoryPort.save(finished);
+    }
+
+    @Override
+    public void releaseReport(ReportJob job) {
+        reportJobRepositoryPort.save(job.requeued());
+    }
+
+    @Override
+    @Transactional
+    public int failStaleReports(LocalDateTime startedBefore) {
+        return reportJobRepositoryPort.failRunningStartedBefore(
+                startedBefore, "Report generation was interrupted", LocalDateTime.now());
+    }
+
+    @Override
+    public int purgeExpiredReports() {
+        LocalDateTime finishedBefore = LocalDateTime.now().minusDays(retentionDays);
+        int purged = 0;
+        List<String> fileIds;
+        do {
+            fileIds = reportJobRepositoryPort.deleteFinishedBefore(finishedBefore, PURGE_BATCH_SIZE);
+            purged += fileIds.size();
+            deleteUnreferencedFiles(fileIds.stream().filter(Objects::nonNull).distinct().toList());
+        } while (fileIds.size() == PURGE_BATCH_SIZE);
+        return purged;
+    }
+
+    private void deleteUnreferencedFiles(List<String> fileIds) {
+        Set<String> referenced = reportJobRepositoryPort.findReferencedFileIds(fileIds);
+        Instant storedBefore = Instant.now().minus(PURGE_FILE_MIN_AGE);
+        for (String fileId : fileIds) {
+            if (referenced.contains(fileId)) {
+                continue;
+            }
+            try {
+                blobStorePort.deleteIfStoredBefore(fileId, storedBefore);
+            } catch (RuntimeException e) {
+                log.warn("Could not delete report file {}", fileId, e);
+            }
+        }
+    }
+
+    private static <T> T parsePeriod(String period, String pattern, Function<String, T> parser) {
+        if (period == null || period.isBlank()) {
+            throw new InvalidRequestException("Period is required", "period", "Expected " + pattern);
+        }
+        try {
+            return parser.apply(period.strip());
+        } catch (DateTimeParseException e) {
+            throw new InvalidRequestException("Invalid period", "period", "Expected " + pattern);
+        }
+    }
+
+    private static void validateDateRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            throw new InvalidRequestException("Start and end date are required for a category report");
+        }
+        if (endDate.isBefore(startDate)) {
+            throw new InvalidRequestException("End date must not be before start date", "endDate",
+                    "Must be on or after " + startDate);
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) > MAX_CATEGORY_REPORT_DAYS) {
+            throw new InvalidRequestException("Date range is too long", "endDate", "At most five years");
+        }
+    }
+}
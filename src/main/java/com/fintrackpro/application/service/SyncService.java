@@ -0,0 +1,111 @@
+package com.fintrackpro.application.service;
+
+import com.fintrackpro.application.port.input.SyncUseCase;
+import com.fintrackpro.domain.model.Category;
+import com.fintrackpro.domain.model.SyncBatch;
+import com.fintrackpro.domain.model.SyncChange;
+import com.fintrackpro.domain.model.SyncToken;
+import com.fintrackpro.domain.model.SyncTombstone;
+import com.fintrackpro.domain.model.Transaction;
+import com.fintrackpro.domain.model.Wallet;
+import com.fintrackpro.domain.port.output.CategoryRepositoryPort;
+import com.fintrackpro.domain.port.output.SyncTombstoneRepositoryPort;
+import com.fintrackpro.domain.port.output.TransactionRepositoryPort;
+import com.fintrackpro.domain.port.output.WalletRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * Service implementation for delta sync.
+ *
+ * Every insert and update of a wallet, category or transaction stamps the row with the next
+ * value of one database sequence, and removals leave a tombstone with their own sequence value
+ * (see V18 migration). A sync token holds the highest sequence a client has received, so a
+ * batch is "everything after it", read by keyset over the per-user change sequence indexes.
+ * Per user, sequence values become visible in order, so nothing can appear behind a token later.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SyncService implements SyncUseCase {
+
+    // Purging waits one day longer than tokens are accepted, so a token never outlives its tombstones
+    private static final Duration PURGE_MARGIN = Duration.ofDays(1);
+
+    private final WalletRepositoryPort walletRepositoryPort;
+    private final CategoryRepositoryPort categoryRepositoryPort;
+    private final TransactionRepositoryPort transactionRepositoryPort;
+    private final SyncTombstoneRepositoryPort syncTombstoneRepositoryPort;
+
+    @Value("${app.sync.tombstone-retention-days:30}")
+    private int tombstoneRetentionDays;
+
+    /**
+     * All four reads see one snapshot; with separate snapshots a change committed between them
+     * could be skipped by the token.
+     */
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public SyncBatch sync(Long userId, String since, int limit) {
+        SyncToken token = SyncToken.decode(since);
+        Instant now = Instant.now();
+        boolean fullSync = token == null
+                || token.issuedAt().isBefore(now.minus(Duration.ofDays(tombstoneRetentionDays)));
+        long after = fullSync ? 0 : token.changeSeq();
+
+        // limit + 1 per kind is enough to find the first `limit` changes across all kinds
+        int fetch = limit + 1;
+        List<SyncChange<Wallet>> wallets = walletRepositoryPort.findChangedAfter(userId, after, fetch);
+        List<SyncChange<Category>> categories = categoryRepositoryPort.findChangedAfter(userId, after, fetch);
+        List<SyncChange<Transaction>> transactions = transactionRepositoryPort.findChangedAfter(userId, after, fetch);
+        // A full sync replaces the client's data, so removals before it do not matter
+        List<SyncTombstone> tombstones = fullSync
+                ? List.of()
+                : syncTombstoneRepositoryPort.findByUserIdAfter(userId, after, fetch);
+
+        long[] sequences = Stream.of(
+                        wallets.stream().mapToLong(SyncChange::changeSeq),
+                        categories.stream().mapToLong(SyncChange::changeSeq),
+                        transactions.stream().mapToLong(SyncChange::changeSeq),
+                        tombstones.stream().mapToLong(SyncTombstone::changeSeq))
+                .flatMapToLong(s -> s)
+                .sorted()
+                .toArray();
+        boolean hasMore = sequences.length > limit;
+        long upTo = hasMore ? sequences[limit - 1]
+                : sequences.length > 0 ? sequences[sequences.length - 1] : after;
+
+        log.debug("Sync for user {} after {}: {} changes{}", userId, after, Math.min(sequences.length, limit),
+                hasMore ? ", more pending" : "");
+        return new SyncBatch(
+                upTo(wallets, upTo, SyncChange::changeSeq),
+                upTo(categories, upTo, SyncChange::changeSeq),
+                upTo(transactions, upTo, SyncChange::changeSeq),
+                upTo(tombstones, upTo, SyncTombstone::changeSeq),
+                new SyncToken(upTo, now).encode(),
+                hasMore,
+                fullSync);
+    }
+
+    @Override
+    @Transactional
+    public int purgeTombstones() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(tombstoneRetentionDays).minus(PURGE_MARGIN);
+        return syncTombstoneRepositoryPort.deleteDeletedBefore(cutoff);
+    }
+
+    private static <T> List<T> upTo(List<T> changes, long changeSeq, ToLongFunction<T> sequence) {
+        return changes.stream().filter(change -> sequence.applyAsLong(change) <= changeSeq).toList();
+    }
+}
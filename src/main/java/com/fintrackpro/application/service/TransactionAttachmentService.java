@@ -0,0 +1,107 @@
+package com.fintrackpro.application.service;
+
+import com.fintrackpro.application.port.input.TransactionAttachmentUseCase;
+import com.fintrackpro.application.port.output.BlobStorePort;
+import com.fintrackpro.domain.exception.ForbiddenException;
+import com.fintrackpro.domain.exception.InvalidRequestException;
+import com.fintrackpro.domain.exception.ResourceNotFoundException;
+import com.fintrackpro.domain.model.StoredBlob;
+import com.fintrackpro.domain.model.Transaction;
+import com.fintrackpro.domain.port.output.TransactionRepositoryPort;
+import com.fintrackpro.domain.valueobject.AttachmentKind;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Service implementation for transaction receipts and attachments.
+ *
+ * Files are streamed into the blob store before the transaction row is touched,
+ * so no database transaction is held open during an upload.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransactionAttachmentService implements TransactionAttachmentUseCase {
+
+    private static final String TRANSACTION = "Transaction";
+
+    private final TransactionRepositoryPort transactionRepositoryPort;
+    private final BlobStorePort blobStorePort;
+
+    @Value("${app.blob.allowed-content-types:image/jpeg,image/png,image/gif,image/webp,application/pdf}")
+    private Set<String> allowedContentTypes;
+
+    @Override
+    public Transaction attach(Long userId, Long transactionId, AttachmentKind kind,
+                              InputStream content, String contentType) {
+        String mediaType = normalize(contentType);
+        if (!allowedContentTypes.contains(mediaType)) {
+            throw new InvalidRequestException("Unsupported file type: " + contentType);
+        }
+        Transaction transaction = findOwned(userId, transactionId);
+
+        StoredBlob blob = blobStorePort.store(content, mediaType);
+        if (!transactionRepositoryPort.updateFileUrl(userId, transactionId, kind, blob.reference())) {
+            throw new ResourceNotFoundException(TRANSACTION, transactionId);
+        }
+        log.info("Stored {} ({} bytes) for transaction {}", kind, blob.size(), transactionId);
+
+        return switch (kind) {
+            case RECEIPT -> transaction.toBuilder().receiptUrl(blob.reference()).build();
+            case ATTACHMENT -> transaction.toBuilder().attachmentUrl(blob.reference()).build();
+        };
+    }
+
+    @Override
+    public StoredBlob getAttachment(Long userId, Long transactionId, AttachmentKind kind) {
+        String blobId = blobId(findOwned(userId, transactionId), kind);
+        return blobStorePort.find(blobId)
+                .orElseThrow(() -> new ResourceNotFoundException("File", "id", blobId));
+    }
+
+    @Override
+    public StoredBlob getThumbnail(Long userId, Long transactionId, AttachmentKind kind) {
+        String blobId = blobId(findOwned(userId, transactionId), kind);
+        return blobStorePort.findThumbnail(blobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Thumbnail", "file", blobId));
+    }
+
+    @Override
+    public long transferTo(StoredBlob blob, long position, long count, WritableByteChannel target) throws IOException {
+        return blobStorePort.transferTo(blob, position, count, target);
+    }
+
+    private Transaction findOwned(Long userId, Long transactionId) {
+        Transaction transaction = transactionRepositoryPort.findById(transactionId)
+                .orElseThrow(() -> new ResourceNotFoundException(TRANSACTION, transactionId));
+        if (!transaction.userId().equals(userId)) {
+            throw ForbiddenException.forResource("transaction");
+        }
+        return transaction;
+    }
+
+    private String blobId(Transaction transaction, AttachmentKind kind) {
+        String url = kind == AttachmentKind.RECEIPT ? transaction.receiptUrl() : transaction.attachmentUrl();
+        return StoredBlob.idFromReference(url)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "No stored " + kind.name().toLowerCase(Locale.ROOT) + " for transaction " + transaction.id()));
+    }
+
+    // Drops parameters such as "; charset=..." and normalizes case
+    private String normalize(String contentType) {
+        if (contentType == null) {
+            return "";
+        }
+        int separator = contentType.indexOf(';');
+        String mediaType = separator >= 0 ? contentType.substring(0, separator) : contentType;
+        return mediaType.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,68 @@
+package com.fintrackpro.application.service;
+
+import com.fintrackpro.application.port.input.DomainEventHandler;
+import com.fintrackpro.application.port.output.AutocompleteIndexPort;
+import com.fintrackpro.domain.event.DomainEvent;
+import com.fintrackpro.domain.event.EventPosition;
+import com.fintrackpro.domain.event.TransactionCreatedEvent;
+import com.fintrackpro.domain.event.TransactionDeletedEvent;
+import com.fintrackpro.domain.event.TransactionUpdatedEvent;
+import com.fintrackpro.domain.model.Transaction;
+import com.fintrackpro.domain.valueobject.AutocompleteField;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps the autocomplete index in step with transaction writes. Payees and descriptions of
+ * new transactions become suggestions, and values no transaction uses any more disappear.
+ */
+@Service
+@RequiredArgsConstructor
+public class TransactionAutocompleteEventHandler implements DomainEventHandler {
+
+    private final AutocompleteIndexPort autocompleteIndexPort;
+
+    @Override
+    public boolean supports(DomainEvent event) {
+        return event instanceof TransactionCreatedEvent
+                || event instanceof TransactionUpdatedEvent
+                || event instanceof TransactionDeletedEvent;
+    }
+
+    @Override
+    public void handle(DomainEvent event, EventPosition position) {
+        Map<AutocompleteField, Map<String, Integer>> weightDeltas = new EnumMap<>(AutocompleteField.class);
+        for (AutocompleteField field : AutocompleteField.values()) {
+            Map<String, Integer> fieldDeltas = new HashMap<>();
+            if (event instanceof TransactionCreatedEvent created) {
+                count(fieldDeltas, valueOf(created.transaction(), field), 1);
+            } else if (event instanceof TransactionUpdatedEvent updated) {
+                count(fieldDeltas, valueOf(updated.before(), field), -1);
+                count(fieldDeltas, valueOf(updated.after(), field), 1);
+            } else if (event instanceof TransactionDeletedEvent deleted) {
+                count(fieldDeltas, valueOf(deleted.transaction(), field), -1);
+            }
+            fieldDeltas.values().removeIf(delta -> delta == 0);
+            weightDeltas.put(field, fieldDeltas);
+        }
+        // Recorded even without changes, so the index keeps following the user's events
+        autocompleteIndexPort.record(event.userId(), weightDeltas, position);
+    }
+
+    private void count(Map<String, Integer> weightDeltas, String value, int delta) {
+        if (value != null && !value.isBlank()) {
+            weightDeltas.merge(value, delta, Integer::sum);
+        }
+    }
+
+    private String valueOf(Transaction transaction, AutocompleteField field) {
+        return switch (field) {
+            case PAYEE -> transaction.payee();
+            case DESCRIPTION -> transaction.description();
+        };
+    }
+}
@@ -0,0 +1,35 @@
+package com.fintrackpro.application.service;
+
+import com.fintrackpro.application.port.input.TransactionAutocompleteUseCase;
+import com.fintrackpro.application.port.output.AutocompleteIndexPort;
+import com.fintrackpro.domain.valueobject.AutocompleteField;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Service implementation for transaction field autocompletion.
+ * Suggestions come from the in-memory {@link AutocompleteIndexPort}; only the first
+ * request of a user whose index is not loaded reads the database.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransactionAutocompleteService implements TransactionAutocompleteUseCase {
+
+    private static final int MAX_PREFIX_LENGTH = 100;
+
+    private final AutocompleteIndexPort autocompleteIndexPort;
+
+    @Override
+    public List<String> suggest(Long userId, AutocompleteField field, String prefix, int limit) {
+        String typed = prefix == null ? "" : prefix;
+        // Nothing that long was ever counted as a value worth suggesting
+        if (typed.length() > MAX_PREFIX_LENGTH || limit <= 0) {
+            return List.of();
+        }
+        return autocompleteIndexPort.suggest(userId, field, typed, limit);
+    }
+}
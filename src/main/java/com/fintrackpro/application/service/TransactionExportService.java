@@ -0,0 +1,95 @@
+package com.fintrackpro.application.service;
+
+import com.fintrackpro.application.port.input.TransactionExportUseCase;
+import com.fintrackpro.domain.exception.TooManyRequestsException;
+import com.fintrackpro.domain.model.TransactionFilter;
+import com.fintrackpro.domain.model.TransactionListItem;
+import com.fintrackpro.domain.port.output.TransactionRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Service implementation for the transaction export.
+ *
+ * Rows come from a database cursor and go straight to the writer, so the export holds one
+ * fetch of rows at a time. The read-only transaction stays open for the whole export, which
+ * is why exports are limited per user and per node and stop after a time limit.
+ */
+@Slf4j
+@Service
+public class TransactionExportService implements TransactionExportUseCase {
+
+    private final TransactionRepositoryPort transactionRepositoryPort;
+    private final int fetchSize;
+    private final int maxConcurrentPerUser;
+    private final int timeoutMinutes;
+    private final Semaphore nodeSlots;
+    // Users with an export running; an entry goes away with the user's last export
+    private final Map<Long, Integer> runningByUser = new ConcurrentHashMap<>();
+
+    public TransactionExportService(TransactionRepositoryPort transactionRepositoryPort,
+                                    @Value("${app.export.fetch-size:500}") int fetchSize,
+                                    @Value("${app.export.max-concurrent:4}") int maxConcurrent,
+                                    @Value("${app.export.max-concurrent-per-user:1}") int maxConcurrentPerUser,
+                                    @Value("${app.export.timeout-minutes:10}") int timeoutMinutes) {
+        this.transactionRepositoryPort = transactionRepositoryPort;
+        this.fetchSize = fetchSize;
+        this.maxConcurrentPerUser = maxConcurrentPerUser;
+        this.timeoutMinutes = timeoutMinutes;
+        this.nodeSlots = new Semaphore(maxConcurrent);
+    }
+
+    @Override
+    public ExportSlot reserveSlot(Long userId) {
+        if (!nodeSlots.tryAcquire()) {
+            throw new TooManyRequestsException("The export service is busy; try again in a few minutes");
+        }
+        if (runningByUser.merge(userId, 1, Integer::sum) > maxConcurrentPerUser) {
+            releaseUserSlot(userId);
+            nodeSlots.release();
+            throw new TooManyRequestsException("An export is already running; wait until it has finished");
+        }
+        AtomicBoolean released = new AtomicBoolean();
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                releaseUserSlot(userId);
+                nodeSlots.release();
+            }
+        };
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportTransactions(Long userId, TransactionFilter filter, Consumer<TransactionListItem> rowWriter) {
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(timeoutMinutes);
+        long exported = 0;
+        try (Stream<TransactionListItem> rows = transactionRepositoryPort.streamAll(userId, filter, fetchSize)) {
+            for (TransactionListItem row : (Iterable<TransactionListItem>) rows::iterator) {
+                // A slow reader keeps the cursor and its transaction open; past the limit it is cut off
+                if (System.nanoTime() - deadline > 0) {
+                    log.warn("Transaction export for user {} stopped after {} minutes and {} rows",
+                            userId, timeoutMinutes, exported);
+                    throw new IllegalStateException("Export did not finish within " + timeoutMinutes + " minutes");
+                }
+                rowWriter.accept(row);
+                exported++;
+            }
+        }
+        log.info("Exported {} transactions for user: {}", exported, userId);
+        return exported;
+    }
+
+    private void releaseUserSlot(Long userId) {
+        runningByUser.computeIfPresent(userId, (id, running) -> running > 1 ? running - 1 : null);
+    }
+}
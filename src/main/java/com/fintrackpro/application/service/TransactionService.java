@@ -1,11 +1,23 @@
 package com.fintrackpro.application.service;
 
 import com.fintrackpro.application.port.input.TransactionUseCase;
+import com.fintrackpro.application.port.output.DomainEventPublisherPort;
+import com.fintrackpro.domain.event.TransactionCreatedEvent;
+import com.fintrackpro.domain.event.TransactionDeletedEvent;
+import com.fintrackpro.domain.event.TransactionUpdatedEvent;
 import com.fintrackpro.domain.exception.InvalidRequestException;
+import com.fintrackpro.domain.model.BalanceAdjustmentPlan;
+import com.fintrackpro.domain.model.CursorPage;
+import com.fintrackpro.domain.model.RecurringRule;
 import com.fintrackpro.domain.model.Transaction;
+import com.fintrackpro.domain.model.TransactionCursor;
 import com.fintrackpro.domain.model.TransactionFilter;
+import com.fintrackpro.domain.model.TransactionListItem;
+import com.fintrackpro.domain.port.output.RecurringRuleRepositoryPort;
 import com.fintrackpro.domain.port.output.TransactionRepositoryPort;
+import com.fintrackpro.domain.port.output.UserRepositoryPort;
 import com.fintrackpro.domain.port.output.WalletRepositoryPort;
+import com.fintrackpro.domain.valueobject.RecurrencePattern;
 import com.fintrackpro.domain.valueobject.TransactionType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,52 +42,75 @@ public class TransactionService implements TransactionUseCase {
 
     private final TransactionRepositoryPort transactionRepositoryPort;
     private final WalletRepositoryPort walletRepositoryPort;
+    private final RecurringRuleRepositoryPort recurringRuleRepositoryPort;
+    private final UserRepositoryPort userRepositoryPort;
+    private final DomainEventPublisherPort domainEventPublisherPort;
 
     private static final String TRANSACTION_NOT_FOUND = "Transaction not found with id: ";
+    private static final int MAX_SEARCH_TERM_LENGTH = 100;
 
     @Override
     @Transactional
-    public Transaction createTransaction(Transaction transaction) {
+    public Transaction createTransaction(Transaction request) {
         log.info("Creating new transaction of type {} for user: {}",
-                transaction.type(), transaction.userId());
-
-        // Validate and get the source wallet
-        var wallet = walletRepositoryPort.findById(transaction.walletId())
-                .orElseThrow(() -> new InvalidRequestException(
-                        "Wallet not found with id: " + transaction.walletId()));
-
-        // For transfers, validate destination wallet
-        if (transaction.isTransfer() && transaction.toWalletId() != null) {
-            var toWallet = walletRepositoryPort.findById(transaction.toWalletId())
-                    .orElseThrow(() -> new InvalidRequestException(
-                            "Destination wallet not found with id: " + transaction.toWalletId()));
-
-            // Update destination wallet balance (add the transfer amount)
-            var updatedToWallet = toWallet.addTransaction(transaction.amount(), LocalDateTime.now());
-            walletRepositoryPort.save(updatedToWallet);
-        }
-
-        // Update source wallet balance using the effective amount
-        // For INCOME: positive amount (adds to balance)
-        // For EXPENSE: negative amount (subtracts from balance)
-        // For TRANSFER: negative amount (subtracts from source wallet)
-        var updatedWallet = wallet.addTransaction(transaction.getEffectiveAmount(), LocalDateTime.now());
-        walletRepositoryPort.save(updatedWallet);
-
-        // Save transaction
+                request.type(), request.userId());
+        userRepositoryPort.lockForWrite(request.userId());
+
+        // A recurring transaction is the first occurrence, the seed, of a new rule
+        RecurringRule rule = Boolean.TRUE.equals(request.isRecurring()) ? startRecurringSeries(request) : null;
+        Transaction transaction = rule != null
+                ? request.toBuilder()
+                        .recurringPattern(rule.pattern().toRule())
+                        .recurringGroupId(rule.id())
+                        .build()
+                : request;
+
+        // Balance and wallet statistics move in one statement before the transaction row is written
+        applyBalanceAdjustments(transaction.userId(), BalanceAdjustmentPlan.between(null, transaction));
         Transaction savedTransaction = transactionRepositoryPort.save(transaction);
+        if (rule != null) {
+            recurringRuleRepositoryPort.save(rule.toBuilder().seedTransactionId(savedTransaction.id()).build());
+        }
+        domainEventPublisherPort.publish(new TransactionCreatedEvent(savedTransaction));
 
         log.info("Successfully created transaction with id: {} and updated wallet balance", savedTransaction.id());
         return savedTransaction;
     }
 
+    private RecurringRule startRecurringSeries(Transaction first) {
+        RecurrencePattern pattern;
+        try {
+            pattern = RecurrencePattern.parse(first.recurringPattern());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid recurring pattern", "recurringPattern", e.getMessage());
+        }
+
+        RecurringRule rule = recurringRuleRepositoryPort.save(RecurringRule.fromFirstTransaction(first, pattern));
+        log.info("Created recurring rule {} with pattern {}", rule.id(), pattern.toRule());
+        return rule;
+    }
+
     @Override
     @Transactional(readOnly = true)
-    public Page<Transaction> getFilteredTransactions(Long userId, TransactionFilter filter, Pageable pageable) {
+    public Page<TransactionListItem> getFilteredTransactions(Long userId, TransactionFilter filter, Pageable pageable) {
         log.debug("Fetching filtered transactions for user: {}", userId);
         return transactionRepositoryPort.findAll(userId, filter, pageable);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<TransactionListItem> getTransactionsAfter(Long userId, TransactionFilter filter, String cursor, int limit) {
+        log.debug("Fetching transactions after cursor for user: {}", userId);
+        // One extra row tells whether another page exists without a count query
+        List<TransactionListItem> rows = transactionRepositoryPort.findAllAfter(
+                userId, filter, TransactionCursor.decode(cursor), limit + 1);
+        if (rows.size() <= limit) {
+            return CursorPage.of(rows, null);
+        }
+        List<TransactionListItem> page = rows.subList(0, limit);
+        return CursorPage.of(List.copyOf(page), TransactionCursor.of(page.get(limit - 1)).encode());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<Transaction> getTransactionById(Long id) {
@@ -85,104 +120,83 @@ public class TransactionService implements TransactionUseCase {
 
     @Override
     @Transactional(readOnly = true)
-    public List<Transaction> getUserTransactions(Long userId) {
+    public List<TransactionListItem> getUserTransactions(Long userId) {
         log.debug("Fetching all transactions for user: {}", userId);
         return transactionRepositoryPort.findAllByUserId(userId);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Transaction> getWalletTransactions(Long userId, Long walletId) {
+    public List<TransactionListItem> getWalletTransactions(Long userId, Long walletId) {
         log.debug("Fetching transactions for wallet: {} and user: {}", walletId, userId);
         return transactionRepositoryPort.findByUserIdAndWalletId(userId, walletId);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Transaction> getTransactionsByCategory(Long userId, Long categoryId) {
+    public List<TransactionListItem> getTransactionsByCategory(Long userId, Long categoryId) {
         log.debug("Fetching transactions for category: {} and user: {}", categoryId, userId);
         return transactionRepositoryPort.findByUserIdAndCategoryId(userId, categoryId);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Transaction> getTransactionsByType(Long userId, TransactionType type) {
+    public List<TransactionListItem> getTransactionsByType(Long userId, TransactionType type) {
         log.debug("Fetching {} transactions for user: {}", type, userId);
         return transactionRepositoryPort.findByUserIdAndType(userId, type);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Transaction> getTransactionsByDateRange(Long userId, LocalDate startDate, LocalDate endDate) {
+    public List<TransactionListItem> getTransactionsByDateRange(Long userId, LocalDate startDate, LocalDate endDate) {
         log.debug("Fetching transactions for user: {} between {} and {}", userId, startDate, endDate);
         return transactionRepositoryPort.findByUserIdAndDateRange(userId, startDate, endDate);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Transaction> getRecentTransactions(Long userId, int limit) {
+    public List<TransactionListItem> getRecentTransactions(Long userId, int limit) {
         log.debug("Fetching {} recent transactions for user: {}", limit, userId);
         return transactionRepositoryPort.findRecentByUserId(userId, limit);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Transaction> searchTransactions(Long userId, String searchTerm) {
-        log.debug("Searching transactions for user: {} with term: {}", userId, searchTerm);
-        return transactionRepositoryPort.searchByDescription(userId, searchTerm);
+    public Page<TransactionListItem> searchTransactions(Long userId, String searchTerm, Pageable pageable) {
+        String term = searchTerm == null ? "" : searchTerm.strip();
+        if (term.isEmpty()) {
+            throw new InvalidRequestException("Search term must not be blank");
+        }
+        if (term.length() > MAX_SEARCH_TERM_LENGTH) {
+            throw new InvalidRequestException(
+                    "Search term must not be longer than " + MAX_SEARCH_TERM_LENGTH + " characters");
+        }
+        log.debug("Searching transactions for user: {} with term: {}", userId, term);
+        return transactionRepositoryPort.search(userId, term, pageable);
     }
 
     @Override
     @Transactional
     public Transaction updateTransaction(Transaction transaction) {
         log.info("Updating transaction with id: {}", transaction.id());
+        userRepositoryPort.lockForWrite(transaction.userId());
 
-        // Get the existing transaction to reverse its effect on wallet balance
+        // Get the existing transaction to compute the net effect of the change
         var existingTransaction = transactionRepositoryPort.findById(transaction.id())
                 .orElseThrow(() -> new InvalidRequestException(TRANSACTION_NOT_FOUND + transaction.id()));
 
-        // Reverse the old transaction's effect on the source wallet
-        var oldWallet = walletRepositoryPort.findById(existingTransaction.walletId())
-                .orElseThrow(() -> new InvalidRequestException(
-                        "Wallet not found with id: " + existingTransaction.walletId()));
-
-        // Reverse the effect: negate the effective amount
-        var revertedWallet = oldWallet.addTransaction(
-                existingTransaction.getEffectiveAmount().negate(), LocalDateTime.now());
-        walletRepositoryPort.save(revertedWallet);
-
-        // If old transaction was a transfer, reverse the destination wallet effect
-        if (existingTransaction.isTransfer() && existingTransaction.toWalletId() != null) {
-            var oldToWallet = walletRepositoryPort.findById(existingTransaction.toWalletId())
-                    .orElseThrow(() -> new InvalidRequestException(
-                            "Destination wallet not found with id: " + existingTransaction.toWalletId()));
-            var revertedToWallet = oldToWallet.addTransaction(
-                    existingTransaction.amount().negate(), LocalDateTime.now());
-            walletRepositoryPort.save(revertedToWallet);
-        }
-
-        // Now apply the new transaction's effect
-        // Validate and get the new source wallet
-        var newWallet = walletRepositoryPort.findById(transaction.walletId())
-                .orElseThrow(() -> new InvalidRequestException(
-                        "Wallet not found with id: " + transaction.walletId()));
-
-        // For transfers, validate and update destination wallet
-        if (transaction.isTransfer() && transaction.toWalletId() != null) {
-            var toWallet = walletRepositoryPort.findById(transaction.toWalletId())
-                    .orElseThrow(() -> new InvalidRequestException(
-                            "Destination wallet not found with id: " + transaction.toWalletId()));
-
-            // Update destination wallet balance (add the transfer amount)
-            var updatedToWallet = toWallet.addTransaction(transaction.amount(), LocalDateTime.now());
-            walletRepositoryPort.save(updatedToWallet);
-        }
-
-        // Update source wallet balance using the effective amount
-        var updatedWallet = newWallet.addTransaction(transaction.getEffectiveAmount(), LocalDateTime.now());
-        walletRepositoryPort.save(updatedWallet);
+        // Revert old and apply new in one step; unchanged amount/wallets touch no wallet rows
+        applyBalanceAdjustments(transaction.userId(),
+                BalanceAdjustmentPlan.between(existingTransaction, transaction));
 
         Transaction updatedTransaction = transactionRepositoryPort.save(transaction);
+        if (existingTransaction.recurringGroupId() != null) {
+            findLiveRuleOf(updatedTransaction).ifPresent(rule -> {
+                recurringRuleRepositoryPort.save(rule.reanchor(updatedTransaction));
+                log.info("Re-anchored recurring rule {} on its updated seed transaction", rule.id());
+            });
+        }
+        domainEventPublisherPort.publish(new TransactionUpdatedEvent(existingTransaction, updatedTransaction));
         log.info("Successfully updated transaction with id: {} and adjusted wallet balances", transaction.id());
         return updatedTransaction;
     }
@@ -192,34 +206,52 @@ public class TransactionService implements TransactionUseCase {
     public void deleteTransaction(Long id) {
         log.info("Deleting transaction with id: {}", id);
 
+        // The owner never changes, so it can be read before the lock; the row itself is read after it
+        Long userId = transactionRepositoryPort.findUserIdById(id)
+                .orElseThrow(() -> new InvalidRequestException(TRANSACTION_NOT_FOUND + id));
+        userRepositoryPort.lockForWrite(userId);
+
         // Get the transaction to reverse its effect on wallet balance
         var transaction = transactionRepositoryPort.findById(id)
                 .orElseThrow(() -> new InvalidRequestException(TRANSACTION_NOT_FOUND + id));
 
-        // Reverse the transaction's effect on the source wallet
-        var wallet = walletRepositoryPort.findById(transaction.walletId())
-                .orElseThrow(() -> new InvalidRequestException(
-                        "Wallet not found with id: " + transaction.walletId()));
-
-        // Reverse the effect: negate the effective amount
-        var revertedWallet = wallet.addTransaction(
-                transaction.getEffectiveAmount().negate(), LocalDateTime.now());
-        walletRepositoryPort.save(revertedWallet);
-
-        // If it was a transfer, reverse the destination wallet effect
-        if (transaction.isTransfer() && transaction.toWalletId() != null) {
-            var toWallet = walletRepositoryPort.findById(transaction.toWalletId())
-                    .orElseThrow(() -> new InvalidRequestException(
-                            "Destination wallet not found with id: " + transaction.toWalletId()));
-            var revertedToWallet = toWallet.addTransaction(
-                    transaction.amount().negate(), LocalDateTime.now());
-            walletRepositoryPort.save(revertedToWallet);
+        // Soft delete first so a concurrent delete of the same row cannot revert its balance twice
+        if (!transactionRepositoryPort.softDeleteById(id)) {
+            throw new InvalidRequestException(TRANSACTION_NOT_FOUND + id);
+        }
+
+        applyBalanceAdjustments(transaction.userId(), BalanceAdjustmentPlan.between(transaction, null));
+        if (transaction.recurringGroupId() != null) {
+            // Occurrences already materialized stay; only future ones stop
+            findLiveRuleOf(transaction).ifPresent(rule -> {
+                recurringRuleRepositoryPort.save(rule.cancel(LocalDateTime.now()));
+                log.info("Cancelled recurring rule {} because its seed transaction was deleted", rule.id());
+            });
         }
+        domainEventPublisherPort.publish(new TransactionDeletedEvent(transaction));
 
-        transactionRepositoryPort.deleteById(id);
         log.info("Successfully deleted transaction with id: {} and adjusted wallet balances", id);
     }
 
+    // The rule started by this transaction, unless it was cancelled; other occurrences start none
+    private Optional<RecurringRule> findLiveRuleOf(Transaction transaction) {
+        return recurringRuleRepositoryPort.findBySeedTransactionId(transaction.id())
+                .filter(rule -> !rule.isCancelled());
+    }
+
+    private void applyBalanceAdjustments(Long userId, BalanceAdjustmentPlan plan) {
+        if (plan.isEmpty()) {
+            log.debug("No wallet balance changes required");
+            return;
+        }
+        int updated = walletRepositoryPort.applyBalanceAdjustments(userId, plan);
+        if (updated != plan.size()) {
+            // Rolls back the whole transaction, including any wallets that were already adjusted
+            throw new InvalidRequestException(
+                    "Wallet not found or insufficient funds for wallets: " + plan.walletIds());
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
     public BigDecimal calculateTotalIncome(Long userId, LocalDate startDate, LocalDate endDate) {
@@ -250,6 +282,7 @@ public class TransactionService implements TransactionUseCase {
 
         log.info("Creating transfer from wallet {} to wallet {} for user: {}",
                 fromWalletId, toWalletId, userId);
+        userRepositoryPort.lockForWrite(userId);
 
         // Validate both wallets exist
         walletRepositoryPort.findById(fromWalletId)
@@ -264,6 +297,8 @@ public class TransactionService implements TransactionUseCase {
         Transaction transfer = Transaction.createTransfer(
                 userId, fromWalletId, toWalletId, amount, description, transactionDate);
 
-        return transactionRepositoryPort.save(transfer);
+        Transaction saved = transactionRepositoryPort.save(transfer);
+        domainEventPublisherPort.publish(new TransactionCreatedEvent(saved));
+        return saved;
     }
 }
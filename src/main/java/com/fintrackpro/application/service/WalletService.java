@@ -3,6 +3,7 @@ package com.fintrackpro.application.service;
 import com.fintrackpro.application.port.input.WalletUseCase;
 import com.fintrackpro.domain.exception.InvalidRequestException;
 import com.fintrackpro.domain.model.Wallet;
+import com.fintrackpro.domain.port.output.UserRepositoryPort;
 import com.fintrackpro.domain.port.output.WalletRepositoryPort;
 import com.fintrackpro.domain.valueobject.WalletType;
 import com.fintrackpro.infrastructure.util.MessageUtil;
@@ -13,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -26,6 +28,7 @@ import java.util.Optional;
 public class WalletService implements WalletUseCase {
 
     private final WalletRepositoryPort walletRepositoryPort;
+    private final UserRepositoryPort userRepositoryPort;
     private static final String WALLET_NOT_FOUND = "Wallet not found with id: ";
     private final MessageUtil messageUtil;
 
@@ -38,6 +41,7 @@ public class WalletService implements WalletUseCase {
 
         Long userId = wallet.userId();
         log.info("Creating new wallet '{}' for user: {}", wallet.name(), userId);
+        userRepositoryPort.lockForWrite(userId);
 
         // 2. Get existing wallets (single DB call)
         List<Wallet> existingWallets = walletRepositoryPort.findByUserId(userId);
@@ -115,7 +119,8 @@ public class WalletService implements WalletUseCase {
     @Transactional
     public Wallet updateWallet(Wallet wallet) {
         log.info("Updating wallet with id: {}", wallet.id());
-        
+        userRepositoryPort.lockForWrite(wallet.userId());
+
         Wallet existingWallet = walletRepositoryPort.findById(wallet.id())
                 .filter(w -> !w.deleted())
                 .orElseThrow(() -> new InvalidRequestException(WALLET_NOT_FOUND + wallet.id()));
@@ -133,7 +138,10 @@ public class WalletService implements WalletUseCase {
                             walletRepositoryPort.updateDefaultStatus(defaultWallet.id(), false));
         }
 
+        // Statistics are not written by save, carry the persisted ones into the response
         Wallet updatedWallet = wallet.toBuilder()
+                .transactionCount(existingWallet.transactionCount())
+                .lastTransactionDate(existingWallet.lastTransactionDate())
                 .updatedAt(LocalDateTime.now())
                 .build();
 
@@ -144,6 +152,7 @@ public class WalletService implements WalletUseCase {
     @Transactional
     public void deleteWallet(Long id) {
         log.info("Deleting wallet with id: {}", id);
+        lockOwners(id);
         Wallet wallet = walletRepositoryPort.findById(id)
                 .filter(w -> !w.deleted())
                 .orElseThrow(() -> new InvalidRequestException(WALLET_NOT_FOUND + id));
@@ -163,7 +172,8 @@ public class WalletService implements WalletUseCase {
     @Transactional
     public Wallet updateWalletBalance(Long walletId, BigDecimal amount) {
         log.info("Updating balance for wallet: {} by amount: {}", walletId, amount);
-        
+        lockOwners(walletId);
+
         Wallet wallet = walletRepositoryPort.findById(walletId)
                 .filter(w -> !w.deleted())
                 .orElseThrow(() -> new InvalidRequestException(WALLET_NOT_FOUND + walletId));
@@ -193,6 +203,7 @@ public class WalletService implements WalletUseCase {
         if (amount.compareTo(BigDecimal.ZERO) <= 0) {
             throw new InvalidRequestException("Transfer amount must be positive");
         }
+        lockOwners(sourceWalletId, targetWalletId);
 
         Wallet source = walletRepositoryPort.findById(sourceWalletId)
                 .filter(w -> !w.deleted())
@@ -234,7 +245,8 @@ public class WalletService implements WalletUseCase {
     @Transactional
     public Wallet setDefaultWallet(Long walletId, boolean isDefault) {
         log.info("Setting wallet {} as default: {}", walletId, isDefault);
-        
+        lockOwners(walletId);
+
         Wallet wallet = walletRepositoryPort.findById(walletId)
                 .filter(w -> !w.deleted())
                 .orElseThrow(() -> new InvalidRequestException(WALLET_NOT_FOUND + walletId));
@@ -292,6 +304,19 @@ public class WalletService implements WalletUseCase {
         }
     }
 
+    /**
+     * Locks the owners of the wallets, in user ID order, before any of them is read or written.
+     * Owners never change, so looking them up before the lock is safe.
+     */
+    private void lockOwners(Long... walletIds) {
+        Arrays.stream(walletIds)
+                .map(walletId -> walletRepositoryPort.findUserIdById(walletId)
+                        .orElseThrow(() -> new InvalidRequestException(WALLET_NOT_FOUND + walletId)))
+                .distinct()
+                .sorted()
+                .forEach(userRepositoryPort::lockForWrite);
+    }
+
     /**
      * Determines if the wallet should be set as default
      * - First wallet is always default
@@ -0,0 +1,22 @@
+package com.fintrackpro.domain.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Something that happened in the domain and that other parts of the system may react to.
+ * Events are stored in the outbox together with the change that caused them and are
+ * delivered at least once, in order per user.
+ */
+public interface DomainEvent {
+
+    /**
+     * The user whose data changed; events of one user are delivered in order.
+     */
+    Long userId();
+
+    String aggregateType();
+
+    Long aggregateId();
+
+    LocalDateTime occurredAt();
+}
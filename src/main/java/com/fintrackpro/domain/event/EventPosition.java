@@ -0,0 +1,20 @@
+package com.fintrackpro.domain.event;
+
+/**
+ * Where a delivered event stands in its user's stream of events.
+ *
+ * @param eventId         ID of the event, the same on every delivery
+ * @param previousEventId ID of the user's event committed directly before, 0 if there was none
+ *                        or the event predates chaining
+ * @param dataVersion     the user's data version after the write, set on the last event the write
+ *                        published for the user and null on the others
+ */
+public record EventPosition(long eventId, long previousEventId, Long dataVersion) {
+
+    /**
+     * @return whether this event directly follows the event with the given ID
+     */
+    public boolean follows(long eventId) {
+        return previousEventId == eventId;
+    }
+}
@@ -0,0 +1,30 @@
+package com.fintrackpro.domain.event;
+
+import com.fintrackpro.domain.model.Transaction;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published when a transaction has been (soft) deleted; carries its last state.
+ */
+public record TransactionDeletedEvent(Transaction transaction, LocalDateTime occurredAt) implements DomainEvent {
+
+    public TransactionDeletedEvent(Transaction transaction) {
+        this(transaction, LocalDateTime.now());
+    }
+
+    @Override
+    public Long userId() {
+        return transaction.userId();
+    }
+
+    @Override
+    public String aggregateType() {
+        return "Transaction";
+    }
+
+    @Override
+    public Long aggregateId() {
+        return transaction.id();
+    }
+}
@@ -0,0 +1,30 @@
+package com.fintrackpro.domain.event;
+
+import com.fintrackpro.domain.model.Transaction;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published when a transaction has been updated; carries both the old and the new state.
+ */
+public record TransactionUpdatedEvent(Transaction before, Transaction after, LocalDateTime occurredAt) implements DomainEvent {
+
+    public TransactionUpdatedEvent(Transaction before, Transaction after) {
+        this(before, after, LocalDateTime.now());
+    }
+
+    @Override
+    public Long userId() {
+        return after.userId();
+    }
+
+    @Override
+    public String aggregateType() {
+        return "Transaction";
+    }
+
+    @Override
+    public Long aggregateId() {
+        return after.id();
+    }
+}
@@ -0,0 +1,11 @@
+package com.fintrackpro.domain.exception;
+
+/**
+ * Exception for requests refused because too many of the same kind are running (e.g., concurrent exports)
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
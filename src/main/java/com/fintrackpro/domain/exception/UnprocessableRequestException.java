@@ -0,0 +1,11 @@
+package com.fintrackpro.domain.exception;
+
+/**
+ * Exception for well-formed requests that cannot be processed as sent (e.g., a reused idempotency key)
+ */
+public class UnprocessableRequestException extends RuntimeException {
+
+    public UnprocessableRequestException(String message) {
+        super(message);
+    }
+}
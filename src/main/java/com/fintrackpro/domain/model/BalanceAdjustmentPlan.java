@@ -0,0 +1,87 @@
+package com.fintrackpro.domain.model;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Net balance and transaction count change per wallet caused by replacing one transaction
+ * state with another. Creating is {@code between(null, tx)}, deleting is {@code between(tx, null)}
+ * and updating is {@code between(old, new)}; effects on the same wallet are netted so an update
+ * that does not change the amount, type or wallets yields an empty plan.
+ *
+ * @param deltas      balance change per wallet ID
+ * @param countDeltas transaction count change per wallet ID; both wallets of a transfer count it
+ */
+public record BalanceAdjustmentPlan(Map<Long, BigDecimal> deltas, Map<Long, Integer> countDeltas) {
+
+    public BalanceAdjustmentPlan {
+        deltas = deltas != null ? Collections.unmodifiableMap(deltas) : Map.of();
+        countDeltas = countDeltas != null ? Collections.unmodifiableMap(countDeltas) : Map.of();
+    }
+
+    public static BalanceAdjustmentPlan between(Transaction before, Transaction after) {
+        return combine(before != null ? List.of(before) : List.of(), after != null ? List.of(after) : List.of());
+    }
+
+    /**
+     * Nets reverting all of {@code removed} and applying all of {@code added} into one plan.
+     */
+    public static BalanceAdjustmentPlan combine(List<Transaction> removed, List<Transaction> added) {
+        Map<Long, BigDecimal> deltas = new LinkedHashMap<>();
+        Map<Long, Integer> countDeltas = new LinkedHashMap<>();
+        for (Transaction transaction : removed) {
+            accumulate(deltas, countDeltas, transaction, true);
+        }
+        for (Transaction transaction : added) {
+            accumulate(deltas, countDeltas, transaction, false);
+        }
+        deltas.values().removeIf(delta -> delta.signum() == 0);
+        countDeltas.values().removeIf(delta -> delta == 0);
+        return new BalanceAdjustmentPlan(deltas, countDeltas);
+    }
+
+    public boolean isEmpty() {
+        return deltas.isEmpty() && countDeltas.isEmpty();
+    }
+
+    /**
+     * @return the wallets whose balance or transaction count changes, in the order they were first seen
+     */
+    public Set<Long> walletIds() {
+        Set<Long> walletIds = new LinkedHashSet<>(deltas.keySet());
+        walletIds.addAll(countDeltas.keySet());
+        return walletIds;
+    }
+
+    public int size() {
+        return walletIds().size();
+    }
+
+    public BigDecimal deltaOf(Long walletId) {
+        return deltas.getOrDefault(walletId, BigDecimal.ZERO);
+    }
+
+    public int countDeltaOf(Long walletId) {
+        return countDeltas.getOrDefault(walletId, 0);
+    }
+
+    // Source wallet moves by the effective amount; a transfer also credits its destination
+    private static void accumulate(Map<Long, BigDecimal> deltas, Map<Long, Integer> countDeltas,
+                                   Transaction transaction, boolean revert) {
+        int count = revert ? -1 : 1;
+        BigDecimal sourceDelta = transaction.getEffectiveAmount();
+        deltas.merge(transaction.walletId(), revert ? sourceDelta.negate() : sourceDelta, BigDecimal::add);
+        countDeltas.merge(transaction.walletId(), count, Integer::sum);
+
+        if (transaction.isTransfer() && transaction.toWalletId() != null) {
+            BigDecimal targetDelta = transaction.amount();
+            deltas.merge(transaction.toWalletId(), revert ? targetDelta.negate() : targetDelta, BigDecimal::add);
+            countDeltas.merge(transaction.toWalletId(), count, Integer::sum);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.fintrackpro.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Total amount and number of transactions of one category.
+ */
+public record CategoryTotal(
+        Long categoryId,
+        String categoryName,
+        String categoryColor,
+        BigDecimal amount,
+        Long transactionCount) {
+}
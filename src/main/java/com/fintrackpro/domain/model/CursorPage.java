@@ -0,0 +1,17 @@
+package com.fintrackpro.domain.model;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated list.
+ *
+ * @param content    the items of this page
+ * @param nextCursor cursor for the following page, or null if this is the last page
+ * @param hasMore    whether a following page exists
+ */
+public record CursorPage<T>(List<T> content, String nextCursor, boolean hasMore) {
+
+    public static <T> CursorPage<T> of(List<T> content, String nextCursor) {
+        return new CursorPage<>(content, nextCursor, nextCursor != null);
+    }
+}
@@ -0,0 +1,10 @@
+package com.fintrackpro.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Total amount of the transactions of one day.
+ */
+public record DailyTotal(LocalDate date, BigDecimal amount) {
+}
@@ -0,0 +1,11 @@
+package com.fintrackpro.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Total amount and number of transactions on one day of the week.
+ *
+ * @param dayOfWeek English name of the day, e.g. "Monday"
+ */
+public record DayOfWeekTotal(String dayOfWeek, BigDecimal amount, Long transactionCount) {
+}
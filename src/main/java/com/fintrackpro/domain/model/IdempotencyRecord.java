@@ -0,0 +1,34 @@
+package com.fintrackpro.domain.model;
+
+import com.fintrackpro.domain.valueobject.IdempotencyStatus;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+/**
+ * A stored outcome of a write request that was sent with an Idempotency-Key header.
+ * Retries carrying the same key replay {@code responseStatus}/{@code responseBody}
+ * instead of executing the request again, provided they send the same request:
+ * {@code requestHash} is the SHA-256 of the request the key was first used with,
+ * or {@code null} for keys stored before requests were fingerprinted.
+ */
+@Builder(toBuilder = true)
+public record IdempotencyRecord(
+        Long userId,
+        String idempotencyKey,
+        String requestPath,
+        byte[] requestHash,
+        IdempotencyStatus status,
+        Integer responseStatus,
+        String responseBody,
+        LocalDateTime createdAt,
+        LocalDateTime expiresAt
+) {
+    public boolean isCompleted() {
+        return status == IdempotencyStatus.COMPLETED;
+    }
+
+    public boolean isExpired() {
+        return expiresAt != null && expiresAt.isBefore(LocalDateTime.now());
+    }
+}
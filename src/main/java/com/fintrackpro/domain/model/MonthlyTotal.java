@@ -0,0 +1,14 @@
+package com.fintrackpro.domain.model;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+/**
+ * Income and expense of one calendar month.
+ */
+public record MonthlyTotal(YearMonth month, BigDecimal income, BigDecimal expense) {
+
+    public BigDecimal net() {
+        return income.subtract(expense);
+    }
+}
@@ -0,0 +1,195 @@
+package com.fintrackpro.domain.model;
+
+import com.fintrackpro.domain.valueobject.RecurrencePattern;
+import com.fintrackpro.domain.valueobject.TransactionStatus;
+import com.fintrackpro.domain.valueobject.TransactionType;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Template of a recurring transaction. Every materialized occurrence is a regular
+ * {@link Transaction} whose {@code recurringGroupId} is the rule's id.
+ *
+ * The transaction that started the series is the rule's seed: updating it re-anchors the rule,
+ * deleting it cancels the rule.
+ */
+@Builder(toBuilder = true)
+public record RecurringRule(
+        Long id,
+        Long userId,
+        Long walletId,
+        Long categoryId,
+        Long toWalletId,
+        TransactionType type,
+        BigDecimal amount,
+        String currency,
+        String description,
+        String notes,
+        String payee,
+        String tags,
+        RecurrencePattern pattern,
+        LocalDate startDate,
+        LocalDate nextRunDate,
+        LocalDate lastRunDate,
+        int occurrencesGenerated,
+        LocalDateTime deferredUntil,
+        boolean active,
+        Long seedTransactionId,
+        LocalDateTime cancelledAt,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+    /**
+     * Creates a rule from the first transaction of a series; that transaction counts as occurrence 0.
+     */
+    public static RecurringRule fromFirstTransaction(Transaction first, RecurrencePattern pattern) {
+        LocalDate next = pattern.occurrence(first.transactionDate(), 1);
+        boolean hasNext = pattern.permits(1, next);
+        return RecurringRule.builder()
+                .userId(first.userId())
+                .walletId(first.walletId())
+                .categoryId(first.categoryId())
+                .toWalletId(first.toWalletId())
+                .type(first.type())
+                .amount(first.amount())
+                .currency(first.currency())
+                .description(first.description())
+                .notes(first.notes())
+                .payee(first.payee())
+                .tags(first.tags())
+                .pattern(pattern)
+                .startDate(first.transactionDate())
+                .nextRunDate(hasNext ? next : null)
+                .lastRunDate(first.transactionDate())
+                .occurrencesGenerated(1)
+                .active(hasNext)
+                .build();
+    }
+
+    /**
+     * Dates of all occurrences due on or before {@code asOf}, at most {@code limit} of them.
+     */
+    public List<LocalDate> dueOccurrences(LocalDate asOf, int limit) {
+        List<LocalDate> dates = new ArrayList<>();
+        int index = occurrencesGenerated;
+        LocalDate date = pattern.occurrence(startDate, index);
+        while (dates.size() < limit && !date.isAfter(asOf) && pattern.permits(index, date)) {
+            dates.add(date);
+            index++;
+            date = pattern.occurrence(startDate, index);
+        }
+        return dates;
+    }
+
+    /**
+     * Returns the rule advanced past {@code generated} newly materialized occurrences.
+     */
+    public RecurringRule advance(int generated) {
+        int total = occurrencesGenerated + generated;
+        LocalDate next = pattern.occurrence(startDate, total);
+        boolean hasNext = pattern.permits(total, next);
+        return toBuilder()
+                .occurrencesGenerated(total)
+                .lastRunDate(generated > 0 ? pattern.occurrence(startDate, total - 1) : lastRunDate)
+                .nextRunDate(hasNext ? next : null)
+                .active(hasNext)
+                .deferredUntil(null)
+                .build();
+    }
+
+    public RecurringRule defer(LocalDateTime until) {
+        return toBuilder().deferredUntil(until).build();
+    }
+
+    /**
+     * Returns the rule stopped for good; occurrences materialized so far are kept.
+     */
+    public RecurringRule cancel(LocalDateTime now) {
+        return toBuilder()
+                .nextRunDate(null)
+                .active(false)
+                .deferredUntil(null)
+                .cancelledAt(now)
+                .build();
+    }
+
+    public boolean isCancelled() {
+        return cancelledAt != null;
+    }
+
+    /**
+     * Returns the rule following its updated seed: future occurrences take the seed's wallets,
+     * category, amount and texts, and the schedule restarts from the seed's date.
+     */
+    public RecurringRule reanchor(Transaction seed) {
+        RecurringRule template = toBuilder()
+                .walletId(seed.walletId())
+                .categoryId(seed.categoryId())
+                .toWalletId(seed.toWalletId())
+                .amount(seed.amount())
+                .description(seed.description())
+                .notes(seed.notes())
+                .payee(seed.payee())
+                .tags(seed.tags())
+                .build();
+        return seed.transactionDate().equals(startDate) ? template : template.reschedule(seed.transactionDate(), pattern);
+    }
+
+    /**
+     * Returns the rule with a new start date and pattern. Occurrences are counted from the new
+     * start, as COUNT requires, but none dated on or before the last materialized one is
+     * created again. An exhausted rule becomes active again if the new schedule has occurrences
+     * left; cancelled rules are never rescheduled.
+     */
+    public RecurringRule reschedule(LocalDate start, RecurrencePattern newPattern) {
+        // Index 0 is the seed itself, which always exists
+        int index = 1;
+        LocalDate next = newPattern.occurrence(start, index);
+        while (lastRunDate != null && !next.isAfter(lastRunDate) && newPattern.permits(index, next)) {
+            index++;
+            next = newPattern.occurrence(start, index);
+        }
+        boolean hasNext = newPattern.permits(index, next);
+        return toBuilder()
+                .pattern(newPattern)
+                .startDate(start)
+                .occurrencesGenerated(index)
+                .nextRunDate(hasNext ? next : null)
+                .active(hasNext)
+                .deferredUntil(null)
+                .build();
+    }
+
+    /**
+     * Builds the transaction for one occurrence of this rule.
+     */
+    public Transaction toTransaction(LocalDate date) {
+        return Transaction.builder()
+                .userId(userId)
+                .walletId(walletId)
+                .categoryId(categoryId)
+                .toWalletId(toWalletId)
+                .type(type)
+                .amount(amount)
+                .currency(currency)
+                .transactionDate(date)
+                .description(description)
+                .notes(notes)
+                .status(TransactionStatus.COMPLETED)
+                .payee(payee)
+                .tags(tags)
+                .isRecurring(true)
+                .recurringPattern(pattern.toRule())
+                .recurringGroupId(id)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .createdBy(userId)
+                .deleted(false)
+                .build();
+    }
+}
@@ -0,0 +1,20 @@
+package com.fintrackpro.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Changes to the template of a recurring rule; {@code null} leaves a field unchanged.
+ * The changes apply to occurrences materialized afterwards, never to existing ones.
+ *
+ * @param pattern new recurrence pattern; the schedule restarts from the rule's start date
+ *                without repeating occurrences that were already materialized
+ */
+public record RecurringRuleUpdate(
+        BigDecimal amount,
+        Long categoryId,
+        String description,
+        String notes,
+        String payee,
+        String tags,
+        String pattern) {
+}
@@ -5,6 +5,10 @@ import lombok.Builder;
 
 import java.time.LocalDateTime;
 
+/**
+ * A refresh token session. {@code token} is only set on a newly issued token: the database keeps
+ * a digest of it, so tokens loaded from it have none.
+ */
 @Builder(toBuilder = true)
 public record RefreshToken(
         Long id,
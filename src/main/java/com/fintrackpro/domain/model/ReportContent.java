@@ -0,0 +1,38 @@
+package com.fintrackpro.domain.model;
+
+import com.fintrackpro.domain.valueobject.ReportType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Everything a report renderer needs to write one report.
+ *
+ * The totals are small and loaded up front; the transactions are a database stream that
+ * can be read only once, and only while the transaction that opened it is still active.
+ *
+ * @param months        one entry per month of the period, for the yearly summary; otherwise empty
+ * @param walletNames   names of the user's wallets by ID
+ * @param categoryNames names of the user's and the system categories by ID
+ * @param transactions  rows of the statement, newest first; empty for summary reports
+ */
+public record ReportContent(
+        ReportType type,
+        LocalDate startDate,
+        LocalDate endDate,
+        BigDecimal totalIncome,
+        BigDecimal totalExpense,
+        List<CategoryTotal> incomeCategories,
+        List<CategoryTotal> expenseCategories,
+        List<MonthlyTotal> months,
+        Map<Long, String> walletNames,
+        Map<Long, String> categoryNames,
+        Stream<TransactionListItem> transactions
+) {
+    public BigDecimal net() {
+        return totalIncome.subtract(totalExpense);
+    }
+}
@@ -0,0 +1,79 @@
+package com.fintrackpro.domain.model;
+
+import com.fintrackpro.domain.valueobject.ReportFormat;
+import com.fintrackpro.domain.valueobject.ReportStatus;
+import com.fintrackpro.domain.valueobject.ReportType;
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * A request to generate a report, and its result once a worker has run it.
+ *
+ * @param fileId blob store ID of the generated file, set once the job is {@link ReportStatus#COMPLETED}
+ */
+@Builder(toBuilder = true)
+public record ReportJob(
+        Long id,
+        Long userId,
+        ReportType type,
+        ReportFormat format,
+        LocalDate startDate,
+        LocalDate endDate,
+        ReportStatus status,
+        String fileId,
+        Long fileSize,
+        String errorMessage,
+        LocalDateTime createdAt,
+        LocalDateTime startedAt,
+        LocalDateTime completedAt
+) {
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    public static ReportJob queued(Long userId, ReportType type, ReportFormat format,
+                                   LocalDate startDate, LocalDate endDate) {
+        return ReportJob.builder()
+                .userId(userId)
+                .type(type)
+                .format(format)
+                .startDate(startDate)
+                .endDate(endDate)
+                .status(ReportStatus.QUEUED)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    public ReportJob started(LocalDateTime now) {
+        return toBuilder().status(ReportStatus.RUNNING).startedAt(now).build();
+    }
+
+    public ReportJob requeued() {
+        return toBuilder().status(ReportStatus.QUEUED).startedAt(null).build();
+    }
+
+    public ReportJob completed(StoredBlob file, LocalDateTime now) {
+        return toBuilder()
+                .status(ReportStatus.COMPLETED)
+                .fileId(file.id())
+                .fileSize(file.size())
+                .errorMessage(null)
+                .completedAt(now)
+                .build();
+    }
+
+    public ReportJob failed(String message, LocalDateTime now) {
+        String error = message != null && message.length() > MAX_ERROR_LENGTH
+                ? message.substring(0, MAX_ERROR_LENGTH)
+                : message;
+        return toBuilder().status(ReportStatus.FAILED).errorMessage(error).completedAt(now).build();
+    }
+
+    /**
+     * Download name of the file, e.g. {@code monthly-statement-2026-01-01.pdf}.
+     */
+    public String fileName() {
+        return type.name().toLowerCase(Locale.ROOT).replace('_', '-') + "-" + startDate + "." + format.extension();
+    }
+}
@@ -0,0 +1,46 @@
+package com.fintrackpro.domain.model;
+
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * A file kept in the blob store, addressed by the SHA-256 of its content.
+ *
+ * @param id          lowercase hex SHA-256 of the content
+ * @param size        content length in bytes
+ * @param contentType media type given when the content was first stored
+ */
+public record StoredBlob(String id, long size, String contentType) {
+
+    /**
+     * Prefix of the receipt and attachment URLs that point into the blob store.
+     */
+    public static final String REFERENCE_PREFIX = "blob:";
+
+    private static final Pattern ID_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    public static boolean isValidId(String id) {
+        return id != null && ID_PATTERN.matcher(id).matches();
+    }
+
+    /**
+     * Extracts the blob ID from a {@code blob:<sha256>} URL.
+     *
+     * @return the blob ID, or empty for external URLs and malformed references
+     */
+    public static Optional<String> idFromReference(String url) {
+        if (url == null || !url.startsWith(REFERENCE_PREFIX)) {
+            return Optional.empty();
+        }
+        String id = url.substring(REFERENCE_PREFIX.length());
+        return isValidId(id) ? Optional.of(id) : Optional.empty();
+    }
+
+    public String reference() {
+        return REFERENCE_PREFIX + id;
+    }
+
+    public boolean isImage() {
+        return contentType != null && contentType.startsWith("image/");
+    }
+}
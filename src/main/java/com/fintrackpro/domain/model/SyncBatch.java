@@ -0,0 +1,25 @@
+package com.fintrackpro.domain.model;
+
+import java.util.List;
+
+/**
+ * Changes of a user after a sync token, in change order across all entity kinds.
+ *
+ * @param wallets      wallets created or updated, including soft-deleted ones
+ * @param categories   categories created or updated, including system categories
+ * @param transactions transactions created or updated, including soft-deleted ones
+ * @param deleted      entities removed for good
+ * @param nextToken    token to send with the next sync
+ * @param hasMore      whether further changes are waiting; sync again with nextToken right away
+ * @param fullSync     whether this batch starts from the beginning, because no token was given or
+ *                     it was too old. Clients replace their local data instead of merging into it.
+ */
+public record SyncBatch(
+        List<SyncChange<Wallet>> wallets,
+        List<SyncChange<Category>> categories,
+        List<SyncChange<Transaction>> transactions,
+        List<SyncTombstone> deleted,
+        String nextToken,
+        boolean hasMore,
+        boolean fullSync) {
+}
@@ -0,0 +1,10 @@
+package com.fintrackpro.domain.model;
+
+/**
+ * Current state of an entity that changed after a sync position.
+ *
+ * @param changeSeq sequence number of the entity's latest change
+ * @param entity    the entity as it is now; soft-deleted entities carry their deleted flag
+ */
+public record SyncChange<T>(long changeSeq, T entity) {
+}
@@ -0,0 +1,42 @@
+package com.fintrackpro.domain.model;
+
+import com.fintrackpro.domain.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Position in a user's change history. Clients only see the opaque {@link #encode() encoded} form
+ * and send it back to receive the changes after it.
+ *
+ * @param changeSeq highest change sequence the client has received
+ * @param issuedAt  when the token was issued; tokens older than the tombstone retention
+ *                  may have missed deletions and require a full sync
+ */
+public record SyncToken(long changeSeq, Instant issuedAt) {
+
+    /**
+     * @param token an encoded token, or null for a full sync
+     * @return the token, or null for a full sync
+     */
+    public static SyncToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new SyncToken(
+                    Long.parseLong(raw.substring(0, separator)),
+                    Instant.ofEpochSecond(Long.parseLong(raw.substring(separator + 1))));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidRequestException("Invalid sync token", "since", "Use nextToken of a previous sync");
+        }
+    }
+
+    public String encode() {
+        String raw = changeSeq + "|" + issuedAt.getEpochSecond();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
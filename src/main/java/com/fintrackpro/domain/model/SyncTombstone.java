@@ -0,0 +1,16 @@
+package com.fintrackpro.domain.model;
+
+import com.fintrackpro.domain.valueobject.SyncEntityType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Record of an entity that no longer exists, kept so sync clients can drop their copy.
+ *
+ * @param changeSeq  sequence number of the removal
+ * @param entityType kind of the removed entity
+ * @param entityId   ID of the removed entity
+ * @param deletedAt  time of the removal
+ */
+public record SyncTombstone(long changeSeq, SyncEntityType entityType, Long entityId, LocalDateTime deletedAt) {
+}
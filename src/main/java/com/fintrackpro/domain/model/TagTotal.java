@@ -0,0 +1,9 @@
+package com.fintrackpro.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Total amount and number of the transactions carrying one tag.
+ */
+public record TagTotal(String tag, BigDecimal amount, Long transactionCount) {
+}
@@ -2,16 +2,22 @@ package com.fintrackpro.domain.model;
 
 import com.fintrackpro.domain.valueobject.TransactionStatus;
 import com.fintrackpro.domain.valueobject.TransactionType;
+import lombok.Builder;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
 
 /**
  * Represents a financial transaction in the FinTrack Pro application.
  * A transaction records the movement of money either as income, expense, or
  * transfer between wallets.
  */
+@Builder(toBuilder = true)
 public record Transaction(
         // Primary Key
         Long id,
@@ -244,6 +250,29 @@ public record Transaction(
         return String.format("%s %,.2f", currency, amount);
     }
 
+    // Tags as a normalized list, see parseTags
+    public List<String> tagList() {
+        return parseTags(tags);
+    }
+
+    // Split comma-separated tags, trimmed, lowercased, without blanks and duplicates
+    public static List<String> parseTags(String tags) {
+        if (tags == null || tags.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(tags.split(","))
+                .map(tag -> tag.trim().toLowerCase(Locale.ROOT))
+                .filter(tag -> !tag.isEmpty())
+                .distinct()
+                .sorted()
+                .toList();
+    }
+
+    // Inverse of parseTags; null when there are no tags
+    public static String joinTags(Collection<String> tags) {
+        return tags == null || tags.isEmpty() ? null : String.join(",", tags);
+    }
+
     // Get the effective amount for wallet balance calculation
     // Positive for income, negative for expense
     public BigDecimal getEffectiveAmount() {
@@ -0,0 +1,46 @@
+package com.fintrackpro.domain.model;
+
+import com.fintrackpro.domain.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in the transaction list ordered by transaction date and ID, both descending.
+ * Clients only see the opaque {@link #encode() encoded} form.
+ *
+ * @param transactionDate date of the last transaction returned
+ * @param id              ID of the last transaction returned
+ */
+public record TransactionCursor(LocalDate transactionDate, Long id) {
+
+    public static TransactionCursor of(TransactionListItem transaction) {
+        return new TransactionCursor(transaction.transactionDate(), transaction.id());
+    }
+
+    /**
+     * @param cursor an encoded cursor, or null for the first page
+     * @return the cursor, or null for the first page
+     */
+    public static TransactionCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new TransactionCursor(
+                    LocalDate.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidRequestException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = transactionDate + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
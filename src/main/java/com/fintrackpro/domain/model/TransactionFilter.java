@@ -3,9 +3,11 @@ package com.fintrackpro.domain.model;
 import com.fintrackpro.domain.valueobject.TransactionType;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
 /**
  * Domain model for transaction filtering criteria.
+ * A transaction matches {@code tags} if it has all of them.
  */
 public record TransactionFilter(
         LocalDate startDate,
@@ -14,5 +16,16 @@ public record TransactionFilter(
         Long walletId,
         TransactionType type,
         BigDecimal minAmount,
-        BigDecimal maxAmount) {
+        BigDecimal maxAmount,
+        List<String> tags) {
+
+    public TransactionFilter {
+        // Normalized the same way as stored tags, so the array comparison is exact
+        tags = tags == null ? List.of() : Transaction.parseTags(String.join(",", tags));
+    }
+
+    public TransactionFilter(LocalDate startDate, LocalDate endDate, Long categoryId, Long walletId,
+                             TransactionType type, BigDecimal minAmount, BigDecimal maxAmount) {
+        this(startDate, endDate, categoryId, walletId, type, minAmount, maxAmount, List.of());
+    }
 }
@@ -0,0 +1,30 @@
+package com.fintrackpro.domain.model;
+
+import com.fintrackpro.domain.valueobject.TransactionStatus;
+import com.fintrackpro.domain.valueobject.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Slim read model of a transaction for list views.
+ * Holds only what a list row shows; notes, location, references, file URLs and
+ * audit fields come with the full {@link Transaction} of the detail view.
+ *
+ * @param tags comma-separated tags in the same form as {@link Transaction#tags()}
+ */
+public record TransactionListItem(
+        Long id,
+        Long walletId,
+        Long categoryId,
+        Long toWalletId,
+        TransactionType type,
+        BigDecimal amount,
+        String currency,
+        LocalDate transactionDate,
+        String description,
+        String payee,
+        TransactionStatus status,
+        String tags,
+        Boolean isRecurring) {
+}
@@ -113,7 +113,8 @@ public record Wallet(
     }
 
     // Update wallet balance with a new transaction
-    public Wallet addTransaction(BigDecimal amount, LocalDateTime transactionDate) {
+    // Transaction statistics are maintained by the balance adjustment statement
+    public Wallet addTransaction(BigDecimal amount) {
         BigDecimal newBalance = currentBalance.add(amount);
 
         // For non-credit cards, ensure balance doesn't go negative
@@ -123,8 +124,6 @@ public record Wallet(
 
         return this.toBuilder()
                 .currentBalance(newBalance)
-                .transactionCount(transactionCount + 1)
-                .lastTransactionDate(transactionDate)
                 .build();
     }
 
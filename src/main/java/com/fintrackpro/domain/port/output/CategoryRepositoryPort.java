@@ -1,6 +1,7 @@
 package com.fintrackpro.domain.port.output;
 
 import com.fintrackpro.domain.model.Category;
+import com.fintrackpro.domain.model.SyncChange;
 import com.fintrackpro.domain.valueobject.CategoryType;
 
 import java.util.List;
@@ -84,4 +85,14 @@ public interface CategoryRepositoryPort {
      * @return the count of custom categories
      */
     long countByUserId(Long userId);
+
+    /**
+     * Finds the user's custom categories and the system categories changed after a sync position.
+     *
+     * @param userId    the user ID
+     * @param changeSeq only categories whose latest change comes after this sequence are returned
+     * @param limit     maximum number of categories to return
+     * @return the categories in change order
+     */
+    List<SyncChange<Category>> findChangedAfter(Long userId, long changeSeq, int limit);
 }
@@ -0,0 +1,57 @@
+package com.fintrackpro.domain.port.output;
+
+import com.fintrackpro.domain.model.RecurringRule;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Port for recurring rule persistence operations.
+ */
+public interface RecurringRuleRepositoryPort {
+
+    /**
+     * Saves a recurring rule.
+     *
+     * @param rule the rule to save
+     * @return the saved rule
+     */
+    RecurringRule save(RecurringRule rule);
+
+    /**
+     * Saves several recurring rules, batching the updates.
+     *
+     * @param rules the rules to save
+     */
+    void saveAll(List<RecurringRule> rules);
+
+    Optional<RecurringRule> findByIdAndUserId(Long id, Long userId);
+
+    /**
+     * Finds the rule a transaction started, if any.
+     *
+     * @param transactionId the ID of a possible seed transaction
+     * @return the rule whose seed the transaction is
+     */
+    Optional<RecurringRule> findBySeedTransactionId(Long transactionId);
+
+    /**
+     * @return all rules of the user, cancelled and exhausted ones included, newest first
+     */
+    List<RecurringRule> findByUserId(Long userId);
+
+    /**
+     * Claims due rules for the current transaction. Claimed rules stay locked until it ends
+     * and are invisible to concurrent claims, so every rule is processed by exactly one caller.
+     * The rules' users are locked as well, see {@link UserRepositoryPort#lockForWrite}; rules of
+     * users locked by another transaction are left for a later claim.
+     *
+     * @param asOf  rules with a next run date on or before this date are due
+     * @param now   rules deferred until after this time are skipped
+     * @param limit maximum number of rules to claim
+     * @return the claimed rules
+     */
+    List<RecurringRule> claimDue(LocalDate asOf, LocalDateTime now, int limit);
+}
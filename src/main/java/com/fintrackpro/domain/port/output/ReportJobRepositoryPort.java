@@ -0,0 +1,91 @@
+package com.fintrackpro.domain.port.output;
+
+import com.fintrackpro.domain.model.ReportJob;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Port for report job persistence operations.
+ */
+public interface ReportJobRepositoryPort {
+
+    /**
+     * Saves a report job.
+     *
+     * @param job the job to save
+     * @return the saved job
+     */
+    ReportJob save(ReportJob job);
+
+    /**
+     * Saves several report jobs.
+     *
+     * @param jobs the jobs to save
+     */
+    void saveAll(List<ReportJob> jobs);
+
+    /**
+     * @param id     the job ID
+     * @param userId the owner
+     * @return the job, or empty if it does not exist or belongs to another user
+     */
+    Optional<ReportJob> findByIdAndUserId(Long id, Long userId);
+
+    /**
+     * @param userId the owner
+     * @param limit  maximum number of jobs to return
+     * @return the user's most recent jobs, newest first
+     */
+    List<ReportJob> findRecentByUserId(Long userId, int limit);
+
+    /**
+     * Saves a new queued job unless its user already has {@code maxActive} jobs queued or running.
+     * The user's row must be locked by the current transaction, see {@link UserRepositoryPort#lockForWrite}.
+     *
+     * @param job       the queued job
+     * @param maxActive maximum number of the user's jobs queued or running at once
+     * @return the saved job, or empty if the user is at the limit
+     */
+    Optional<ReportJob> saveQueuedIfActiveBelow(ReportJob job, int maxActive);
+
+    /**
+     * Locks the oldest queued jobs for the current transaction. Jobs locked by another node
+     * are skipped, so every job is claimed by exactly one worker.
+     *
+     * @param limit maximum number of jobs to claim
+     * @return the locked jobs, still QUEUED
+     */
+    List<ReportJob> lockQueued(int limit);
+
+    /**
+     * Fails running jobs whose worker has not finished them in time, e.g. because the node stopped.
+     *
+     * @param startedBefore jobs started before this time are failed
+     * @param message       error message to record
+     * @param now           completion time to record
+     * @return number of failed jobs
+     */
+    int failRunningStartedBefore(LocalDateTime startedBefore, String message, LocalDateTime now);
+
+    /**
+     * Deletes completed and failed jobs that finished before the given time, in a transaction of its own.
+     *
+     * @param finishedBefore jobs completed or failed before this time are deleted
+     * @param limit          maximum number of jobs to delete
+     * @return the file ID of each deleted job, null for jobs without a file
+     */
+    List<String> deleteFinishedBefore(LocalDateTime finishedBefore, int limit);
+
+    /**
+     * Files are shared by identical content, so a report file may also be another report's or a
+     * transaction's receipt or attachment, archived transactions included.
+     *
+     * @param fileIds blob store IDs
+     * @return those of the IDs that a report job or transaction still refers to
+     */
+    Set<String> findReferencedFileIds(Collection<String> fileIds);
+}
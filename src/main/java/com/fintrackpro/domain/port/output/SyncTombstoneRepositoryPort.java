@@ -0,0 +1,27 @@
+package com.fintrackpro.domain.port.output;
+
+import com.fintrackpro.domain.model.SyncTombstone;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Port for the tombstones of removed entities. Tombstones are written by the database when a
+ * wallet or category is deleted or a soft-deleted transaction is archived.
+ */
+public interface SyncTombstoneRepositoryPort {
+
+    /**
+     * @param userId    the owner
+     * @param changeSeq only tombstones after this sequence are returned
+     * @param limit     maximum number of tombstones to return
+     * @return the tombstones in sequence order
+     */
+    List<SyncTombstone> findByUserIdAfter(Long userId, long changeSeq, int limit);
+
+    /**
+     * @param cutoff tombstones of removals before this time are deleted
+     * @return number of deleted tombstones
+     */
+    int deleteDeletedBefore(LocalDateTime cutoff);
+}
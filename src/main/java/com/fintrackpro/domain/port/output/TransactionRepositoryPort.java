@@ -1,7 +1,16 @@
 package com.fintrackpro.domain.port.output;
 
+import com.fintrackpro.domain.model.CategoryTotal;
+import com.fintrackpro.domain.model.DailyTotal;
+import com.fintrackpro.domain.model.DayOfWeekTotal;
+import com.fintrackpro.domain.model.SyncChange;
+import com.fintrackpro.domain.model.TagTotal;
 import com.fintrackpro.domain.model.Transaction;
+import com.fintrackpro.domain.model.TransactionCursor;
 import com.fintrackpro.domain.model.TransactionFilter;
+import com.fintrackpro.domain.model.TransactionListItem;
+import com.fintrackpro.domain.valueobject.AttachmentKind;
+import com.fintrackpro.domain.valueobject.AutocompleteField;
 import com.fintrackpro.domain.valueobject.TransactionType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -9,7 +18,9 @@ import org.springframework.data.domain.Pageable;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Port interface for Transaction repository operations.
@@ -23,9 +34,32 @@ public interface TransactionRepositoryPort {
      * @param userId   the user ID
      * @param filter   the filter criteria
      * @param pageable the pagination information
-     * @return page of transactions
+     * @return page of list items
      */
-    Page<Transaction> findAll(Long userId, TransactionFilter filter, Pageable pageable);
+    Page<TransactionListItem> findAll(Long userId, TransactionFilter filter, Pageable pageable);
+
+    /**
+     * Finds the transactions that follow a cursor, newest first, without counting the total.
+     *
+     * @param userId the user ID
+     * @param filter the filter criteria
+     * @param after  position to continue from, or null for the first page
+     * @param limit  maximum number of transactions to return
+     * @return list items ordered by transaction date and ID, descending
+     */
+    List<TransactionListItem> findAllAfter(Long userId, TransactionFilter filter, TransactionCursor after, int limit);
+
+    /**
+     * Streams all matching transactions, newest first, reading them from a database cursor
+     * {@code fetchSize} rows at a time. The stream must be consumed and closed inside the
+     * transaction that opened it.
+     *
+     * @param userId    the user ID
+     * @param filter    the filter criteria
+     * @param fetchSize number of rows fetched per round trip
+     * @return list items ordered by transaction date and ID, descending
+     */
+    Stream<TransactionListItem> streamAll(Long userId, TransactionFilter filter, int fetchSize);
 
     /**
      * Saves a transaction (create or update).
@@ -36,20 +70,36 @@ public interface TransactionRepositoryPort {
     Transaction save(Transaction transaction);
 
     /**
-     * Finds a transaction by its ID.
+     * Inserts several new transactions in JDBC batches.
+     *
+     * @param transactions the transactions to insert
+     * @return the inserted transactions with their generated IDs, in the given order
+     */
+    List<Transaction> saveAll(List<Transaction> transactions);
+
+    /**
+     * Finds a transaction by its ID. Soft-deleted transactions are not returned.
      *
      * @param id the transaction ID
      * @return Optional containing the transaction if found
      */
     Optional<Transaction> findById(Long id);
 
+    /**
+     * Finds the owner of a transaction without loading it. Soft-deleted transactions are not returned.
+     *
+     * @param id the transaction ID
+     * @return Optional containing the user ID if found
+     */
+    Optional<Long> findUserIdById(Long id);
+
     /**
      * Finds all transactions for a specific user.
      *
      * @param userId the user ID
      * @return list of transactions
      */
-    List<Transaction> findAllByUserId(Long userId);
+    List<TransactionListItem> findAllByUserId(Long userId);
 
     /**
      * Finds transactions by user ID and wallet ID.
@@ -58,7 +108,7 @@ public interface TransactionRepositoryPort {
      * @param walletId the wallet ID
      * @return list of transactions
      */
-    List<Transaction> findByUserIdAndWalletId(Long userId, Long walletId);
+    List<TransactionListItem> findByUserIdAndWalletId(Long userId, Long walletId);
 
     /**
      * Finds transactions by user ID and category ID.
@@ -67,7 +117,7 @@ public interface TransactionRepositoryPort {
      * @param categoryId the category ID
      * @return list of transactions
      */
-    List<Transaction> findByUserIdAndCategoryId(Long userId, Long categoryId);
+    List<TransactionListItem> findByUserIdAndCategoryId(Long userId, Long categoryId);
 
     /**
      * Finds transactions by user ID and type.
@@ -76,7 +126,7 @@ public interface TransactionRepositoryPort {
      * @param type   the transaction type
      * @return list of transactions
      */
-    List<Transaction> findByUserIdAndType(Long userId, TransactionType type);
+    List<TransactionListItem> findByUserIdAndType(Long userId, TransactionType type);
 
     /**
      * Finds transactions within a date range for a user.
@@ -86,7 +136,7 @@ public interface TransactionRepositoryPort {
      * @param endDate   the end date (inclusive)
      * @return list of transactions
      */
-    List<Transaction> findByUserIdAndDateRange(Long userId, LocalDate startDate, LocalDate endDate);
+    List<TransactionListItem> findByUserIdAndDateRange(Long userId, LocalDate startDate, LocalDate endDate);
 
     /**
      * Finds recent transactions for a user.
@@ -95,16 +145,28 @@ public interface TransactionRepositoryPort {
      * @param limit  maximum number of transactions to return
      * @return list of recent transactions
      */
-    List<Transaction> findRecentByUserId(Long userId, int limit);
+    List<TransactionListItem> findRecentByUserId(Long userId, int limit);
 
     /**
-     * Searches transactions by description or notes.
+     * Searches transactions by description, payee, location and notes.
+     * Matches whole words as well as substrings and near misses, best matches first.
      *
      * @param userId     the user ID
      * @param searchTerm the search term
-     * @return list of matching transactions
+     * @param pageable   the page to return; its sort is ignored
+     * @return page of matching list items
+     */
+    Page<TransactionListItem> search(Long userId, String searchTerm, Pageable pageable);
+
+    /**
+     * Counts the user's transactions per distinct value of a field. Empty values are left out.
+     *
+     * @param userId the user ID
+     * @param field  the field to count
+     * @param limit  maximum number of values, most frequent first
+     * @return transaction count per value, most frequent first
      */
-    List<Transaction> searchByDescription(Long userId, String searchTerm);
+    Map<String, Long> countByFieldValue(Long userId, AutocompleteField field, int limit);
 
     /**
      * Checks if any transactions exist for the given category.
@@ -161,9 +223,9 @@ public interface TransactionRepositoryPort {
      * @param type      the transaction type
      * @param startDate the start date
      * @param endDate   the end date
-     * @return list of results
+     * @return total per day with transactions, in date order
      */
-    List<Object[]> sumAmountByUserIdAndTypeGroupByDate(
+    List<DailyTotal> sumAmountByUserIdAndTypeGroupByDate(
             Long userId, TransactionType type, LocalDate startDate, LocalDate endDate);
 
     /**
@@ -174,9 +236,9 @@ public interface TransactionRepositoryPort {
      * @param type      the transaction type
      * @param startDate the start date
      * @param endDate   the end date
-     * @return list of results
+     * @return total per category, largest amount first
      */
-    List<Object[]> sumAmountByUserIdAndTypeGroupByCategory(
+    List<CategoryTotal> sumAmountByUserIdAndTypeGroupByCategory(
             Long userId, TransactionType type, LocalDate startDate, LocalDate endDate);
 
     /**
@@ -187,9 +249,22 @@ public interface TransactionRepositoryPort {
      * @param type      the transaction type
      * @param startDate the start date
      * @param endDate   the end date
-     * @return list of results
+     * @return total per day of the week, largest amount first
+     */
+    List<DayOfWeekTotal> sumAmountByUserIdAndTypeGroupByDayOfWeek(
+            Long userId, TransactionType type, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Calculates total amount by user and type within a date range and groups by
+     * tag. A transaction with several tags counts towards each of them.
+     *
+     * @param userId    the user ID
+     * @param type      the transaction type
+     * @param startDate the start date
+     * @param endDate   the end date
+     * @return total per tag, largest amount first
      */
-    List<Object[]> sumAmountByUserIdAndTypeGroupByDayOfWeek(
+    List<TagTotal> sumAmountByUserIdAndTypeGroupByTag(
             Long userId, TransactionType type, LocalDate startDate, LocalDate endDate);
 
     /**
@@ -211,8 +286,33 @@ public interface TransactionRepositoryPort {
 
     /**
      * Soft deletes a transaction by ID.
+     * The row stays in place until the archiver moves it to the archive table.
      *
      * @param id the transaction ID
+     * @return true if the transaction was deleted, false if it was missing or already deleted
+     */
+    boolean softDeleteById(Long id);
+
+    /**
+     * Points the receipt or attachment URL of a transaction at a new file.
+     * Locks the owner first, see {@link UserRepositoryPort#lockForWrite}.
+     *
+     * @param userId the owner of the transaction
+     * @param id     the transaction ID
+     * @param kind   which URL to set
+     * @param url    the new URL
+     * @return true if the transaction was updated, false if it was missing or deleted
+     */
+    boolean updateFileUrl(Long userId, Long id, AttachmentKind kind, String url);
+
+    /**
+     * Finds the user's transactions changed after a sync position, soft-deleted ones included.
+     * Archived transactions are not returned.
+     *
+     * @param userId    the user ID
+     * @param changeSeq only transactions whose latest change comes after this sequence are returned
+     * @param limit     maximum number of transactions to return
+     * @return the transactions in change order
      */
-    void softDeleteById(Long id);
+    List<SyncChange<Transaction>> findChangedAfter(Long userId, long changeSeq, int limit);
 }
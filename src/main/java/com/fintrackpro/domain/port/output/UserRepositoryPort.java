@@ -26,4 +26,12 @@ public interface UserRepositoryPort {
 
     Optional<User> findByEmailVerificationToken(String token);
 
+    /**
+     * Locks the user's row until the current transaction ends.
+     * The database triggers lock it on every write to the user's wallets, categories and
+     * transactions, after the written row. Write use cases call this before their first write,
+     * so all of them lock the user first and then the rows, and cannot deadlock each other.
+     */
+    void lockForWrite(Long userId);
+
 }
@@ -1,5 +1,7 @@
 package com.fintrackpro.domain.port.output;
 
+import com.fintrackpro.domain.model.BalanceAdjustmentPlan;
+import com.fintrackpro.domain.model.SyncChange;
 import com.fintrackpro.domain.model.Wallet;
 import com.fintrackpro.domain.valueobject.WalletType;
 
@@ -29,6 +31,14 @@ public interface WalletRepositoryPort {
      */
     Optional<Wallet> findById(Long id);
 
+    /**
+     * Finds the owner of a wallet without loading it.
+     *
+     * @param id the wallet ID
+     * @return an Optional containing the user ID if the wallet exists, empty otherwise
+     */
+    Optional<Long> findUserIdById(Long id);
+
     /**
      * Finds all wallets for a specific user.
      *
@@ -128,4 +138,26 @@ public interface WalletRepositoryPort {
      * @return an array containing the updated source and target wallets
      */
     Optional<Wallet[]> transfer(Long fromWalletId, Long toWalletId, BigDecimal amount);
+
+    /**
+     * Applies all balance and transaction count deltas of a plan in a single statement.
+     * A wallet is only updated if it belongs to the user and, unless it is a credit card or
+     * its balance does not move, its balance stays non-negative. If any wallet fails that
+     * check none are updated.
+     *
+     * @param userId the owner of the wallets
+     * @param plan   the per-wallet balance deltas
+     * @return the number of wallets updated; 0 if any wallet was rejected
+     */
+    int applyBalanceAdjustments(Long userId, BalanceAdjustmentPlan plan);
+
+    /**
+     * Finds the user's wallets changed after a sync position, soft-deleted ones included.
+     *
+     * @param userId    the owner of the wallets
+     * @param changeSeq only wallets whose latest change comes after this sequence are returned
+     * @param limit     maximum number of wallets to return
+     * @return the wallets in change order
+     */
+    List<SyncChange<Wallet>> findChangedAfter(Long userId, long changeSeq, int limit);
 }
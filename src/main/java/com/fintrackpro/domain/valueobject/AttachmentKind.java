@@ -0,0 +1,16 @@
+package com.fintrackpro.domain.valueobject;
+
+/**
+ * The file slots of a transaction.
+ */
+public enum AttachmentKind {
+    /**
+     * Receipt of the transaction, stored in receipt_url
+     */
+    RECEIPT,
+
+    /**
+     * Any other supporting document, stored in attachment_url
+     */
+    ATTACHMENT
+}
@@ -0,0 +1,16 @@
+package com.fintrackpro.domain.valueobject;
+
+/**
+ * Transaction fields offered for autocompletion.
+ */
+public enum AutocompleteField {
+    /**
+     * Payee of the transaction
+     */
+    PAYEE,
+
+    /**
+     * Description of the transaction
+     */
+    DESCRIPTION
+}
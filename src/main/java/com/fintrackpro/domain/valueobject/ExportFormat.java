@@ -0,0 +1,16 @@
+package com.fintrackpro.domain.valueobject;
+
+/**
+ * File formats of the transaction export.
+ */
+public enum ExportFormat {
+    /**
+     * Comma-separated values with a header row (RFC 4180)
+     */
+    CSV,
+
+    /**
+     * One JSON object per line
+     */
+    NDJSON
+}
@@ -0,0 +1,16 @@
+package com.fintrackpro.domain.valueobject;
+
+/**
+ * Represents the processing state of an idempotency key.
+ */
+public enum IdempotencyStatus {
+    /**
+     * The original request is still being processed
+     */
+    IN_PROGRESS,
+
+    /**
+     * The original request finished and its response is stored for replay
+     */
+    COMPLETED
+}
@@ -0,0 +1,26 @@
+package com.fintrackpro.domain.valueobject;
+
+/**
+ * Represents the delivery state of an outbox event.
+ */
+public enum OutboxStatus {
+    /**
+     * Waiting to be dispatched (possibly after a backoff)
+     */
+    PENDING,
+
+    /**
+     * Claimed by a dispatcher until its lease expires
+     */
+    PROCESSING,
+
+    /**
+     * Delivered to all handlers
+     */
+    DISPATCHED,
+
+    /**
+     * Gave up after the maximum number of attempts
+     */
+    FAILED
+}
@@ -0,0 +1,11 @@
+package com.fintrackpro.domain.valueobject;
+
+/**
+ * Represents how often a recurring transaction repeats.
+ */
+public enum RecurrenceFrequency {
+    DAILY,
+    WEEKLY,
+    MONTHLY,
+    YEARLY
+}
@@ -0,0 +1,124 @@
+package com.fintrackpro.domain.valueobject;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.StringJoiner;
+
+/**
+ * RRULE-like recurrence pattern, e.g. {@code FREQ=MONTHLY;INTERVAL=1;BYMONTHDAY=15;COUNT=12;UNTIL=20261231}.
+ * A bare frequency such as {@code MONTHLY} is accepted as shorthand for {@code FREQ=MONTHLY}.
+ *
+ * Occurrences are computed from the start date by index rather than from the previous occurrence,
+ * so monthly rules anchored on the 31st do not drift after a short month.
+ */
+public record RecurrencePattern(
+        RecurrenceFrequency frequency,
+        int interval,
+        Integer byMonthDay,
+        Integer count,
+        LocalDate until
+) {
+    private static final DateTimeFormatter UNTIL_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    public RecurrencePattern {
+        if (frequency == null) {
+            throw new IllegalArgumentException("Recurrence frequency is required");
+        }
+        if (interval < 1) {
+            throw new IllegalArgumentException("Recurrence interval must be at least 1");
+        }
+        if (byMonthDay != null && (byMonthDay < 1 || byMonthDay > 31)) {
+            throw new IllegalArgumentException("BYMONTHDAY must be between 1 and 31");
+        }
+        if (byMonthDay != null && frequency != RecurrenceFrequency.MONTHLY) {
+            throw new IllegalArgumentException("BYMONTHDAY is only supported for monthly recurrence");
+        }
+        if (count != null && count < 1) {
+            throw new IllegalArgumentException("COUNT must be at least 1");
+        }
+    }
+
+    public static RecurrencePattern parse(String pattern) {
+        if (pattern == null || pattern.isBlank()) {
+            throw new IllegalArgumentException("Recurrence pattern is required");
+        }
+
+        RecurrenceFrequency frequency = null;
+        int interval = 1;
+        Integer byMonthDay = null;
+        Integer count = null;
+        LocalDate until = null;
+
+        for (String part : pattern.trim().toUpperCase(Locale.ROOT).split(";")) {
+            if (part.isBlank()) {
+                continue;
+            }
+            String[] keyValue = part.split("=", 2);
+            try {
+                if (keyValue.length == 1) {
+                    frequency = RecurrenceFrequency.valueOf(keyValue[0].trim());
+                    continue;
+                }
+                String value = keyValue[1].trim();
+                switch (keyValue[0].trim()) {
+                    case "FREQ" -> frequency = RecurrenceFrequency.valueOf(value);
+                    case "INTERVAL" -> interval = Integer.parseInt(value);
+                    case "BYMONTHDAY" -> byMonthDay = Integer.parseInt(value);
+                    case "COUNT" -> count = Integer.parseInt(value);
+                    case "UNTIL" -> until = LocalDate.parse(value.length() > 8 ? value.substring(0, 8) : value, UNTIL_FORMAT);
+                    default -> throw new IllegalArgumentException("Unsupported recurrence rule part: " + keyValue[0]);
+                }
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid recurrence rule part: " + part, e);
+            }
+        }
+        return new RecurrencePattern(frequency, interval, byMonthDay, count, until);
+    }
+
+    /**
+     * Returns the occurrence with the given zero-based index. Index 0 is always the start date.
+     */
+    public LocalDate occurrence(LocalDate start, int index) {
+        if (index == 0) {
+            return start;
+        }
+        long step = (long) index * interval;
+        return switch (frequency) {
+            case DAILY -> start.plusDays(step);
+            case WEEKLY -> start.plusWeeks(step);
+            case MONTHLY -> {
+                LocalDate month = start.plusMonths(step);
+                yield byMonthDay == null ? month : month.withDayOfMonth(Math.min(byMonthDay, month.lengthOfMonth()));
+            }
+            case YEARLY -> start.plusYears(step);
+        };
+    }
+
+    /**
+     * Whether the occurrence with the given index and date is still within COUNT and UNTIL.
+     */
+    public boolean permits(int index, LocalDate date) {
+        return (count == null || index < count) && (until == null || !date.isAfter(until));
+    }
+
+    /**
+     * Canonical string form, as stored in the database.
+     */
+    public String toRule() {
+        StringJoiner rule = new StringJoiner(";");
+        rule.add("FREQ=" + frequency);
+        rule.add("INTERVAL=" + interval);
+        if (byMonthDay != null) {
+            rule.add("BYMONTHDAY=" + byMonthDay);
+        }
+        if (count != null) {
+            rule.add("COUNT=" + count);
+        }
+        if (until != null) {
+            rule.add("UNTIL=" + until.format(UNTIL_FORMAT));
+        }
+        return rule.toString();
+    }
+}
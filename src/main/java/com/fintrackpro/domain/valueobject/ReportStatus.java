@@ -0,0 +1,26 @@
+package com.fintrackpro.domain.valueobject;
+
+/**
+ * Lifecycle of a report job.
+ */
+public enum ReportStatus {
+    /**
+     * Waiting for a free report worker
+     */
+    QUEUED,
+
+    /**
+     * Claimed by a worker and being generated
+     */
+    RUNNING,
+
+    /**
+     * Generated; the file can be downloaded
+     */
+    COMPLETED,
+
+    /**
+     * Generation failed or was interrupted; see the error message
+     */
+    FAILED
+}
@@ -0,0 +1,21 @@
+package com.fintrackpro.domain.valueobject;
+
+/**
+ * Kinds of generated reports.
+ */
+public enum ReportType {
+    /**
+     * Totals, category breakdown and every transaction of one calendar month
+     */
+    MONTHLY_STATEMENT,
+
+    /**
+     * Income and expense per category over a date range
+     */
+    CATEGORY_REPORT,
+
+    /**
+     * Month-by-month totals and top categories of one calendar year
+     */
+    YEARLY_SUMMARY
+}
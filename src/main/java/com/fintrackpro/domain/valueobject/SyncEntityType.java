@@ -0,0 +1,10 @@
+package com.fintrackpro.domain.valueobject;
+
+/**
+ * Kinds of entities delivered by the delta sync.
+ */
+public enum SyncEntityType {
+    WALLET,
+    CATEGORY,
+    TRANSACTION
+}
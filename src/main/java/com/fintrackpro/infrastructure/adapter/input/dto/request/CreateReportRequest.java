@@ -0,0 +1,29 @@
+package com.fintrackpro.infrastructure.adapter.input.dto.request;
+
+import com.fintrackpro.domain.valueobject.ReportFormat;
+import com.fintrackpro.domain.valueobject.ReportType;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+
+/**
+ * @param period    {@code yyyy-MM} for a monthly statement, {@code yyyy} for a yearly summary
+ * @param startDate first day of a category report
+ * @param endDate   last day of a category report
+ */
+public record CreateReportRequest(
+        @NotNull(message = "Report type is required")
+        ReportType type,
+
+        ReportFormat format,
+
+        String period,
+        LocalDate startDate,
+        LocalDate endDate
+) {
+    public CreateReportRequest {
+        if (format == null) {
+            format = ReportFormat.PDF;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.fintrackpro.infrastructure.adapter.input.dto.request;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+
+/**
+ * Request DTO for changing a recurring rule; omitted fields are left unchanged.
+ *
+ * @param pattern RRULE-like pattern, e.g. {@code FREQ=MONTHLY;BYMONTHDAY=15;COUNT=12}
+ */
+public record UpdateRecurringRuleRequest(
+        @DecimalMin(value = "0.01", message = "Amount must be greater than zero") BigDecimal amount,
+
+        Long categoryId,
+
+        @Size(max = 255, message = "Description cannot exceed 255 characters") String description,
+
+        String notes,
+        String payee,
+        String tags,
+
+        @Size(max = 100, message = "Pattern cannot exceed 100 characters") String pattern) {
+}
@@ -72,6 +72,18 @@ public class AnalyticsResponses {
             Long transactionCount) {
     }
 
+    public record TagSpendingResponse(
+            BigDecimal total,
+            List<TagSpending> tags) {
+    }
+
+    public record TagSpending(
+            String tag,
+            BigDecimal amount,
+            Double percentage,
+            Long transactionCount) {
+    }
+
     public record ComparisonResponse(
             String currentPeriod,
             String previousPeriod,
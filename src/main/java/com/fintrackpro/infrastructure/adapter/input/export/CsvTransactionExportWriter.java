@@ -0,0 +1,83 @@
+package com.fintrackpro.infrastructure.adapter.input.export;
+
+import com.fintrackpro.domain.model.TransactionListItem;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * RFC 4180 CSV with a header row and CRLF line endings.
+ */
+final class CsvTransactionExportWriter implements TransactionExportWriter {
+
+    private static final String HEADER = "id,transaction_date,type,amount,currency,description,payee,status,"
+            + "tags,wallet_id,category_id,to_wallet_id,recurring";
+
+    private final Writer writer;
+
+    CsvTransactionExportWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write(HEADER);
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void write(TransactionListItem row) throws IOException {
+        writer.write(String.valueOf(row.id()));
+        writer.write(',');
+        writer.write(String.valueOf(row.transactionDate()));
+        writer.write(',');
+        writer.write(row.type().name());
+        writer.write(',');
+        writer.write(row.amount().toPlainString());
+        writer.write(',');
+        writeValue(row.currency());
+        writer.write(',');
+        writeText(row.description());
+        writer.write(',');
+        writeText(row.payee());
+        writer.write(',');
+        writeValue(row.status() != null ? row.status().name() : null);
+        writer.write(',');
+        writeText(row.tags());
+        writer.write(',');
+        writeValue(row.walletId());
+        writer.write(',');
+        writeValue(row.categoryId());
+        writer.write(',');
+        writeValue(row.toWalletId());
+        writer.write(',');
+        writer.write(String.valueOf(Boolean.TRUE.equals(row.isRecurring())));
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (value != null) {
+            writer.write(value.toString());
+        }
+    }
+
+    private void writeText(String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        // Spreadsheets run cells starting with these as formulas
+        String text = "=+-@\t\r".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
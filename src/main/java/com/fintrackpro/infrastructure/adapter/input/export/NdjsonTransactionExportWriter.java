@@ -0,0 +1,40 @@
+package com.fintrackpro.infrastructure.adapter.input.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fintrackpro.domain.model.TransactionListItem;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Newline-delimited JSON, one transaction object per line, serialized like the list endpoints.
+ */
+final class NdjsonTransactionExportWriter implements TransactionExportWriter {
+
+    private final JsonGenerator generator;
+    private final ObjectWriter rowWriter;
+
+    NdjsonTransactionExportWriter(OutputStream out, ObjectMapper objectMapper) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(new BufferedOutputStream(out, BUFFER_SIZE));
+        // Rows end with a newline themselves instead of being separated by a space
+        generator.setRootValueSeparator(null);
+        // Flushing after every row would defeat the buffer
+        this.rowWriter = objectMapper.writerFor(TransactionListItem.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    public void write(TransactionListItem row) throws IOException {
+        rowWriter.writeValue(generator, row);
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -0,0 +1,28 @@
+package com.fintrackpro.infrastructure.adapter.input.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintrackpro.domain.model.TransactionListItem;
+import com.fintrackpro.domain.valueobject.ExportFormat;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes exported transactions to a stream one row at a time, through a fixed-size buffer.
+ * Closing the writer flushes it and closes the stream.
+ */
+public interface TransactionExportWriter extends Closeable {
+
+    int BUFFER_SIZE = 64 * 1024;
+
+    void write(TransactionListItem row) throws IOException;
+
+    static TransactionExportWriter create(ExportFormat format, OutputStream out, ObjectMapper objectMapper)
+            throws IOException {
+        return switch (format) {
+            case CSV -> new CsvTransactionExportWriter(out);
+            case NDJSON -> new NdjsonTransactionExportWriter(out, objectMapper);
+        };
+    }
+}
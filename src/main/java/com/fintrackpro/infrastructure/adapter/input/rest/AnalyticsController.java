@@ -102,6 +102,17 @@ public class AnalyticsController {
                 analyticsUseCase.getSpendingPatterns(userId, startDate, endDate)));
     }
 
+    @Operation(summary = "Get spending grouped by tag")
+    @GetMapping("/tag-spending")
+    public ResponseEntity<ApiResponse<TagSpendingResponse>> getTagSpending(
+            @RequestParam(defaultValue = "EXPENSE") TransactionType type,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        Long userId = currentUserProvider.getCurrentUserId();
+        return ResponseEntity.ok(ApiResponse.success("Tag spending retrieved successfully",
+                analyticsUseCase.getTagSpending(userId, type, startDate, endDate)));
+    }
+
     @Operation(summary = "Get period comparisons")
     @GetMapping("/comparison")
     public ResponseEntity<ApiResponse<ComparisonResponse>> getComparison(
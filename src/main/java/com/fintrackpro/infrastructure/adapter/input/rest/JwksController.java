@@ -0,0 +1,34 @@
+package com.fintrackpro.infrastructure.adapter.input.rest;
+
+import com.fintrackpro.infrastructure.security.JwtKeyRing;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Publishes the public token verification keys as a JSON Web Key Set (RFC 7517).
+ *
+ * Not wrapped in {@code ApiResponse}: JWKS clients expect the bare key set.
+ */
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Authentication", description = "APIs for user registration, login, token management, and email verification")
+public class JwksController {
+
+    private final JwtKeyRing jwtKeyRing;
+
+    @Operation(summary = "Public keys that verify access tokens")
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(jwtKeyRing.publicKeys().toJSONObject());
+    }
+}
@@ -0,0 +1,72 @@
+package com.fintrackpro.infrastructure.adapter.input.rest;
+
+import com.fintrackpro.application.port.input.CurrentUserProvider;
+import com.fintrackpro.application.port.input.RecurringTransactionUseCase;
+import com.fintrackpro.domain.model.RecurringRule;
+import com.fintrackpro.domain.model.RecurringRuleUpdate;
+import com.fintrackpro.infrastructure.adapter.input.dto.request.UpdateRecurringRuleRequest;
+import com.fintrackpro.infrastructure.adapter.input.dto.response.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Recurring rules are created by creating a transaction with {@code isRecurring=true}; that
+ * transaction is the rule's seed. Updating the seed re-anchors the rule, deleting it cancels the rule.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/recurring-rules")
+@Tag(name = "Recurring Rules", description = "APIs for viewing, changing and cancelling recurring transactions")
+public class RecurringRuleController {
+
+    private final RecurringTransactionUseCase recurringTransactionUseCase;
+    private final CurrentUserProvider currentUserProvider;
+
+    @Operation(summary = "Get the user's recurring rules")
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<RecurringRule>>> getRules() {
+        Long userId = currentUserProvider.getCurrentUserId();
+        return ResponseEntity.ok(ApiResponse.success("Recurring rules retrieved successfully",
+                recurringTransactionUseCase.getRules(userId)));
+    }
+
+    @Operation(summary = "Get a recurring rule")
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<RecurringRule>> getRule(@PathVariable Long id) {
+        Long userId = currentUserProvider.getCurrentUserId();
+        return ResponseEntity.ok(ApiResponse.success("Recurring rule retrieved successfully",
+                recurringTransactionUseCase.getRule(userId, id)));
+    }
+
+    @Operation(summary = "Change a recurring rule",
+            description = "Applies to occurrences created from now on; existing transactions are not changed")
+    @PutMapping("/{id}")
+    public ResponseEntity<ApiResponse<RecurringRule>> updateRule(
+            @PathVariable Long id,
+            @Valid @RequestBody UpdateRecurringRuleRequest request) {
+        Long userId = currentUserProvider.getCurrentUserId();
+        log.info("Updating recurring rule with id: {}", id);
+        RecurringRuleUpdate update = new RecurringRuleUpdate(request.amount(), request.categoryId(),
+                request.description(), request.notes(), request.payee(), request.tags(), request.pattern());
+        return ResponseEntity.ok(ApiResponse.success("Recurring rule updated successfully",
+                recurringTransactionUseCase.updateRule(userId, id, update)));
+    }
+
+    @Operation(summary = "Cancel a recurring rule",
+            description = "Stops future occurrences; transactions already created are kept")
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ApiResponse<RecurringRule>> cancelRule(@PathVariable Long id) {
+        Long userId = currentUserProvider.getCurrentUserId();
+        log.info("Cancelling recurring rule with id: {}", id);
+        return ResponseEntity.ok(ApiResponse.success("Recurring rule cancelled successfully",
+                recurringTransactionUseCase.cancelRule(userId, id)));
+    }
+}
@@ -0,0 +1,85 @@
+package com.fintrackpro.infrastructure.adapter.input.rest;
+
+import com.fintrackpro.application.port.input.CurrentUserProvider;
+import com.fintrackpro.application.port.input.ReportUseCase;
+import com.fintrackpro.domain.model.ReportJob;
+import com.fintrackpro.domain.model.StoredBlob;
+import com.fintrackpro.infrastructure.adapter.input.dto.request.CreateReportRequest;
+import com.fintrackpro.infrastructure.adapter.input.dto.response.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.channels.Channels;
+import java.util.List;
+
+/**
+ * Asynchronous PDF and Excel reports.
+ *
+ * Submitting a report returns the queued job at once; poll the job until it is COMPLETED,
+ * then download its file.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/reports")
+@Tag(name = "Reports", description = "APIs for generating and downloading PDF and Excel reports")
+public class ReportController {
+
+    private final ReportUseCase reportUseCase;
+    private final CurrentUserProvider currentUserProvider;
+
+    @Operation(summary = "Submit a report",
+            description = "Monthly statements take period=yyyy-MM, yearly summaries period=yyyy, "
+                    + "category reports startDate and endDate")
+    @PostMapping
+    public ResponseEntity<ApiResponse<ReportJob>> submitReport(@Valid @RequestBody CreateReportRequest request) {
+        Long userId = currentUserProvider.getCurrentUserId();
+        ReportJob job = reportUseCase.submitReport(userId, request.type(), request.format(), request.period(),
+                request.startDate(), request.endDate());
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("Report queued successfully", job));
+    }
+
+    @Operation(summary = "Get the user's recent reports")
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<ReportJob>>> getReports() {
+        Long userId = currentUserProvider.getCurrentUserId();
+        return ResponseEntity.ok(ApiResponse.success("Reports retrieved successfully",
+                reportUseCase.getRecentReports(userId)));
+    }
+
+    @Operation(summary = "Get the status of a report")
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<ReportJob>> getReport(@PathVariable Long id) {
+        Long userId = currentUserProvider.getCurrentUserId();
+        return ResponseEntity.ok(ApiResponse.success("Report retrieved successfully",
+                reportUseCase.getReport(userId, id)));
+    }
+
+    @Operation(summary = "Download a completed report")
+    @GetMapping("/{id}/file")
+    public ResponseEntity<StreamingResponseBody> downloadReport(@PathVariable Long id) {
+        Long userId = currentUserProvider.getCurrentUserId();
+        ReportJob job = reportUseCase.getReport(userId, id);
+        StoredBlob file = reportUseCase.getReportFile(userId, id);
+
+        StreamingResponseBody body = out -> reportUseCase.transferTo(file, 0, file.size(), Channels.newChannel(out));
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(job.format().contentType()))
+                .contentLength(file.size())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(job.fileName()).build().toString())
+                .header(HttpHeaders.CACHE_CONTROL, "private, no-cache")
+                .body(body);
+    }
+}
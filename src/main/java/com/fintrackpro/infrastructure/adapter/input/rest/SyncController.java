@@ -0,0 +1,39 @@
+package com.fintrackpro.infrastructure.adapter.input.rest;
+
+import com.fintrackpro.application.port.input.CurrentUserProvider;
+import com.fintrackpro.application.port.input.SyncUseCase;
+import com.fintrackpro.domain.model.SyncBatch;
+import com.fintrackpro.infrastructure.adapter.input.dto.response.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/sync")
+@Tag(name = "Sync", description = "Incremental synchronisation of wallets, categories and transactions")
+public class SyncController {
+
+    private static final int MAX_SYNC_BATCH_SIZE = 1000;
+
+    private final SyncUseCase syncUseCase;
+    private final CurrentUserProvider currentUserProvider;
+
+    @Operation(summary = "Get changes since the last sync",
+            description = "Without a token, or when fullSync is true in the response, the batch starts from scratch. " +
+                    "Send nextToken as since on the next call; repeat right away while hasMore is true.")
+    @GetMapping
+    public ResponseEntity<ApiResponse<SyncBatch>> sync(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") int limit) {
+        Long userId = currentUserProvider.getCurrentUserId();
+        int batchSize = Math.min(Math.max(limit, 1), MAX_SYNC_BATCH_SIZE);
+        SyncBatch batch = syncUseCase.sync(userId, since, batchSize);
+        return ResponseEntity.ok(ApiResponse.success("Changes retrieved successfully", batch));
+    }
+}
@@ -0,0 +1,121 @@
+package com.fintrackpro.infrastructure.adapter.input.rest;
+
+import com.fintrackpro.application.port.input.CurrentUserProvider;
+import com.fintrackpro.application.port.input.TransactionAttachmentUseCase;
+import com.fintrackpro.domain.model.StoredBlob;
+import com.fintrackpro.domain.model.Transaction;
+import com.fintrackpro.domain.valueobject.AttachmentKind;
+import com.fintrackpro.infrastructure.adapter.input.dto.response.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Upload and download of transaction receipts and attachments.
+ *
+ * Uploads are the raw request body, streamed straight into the blob store. Downloads are
+ * copied from the file channel to the response and honour single-range {@code Range} requests.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/transactions/{id}")
+@Tag(name = "Transaction Attachments", description = "APIs for storing and serving transaction receipts and attachments")
+public class TransactionAttachmentController {
+
+    private static final String KIND = "{kind:receipt|attachment}";
+
+    private final TransactionAttachmentUseCase attachmentUseCase;
+    private final CurrentUserProvider currentUserProvider;
+
+    @Operation(summary = "Upload a receipt or attachment",
+            description = "The request body is the file content; Content-Type must be an image or PDF")
+    @PutMapping("/" + KIND)
+    public ResponseEntity<ApiResponse<Transaction>> upload(
+            @PathVariable Long id,
+            @PathVariable String kind,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            HttpServletRequest request) throws IOException {
+        Long userId = currentUserProvider.getCurrentUserId();
+        Transaction updated = attachmentUseCase.attach(
+                userId, id, toKind(kind), request.getInputStream(), contentType);
+        return ResponseEntity.ok(ApiResponse.success("File stored successfully", updated));
+    }
+
+    @Operation(summary = "Download a receipt or attachment", description = "Supports single byte ranges")
+    @GetMapping("/" + KIND)
+    public ResponseEntity<StreamingResponseBody> download(
+            @PathVariable Long id,
+            @PathVariable String kind,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range) {
+        Long userId = currentUserProvider.getCurrentUserId();
+        return serve(attachmentUseCase.getAttachment(userId, id, toKind(kind)), range);
+    }
+
+    @Operation(summary = "Download the thumbnail of an image receipt or attachment",
+            description = "Thumbnails are created in the background; 404 until one is ready")
+    @GetMapping("/" + KIND + "/thumbnail")
+    public ResponseEntity<StreamingResponseBody> thumbnail(
+            @PathVariable Long id,
+            @PathVariable String kind,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range) {
+        Long userId = currentUserProvider.getCurrentUserId();
+        return serve(attachmentUseCase.getThumbnail(userId, id, toKind(kind)), range);
+    }
+
+    private ResponseEntity<StreamingResponseBody> serve(StoredBlob blob, String rangeHeader) {
+        long size = blob.size();
+        long start = 0;
+        long end = size - 1;
+        HttpStatus status = HttpStatus.OK;
+
+        if (rangeHeader != null) {
+            try {
+                List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+                // Multipart range responses are not supported; the whole file is a valid answer
+                if (ranges.size() == 1) {
+                    start = ranges.get(0).getRangeStart(size);
+                    end = ranges.get(0).getRangeEnd(size);
+                    status = HttpStatus.PARTIAL_CONTENT;
+                }
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                        .header(HttpHeaders.CONTENT_RANGE, "bytes */" + size)
+                        .build();
+            }
+        }
+
+        long position = start;
+        long count = Math.max(end - start + 1, 0);
+        StreamingResponseBody body = out -> attachmentUseCase.transferTo(blob, position, count, Channels.newChannel(out));
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(status)
+                .contentType(MediaType.parseMediaType(blob.contentType()))
+                .contentLength(count)
+                .eTag("\"" + blob.id() + "\"")
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        if (status == HttpStatus.PARTIAL_CONTENT) {
+            response.header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+        }
+        return response.body(body);
+    }
+
+    private AttachmentKind toKind(String kind) {
+        return AttachmentKind.valueOf(kind.toUpperCase(Locale.ROOT));
+    }
+}
@@ -1,13 +1,17 @@
 package com.fintrackpro.infrastructure.adapter.input.rest;
 
 import com.fintrackpro.application.port.input.CurrentUserProvider;
+import com.fintrackpro.application.port.input.TransactionAutocompleteUseCase;
 import com.fintrackpro.application.port.input.TransactionUseCase;
+import com.fintrackpro.domain.model.CursorPage;
 import com.fintrackpro.domain.model.Transaction;
 import com.fintrackpro.domain.model.TransactionFilter;
+import com.fintrackpro.domain.model.TransactionListItem;
 import com.fintrackpro.infrastructure.adapter.input.dto.request.CreateTransactionRequest;
 import com.fintrackpro.infrastructure.adapter.input.dto.request.UpdateTransactionRequest;
 import com.fintrackpro.infrastructure.adapter.input.dto.response.ApiResponse;
 import com.fintrackpro.infrastructure.adapter.input.mapper.TransactionApiMapper;
+import com.fintrackpro.infrastructure.idempotency.IdempotentRequestExecutor;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -25,6 +29,7 @@ import org.springframework.web.bind.annotation.*;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import com.fintrackpro.domain.valueobject.AutocompleteField;
 import com.fintrackpro.domain.valueobject.TransactionType;
 
 @Slf4j
@@ -34,19 +39,28 @@ import com.fintrackpro.domain.valueobject.TransactionType;
 @Tag(name = "Transaction Management", description = "APIs for recording and managing financial transactions")
 public class TransactionController {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int MAX_AUTOCOMPLETE_LIMIT = 20;
+
     private final TransactionUseCase transactionUseCase;
+    private final TransactionAutocompleteUseCase autocompleteUseCase;
     private final TransactionApiMapper transactionMapper;
     private final CurrentUserProvider currentUserProvider;
+    private final IdempotentRequestExecutor idempotentRequestExecutor;
 
     @Operation(summary = "Create a new transaction")
     @PostMapping
     public ResponseEntity<ApiResponse<Transaction>> createTransaction(
-            @Valid @RequestBody CreateTransactionRequest request) {
-        log.info("Creating new {} transaction for user", request.type());
-        Transaction transaction = transactionMapper.toModel(request, currentUserProvider);
-        Transaction created = transactionUseCase.createTransaction(transaction);
-        return ResponseEntity.status(HttpStatus.CREATED)
-                .body(ApiResponse.success("Transaction created successfully", created));
+            @Valid @RequestBody CreateTransactionRequest request,
+            @RequestHeader(value = IdempotentRequestExecutor.HEADER, required = false) String idempotencyKey) {
+        return idempotentRequestExecutor.execute(idempotencyKey, "/api/v1/transactions", request, Transaction.class, () -> {
+            log.info("Creating new {} transaction for user", request.type());
+            Transaction transaction = transactionMapper.toModel(request, currentUserProvider);
+            Transaction created = transactionUseCase.createTransaction(transaction);
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(ApiResponse.success("Transaction created successfully", created));
+        });
     }
 
     @Operation(summary = "Get transaction by ID")
@@ -59,7 +73,7 @@ public class TransactionController {
 
     @Operation(summary = "Get all transactions with filtering and pagination")
     @GetMapping
-    public ResponseEntity<ApiResponse<Page<Transaction>>> getAllTransactions(
+    public ResponseEntity<ApiResponse<Page<TransactionListItem>>> getAllTransactions(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
             @RequestParam(required = false) Long categoryId,
@@ -67,6 +81,7 @@ public class TransactionController {
             @RequestParam(required = false) TransactionType type,
             @RequestParam(required = false) BigDecimal minAmount,
             @RequestParam(required = false) BigDecimal maxAmount,
+            @RequestParam(required = false) List<String> tags,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "transactionDate,desc") String sort) {
@@ -74,7 +89,7 @@ public class TransactionController {
         Long userId = currentUserProvider.getCurrentUserId();
 
         TransactionFilter filter = new TransactionFilter(
-                startDate, endDate, categoryId, walletId, type, minAmount, maxAmount);
+                startDate, endDate, categoryId, walletId, type, minAmount, maxAmount, tags);
 
         String[] sortParts = sort.split(",");
         String sortField = sortParts[0];
@@ -84,36 +99,81 @@ public class TransactionController {
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortField));
 
-        Page<Transaction> transactions = transactionUseCase.getFilteredTransactions(userId, filter, pageable);
+        Page<TransactionListItem> transactions = transactionUseCase.getFilteredTransactions(userId, filter, pageable);
+        return ResponseEntity.ok(ApiResponse.success("Transactions retrieved successfully", transactions));
+    }
+
+    @Operation(summary = "Get transactions with filtering and cursor pagination",
+            description = "Newest first. Pass nextCursor from the previous response to get the following page.")
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPage<TransactionListItem>>> getTransactionsByCursor(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Long walletId,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(required = false) BigDecimal minAmount,
+            @RequestParam(required = false) BigDecimal maxAmount,
+            @RequestParam(required = false) List<String> tags,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        Long userId = currentUserProvider.getCurrentUserId();
+
+        TransactionFilter filter = new TransactionFilter(
+                startDate, endDate, categoryId, walletId, type, minAmount, maxAmount, tags);
+        int pageSize = Math.min(Math.max(limit, 1), MAX_CURSOR_PAGE_SIZE);
+
+        CursorPage<TransactionListItem> transactions = transactionUseCase.getTransactionsAfter(userId, filter, cursor, pageSize);
         return ResponseEntity.ok(ApiResponse.success("Transactions retrieved successfully", transactions));
     }
 
     @Operation(summary = "Get transactions by wallet")
     @GetMapping("/wallet/{walletId}")
-    public ResponseEntity<ApiResponse<List<Transaction>>> getTransactionsByWallet(@PathVariable Long walletId) {
+    public ResponseEntity<ApiResponse<List<TransactionListItem>>> getTransactionsByWallet(@PathVariable Long walletId) {
         Long userId = currentUserProvider.getCurrentUserId();
-        List<Transaction> transactions = transactionUseCase.getWalletTransactions(userId, walletId);
+        List<TransactionListItem> transactions = transactionUseCase.getWalletTransactions(userId, walletId);
         return ResponseEntity.ok(ApiResponse.success("Wallet transactions retrieved successfully", transactions));
     }
 
     @Operation(summary = "Filter transactions by date range")
     @GetMapping("/filter")
-    public ResponseEntity<ApiResponse<List<Transaction>>> filterTransactions(
+    public ResponseEntity<ApiResponse<List<TransactionListItem>>> filterTransactions(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
         Long userId = currentUserProvider.getCurrentUserId();
-        List<Transaction> transactions = transactionUseCase.getTransactionsByDateRange(userId, startDate, endDate);
+        List<TransactionListItem> transactions = transactionUseCase.getTransactionsByDateRange(userId, startDate, endDate);
         return ResponseEntity.ok(ApiResponse.success("Filtered transactions retrieved successfully", transactions));
     }
 
-    @Operation(summary = "Search transactions")
+    @Operation(summary = "Search transactions",
+            description = "Matches words, substrings and near misses in description, payee, location and notes. "
+                    + "Best matches first.")
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<List<Transaction>>> searchTransactions(@RequestParam String query) {
+    public ResponseEntity<ApiResponse<Page<TransactionListItem>>> searchTransactions(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
         Long userId = currentUserProvider.getCurrentUserId();
-        List<Transaction> transactions = transactionUseCase.searchTransactions(userId, query);
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_SEARCH_PAGE_SIZE));
+        Page<TransactionListItem> transactions = transactionUseCase.searchTransactions(userId, query, pageable);
         return ResponseEntity.ok(ApiResponse.success("Search results retrieved successfully", transactions));
     }
 
+    @Operation(summary = "Autocomplete a payee or description",
+            description = "Values the user entered before that start with the prefix, most used first. "
+                    + "Served from memory, so it can be called on every keystroke.")
+    @GetMapping("/autocomplete")
+    public ResponseEntity<ApiResponse<List<String>>> autocomplete(
+            @RequestParam AutocompleteField field,
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        Long userId = currentUserProvider.getCurrentUserId();
+        List<String> suggestions = autocompleteUseCase.suggest(
+                userId, field, prefix, Math.min(Math.max(limit, 1), MAX_AUTOCOMPLETE_LIMIT));
+        return ResponseEntity.ok(ApiResponse.success("Suggestions retrieved successfully", suggestions));
+    }
+
     @Operation(summary = "Update an existing transaction")
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<Transaction>> updateTransaction(
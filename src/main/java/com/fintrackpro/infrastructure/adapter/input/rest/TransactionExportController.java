@@ -0,0 +1,124 @@
+package com.fintrackpro.infrastructure.adapter.input.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintrackpro.application.port.input.CurrentUserProvider;
+import com.fintrackpro.application.port.input.TransactionExportUseCase;
+import com.fintrackpro.application.port.input.TransactionExportUseCase.ExportSlot;
+import com.fintrackpro.domain.model.TransactionFilter;
+import com.fintrackpro.domain.valueobject.ExportFormat;
+import com.fintrackpro.domain.valueobject.TransactionType;
+import com.fintrackpro.infrastructure.adapter.input.export.TransactionExportWriter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streaming export of a user's transactions.
+ *
+ * Rows are written to the response while they are read from the database, so the export
+ * needs the same memory for ten rows as for ten million. A user or node already running
+ * its maximum of exports is answered with 429.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/transactions/export")
+@Tag(name = "Transaction Export", description = "APIs for downloading transactions as CSV or NDJSON")
+public class TransactionExportController {
+
+    private static final MediaType CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+    private static final MediaType NDJSON = MediaType.APPLICATION_NDJSON;
+    private static final MediaType GZIP = new MediaType("application", "gzip");
+
+    private final TransactionExportUseCase exportUseCase;
+    private final CurrentUserProvider currentUserProvider;
+    private final ObjectMapper objectMapper;
+
+    @Operation(summary = "Export transactions",
+            description = "Newest first, with the same filters as the transaction list. "
+                    + "With gzip=true the file is compressed and named .gz. "
+                    + "Answers 429 while the user or the server runs too many exports")
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Long walletId,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(required = false) BigDecimal minAmount,
+            @RequestParam(required = false) BigDecimal maxAmount,
+            @RequestParam(required = false) List<String> tags,
+            HttpServletRequest request) {
+
+        // Resolved here: the body is written on another thread, without the security context
+        Long userId = currentUserProvider.getCurrentUserId();
+        ExportSlot slot = exportUseCase.reserveSlot(userId);
+        // Released however the request ends, also when the body never gets to run
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(ExportSlot.class,
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                        slot.close();
+                    }
+                });
+        TransactionFilter filter = new TransactionFilter(
+                startDate, endDate, categoryId, walletId, type, minAmount, maxAmount, tags);
+
+        StreamingResponseBody body = out -> {
+            // The servlet container owns the response stream; closing the writer only finishes ours
+            OutputStream target = StreamUtils.nonClosing(out);
+            if (gzip) {
+                target = new GZIPOutputStream(target, TransactionExportWriter.BUFFER_SIZE);
+            }
+            try (TransactionExportWriter writer = TransactionExportWriter.create(format, target, objectMapper)) {
+                exportUseCase.exportTransactions(userId, filter, row -> {
+                    try {
+                        writer.write(row);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                // Usually the client went away; the cursor and transaction are closed by now
+                log.debug("Transaction export for user {} aborted: {}", userId, e.getMessage());
+                throw e.getCause();
+            }
+        };
+
+        String fileName = "transactions." + format.name().toLowerCase(Locale.ROOT) + (gzip ? ".gz" : "");
+        return ResponseEntity.ok()
+                .contentType(gzip ? GZIP : format == ExportFormat.CSV ? CSV : NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .header(HttpHeaders.CACHE_CONTROL, "private, no-store")
+                .body(body);
+    }
+}
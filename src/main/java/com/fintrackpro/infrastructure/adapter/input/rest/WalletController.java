@@ -9,6 +9,7 @@ import com.fintrackpro.infrastructure.adapter.input.dto.request.CreateWalletRequ
 import com.fintrackpro.infrastructure.adapter.input.dto.request.TransferRequest;
 import com.fintrackpro.infrastructure.adapter.input.dto.request.UpdateWalletRequest;
 import com.fintrackpro.infrastructure.adapter.input.mapper.WalletApiMapper;
+import com.fintrackpro.infrastructure.idempotency.IdempotentRequestExecutor;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -35,6 +36,7 @@ public class WalletController {
     private final WalletUseCase walletUseCase;
     private final WalletApiMapper walletApiMapper;
     private final CurrentUserProvider currentUserProvider;
+    private final IdempotentRequestExecutor idempotentRequestExecutor;
 
     @Operation(
             summary = "Create a new wallet",
@@ -231,18 +233,22 @@ public class WalletController {
                     required = true,
                     content = @Content(schema = @Schema(implementation = TransferRequest.class))
             )
-            @Valid @RequestBody TransferRequest request) {
-        log.info("Transferring {} from wallet {} to {}",
-                request.amount(), request.sourceWalletId(), request.targetWalletId());
+            @Valid @RequestBody TransferRequest request,
+            @Parameter(description = "Client generated key; retries with the same key replay the original response")
+            @RequestHeader(value = IdempotentRequestExecutor.HEADER, required = false) String idempotencyKey) {
+        return idempotentRequestExecutor.execute(idempotencyKey, "/api/v1/wallets/transfer", request, Wallet[].class, () -> {
+            log.info("Transferring {} from wallet {} to {}",
+                    request.amount(), request.sourceWalletId(), request.targetWalletId());
 
-        Wallet[] result = walletUseCase.transferBetweenWallets(
-                request.sourceWalletId(),
-                request.targetWalletId(),
-                request.amount(),
-                request.description()
-        );
+            Wallet[] result = walletUseCase.transferBetweenWallets(
+                    request.sourceWalletId(),
+                    request.targetWalletId(),
+                    request.amount(),
+                    request.description()
+            );
 
-        return ResponseEntity.ok(ApiResponse.success("Transfer completed successfully", result));
+            return ResponseEntity.ok(ApiResponse.success("Transfer completed successfully", result));
+        });
     }
 
     @Operation(
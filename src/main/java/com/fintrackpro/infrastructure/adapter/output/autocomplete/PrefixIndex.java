@@ -0,0 +1,154 @@
+package com.fintrackpro.infrastructure.adapter.output.autocomplete;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * Immutable prefix index over the distinct values of one field of one user.
+ *
+ * Values are kept in three parallel arrays sorted by their lowercase form, so all values with
+ * a given prefix form one contiguous range found by binary search. Each value carries a weight,
+ * the number of transactions that use it, which ranks the suggestions. Values that differ only
+ * in case share one entry, shown with the spelling seen first.
+ */
+final class PrefixIndex {
+
+    static final PrefixIndex EMPTY = new PrefixIndex(new String[0], new String[0], new int[0]);
+
+    // Rough heap cost of a String (object, array header, hash) and of one array slot triple
+    private static final long STRING_OVERHEAD_BYTES = 56;
+    private static final long ENTRY_OVERHEAD_BYTES = 20;
+
+    private final String[] keys;
+    private final String[] values;
+    private final int[] weights;
+    private final long estimatedBytes;
+
+    private PrefixIndex(String[] keys, String[] values, int[] weights) {
+        this.keys = keys;
+        this.values = values;
+        this.weights = weights;
+        long bytes = 0;
+        for (int i = 0; i < keys.length; i++) {
+            bytes += ENTRY_OVERHEAD_BYTES + STRING_OVERHEAD_BYTES + keys[i].length();
+            if (!keys[i].equals(values[i])) {
+                bytes += STRING_OVERHEAD_BYTES + values[i].length();
+            }
+        }
+        this.estimatedBytes = bytes;
+    }
+
+    /**
+     * @param counts transaction count per value, most frequent first
+     */
+    static PrefixIndex of(Map<String, Long> counts) {
+        TreeMap<String, Entry> entries = new TreeMap<>();
+        counts.forEach((value, count) -> add(entries, value, (int) Math.min(count, Integer.MAX_VALUE)));
+        return from(entries);
+    }
+
+    /**
+     * Returns a copy with changed weights. Values whose weight drops to zero are removed; if new
+     * values push the index over {@code maxEntries}, the least used ones are dropped.
+     */
+    PrefixIndex apply(Map<String, Integer> weightDeltas, int maxEntries) {
+        TreeMap<String, Entry> entries = new TreeMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            entries.put(keys[i], new Entry(values[i], weights[i]));
+        }
+        weightDeltas.forEach((value, delta) -> add(entries, value, delta));
+        entries.values().removeIf(entry -> entry.weight() <= 0);
+        if (entries.size() > maxEntries) {
+            List<Map.Entry<String, Entry>> leastUsed = new ArrayList<>(entries.entrySet());
+            leastUsed.sort(Comparator.comparingInt(e -> e.getValue().weight()));
+            leastUsed.subList(0, entries.size() - maxEntries).forEach(e -> entries.remove(e.getKey()));
+        }
+        return from(entries);
+    }
+
+    /**
+     * @return up to {@code limit} values starting with {@code prefix}, ignoring case,
+     *         highest weight first
+     */
+    List<String> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key == null) {
+            key = "";
+        }
+        int from = lowerBound(key);
+        int to = from;
+        while (to < keys.length && keys[to].startsWith(key)) {
+            to++;
+        }
+
+        // Keeps the best `limit` entries of the range, the weakest on top
+        Comparator<Integer> ranking = Comparator.<Integer>comparingInt(i -> weights[i])
+                .thenComparing(i -> keys[i], Comparator.<String>reverseOrder());
+        PriorityQueue<Integer> best = new PriorityQueue<>(ranking);
+        for (int i = from; i < to; i++) {
+            best.add(i);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        List<Integer> ranked = new ArrayList<>(best);
+        ranked.sort(ranking.reversed());
+        return ranked.stream().map(i -> values[i]).toList();
+    }
+
+    long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    private int lowerBound(String key) {
+        int index = Arrays.binarySearch(keys, key);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private static void add(TreeMap<String, Entry> entries, String value, int weight) {
+        String key = normalize(value);
+        if (key == null) {
+            return;
+        }
+        Entry existing = entries.get(key);
+        if (existing != null) {
+            entries.put(key, new Entry(existing.value(), existing.weight() + weight));
+        } else if (weight > 0) {
+            entries.put(key, new Entry(value.strip(), weight));
+        }
+    }
+
+    private static PrefixIndex from(TreeMap<String, Entry> entries) {
+        if (entries.isEmpty()) {
+            return EMPTY;
+        }
+        String[] keys = new String[entries.size()];
+        String[] values = new String[entries.size()];
+        int[] weights = new int[entries.size()];
+        int i = 0;
+        for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+            keys[i] = entry.getKey();
+            // Share the instance when the spelling is already lowercase
+            values[i] = entry.getValue().value().equals(entry.getKey()) ? entry.getKey() : entry.getValue().value();
+            weights[i] = entry.getValue().weight();
+            i++;
+        }
+        return new PrefixIndex(keys, values, weights);
+    }
+
+    private static String normalize(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private record Entry(String value, int weight) {
+    }
+}
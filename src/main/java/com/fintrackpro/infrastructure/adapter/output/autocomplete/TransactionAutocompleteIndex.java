@@ -0,0 +1,261 @@
+package com.fintrackpro.infrastructure.adapter.output.autocomplete;
+
+import com.fintrackpro.application.port.output.AutocompleteIndexPort;
+import com.fintrackpro.domain.event.EventPosition;
+import com.fintrackpro.domain.port.output.TransactionRepositoryPort;
+import com.fintrackpro.domain.valueobject.AutocompleteField;
+import com.fintrackpro.infrastructure.datasource.ReplicaRoutingContext;
+import com.fintrackpro.infrastructure.etag.UserDataVersionCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory autocomplete index of the payees and descriptions of active users.
+ *
+ * A user's index is loaded from the transactions table on their first request and then kept
+ * up to date from the transaction events this node handles. Each index is tagged with the
+ * user's data version and latest outbox event ID, read in the same snapshot as the counts, and
+ * is only served while {@link UserDataVersionCache} reports no newer version. An event is applied
+ * only if it directly follows the latest one the index holds, and then advances both tags, so
+ * the user's next keystroke after a write is served without a reload once the write's event has
+ * been handled here; an event the index already holds is skipped, so a load that saw the write
+ * does not count it twice. If an event in between was handled by another node the index is
+ * dropped and reloaded, and so are changes that publish no event. Indexes are kept in LRU order and the least recently
+ * used ones are evicted once their estimated size exceeds the memory budget, so only users
+ * who are actually typing occupy memory. Values are counted per user up to a fixed limit;
+ * rarely used values beyond it are not suggested.
+ *
+ * Lookups and evictions are published as metrics: {@code autocomplete.index.requests}
+ * (tagged hit or miss), {@code autocomplete.index.evictions}, {@code autocomplete.index.users}
+ * and {@code autocomplete.index.memory}.
+ */
+@Slf4j
+@Component
+public class TransactionAutocompleteIndex implements AutocompleteIndexPort {
+
+    private static final String VERSION_SQL = "SELECT data_version FROM users WHERE id = ?";
+    private static final String LATEST_EVENT_SQL = "SELECT COALESCE(max(id), 0) FROM outbox_events WHERE user_id = ?";
+
+    private final TransactionRepositoryPort transactionRepositoryPort;
+    private final UserDataVersionCache dataVersionCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate snapshotTemplate;
+    private final long memoryBudgetBytes;
+    private final int maxValuesPerUser;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    // All state below is guarded by the lock; the database is only read outside of it
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Long, UserIndex> residents = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Long, Load> loads = new HashMap<>();
+    private long residentBytes;
+
+    public TransactionAutocompleteIndex(TransactionRepositoryPort transactionRepositoryPort,
+                                        UserDataVersionCache dataVersionCache,
+                                        JdbcTemplate jdbcTemplate,
+                                        PlatformTransactionManager transactionManager,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${app.autocomplete.memory-budget-bytes:67108864}") long memoryBudgetBytes,
+                                        @Value("${app.autocomplete.max-values-per-user:5000}") int maxValuesPerUser) {
+        this.transactionRepositoryPort = transactionRepositoryPort;
+        this.dataVersionCache = dataVersionCache;
+        this.jdbcTemplate = jdbcTemplate;
+        this.snapshotTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotTemplate.setReadOnly(true);
+        this.memoryBudgetBytes = memoryBudgetBytes;
+        this.maxValuesPerUser = maxValuesPerUser;
+
+        this.hits = requestCounter(meterRegistry, "hit");
+        this.misses = requestCounter(meterRegistry, "miss");
+        this.evictions = Counter.builder("autocomplete.index.evictions")
+                .description("User indexes evicted to stay within the memory budget")
+                .register(meterRegistry);
+        Gauge.builder("autocomplete.index.users", this, TransactionAutocompleteIndex::residentUsers)
+                .description("Users with a loaded index")
+                .register(meterRegistry);
+        Gauge.builder("autocomplete.index.memory", this, TransactionAutocompleteIndex::residentBytes)
+                .description("Estimated heap size of the loaded indexes")
+                .baseUnit(BaseUnits.BYTES)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public List<String> suggest(Long userId, AutocompleteField field, String prefix, int limit) {
+        return indexOf(userId).get(field).suggest(prefix, limit);
+    }
+
+    @Override
+    public void record(Long userId, Map<AutocompleteField, Map<String, Integer>> weightDeltas, EventPosition position) {
+        lock.lock();
+        try {
+            UserIndex index = residents.get(userId);
+            if (index != null && position.eventId() > index.lastEventId()) {
+                if (position.follows(index.lastEventId())) {
+                    store(userId, index.apply(weightDeltas, position, maxValuesPerUser));
+                } else {
+                    // Missed an event handled elsewhere; the next lookup reloads
+                    residents.remove(userId);
+                    residentBytes -= index.estimatedBytes();
+                }
+            }
+            // A load running now may have read the table before this change
+            Load load = loads.get(userId);
+            if (load != null) {
+                load.latestEventId = Math.max(load.latestEventId, position.eventId());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private UserIndex indexOf(Long userId) {
+        // Looked up outside the lock, as it may have to read the database
+        long version = dataVersionCache.currentVersion(userId);
+        Load load;
+        lock.lock();
+        try {
+            UserIndex resident = residents.get(userId);
+            if (resident != null && resident.version() >= version) {
+                hits.increment();
+                return resident;
+            }
+            misses.increment();
+            load = loads.computeIfAbsent(userId, id -> new Load());
+        } finally {
+            lock.unlock();
+        }
+
+        UserIndex loaded = null;
+        try {
+            // A replica may lag behind the version this node has already seen, and would never catch up here
+            loaded = ReplicaRoutingContext.onPrimary(() -> load(userId));
+            return loaded;
+        } finally {
+            lock.lock();
+            try {
+                loads.remove(userId, load);
+                // A load missing an event handled meanwhile still answers this request, but is not kept
+                UserIndex resident = residents.get(userId);
+                if (loaded != null && load.latestEventId <= loaded.lastEventId()
+                        && (resident == null || loaded.isNewerThan(resident))) {
+                    store(userId, loaded);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private UserIndex load(Long userId) {
+        // One snapshot, so the tags describe exactly the counts read with them
+        return snapshotTemplate.execute(status -> {
+            long version;
+            try {
+                Long current = jdbcTemplate.queryForObject(VERSION_SQL, Long.class, userId);
+                version = current != null ? current : -1;
+            } catch (EmptyResultDataAccessException e) {
+                version = -1;
+            }
+            Long lastEventId = jdbcTemplate.queryForObject(LATEST_EVENT_SQL, Long.class, userId);
+            Map<AutocompleteField, PrefixIndex> fields = new EnumMap<>(AutocompleteField.class);
+            for (AutocompleteField field : AutocompleteField.values()) {
+                fields.put(field, PrefixIndex.of(
+                        transactionRepositoryPort.countByFieldValue(userId, field, maxValuesPerUser)));
+            }
+            log.debug("Loaded autocomplete index of user {}", userId);
+            return new UserIndex(fields, version, lastEventId != null ? lastEventId : 0);
+        });
+    }
+
+    private void store(Long userId, UserIndex index) {
+        UserIndex previous = residents.put(userId, index);
+        residentBytes += index.estimatedBytes() - (previous != null ? previous.estimatedBytes() : 0);
+
+        // The index just stored is the most recently used and always stays
+        Iterator<Map.Entry<Long, UserIndex>> eldest = residents.entrySet().iterator();
+        while (residentBytes > memoryBudgetBytes && residents.size() > 1) {
+            Map.Entry<Long, UserIndex> evicted = eldest.next();
+            residentBytes -= evicted.getValue().estimatedBytes();
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    private double residentUsers() {
+        lock.lock();
+        try {
+            return residents.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private double residentBytes() {
+        lock.lock();
+        try {
+            return residentBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("autocomplete.index.requests")
+                .description("Autocomplete lookups, by whether the user's index was loaded")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record UserIndex(Map<AutocompleteField, PrefixIndex> fields, long version, long lastEventId) {
+
+        PrefixIndex get(AutocompleteField field) {
+            return fields.getOrDefault(field, PrefixIndex.EMPTY);
+        }
+
+        UserIndex apply(Map<AutocompleteField, Map<String, Integer>> weightDeltas, EventPosition position,
+                        int maxValuesPerUser) {
+            Map<AutocompleteField, PrefixIndex> changed = new EnumMap<>(fields);
+            weightDeltas.forEach((field, deltas) -> {
+                if (!deltas.isEmpty()) {
+                    changed.put(field, get(field).apply(deltas, maxValuesPerUser));
+                }
+            });
+            long reached = position.dataVersion() != null ? Math.max(version, position.dataVersion()) : version;
+            return new UserIndex(changed, reached, position.eventId());
+        }
+
+        boolean isNewerThan(UserIndex other) {
+            return lastEventId > other.lastEventId || (lastEventId == other.lastEventId && version > other.version);
+        }
+
+        long estimatedBytes() {
+            return fields.values().stream().mapToLong(PrefixIndex::estimatedBytes).sum();
+        }
+    }
+
+    private static final class Load {
+        private long latestEventId;
+    }
+}
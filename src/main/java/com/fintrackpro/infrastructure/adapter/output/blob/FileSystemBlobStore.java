@@ -0,0 +1,301 @@
+package com.fintrackpro.infrastructure.adapter.output.blob;
+
+import com.fintrackpro.application.port.output.BlobStorePort;
+import com.fintrackpro.domain.exception.InvalidRequestException;
+import com.fintrackpro.domain.model.StoredBlob;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Content-addressed blob store on the local filesystem.
+ *
+ * Each blob is a file named after the SHA-256 of its content, in two levels of fan-out
+ * directories ({@code ab/cd/abcd...}). Uploads are copied channel to channel into a temporary
+ * file while the hash is computed, then moved into place atomically, so a blob is either
+ * complete or absent and identical uploads share one file. Two small sidecar files hold the
+ * content type ({@code .type}) and, for images, the ID of the thumbnail blob ({@code .thumb}).
+ * Generated files, such as reports, are written through the same temporary file and move.
+ */
+@Slf4j
+@Component
+public class FileSystemBlobStore implements BlobStorePort {
+
+    private static final long TRANSFER_CHUNK = 1024 * 1024;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final String TYPE_SUFFIX = ".type";
+    private static final String THUMBNAIL_SUFFIX = ".thumb";
+    private static final String THUMBNAIL_TYPE = "image/jpeg";
+
+    private final Path root;
+    private final Path tempDirectory;
+    private final long maxSizeBytes;
+    private final ThumbnailRenderer thumbnailRenderer;
+    private final TaskExecutor thumbnailExecutor;
+    private final Set<String> pendingThumbnails = ConcurrentHashMap.newKeySet();
+
+    public FileSystemBlobStore(@Value("${app.blob.root:./data/blobs}") String root,
+                               @Value("${app.blob.max-size-bytes:20971520}") long maxSizeBytes,
+                               ThumbnailRenderer thumbnailRenderer,
+                               @Qualifier("thumbnailExecutor") TaskExecutor thumbnailExecutor) throws IOException {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+        this.tempDirectory = Files.createDirectories(this.root.resolve("tmp"));
+        this.maxSizeBytes = maxSizeBytes;
+        this.thumbnailRenderer = thumbnailRenderer;
+        this.thumbnailExecutor = thumbnailExecutor;
+    }
+
+    @Override
+    public StoredBlob store(InputStream content, String contentType) {
+        StoredBlob blob = write(content, contentType);
+        if (blob.isImage()) {
+            scheduleThumbnail(blob);
+        }
+        return blob;
+    }
+
+    @Override
+    public Optional<StoredBlob> find(String blobId) {
+        if (!StoredBlob.isValidId(blobId)) {
+            return Optional.empty();
+        }
+        Path path = blobPath(blobId);
+        try {
+            if (!Files.isRegularFile(path)) {
+                return Optional.empty();
+            }
+            return Optional.of(new StoredBlob(blobId, Files.size(path), readSidecar(path, TYPE_SUFFIX)
+                    .orElse("application/octet-stream")));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read blob " + blobId, e);
+        }
+    }
+
+    @Override
+    public Optional<StoredBlob> findThumbnail(String blobId) {
+        Optional<StoredBlob> original = find(blobId);
+        if (original.isEmpty() || !original.get().isImage()) {
+            return Optional.empty();
+        }
+        try {
+            Optional<StoredBlob> thumbnail = readSidecar(blobPath(blobId), THUMBNAIL_SUFFIX).flatMap(this::find);
+            if (thumbnail.isEmpty()) {
+                // Missed earlier, e.g. the executor queue was full or the process stopped
+                scheduleThumbnail(original.get());
+            }
+            return thumbnail;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read thumbnail of blob " + blobId, e);
+        }
+    }
+
+    @Override
+    public long transferTo(StoredBlob blob, long position, long count, WritableByteChannel target) throws IOException {
+        try (FileChannel channel = FileChannel.open(blobPath(blob.id()), StandardOpenOption.READ)) {
+            long transferred = 0;
+            while (transferred < count) {
+                long written = channel.transferTo(position + transferred, count - transferred, target);
+                if (written <= 0) {
+                    break;
+                }
+                transferred += written;
+            }
+            return transferred;
+        }
+    }
+
+    @Override
+    public boolean deleteIfStoredBefore(String blobId, Instant storedBefore) {
+        if (!StoredBlob.isValidId(blobId)) {
+            return false;
+        }
+        Path path = blobPath(blobId);
+        try {
+            if (!Files.isRegularFile(path) || !Files.getLastModifiedTime(path).toInstant().isBefore(storedBefore)) {
+                return false;
+            }
+            // The blob goes first, so a visible blob always has its type
+            Files.delete(path);
+            Files.deleteIfExists(path.resolveSibling(path.getFileName() + TYPE_SUFFIX));
+            Files.deleteIfExists(path.resolveSibling(path.getFileName() + THUMBNAIL_SUFFIX));
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not delete blob " + blobId, e);
+        }
+    }
+
+    private StoredBlob write(InputStream content, String contentType) {
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(tempDirectory, "upload-", ".part");
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long size = 0;
+            try (ReadableByteChannel source = Channels.newChannel(new DigestInputStream(content, digest));
+                 FileChannel file = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                long read;
+                while ((read = file.transferFrom(source, size, TRANSFER_CHUNK)) > 0) {
+                    size += read;
+                    if (size > maxSizeBytes) {
+                        throw new InvalidRequestException("File exceeds the maximum size of " + maxSizeBytes + " bytes");
+                    }
+                }
+            }
+
+            return moveIntoPlace(temp, digest, contentType);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store blob", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    @Override
+    public StoredBlob store(ContentWriter content, String contentType) {
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(tempDirectory, "generated-", ".part");
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (OutputStream out = new DigestOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp), WRITE_BUFFER_SIZE), digest)) {
+                content.writeTo(out);
+            }
+            return moveIntoPlace(temp, digest, contentType);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store blob", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    private StoredBlob moveIntoPlace(Path temp, MessageDigest digest, String contentType) throws IOException {
+        String blobId = HexFormat.of().formatHex(digest.digest());
+        Path target = blobPath(blobId);
+        if (!Files.exists(target)) {
+            Files.createDirectories(target.getParent());
+            // The type is written first, so a visible blob always has one
+            writeSidecar(target, TYPE_SUFFIX, contentType);
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                log.debug("Blob {} was stored concurrently", blobId);
+            }
+        } else {
+            // Storing existing content counts as storing it again, see deleteIfStoredBefore
+            Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+        }
+        return find(blobId).orElseThrow(() -> new IllegalStateException("Blob vanished after store: " + blobId));
+    }
+
+    private void scheduleThumbnail(StoredBlob image) {
+        if (!pendingThumbnails.add(image.id())) {
+            return;
+        }
+        try {
+            thumbnailExecutor.execute(() -> {
+                try {
+                    createThumbnail(image);
+                } finally {
+                    pendingThumbnails.remove(image.id());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingThumbnails.remove(image.id());
+            log.debug("Thumbnail queue full, skipping blob {} for now", image.id());
+        }
+    }
+
+    private void createThumbnail(StoredBlob image) {
+        Path original = blobPath(image.id());
+        Path rendered = null;
+        try {
+            if (readSidecar(original, THUMBNAIL_SUFFIX).flatMap(this::find).isPresent()) {
+                return;
+            }
+            rendered = Files.createTempFile(tempDirectory, "thumb-", ".jpg");
+            if (!thumbnailRenderer.render(original, rendered)) {
+                log.debug("Blob {} is not a readable image, no thumbnail created", image.id());
+                return;
+            }
+            StoredBlob thumbnail;
+            try (InputStream content = Files.newInputStream(rendered)) {
+                thumbnail = write(content, THUMBNAIL_TYPE);
+            }
+            writeSidecar(original, THUMBNAIL_SUFFIX, thumbnail.id());
+            log.debug("Created thumbnail {} for blob {}", thumbnail.id(), image.id());
+        } catch (Exception e) {
+            log.warn("Could not create thumbnail for blob {}: {}", image.id(), e.getMessage());
+        } finally {
+            deleteQuietly(rendered);
+        }
+    }
+
+    private Path blobPath(String blobId) {
+        return root.resolve(blobId.substring(0, 2)).resolve(blobId.substring(2, 4)).resolve(blobId);
+    }
+
+    private Optional<String> readSidecar(Path blob, String suffix) throws IOException {
+        Path sidecar = blob.resolveSibling(blob.getFileName() + suffix);
+        if (!Files.isRegularFile(sidecar)) {
+            return Optional.empty();
+        }
+        return Optional.of(Files.readString(sidecar, StandardCharsets.UTF_8).trim());
+    }
+
+    private void writeSidecar(Path blob, String suffix, String value) throws IOException {
+        Path sidecar = blob.resolveSibling(blob.getFileName() + suffix);
+        Path temp = Files.createTempFile(tempDirectory, "meta-", ".part");
+        try {
+            Files.writeString(temp, value, StandardCharsets.UTF_8);
+            Files.move(temp, sidecar, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete temporary file {}", path, e);
+        }
+    }
+}
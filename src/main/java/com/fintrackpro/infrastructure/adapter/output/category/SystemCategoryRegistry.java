@@ -0,0 +1,60 @@
+package com.fintrackpro.infrastructure.adapter.output.category;
+
+import com.fintrackpro.domain.model.Category;
+import com.fintrackpro.domain.valueobject.CategoryType;
+import com.fintrackpro.infrastructure.adapter.output.persistence.repository.JpaCategoryRepository;
+import com.fintrackpro.infrastructure.mapper.CategoryPersistenceMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The system categories, loaded once at startup.
+ *
+ * System categories are seeded by migration and cannot be created, changed or deleted through
+ * the API, so they are read from the database only once and kept in immutable lists indexed by
+ * type and ID. A system category added by a later migration is picked up on the next start.
+ */
+@Slf4j
+@Component
+public class SystemCategoryRegistry {
+
+    private final List<Category> categories;
+    private final Map<CategoryType, List<Category>> byType;
+    private final Map<Long, Category> byId;
+
+    public SystemCategoryRegistry(JpaCategoryRepository jpaCategoryRepository, CategoryPersistenceMapper mapper) {
+        this.categories = jpaCategoryRepository.findByIsSystemTrue().stream()
+                .map(mapper::toDomain)
+                .sorted(Comparator.comparing(Category::id))
+                .toList();
+
+        Map<CategoryType, List<Category>> types = new EnumMap<>(CategoryType.class);
+        for (CategoryType type : CategoryType.values()) {
+            types.put(type, categories.stream().filter(category -> category.type() == type).toList());
+        }
+        this.byType = Collections.unmodifiableMap(types);
+        this.byId = categories.stream().collect(Collectors.toUnmodifiableMap(Category::id, Function.identity()));
+        log.info("Loaded {} system categories", categories.size());
+    }
+
+    public List<Category> all() {
+        return categories;
+    }
+
+    public List<Category> byType(CategoryType type) {
+        return byType.get(type);
+    }
+
+    public Optional<Category> findById(Long id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+}
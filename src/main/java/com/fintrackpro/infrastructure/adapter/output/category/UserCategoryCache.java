@@ -0,0 +1,104 @@
+package com.fintrackpro.infrastructure.adapter.output.category;
+
+import com.fintrackpro.application.port.output.CategoryCachePort;
+import com.fintrackpro.domain.model.Category;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Cache of each user's custom categories.
+ *
+ * {@code CategoryService} invalidates a user's entry when it creates, changes or deletes one of
+ * their categories. Invalidation leaves a marker in place of the entry, and a load only stores
+ * its result if the entry it started from is still there, so a load that read the table before
+ * a change never replaces a later invalidation. Changes made through other nodes are seen once
+ * the entry expires after {@code app.category.user-cache-ttl-ms}. Once
+ * {@code app.category.user-cache-max-entries} is reached, expired entries are pruned and, if
+ * that does not free any, new lists are served without being cached.
+ */
+@Component
+public class UserCategoryCache implements CategoryCachePort {
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    public UserCategoryCache(@Value("${app.category.user-cache-ttl-ms:60000}") long ttlMillis,
+                             @Value("${app.category.user-cache-max-entries:100000}") int maxEntries) {
+        this.ttlNanos = ttlMillis * 1_000_000;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * @param loader reads the user's custom categories from the database
+     * @return the cached categories, or the loaded ones if none are cached
+     */
+    public List<Category> get(Long userId, Supplier<List<Category>> loader) {
+        long now = System.nanoTime();
+        Entry cached = entries.get(userId);
+        if (cached != null && cached.categories() != null && now - cached.createdAt() < ttlNanos) {
+            return cached.categories();
+        }
+
+        List<Category> loaded = List.copyOf(loader.get());
+        Entry entry = new Entry(loaded, now);
+        if (cached != null) {
+            entries.replace(userId, cached, entry);
+        } else if (hasRoom(now)) {
+            entries.putIfAbsent(userId, entry);
+        }
+        return loaded;
+    }
+
+    @Override
+    public void invalidateUserCategories(Long userId) {
+        entries.put(userId, new Entry(null, System.nanoTime()));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    entries.put(userId, new Entry(null, System.nanoTime()));
+                }
+            });
+        }
+    }
+
+    private boolean hasRoom(long now) {
+        if (entries.size() < maxEntries) {
+            return true;
+        }
+        // Markers expire too: a load never runs for as long as the TTL
+        entries.values().removeIf(entry -> now - entry.createdAt() >= ttlNanos);
+        return entries.size() < maxEntries;
+    }
+
+    /**
+     * A cached list, or an invalidation marker when {@code categories} is null. Compared by
+     * identity, so every invalidation is distinct from the entry a load started from.
+     */
+    private static final class Entry {
+
+        private final List<Category> categories;
+        private final long createdAt;
+
+        private Entry(List<Category> categories, long createdAt) {
+            this.categories = categories;
+            this.createdAt = createdAt;
+        }
+
+        List<Category> categories() {
+            return categories;
+        }
+
+        long createdAt() {
+            return createdAt;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.fintrackpro.infrastructure.adapter.output.email;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintrackpro.infrastructure.adapter.output.persistence.entity.EmailOutboxEntity;
+import com.fintrackpro.infrastructure.adapter.output.persistence.repository.JpaEmailOutboxRepository;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Polls the email outbox, renders the claimed emails and sends them.
+ *
+ * Emails are claimed with FOR UPDATE SKIP LOCKED and a lease, so several instances can poll
+ * concurrently. A claimed batch is split into chunks; each chunk is rendered and sent on a
+ * virtual thread over a single SMTP connection, and the executor's concurrency limit bounds
+ * how many connections are open at once. A failing email is retried with exponential backoff
+ * until it is sent or marked FAILED; the other emails of its chunk are not held back.
+ */
+@Slf4j
+@Component
+public class EmailOutboxDispatcher {
+
+    private static final TypeReference<Map<String, String>> PARAMS = new TypeReference<>() {
+    };
+
+    private final JpaEmailOutboxRepository emailOutboxRepository;
+    private final EmailRenderer renderer;
+    private final JavaMailSender mailSender;
+    private final ObjectMapper objectMapper;
+    private final AsyncTaskExecutor executor;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${spring.mail.username}")
+    private String fromEmail;
+
+    @Value("${app.email.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.email.outbox.messages-per-connection:25}")
+    private int messagesPerConnection;
+
+    @Value("${app.email.outbox.lease-seconds:120}")
+    private int leaseSeconds;
+
+    @Value("${app.email.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${app.email.outbox.base-backoff-ms:5000}")
+    private long baseBackoffMs;
+
+    @Value("${app.email.outbox.retention-days:3}")
+    private int retentionDays;
+
+    public EmailOutboxDispatcher(JpaEmailOutboxRepository emailOutboxRepository,
+                                 EmailRenderer renderer,
+                                 JavaMailSender mailSender,
+                                 ObjectMapper objectMapper,
+                                 @Qualifier("emailDispatchExecutor") AsyncTaskExecutor executor,
+                                 TransactionTemplate transactionTemplate) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.renderer = renderer;
+        this.mailSender = mailSender;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Scheduled(fixedDelayString = "${app.email.outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        try {
+            List<EmailOutboxEntity> claimed;
+            do {
+                claimed = claim();
+                if (!claimed.isEmpty()) {
+                    send(claimed);
+                }
+            } while (claimed.size() == batchSize);
+        } catch (Exception e) {
+            log.error("Error dispatching queued emails", e);
+        }
+    }
+
+    /**
+     * Purge sent emails, which may still hold verification or reset tokens, every day at 4:30 AM
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void purgeDispatched() {
+        try {
+            Integer deleted = transactionTemplate.execute(status ->
+                    emailOutboxRepository.deleteDispatchedBefore(LocalDateTime.now().minusDays(retentionDays)));
+            log.info("Purged {} sent emails from the outbox", deleted);
+        } catch (Exception e) {
+            log.error("Error purging sent emails from the outbox", e);
+        }
+    }
+
+    private record Failure(EmailOutboxEntity email, String error) {
+    }
+
+    private record ChunkOutcome(List<Long> sent, List<Failure> failures) {
+    }
+
+    private List<EmailOutboxEntity> claim() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<EmailOutboxEntity> locked = emailOutboxRepository.lockReady(now, batchSize);
+            if (!locked.isEmpty()) {
+                emailOutboxRepository.markProcessing(locked.stream().map(EmailOutboxEntity::getId).toList(),
+                        now.plusSeconds(leaseSeconds));
+            }
+            return locked;
+        });
+    }
+
+    private void send(List<EmailOutboxEntity> emails) {
+        List<CompletableFuture<ChunkOutcome>> futures = new ArrayList<>();
+        for (int from = 0; from < emails.size(); from += messagesPerConnection) {
+            List<EmailOutboxEntity> chunk = emails.subList(from, Math.min(from + messagesPerConnection, emails.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> sendOverOneConnection(chunk), executor));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> sent = new ArrayList<>();
+            for (CompletableFuture<ChunkOutcome> future : futures) {
+                ChunkOutcome outcome = future.join();
+                sent.addAll(outcome.sent());
+                outcome.failures().forEach(failure -> recordFailure(failure.email(), failure.error(), now));
+            }
+            if (!sent.isEmpty()) {
+                emailOutboxRepository.markDispatched(sent, now);
+            }
+        });
+    }
+
+    private ChunkOutcome sendOverOneConnection(List<EmailOutboxEntity> chunk) {
+        Map<MimeMessage, EmailOutboxEntity> messages = new LinkedHashMap<>();
+        Map<EmailOutboxEntity, String> failed = new LinkedHashMap<>();
+        for (EmailOutboxEntity email : chunk) {
+            try {
+                messages.put(toMimeMessage(email), email);
+            } catch (Exception e) {
+                log.warn("Could not render email {} ({})", email.getId(), email.getEmailType(), e);
+                failed.put(email, String.valueOf(e.getMessage()));
+            }
+        }
+
+        if (!messages.isEmpty()) {
+            try {
+                // JavaMailSender sends an array of messages over one connection
+                mailSender.send(messages.keySet().toArray(MimeMessage[]::new));
+            } catch (MailSendException e) {
+                log.warn("{} of {} emails could not be sent: {}", e.getFailedMessages().size(), messages.size(),
+                        e.getMessage());
+                if (e.getFailedMessages().isEmpty()) {
+                    messages.values().forEach(email -> failed.put(email, String.valueOf(e.getMessage())));
+                }
+                e.getFailedMessages().forEach((message, cause) -> {
+                    EmailOutboxEntity email = messages.get(message);
+                    if (email != null) {
+                        failed.put(email, String.valueOf(cause.getMessage()));
+                    }
+                });
+            } catch (MailException e) {
+                log.warn("Could not send {} emails: {}", messages.size(), e.getMessage());
+                messages.values().forEach(email -> failed.put(email, String.valueOf(e.getMessage())));
+            }
+        }
+
+        List<Long> sent = messages.values().stream()
+                .filter(email -> !failed.containsKey(email))
+                .map(EmailOutboxEntity::getId)
+                .toList();
+        List<Failure> failures = failed.entrySet().stream()
+                .map(entry -> new Failure(entry.getKey(), entry.getValue()))
+                .toList();
+        log.debug("Sent {} of {} emails over one connection", sent.size(), chunk.size());
+        return new ChunkOutcome(sent, failures);
+    }
+
+    private MimeMessage toMimeMessage(EmailOutboxEntity email) throws IOException, MessagingException {
+        Map<String, String> params = objectMapper.readValue(email.getPayload(), PARAMS);
+        EmailRenderer.RenderedEmail rendered = renderer.render(EmailType.valueOf(email.getEmailType()), params);
+
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setFrom(fromEmail);
+        helper.setTo(email.getRecipient());
+        helper.setSubject(rendered.subject());
+        helper.setText(rendered.html(), true);
+        return message;
+    }
+
+    private void recordFailure(EmailOutboxEntity email, String error, LocalDateTime now) {
+        int attempts = email.getAttempts() + 1;
+        if (attempts >= maxAttempts) {
+            log.error("Email {} ({}) to {} failed {} times, giving up", email.getId(), email.getEmailType(),
+                    email.getRecipient(), attempts);
+            emailOutboxRepository.markFailed(email.getId(), error);
+            return;
+        }
+        long backoffMs = baseBackoffMs * (1L << Math.min(attempts - 1, 16));
+        emailOutboxRepository.reschedule(email.getId(), now.plus(Duration.ofMillis(backoffMs)), error);
+    }
+}
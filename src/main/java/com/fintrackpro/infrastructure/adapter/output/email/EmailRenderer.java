@@ -0,0 +1,162 @@
+package com.fintrackpro.infrastructure.adapter.output.email;
+
+import com.fintrackpro.infrastructure.util.MessageUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.util.Map;
+
+/**
+ * Renders queued emails into a subject and HTML body with the Thymeleaf email templates.
+ * Rendering only depends on the email's type and parameters, so it can run at send time on
+ * any dispatcher thread.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmailRenderer {
+
+    private final MessageUtil messageUtil;
+    private final TemplateEngine templateEngine;
+
+    @Value("${app.frontend.url:http://localhost:3000}")
+    private String frontendUrl;
+
+    public record RenderedEmail(String subject, String html) {
+    }
+
+    public RenderedEmail render(EmailType type, Map<String, String> params) {
+        return switch (type) {
+            case VERIFICATION -> renderVerification(params.get("username"), params.get("token"));
+            case PASSWORD_RESET -> renderPasswordReset(params.get("username"), params.get("token"));
+            case WELCOME -> renderWelcome(params.get("username"));
+            case VERIFICATION_SUCCESS -> renderVerificationSuccess(params.get("username"));
+            case LOGIN_SUCCESS -> renderLoginSuccess(params.get("username"), params.get("ipAddress"),
+                    params.get("userAgent"), params.get("loginTime"));
+            case LOGIN_FAILURE -> renderLoginFailure(params.get("username"), params.get("ipAddress"),
+                    params.get("userAgent"), params.get("failedAttempts"), params.get("lockUntil"));
+        };
+    }
+
+    private RenderedEmail renderVerification(String username, String verificationToken) {
+        String subject = messageUtil.getMessage("email.verification.subject");
+        String verificationLink = frontendUrl + "/api/v1/auth/verify-email?token=" + verificationToken;
+
+        Context context = baseContext(subject, messageUtil.getMessage("email.verification.header"), "primary",
+                "email/verification-email");
+        context.setVariable("username", username);
+        context.setVariable("verificationLink", verificationLink);
+        return render(subject, context);
+    }
+
+    private RenderedEmail renderPasswordReset(String username, String resetToken) {
+        String subject = messageUtil.getMessage("email.password.reset.subject");
+        String resetLink = frontendUrl + "/reset-password?token=" + resetToken;
+
+        Context context = baseContext(subject, messageUtil.getMessage("email.password.reset.header"), "danger",
+                "email/password-reset-email");
+        context.setVariable("username", username);
+        context.setVariable("resetLink", resetLink);
+        return render(subject, context);
+    }
+
+    private RenderedEmail renderVerificationSuccess(String username) {
+        String subject = messageUtil.getMessage("email.verification.success.subject");
+        String dashboardLink = frontendUrl + "/dashboard";
+
+        Context context = baseContext(subject, messageUtil.getMessage("email.verification.success.header"), "success",
+                "email/verification-success-email");
+        context.setVariable("username", username);
+        context.setVariable("dashboardLink", dashboardLink);
+        return render(subject, context);
+    }
+
+    private RenderedEmail renderWelcome(String username) {
+        String subject = messageUtil.getMessage("email.welcome.subject");
+        String loginLink = frontendUrl + "/login";
+
+        Context context = baseContext(subject, messageUtil.getMessage("email.welcome.header"), "success",
+                "email/welcome-email");
+        context.setVariable("username", username);
+        context.setVariable("loginLink", loginLink);
+        return render(subject, context);
+    }
+
+    private RenderedEmail renderLoginSuccess(String username, String ipAddress, String userAgent, String loginTime) {
+        String content = """
+            <p>Hi %s,</p>
+            <p>Your account was just signed in successfully.</p>
+            <ul>
+              <li><strong>Time:</strong> %s</li>
+              <li><strong>IP Address:</strong> %s</li>
+              <li><strong>User Agent:</strong> %s</li>
+            </ul>
+            <p>If this was you, no action is needed. If you don't recognize this activity, please secure your account.</p>
+        """.formatted(username, loginTime, ipAddress, userAgent);
+
+        return renderGeneric("New login to your FinTrack Pro account", "Login successful", content,
+                "Review security", frontendUrl + "/account/security", "success", null, "success");
+    }
+
+    private RenderedEmail renderLoginFailure(String username, String ipAddress, String userAgent,
+                                             String failedAttempts, String lockUntil) {
+        String lockInfo = lockUntil != null ?
+                "<p><strong>Account lock:</strong> Your account is locked until %s due to too many failed attempts.</p>".formatted(lockUntil) :
+                "";
+        String content = ("""
+            <p>Hi %s,</p>
+            <p>There was a failed attempt to sign in to your account.</p>
+            <ul>
+              <li><strong>IP Address:</strong> %s</li>
+              <li><strong>User Agent:</strong> %s</li>
+              <li><strong>Failed Attempts:</strong> %s</li>
+            </ul>
+        """ + lockInfo + """
+            <p>If this wasn't you, we recommend updating your password and reviewing your security settings.</p>
+        """).formatted(username, ipAddress, userAgent, failedAttempts);
+
+        return renderGeneric("Failed login attempt on your FinTrack Pro account", "Login attempt blocked", content,
+                "Secure account", frontendUrl + "/account/security", "danger", null, "danger");
+    }
+
+    /**
+     * Render a generic email using custom template
+     * @param subject Email subject
+     * @param title Email title/heading
+     * @param content HTML content
+     * @param buttonText Optional button text (can be null)
+     * @param buttonLink Optional button link (can be null)
+     * @param buttonStyle Button style class (primary, success, danger, warning)
+     * @param infoMessage Optional info box message (can be null)
+     * @param headerTheme Header theme (primary, success, danger, warning)
+     */
+    private RenderedEmail renderGeneric(String subject, String title, String content,
+                                        String buttonText, String buttonLink, String buttonStyle,
+                                        String infoMessage, String headerTheme) {
+        Context context = baseContext(subject, title, headerTheme, "email/generic-email");
+        context.setVariable("title", title);
+        context.setVariable("content", content);
+        context.setVariable("buttonText", buttonText);
+        context.setVariable("buttonLink", buttonLink);
+        context.setVariable("buttonStyle", buttonStyle);
+        context.setVariable("infoMessage", infoMessage);
+        return render(subject, context);
+    }
+
+    private Context baseContext(String subject, String headerTitle, String headerTheme, String contentTemplate) {
+        Context context = new Context();
+        context.setVariable("subject", subject);
+        context.setVariable("headerTitle", headerTitle);
+        context.setVariable("headerTheme", headerTheme);
+        context.setVariable("footerText", messageUtil.getMessage("email.footer"));
+        context.setVariable("baseUrl", frontendUrl);
+        context.setVariable("contentTemplate", contentTemplate);
+        return context;
+    }
+
+    private RenderedEmail render(String subject, Context context) {
+        return new RenderedEmail(subject, templateEngine.process("email/email-base", context));
+    }
+}
@@ -0,0 +1,14 @@
+package com.fintrackpro.infrastructure.adapter.output.email;
+
+/**
+ * The emails the application sends, each rendered by its own template. Stored by name in the
+ * email outbox, so constants must not be renamed while emails of that type may be queued.
+ */
+public enum EmailType {
+    VERIFICATION,
+    PASSWORD_RESET,
+    WELCOME,
+    VERIFICATION_SUCCESS,
+    LOGIN_SUCCESS,
+    LOGIN_FAILURE
+}
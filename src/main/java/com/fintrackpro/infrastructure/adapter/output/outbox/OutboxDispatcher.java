@@ -0,0 +1,200 @@
+package com.fintrackpro.infrastructure.adapter.output.outbox;
+
+import com.fintrackpro.application.port.input.DomainEventHandler;
+import com.fintrackpro.domain.event.DomainEvent;
+import com.fintrackpro.domain.event.EventPosition;
+import com.fintrackpro.infrastructure.adapter.output.persistence.entity.OutboxEventEntity;
+import com.fintrackpro.infrastructure.adapter.output.persistence.repository.JpaOutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Polls the outbox and delivers events to the registered {@link DomainEventHandler}s.
+ *
+ * Events are claimed with FOR UPDATE SKIP LOCKED and a lease, so several instances can poll
+ * concurrently. An event is only claimed if every older unfinished event of the same user is
+ * claimed with it; each user's events are then delivered sequentially on a virtual thread,
+ * while different users run in parallel. A failing event is retried with exponential backoff
+ * and holds back the user's later events until it succeeds or is marked FAILED.
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private final JpaOutboxEventRepository outboxEventRepository;
+    private final OutboxEventSerializer serializer;
+    private final List<DomainEventHandler> handlers;
+    private final AsyncTaskExecutor executor;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.outbox.lease-seconds:60}")
+    private int leaseSeconds;
+
+    @Value("${app.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${app.outbox.base-backoff-ms:1000}")
+    private long baseBackoffMs;
+
+    @Value("${app.outbox.retention-days:7}")
+    private int retentionDays;
+
+    public OutboxDispatcher(JpaOutboxEventRepository outboxEventRepository,
+                            OutboxEventSerializer serializer,
+                            List<DomainEventHandler> handlers,
+                            @Qualifier("eventDispatchExecutor") AsyncTaskExecutor executor,
+                            TransactionTemplate transactionTemplate) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.serializer = serializer;
+        this.handlers = handlers;
+        this.executor = executor;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:500}")
+    public void dispatch() {
+        try {
+            Claim claim;
+            do {
+                claim = claim();
+                if (!claim.ready().isEmpty()) {
+                    deliver(claim.ready());
+                }
+            } while (claim.locked() == batchSize && !claim.ready().isEmpty());
+        } catch (Exception e) {
+            log.error("Error dispatching outbox events", e);
+        }
+    }
+
+    /**
+     * Purge delivered events every day at 4 AM
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    public void purgeDispatched() {
+        try {
+            Integer deleted = transactionTemplate.execute(status ->
+                    outboxEventRepository.deleteDispatchedBefore(LocalDateTime.now().minusDays(retentionDays)));
+            log.info("Purged {} dispatched outbox events", deleted);
+        } catch (Exception e) {
+            log.error("Error purging dispatched outbox events", e);
+        }
+    }
+
+    private record Claim(int locked, List<OutboxEventEntity> ready) {
+    }
+
+    private record UserOutcome(List<Long> dispatched, OutboxEventEntity failed, String error, List<Long> released) {
+    }
+
+    private Claim claim() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEventEntity> locked = outboxEventRepository.lockReady(now, batchSize);
+            if (locked.isEmpty()) {
+                return new Claim(0, List.of());
+            }
+
+            List<Long> lockedIds = locked.stream().map(OutboxEventEntity::getId).toList();
+            List<Long> userIds = locked.stream().map(OutboxEventEntity::getUserId).distinct().toList();
+            Map<Long, Long> blockers = outboxEventRepository.findBlockers(userIds, lockedIds).stream()
+                    .collect(Collectors.toMap(JpaOutboxEventRepository.UserBlocker::getUserId,
+                            JpaOutboxEventRepository.UserBlocker::getBlockerId));
+
+            // Keep per-user order: nothing newer than a user's oldest event held elsewhere
+            List<OutboxEventEntity> ready = locked.stream()
+                    .filter(e -> !blockers.containsKey(e.getUserId()) || e.getId() < blockers.get(e.getUserId()))
+                    .toList();
+            if (!ready.isEmpty()) {
+                outboxEventRepository.markProcessing(ready.stream().map(OutboxEventEntity::getId).toList(),
+                        now.plusSeconds(leaseSeconds));
+            }
+            return new Claim(locked.size(), ready);
+        });
+    }
+
+    private void deliver(List<OutboxEventEntity> events) {
+        Map<Long, List<OutboxEventEntity>> byUser = events.stream()
+                .sorted(Comparator.comparing(OutboxEventEntity::getId))
+                .collect(Collectors.groupingBy(OutboxEventEntity::getUserId, LinkedHashMap::new, Collectors.toList()));
+
+        List<CompletableFuture<UserOutcome>> futures = byUser.values().stream()
+                .map(userEvents -> CompletableFuture.supplyAsync(() -> deliverInOrder(userEvents), executor))
+                .toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> dispatched = new ArrayList<>();
+            List<Long> released = new ArrayList<>();
+            for (CompletableFuture<UserOutcome> future : futures) {
+                UserOutcome outcome = future.join();
+                dispatched.addAll(outcome.dispatched());
+                released.addAll(outcome.released());
+                if (outcome.failed() != null) {
+                    recordFailure(outcome.failed(), outcome.error(), now);
+                }
+            }
+            if (!dispatched.isEmpty()) {
+                outboxEventRepository.markDispatched(dispatched, now);
+            }
+            if (!released.isEmpty()) {
+                outboxEventRepository.release(released);
+            }
+        });
+    }
+
+    private UserOutcome deliverInOrder(List<OutboxEventEntity> userEvents) {
+        List<Long> dispatched = new ArrayList<>();
+        for (int i = 0; i < userEvents.size(); i++) {
+            OutboxEventEntity entity = userEvents.get(i);
+            try {
+                DomainEvent event = serializer.deserialize(entity.getEventType(), entity.getPayload());
+                EventPosition position = new EventPosition(entity.getId(),
+                        entity.getPreviousEventId() != null ? entity.getPreviousEventId() : 0, entity.getDataVersion());
+                for (DomainEventHandler handler : handlers) {
+                    if (handler.supports(event)) {
+                        handler.handle(event, position);
+                    }
+                }
+                dispatched.add(entity.getId());
+            } catch (Exception e) {
+                log.warn("Outbox event {} ({}) failed on attempt {}", entity.getId(), entity.getEventType(),
+                        entity.getAttempts() + 1, e);
+                List<Long> released = userEvents.subList(i + 1, userEvents.size()).stream()
+                        .map(OutboxEventEntity::getId)
+                        .toList();
+                return new UserOutcome(dispatched, entity, String.valueOf(e.getMessage()), released);
+            }
+        }
+        return new UserOutcome(dispatched, null, null, List.of());
+    }
+
+    private void recordFailure(OutboxEventEntity event, String error, LocalDateTime now) {
+        int attempts = event.getAttempts() + 1;
+        if (attempts >= maxAttempts) {
+            log.error("Outbox event {} ({}) failed {} times, giving up", event.getId(), event.getEventType(), attempts);
+            outboxEventRepository.markFailed(event.getId(), error);
+            return;
+        }
+        long backoffMs = baseBackoffMs * (1L << Math.min(attempts - 1, 16));
+        outboxEventRepository.reschedule(event.getId(), now.plus(Duration.ofMillis(backoffMs)), error);
+    }
+}
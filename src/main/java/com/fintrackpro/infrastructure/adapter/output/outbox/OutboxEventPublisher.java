@@ -0,0 +1,74 @@
+package com.fintrackpro.infrastructure.adapter.output.outbox;
+
+import com.fintrackpro.application.port.output.DomainEventPublisherPort;
+import com.fintrackpro.domain.event.DomainEvent;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes domain events to the outbox table. Requires an active transaction so the event
+ * commits or rolls back together with the change that produced it.
+ *
+ * Each event is chained to the user's previous event, and the last event a call writes for a
+ * user carries the user's data version, see V24 migration. Writers hold the user's row lock
+ * (UserRepositoryPort#lockForWrite), so a user's events get increasing IDs in commit order and
+ * the previous event is always the one committed directly before.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventPublisher implements DomainEventPublisherPort {
+
+    private final OutboxEventSerializer serializer;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    private static final String INSERT_SQL = "INSERT INTO outbox_events (user_id, aggregate_type, aggregate_id, " +
+            "event_type, payload, status, attempts, next_attempt_at, created_at, previous_event_id, data_version) " +
+            "VALUES (?, ?, ?, ?, ?, 'PENDING', 0, ?, ?, " +
+            "(SELECT max(id) FROM outbox_events WHERE user_id = ?), " +
+            "CASE WHEN ? THEN (SELECT data_version FROM users WHERE id = ?) END)";
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(DomainEvent event) {
+        publishAll(List.of(event));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishAll(List<? extends DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        // Pending entity writes bump the data version too, the stored one has to include them
+        entityManager.flush();
+
+        Map<Long, DomainEvent> lastOfUser = new HashMap<>();
+        events.forEach(event -> lastOfUser.put(event.userId(), event));
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, 500, (ps, event) -> {
+            ps.setLong(1, event.userId());
+            ps.setString(2, event.aggregateType());
+            ps.setObject(3, event.aggregateId(), Types.BIGINT);
+            ps.setString(4, serializer.eventType(event));
+            ps.setString(5, serializer.serialize(event));
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+            ps.setLong(8, event.userId());
+            ps.setBoolean(9, lastOfUser.get(event.userId()) == event);
+            ps.setLong(10, event.userId());
+        });
+    }
+}
@@ -0,0 +1,58 @@
+package com.fintrackpro.infrastructure.adapter.output.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintrackpro.domain.event.DomainEvent;
+import com.fintrackpro.domain.event.TransactionCreatedEvent;
+import com.fintrackpro.domain.event.TransactionDeletedEvent;
+import com.fintrackpro.domain.event.TransactionUpdatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Converts domain events to and from their outbox representation.
+ * The event type stored in the outbox is the event's simple class name; new event
+ * types must be registered here.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventSerializer {
+
+    private static final Map<String, Class<? extends DomainEvent>> EVENT_TYPES = Map.of(
+            TransactionCreatedEvent.class.getSimpleName(), TransactionCreatedEvent.class,
+            TransactionUpdatedEvent.class.getSimpleName(), TransactionUpdatedEvent.class,
+            TransactionDeletedEvent.class.getSimpleName(), TransactionDeletedEvent.class
+    );
+
+    private final ObjectMapper objectMapper;
+
+    public String eventType(DomainEvent event) {
+        String type = event.getClass().getSimpleName();
+        if (!EVENT_TYPES.containsKey(type)) {
+            throw new IllegalArgumentException("Unregistered domain event type: " + type);
+        }
+        return type;
+    }
+
+    public String serialize(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize domain event " + event.getClass().getSimpleName(), e);
+        }
+    }
+
+    public DomainEvent deserialize(String eventType, String payload) {
+        Class<? extends DomainEvent> type = EVENT_TYPES.get(eventType);
+        if (type == null) {
+            throw new IllegalArgumentException("Unknown domain event type: " + eventType);
+        }
+        try {
+            return objectMapper.readValue(payload, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not deserialize domain event " + eventType, e);
+        }
+    }
+}
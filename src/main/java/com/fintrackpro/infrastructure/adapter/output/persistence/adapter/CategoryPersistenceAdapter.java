@@ -1,18 +1,21 @@
 package com.fintrackpro.infrastructure.adapter.output.persistence.adapter;
 
 import com.fintrackpro.domain.model.Category;
+import com.fintrackpro.domain.model.SyncChange;
 import com.fintrackpro.domain.port.output.CategoryRepositoryPort;
 import com.fintrackpro.domain.valueobject.CategoryType;
+import com.fintrackpro.infrastructure.adapter.output.category.SystemCategoryRegistry;
+import com.fintrackpro.infrastructure.adapter.output.category.UserCategoryCache;
 import com.fintrackpro.infrastructure.adapter.output.persistence.entity.CategoryEntity;
 import com.fintrackpro.infrastructure.adapter.output.persistence.repository.JpaCategoryRepository;
 import com.fintrackpro.infrastructure.helper.EntityReferenceHelper;
 import com.fintrackpro.infrastructure.mapper.CategoryPersistenceMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 @Component
@@ -22,6 +25,8 @@ public class CategoryPersistenceAdapter implements CategoryRepositoryPort {
     private final JpaCategoryRepository jpaCategoryRepository;
     private final EntityReferenceHelper entityReferenceHelper;
     private final CategoryPersistenceMapper mapper;
+    private final SystemCategoryRegistry systemCategoryRegistry;
+    private final UserCategoryCache userCategoryCache;
 
     @Override
     public Category save(Category category) {
@@ -32,54 +37,39 @@ public class CategoryPersistenceAdapter implements CategoryRepositoryPort {
 
     @Override
     public Optional<Category> findById(Long id) {
+        Optional<Category> system = systemCategoryRegistry.findById(id);
+        if (system.isPresent()) {
+            return system;
+        }
         return jpaCategoryRepository.findById(id)
                 .map(mapper::toDomain);
     }
 
     @Override
     public List<Category> findByUserId(Long userId) {
-        return jpaCategoryRepository.findByUser(entityReferenceHelper.getUserReference(userId))
+        return userCategoryCache.get(userId, () -> jpaCategoryRepository.findByUser(
+                        entityReferenceHelper.getUserReference(userId))
                 .stream()
                 .map(mapper::toDomain)
-                .toList();
+                .toList());
     }
 
     @Override
     public List<Category> findSystemCategories() {
-        return jpaCategoryRepository.findByIsSystemTrue()
-                .stream()
-                .map(mapper::toDomain)
-                .toList();
+        return systemCategoryRegistry.all();
     }
 
     @Override
     public List<Category> findByUserIdAndType(Long userId, CategoryType type) {
-        // Get system categories of this type
-        List<CategoryEntity> systemCategories = jpaCategoryRepository.findByIsSystemTrueAndType(type);
-
-        // Get user's custom categories of this type
-        List<CategoryEntity> userCategories = jpaCategoryRepository.findByUserAndType(
-                entityReferenceHelper.getUserReference(userId),
-                type);
-
-        // Combine both lists
-        return Stream.concat(systemCategories.stream(), userCategories.stream())
-                .map(mapper::toDomain)
+        return Stream.concat(
+                        systemCategoryRegistry.byType(type).stream(),
+                        findByUserId(userId).stream().filter(category -> category.type() == type))
                 .toList();
     }
 
     @Override
     public List<Category> findAllByUserId(Long userId) {
-        // Get all system categories
-        List<CategoryEntity> systemCategories = jpaCategoryRepository.findByIsSystemTrue();
-
-        // Get user's custom categories
-        List<CategoryEntity> userCategories = jpaCategoryRepository.findByUser(
-                entityReferenceHelper.getUserReference(userId));
-
-        // Combine both lists
-        return Stream.concat(systemCategories.stream(), userCategories.stream())
-                .map(mapper::toDomain)
+        return Stream.concat(systemCategoryRegistry.all().stream(), findByUserId(userId).stream())
                 .toList();
     }
 
@@ -95,6 +85,13 @@ public class CategoryPersistenceAdapter implements CategoryRepositoryPort {
         jpaCategoryRepository.deleteById(id);
     }
 
+    @Override
+    public List<SyncChange<Category>> findChangedAfter(Long userId, long changeSeq, int limit) {
+        return jpaCategoryRepository.findChangedAfter(userId, changeSeq, PageRequest.of(0, limit)).stream()
+                .map(entity -> new SyncChange<>(entity.getChangeSeq(), mapper.toDomain(entity)))
+                .toList();
+    }
+
     @Override
     public long countByUserId(Long userId) {
         return jpaCategoryRepository.countByUserAndIsSystemFalse(
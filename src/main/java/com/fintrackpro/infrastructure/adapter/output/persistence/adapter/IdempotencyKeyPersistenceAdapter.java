@@ -0,0 +1,116 @@
+package com.fintrackpro.infrastructure.adapter.output.persistence.adapter;
+
+import com.fintrackpro.application.port.output.IdempotencyKeyRepositoryPort;
+import com.fintrackpro.domain.model.IdempotencyRecord;
+import com.fintrackpro.infrastructure.adapter.output.persistence.entity.IdempotencyKeyEntity;
+import com.fintrackpro.infrastructure.adapter.output.persistence.repository.JpaIdempotencyKeyRepository;
+import com.fintrackpro.infrastructure.util.LruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Persistence adapter for idempotency keys.
+ * Completed records are immutable, so those read back from the database are also kept in a
+ * bounded in-process LRU cache; replays of recent retries are then served without a database
+ * round trip. Records are only cached once read, so a completion whose transaction rolls back is
+ * never served. Claims always go to the database, which is the only source of truth across instances.
+ */
+@Component
+public class IdempotencyKeyPersistenceAdapter implements IdempotencyKeyRepositoryPort {
+
+    private final JpaIdempotencyKeyRepository jpaIdempotencyKeyRepository;
+    private final LruCache<String, IdempotencyRecord> completedCache;
+
+    public IdempotencyKeyPersistenceAdapter(JpaIdempotencyKeyRepository jpaIdempotencyKeyRepository,
+                                            @Value("${app.idempotency.cache-size:10000}") int cacheSize) {
+        this.jpaIdempotencyKeyRepository = jpaIdempotencyKeyRepository;
+        this.completedCache = new LruCache<>(cacheSize);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<IdempotencyRecord> find(Long userId, String key) {
+        IdempotencyRecord cached = completedCache.get(cacheKey(userId, key));
+        if (cached != null) {
+            if (!cached.isExpired()) {
+                return Optional.of(cached);
+            }
+            completedCache.remove(cacheKey(userId, key));
+        }
+
+        return jpaIdempotencyKeyRepository.findByUserIdAndIdempotencyKey(userId, key)
+                .map(this::toDomain)
+                .filter(record -> !record.isExpired())
+                .map(record -> {
+                    if (record.isCompleted()) {
+                        completedCache.put(cacheKey(userId, key), record);
+                    }
+                    return record;
+                });
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> findCached(Long userId, String key) {
+        return Optional.ofNullable(completedCache.get(cacheKey(userId, key)))
+                .filter(record -> !record.isExpired());
+    }
+
+    /**
+     * Joins the request's transaction. A concurrent retry's insert waits on the unique index
+     * until that transaction ends, and then sees the completed record or, if it rolled back, wins.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean claim(Long userId, String key, String requestPath, byte[] requestHash, LocalDateTime expiresAt) {
+        boolean claimed = jpaIdempotencyKeyRepository.insertUnlessLive(
+                userId, key, requestPath, requestHash, LocalDateTime.now(), expiresAt) == 1;
+        if (claimed) {
+            // May have taken over an expired record that is still cached
+            completedCache.remove(cacheKey(userId, key));
+        }
+        return claimed;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void complete(Long userId, String key, int responseStatus, String responseBody) {
+        jpaIdempotencyKeyRepository.markCompleted(userId, key, responseStatus, responseBody);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(Long userId, String key) {
+        jpaIdempotencyKeyRepository.deleteInProgress(userId, key);
+        completedCache.remove(cacheKey(userId, key));
+    }
+
+    @Override
+    @Transactional
+    public int deleteExpired(LocalDateTime now) {
+        completedCache.removeIf(record -> record.expiresAt() != null && record.expiresAt().isBefore(now));
+        return jpaIdempotencyKeyRepository.deleteExpired(now);
+    }
+
+    private IdempotencyRecord toDomain(IdempotencyKeyEntity entity) {
+        return IdempotencyRecord.builder()
+                .userId(entity.getUserId())
+                .idempotencyKey(entity.getIdempotencyKey())
+                .requestPath(entity.getRequestPath())
+                .requestHash(entity.getRequestHash())
+                .status(entity.getStatus())
+                .responseStatus(entity.getResponseStatus())
+                .responseBody(entity.getResponseBody())
+                .createdAt(entity.getCreatedAt())
+                .expiresAt(entity.getExpiresAt())
+                .build();
+    }
+
+    private static String cacheKey(Long userId, String key) {
+        return userId + ":" + key;
+    }
+}
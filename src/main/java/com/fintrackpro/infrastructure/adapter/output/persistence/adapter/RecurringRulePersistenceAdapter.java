@@ -0,0 +1,55 @@
+package com.fintrackpro.infrastructure.adapter.output.persistence.adapter;
+
+import com.fintrackpro.domain.model.RecurringRule;
+import com.fintrackpro.domain.port.output.RecurringRuleRepositoryPort;
+import com.fintrackpro.infrastructure.adapter.output.persistence.repository.JpaRecurringRuleRepository;
+import com.fintrackpro.infrastructure.mapper.RecurringRulePersistenceMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class RecurringRulePersistenceAdapter implements RecurringRuleRepositoryPort {
+
+    private final JpaRecurringRuleRepository jpaRecurringRuleRepository;
+    private final RecurringRulePersistenceMapper mapper;
+
+    @Override
+    public RecurringRule save(RecurringRule rule) {
+        return mapper.toDomain(jpaRecurringRuleRepository.save(mapper.toEntity(rule)));
+    }
+
+    @Override
+    public void saveAll(List<RecurringRule> rules) {
+        jpaRecurringRuleRepository.saveAll(rules.stream().map(mapper::toEntity).toList());
+    }
+
+    @Override
+    public Optional<RecurringRule> findByIdAndUserId(Long id, Long userId) {
+        return jpaRecurringRuleRepository.findByIdAndUserId(id, userId).map(mapper::toDomain);
+    }
+
+    @Override
+    public Optional<RecurringRule> findBySeedTransactionId(Long transactionId) {
+        return jpaRecurringRuleRepository.findBySeedTransactionId(transactionId).map(mapper::toDomain);
+    }
+
+    @Override
+    public List<RecurringRule> findByUserId(Long userId) {
+        return jpaRecurringRuleRepository.findByUserIdOrderByIdDesc(userId).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<RecurringRule> claimDue(LocalDate asOf, LocalDateTime now, int limit) {
+        return jpaRecurringRuleRepository.claimDue(asOf, now, limit).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+}
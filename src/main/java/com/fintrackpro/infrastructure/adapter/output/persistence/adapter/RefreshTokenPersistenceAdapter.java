@@ -12,9 +12,16 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
+/**
+ * Stores refresh tokens by the SHA-256 of their value. Lookups hash the presented token and
+ * match the fixed-size digest, so the raw token never reaches the database.
+ */
 @Component
 @RequiredArgsConstructor
 public class RefreshTokenPersistenceAdapter implements RefreshTokenRepositoryPort {
@@ -26,7 +33,7 @@ public class RefreshTokenPersistenceAdapter implements RefreshTokenRepositoryPor
     @Override
     @Transactional(readOnly = true)
     public Optional<RefreshToken> findByToken(String token) {
-        return jpaRefreshTokenRepository.findByToken(token)
+        return jpaRefreshTokenRepository.findByTokenHash(hash(token))
                 .map(refreshTokenMapper::toDomain);
     }
 
@@ -38,11 +45,18 @@ public class RefreshTokenPersistenceAdapter implements RefreshTokenRepositoryPor
 
         RefreshTokenEntity refreshTokenEntity = refreshTokenMapper.toEntity(refreshToken);
         refreshTokenEntity.setUser(userEntity);
+        refreshTokenEntity.setTokenHash(hash(refreshToken.token()));
 
         RefreshTokenEntity savedEntity = jpaRefreshTokenRepository.save(refreshTokenEntity);
         return refreshTokenMapper.toDomain(savedEntity);
     }
 
+    @Override
+    @Transactional
+    public void revoke(Long id) {
+        jpaRefreshTokenRepository.revoke(id, LocalDateTime.now());
+    }
+
     @Override
     @Transactional
     public void revokeAllByUserId(Long userId) {
@@ -50,4 +64,12 @@ public class RefreshTokenPersistenceAdapter implements RefreshTokenRepositoryPor
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
         jpaRefreshTokenRepository.revokeAllUserTokens(userEntity, LocalDateTime.now());
     }
+
+    private static byte[] hash(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
 }
@@ -0,0 +1,83 @@
+package com.fintrackpro.infrastructure.adapter.output.persistence.adapter;
+
+import com.fintrackpro.domain.model.ReportJob;
+import com.fintrackpro.domain.model.StoredBlob;
+import com.fintrackpro.domain.port.output.ReportJobRepositoryPort;
+import com.fintrackpro.infrastructure.adapter.output.persistence.repository.JpaReportJobRepository;
+import com.fintrackpro.infrastructure.mapper.ReportJobPersistenceMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class ReportJobPersistenceAdapter implements ReportJobRepositoryPort {
+
+    private final JpaReportJobRepository jpaReportJobRepository;
+    private final ReportJobPersistenceMapper mapper;
+
+    @Override
+    public ReportJob save(ReportJob job) {
+        return mapper.toDomain(jpaReportJobRepository.save(mapper.toEntity(job)));
+    }
+
+    @Override
+    public void saveAll(List<ReportJob> jobs) {
+        jpaReportJobRepository.saveAll(jobs.stream().map(mapper::toEntity).toList());
+    }
+
+    @Override
+    public Optional<ReportJob> findByIdAndUserId(Long id, Long userId) {
+        return jpaReportJobRepository.findByIdAndUserId(id, userId).map(mapper::toDomain);
+    }
+
+    @Override
+    public List<ReportJob> findRecentByUserId(Long userId, int limit) {
+        return jpaReportJobRepository.findRecentByUserId(userId, PageRequest.of(0, limit)).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public Optional<ReportJob> saveQueuedIfActiveBelow(ReportJob job, int maxActive) {
+        return jpaReportJobRepository.insertQueuedIfActiveBelow(job.userId(), job.type().name(), job.format().name(),
+                        job.startDate(), job.endDate(), job.createdAt(), maxActive)
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public List<ReportJob> lockQueued(int limit) {
+        return jpaReportJobRepository.lockQueued(limit).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public int failRunningStartedBefore(LocalDateTime startedBefore, String message, LocalDateTime now) {
+        return jpaReportJobRepository.failRunningStartedBefore(startedBefore, message, now);
+    }
+
+    @Override
+    @Transactional
+    public List<String> deleteFinishedBefore(LocalDateTime finishedBefore, int limit) {
+        return jpaReportJobRepository.deleteFinishedBefore(finishedBefore, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<String> findReferencedFileIds(Collection<String> fileIds) {
+        if (fileIds.isEmpty()) {
+            return Set.of();
+        }
+        List<String> urls = fileIds.stream().map(id -> StoredBlob.REFERENCE_PREFIX + id).toList();
+        return new HashSet<>(jpaReportJobRepository.findReferencedFileIds(fileIds, urls));
+    }
+}
@@ -0,0 +1,32 @@
+package com.fintrackpro.infrastructure.adapter.output.persistence.adapter;
+
+import com.fintrackpro.domain.model.SyncTombstone;
+import com.fintrackpro.domain.port.output.SyncTombstoneRepositoryPort;
+import com.fintrackpro.infrastructure.adapter.output.persistence.repository.JpaSyncTombstoneRepository;
+import com.fintrackpro.infrastructure.mapper.SyncTombstonePersistenceMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class SyncTombstonePersistenceAdapter implements SyncTombstoneRepositoryPort {
+
+    private final JpaSyncTombstoneRepository jpaSyncTombstoneRepository;
+    private final SyncTombstonePersistenceMapper mapper;
+
+    @Override
+    public List<SyncTombstone> findByUserIdAfter(Long userId, long changeSeq, int limit) {
+        return jpaSyncTombstoneRepository.findChangedAfter(userId, changeSeq, PageRequest.of(0, limit)).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public int deleteDeletedBefore(LocalDateTime cutoff) {
+        return jpaSyncTombstoneRepository.deleteByDeletedAtBefore(cutoff);
+    }
+}
@@ -1,36 +1,97 @@
 package com.fintrackpro.infrastructure.adapter.output.persistence.adapter;
 
+import com.fintrackpro.domain.model.CategoryTotal;
+import com.fintrackpro.domain.model.DailyTotal;
+import com.fintrackpro.domain.model.DayOfWeekTotal;
+import com.fintrackpro.domain.model.SyncChange;
+import com.fintrackpro.domain.model.TagTotal;
 import com.fintrackpro.domain.model.Transaction;
+import com.fintrackpro.domain.model.TransactionCursor;
 import com.fintrackpro.domain.model.TransactionFilter;
+import com.fintrackpro.domain.model.TransactionListItem;
 import com.fintrackpro.domain.port.output.TransactionRepositoryPort;
+import com.fintrackpro.domain.valueobject.AttachmentKind;
+import com.fintrackpro.domain.valueobject.AutocompleteField;
 import com.fintrackpro.domain.valueobject.TransactionType;
 import com.fintrackpro.infrastructure.adapter.output.persistence.entity.TransactionEntity;
 import com.fintrackpro.infrastructure.adapter.output.persistence.repository.JpaTransactionRepository;
+import com.fintrackpro.infrastructure.adapter.output.persistence.repository.JpaTransactionRepository.TransactionKey;
+import com.fintrackpro.infrastructure.adapter.output.persistence.repository.JpaUserRepository;
 import com.fintrackpro.infrastructure.adapter.output.persistence.repository.TransactionSpecification;
 import com.fintrackpro.infrastructure.mapper.TransactionPersistenceMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
 public class TransactionPersistenceAdapter implements TransactionRepositoryPort {
 
     private final JpaTransactionRepository transactionRepository;
+    private final JpaUserRepository userRepository;
     private final TransactionPersistenceMapper transactionMapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final int INSERT_BATCH_SIZE = 500;
+    private static final Sort KEY_ORDER = Sort.by(Sort.Order.desc("transactionDate"), Sort.Order.desc("id"));
+
+    // IDENTITY ids disable Hibernate insert batching, so bulk inserts go through plain JDBC batches
+    private static final String INSERT_SQL = "INSERT INTO transactions (user_id, wallet_id, category_id, to_wallet_id, " +
+            "type, amount, currency, transaction_date, description, notes, status, reference_number, payee, location, " +
+            "tags, receipt_url, attachment_url, is_recurring, recurring_pattern, recurring_group_id, " +
+            "created_at, updated_at, created_by, updated_by, deleted) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false)";
 
     @Override
-    public Page<Transaction> findAll(Long userId, TransactionFilter filter, Pageable pageable) {
-        return transactionRepository.findAll(TransactionSpecification.withFilter(userId, filter), pageable)
-                .map(transactionMapper::toDomain);
+    public Page<TransactionListItem> findAll(Long userId, TransactionFilter filter, Pageable pageable) {
+        return transactionRepository.findListItems(TransactionSpecification.withFilter(userId, filter), pageable);
+    }
+
+    @Override
+    public List<TransactionListItem> findAllAfter(Long userId, TransactionFilter filter, TransactionCursor after,
+            int limit) {
+        return transactionRepository.findListItems(
+                TransactionSpecification.withFilter(userId, filter).and(TransactionSpecification.after(after)),
+                KEY_ORDER, limit);
+    }
+
+    @Override
+    public List<SyncChange<Transaction>> findChangedAfter(Long userId, long changeSeq, int limit) {
+        return transactionRepository.findChangedAfter(userId, changeSeq, PageRequest.of(0, limit)).stream()
+                .map(entity -> new SyncChange<>(entity.getChangeSeq(), transactionMapper.toDomain(entity)))
+                .toList();
+    }
+
+    @Override
+    public Stream<TransactionListItem> streamAll(Long userId, TransactionFilter filter, int fetchSize) {
+        return transactionRepository.streamListItems(
+                TransactionSpecification.withFilter(userId, filter), KEY_ORDER, fetchSize);
     }
 
     @Override
@@ -40,67 +101,147 @@ public class TransactionPersistenceAdapter implements TransactionRepositoryPort
         return transactionMapper.toDomain(savedEntity);
     }
 
+    @Override
+    public List<Transaction> saveAll(List<Transaction> transactions) {
+        if (transactions.isEmpty()) {
+            return List.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        // The driver returns the generated keys of every batch, rewritten multi-row inserts included
+        List<Long> ids = jdbcTemplate.execute((Connection connection) -> {
+            List<Long> generated = new ArrayList<>(transactions.size());
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL, new String[] {"id"})) {
+                for (int i = 0; i < transactions.size(); i++) {
+                    bindInsert(ps, transactions.get(i), now);
+                    ps.addBatch();
+                    if ((i + 1) % INSERT_BATCH_SIZE == 0 || i == transactions.size() - 1) {
+                        ps.executeBatch();
+                        try (ResultSet keys = ps.getGeneratedKeys()) {
+                            while (keys.next()) {
+                                generated.add(keys.getLong(1));
+                            }
+                        }
+                    }
+                }
+            }
+            return generated;
+        });
+        if (ids == null || ids.size() != transactions.size()) {
+            throw new IllegalStateException("Expected " + transactions.size() + " generated transaction ids, got "
+                    + (ids == null ? 0 : ids.size()));
+        }
+        List<Transaction> saved = new ArrayList<>(transactions.size());
+        for (int i = 0; i < transactions.size(); i++) {
+            saved.add(transactions.get(i).toBuilder().id(ids.get(i)).build());
+        }
+        return saved;
+    }
+
+    private static void bindInsert(PreparedStatement ps, Transaction t, LocalDateTime now) throws SQLException {
+        ps.setLong(1, t.userId());
+        ps.setLong(2, t.walletId());
+        ps.setObject(3, t.categoryId(), Types.BIGINT);
+        ps.setObject(4, t.toWalletId(), Types.BIGINT);
+        ps.setString(5, t.type().name());
+        ps.setBigDecimal(6, t.amount());
+        ps.setString(7, t.currency());
+        ps.setDate(8, Date.valueOf(t.transactionDate()));
+        ps.setString(9, t.description());
+        ps.setString(10, t.notes());
+        ps.setString(11, t.status().name());
+        ps.setString(12, t.referenceNumber());
+        ps.setString(13, t.payee());
+        ps.setString(14, t.location());
+        List<String> tags = t.tagList();
+        if (tags.isEmpty()) {
+            ps.setNull(15, Types.ARRAY);
+        } else {
+            ps.setArray(15, ps.getConnection().createArrayOf("text", tags.toArray()));
+        }
+        ps.setString(16, t.receiptUrl());
+        ps.setString(17, t.attachmentUrl());
+        ps.setBoolean(18, t.isRecurring());
+        ps.setString(19, t.recurringPattern());
+        ps.setObject(20, t.recurringGroupId(), Types.BIGINT);
+        ps.setTimestamp(21, Timestamp.valueOf(t.createdAt() != null ? t.createdAt() : now));
+        ps.setTimestamp(22, Timestamp.valueOf(t.updatedAt() != null ? t.updatedAt() : now));
+        ps.setObject(23, t.createdBy(), Types.BIGINT);
+        ps.setObject(24, t.updatedBy(), Types.BIGINT);
+    }
+
     @Override
     public Optional<Transaction> findById(Long id) {
-        return transactionRepository.findById(id)
+        return transactionRepository.findByIdAndDeletedFalse(id)
                 .map(transactionMapper::toDomain);
     }
 
     @Override
-    public List<Transaction> findAllByUserId(Long userId) {
-        return transactionRepository.findByUserIdAndDeletedFalseOrderByTransactionDateDesc(userId)
-                .stream()
-                .map(transactionMapper::toDomain)
-                .collect(Collectors.toList());
+    public Optional<Long> findUserIdById(Long id) {
+        return transactionRepository.findUserIdById(id);
     }
 
     @Override
-    public List<Transaction> findByUserIdAndWalletId(Long userId, Long walletId) {
-        return transactionRepository.findByUserIdAndWalletIdAndDeletedFalseOrderByTransactionDateDesc(userId, walletId)
-                .stream()
-                .map(transactionMapper::toDomain)
-                .collect(Collectors.toList());
+    public List<TransactionListItem> findAllByUserId(Long userId) {
+        return transactionRepository.findListItemsByUserId(userId);
     }
 
     @Override
-    public List<Transaction> findByUserIdAndCategoryId(Long userId, Long categoryId) {
-        return transactionRepository
-                .findByUserIdAndCategoryIdAndDeletedFalseOrderByTransactionDateDesc(userId, categoryId)
-                .stream()
-                .map(transactionMapper::toDomain)
-                .collect(Collectors.toList());
+    public List<TransactionListItem> findByUserIdAndWalletId(Long userId, Long walletId) {
+        return transactionRepository.findListItemsByUserIdAndWalletId(userId, walletId);
     }
 
     @Override
-    public List<Transaction> findByUserIdAndType(Long userId, TransactionType type) {
-        return transactionRepository.findByUserIdAndTypeAndDeletedFalseOrderByTransactionDateDesc(userId, type)
-                .stream()
-                .map(transactionMapper::toDomain)
-                .collect(Collectors.toList());
+    public List<TransactionListItem> findByUserIdAndCategoryId(Long userId, Long categoryId) {
+        return transactionRepository.findListItemsByUserIdAndCategoryId(userId, categoryId);
     }
 
     @Override
-    public List<Transaction> findByUserIdAndDateRange(Long userId, LocalDate startDate, LocalDate endDate) {
-        return transactionRepository.findByUserIdAndDateRange(userId, startDate, endDate)
-                .stream()
-                .map(transactionMapper::toDomain)
-                .collect(Collectors.toList());
+    public List<TransactionListItem> findByUserIdAndType(Long userId, TransactionType type) {
+        return transactionRepository.findListItemsByUserIdAndType(userId, type);
     }
 
     @Override
-    public List<Transaction> findRecentByUserId(Long userId, int limit) {
-        return transactionRepository.findRecentByUserId(userId, PageRequest.of(0, limit))
-                .stream()
-                .map(transactionMapper::toDomain)
-                .collect(Collectors.toList());
+    public List<TransactionListItem> findByUserIdAndDateRange(Long userId, LocalDate startDate, LocalDate endDate) {
+        return transactionRepository.findListItemsByUserIdAndDateRange(userId, startDate, endDate);
+    }
+
+    @Override
+    public List<TransactionListItem> findRecentByUserId(Long userId, int limit) {
+        return transactionRepository.findRecentListItemsByUserId(userId, PageRequest.of(0, limit));
     }
 
     @Override
-    public List<Transaction> searchByDescription(Long userId, String searchTerm) {
-        return transactionRepository.searchByDescription(userId, searchTerm)
+    public Page<TransactionListItem> search(Long userId, String searchTerm, Pageable pageable) {
+        // The ranking is the order; a client-supplied sort would break it
+        Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        Page<TransactionKey> keys = transactionRepository.searchKeys(userId, searchTerm, unsorted);
+        if (keys.isEmpty()) {
+            return new PageImpl<>(List.of(), unsorted, keys.getTotalElements());
+        }
+        Map<Long, TransactionListItem> items = transactionRepository.findListItemsByIdIn(
+                        keys.map(TransactionKey::getId).getContent(),
+                        keys.map(TransactionKey::getTransactionDate).toSet())
                 .stream()
-                .map(transactionMapper::toDomain)
-                .collect(Collectors.toList());
+                .collect(Collectors.toMap(TransactionListItem::id, Function.identity()));
+        // Rows deleted between the two queries are dropped; the total may be off by those
+        List<TransactionListItem> ranked = keys.getContent().stream()
+                .map(key -> items.get(key.getId()))
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(ranked, unsorted, keys.getTotalElements());
+    }
+
+    @Override
+    public Map<String, Long> countByFieldValue(Long userId, AutocompleteField field, int limit) {
+        List<Object[]> rows = switch (field) {
+            case PAYEE -> transactionRepository.countByPayee(userId, limit);
+            case DESCRIPTION -> transactionRepository.countByDescription(userId, limit);
+        };
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            counts.put((String) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
     }
 
     @Override
@@ -130,23 +271,33 @@ public class TransactionPersistenceAdapter implements TransactionRepositoryPort
     }
 
     @Override
-    public List<Object[]> sumAmountByUserIdAndTypeGroupByDate(Long userId, TransactionType type, LocalDate startDate,
+    public List<DailyTotal> sumAmountByUserIdAndTypeGroupByDate(Long userId, TransactionType type, LocalDate startDate,
             LocalDate endDate) {
         return transactionRepository.sumAmountByUserIdAndTypeGroupByDate(userId, type, startDate, endDate);
     }
 
     @Override
-    public List<Object[]> sumAmountByUserIdAndTypeGroupByCategory(Long userId, TransactionType type,
+    public List<CategoryTotal> sumAmountByUserIdAndTypeGroupByCategory(Long userId, TransactionType type,
             LocalDate startDate, LocalDate endDate) {
         return transactionRepository.sumAmountByUserIdAndTypeGroupByCategory(userId, type, startDate, endDate);
     }
 
     @Override
-    public List<Object[]> sumAmountByUserIdAndTypeGroupByDayOfWeek(Long userId, TransactionType type,
+    public List<DayOfWeekTotal> sumAmountByUserIdAndTypeGroupByDayOfWeek(Long userId, TransactionType type,
             LocalDate startDate, LocalDate endDate) {
         return transactionRepository.sumAmountByUserIdAndTypeGroupByDayOfWeek(userId, type, startDate, endDate);
     }
 
+    @Override
+    public List<TagTotal> sumAmountByUserIdAndTypeGroupByTag(Long userId, TransactionType type,
+            LocalDate startDate, LocalDate endDate) {
+        // Native rows: tag, sum and count
+        return transactionRepository.sumAmountByUserIdAndTypeGroupByTag(userId, type.name(), startDate, endDate)
+                .stream()
+                .map(row -> new TagTotal((String) row[0], (BigDecimal) row[1], ((Number) row[2]).longValue()))
+                .toList();
+    }
+
     @Override
     public Long countByUserIdAndDateRange(Long userId, LocalDate startDate, LocalDate endDate) {
         return transactionRepository.countByUserIdAndDateRange(userId, startDate, endDate);
@@ -158,11 +309,19 @@ public class TransactionPersistenceAdapter implements TransactionRepositoryPort
     }
 
     @Override
-    public void softDeleteById(Long id) {
-        transactionRepository.findById(id).ifPresent(entity -> {
-            entity.setDeleted(true);
-            entity.setDeletedAt(java.time.LocalDateTime.now());
-            transactionRepository.save(entity);
-        });
+    public boolean softDeleteById(Long id) {
+        return transactionRepository.softDeleteById(id, java.time.LocalDateTime.now()) == 1;
+    }
+
+    @Override
+    @Transactional
+    public boolean updateFileUrl(Long userId, Long id, AttachmentKind kind, String url) {
+        userRepository.lockForWrite(userId);
+        LocalDateTime now = LocalDateTime.now();
+        int updated = switch (kind) {
+            case RECEIPT -> transactionRepository.updateReceiptUrl(id, url, now);
+            case ATTACHMENT -> transactionRepository.updateAttachmentUrl(id, url, now);
+        };
+        return updated == 1;
     }
 }
@@ -102,4 +102,9 @@ public class UserPersistenceAdapter implements UserRepositoryPort {
     public Optional<User> findByEmailVerificationToken(String token) {
         return jpaUserRepository.findByEmailVerificationToken(token).map(mapper::toDomain);
     }
+
+    @Override
+    public void lockForWrite(Long userId) {
+        jpaUserRepository.lockForWrite(userId);
+    }
 }
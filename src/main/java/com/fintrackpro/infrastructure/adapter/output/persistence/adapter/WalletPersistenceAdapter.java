@@ -1,19 +1,26 @@
 package com.fintrackpro.infrastructure.adapter.output.persistence.adapter;
 
+import com.fintrackpro.domain.model.BalanceAdjustmentPlan;
+import com.fintrackpro.domain.model.SyncChange;
 import com.fintrackpro.domain.model.Wallet;
 import com.fintrackpro.domain.port.output.WalletRepositoryPort;
 import com.fintrackpro.domain.valueobject.WalletType;
 import com.fintrackpro.infrastructure.adapter.output.persistence.entity.UserEntity;
 import com.fintrackpro.infrastructure.adapter.output.persistence.entity.WalletEntity;
 import com.fintrackpro.infrastructure.adapter.output.persistence.repository.JpaWalletRepository;
+import com.fintrackpro.infrastructure.adapter.output.wallet.UserWalletCache;
 import com.fintrackpro.infrastructure.helper.EntityReferenceHelper;
 import com.fintrackpro.infrastructure.mapper.WalletPersistenceMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.StringJoiner;
 
 @Component
 @RequiredArgsConstructor
@@ -22,10 +29,14 @@ public class WalletPersistenceAdapter implements WalletRepositoryPort {
     private final JpaWalletRepository jpaWalletRepository;
     private final EntityReferenceHelper entityReferenceHelper;
     private final WalletPersistenceMapper mapper;
+    private final EntityManager entityManager;
+    private final UserWalletCache userWalletCache;
 
     @Override
     public Wallet save(Wallet wallet) {
-        return mapper.toDomain(jpaWalletRepository.save(mapper.toEntity(wallet)));
+        Wallet saved = mapper.toDomain(jpaWalletRepository.save(mapper.toEntity(wallet)));
+        userWalletCache.invalidate(saved.userId());
+        return saved;
     }
 
     @Override
@@ -33,9 +44,15 @@ public class WalletPersistenceAdapter implements WalletRepositoryPort {
         return jpaWalletRepository.findById(id).map(mapper::toDomain);
     }
 
+    @Override
+    public Optional<Long> findUserIdById(Long id) {
+        return jpaWalletRepository.findUserIdById(id);
+    }
+
     @Override
     public List<Wallet> findByUserId(Long userId) {
-        return jpaWalletRepository.findByUser(entityReferenceHelper.getUserReference(userId)).stream().map(mapper::toDomain).toList();
+        return userWalletCache.get(userId, () -> jpaWalletRepository.findByUser(
+                entityReferenceHelper.getUserReference(userId)).stream().map(mapper::toDomain).toList());
     }
 
     @Override
@@ -45,7 +62,7 @@ public class WalletPersistenceAdapter implements WalletRepositoryPort {
 
     @Override
     public List<Wallet> findByUserIdAndType(Long userId, WalletType type) {
-        return jpaWalletRepository.findByUserAndWalletType(entityReferenceHelper.getUserReference(userId),type).stream().map(mapper::toDomain).toList();
+        return findByUserId(userId).stream().filter(wallet -> wallet.walletType() == type).toList();
     }
 
     @Override
@@ -55,7 +72,17 @@ public class WalletPersistenceAdapter implements WalletRepositoryPort {
 
     @Override
     public void deleteById(Long id) {
-      jpaWalletRepository.deleteById(id);
+        jpaWalletRepository.findById(id).ifPresent(entity -> {
+            jpaWalletRepository.delete(entity);
+            userWalletCache.invalidate(entity.getUser().getId());
+        });
+    }
+
+    @Override
+    public List<SyncChange<Wallet>> findChangedAfter(Long userId, long changeSeq, int limit) {
+        return jpaWalletRepository.findChangedAfter(userId, changeSeq, PageRequest.of(0, limit)).stream()
+                .map(entity -> new SyncChange<>(entity.getChangeSeq(), mapper.toDomain(entity)))
+                .toList();
     }
 
     @Override
@@ -67,6 +94,7 @@ public class WalletPersistenceAdapter implements WalletRepositoryPort {
     public Optional<Wallet> updateBalance(Long id, BigDecimal balance) {
         return jpaWalletRepository.findById(id).map(entity->{
             entity.setCurrentBalance(balance);
+            userWalletCache.invalidate(entity.getUser().getId());
             return mapper.toDomain(jpaWalletRepository.save(entity));
         });
     }
@@ -75,31 +103,27 @@ public class WalletPersistenceAdapter implements WalletRepositoryPort {
     public Optional<Wallet> updateDefaultStatus(Long id, boolean isDefault) {
         return jpaWalletRepository.findById(id).map(entity->{
             entity.setDefaultWallet(isDefault);
+            userWalletCache.invalidate(entity.getUser().getId());
             return mapper.toDomain(jpaWalletRepository.save(entity));
         });
     }
 
     @Override
     public List<Wallet> findActiveByUserId(Long userId) {
-        return jpaWalletRepository.findByUserAndActiveTrue(entityReferenceHelper.getUserReference(userId)).stream().map(mapper::toDomain).toList();
+        return findByUserId(userId).stream().filter(Wallet::isActive).toList();
     }
 
     @Override
     public List<Wallet> findIncludedInTotalByUserId(Long userId) {
-        return jpaWalletRepository.findByUserAndActiveTrueAndExcludedFromTotalFalse(
-                entityReferenceHelper.getUserReference(userId)
-        ).stream().map(mapper::toDomain).toList();
+        return findByUserId(userId).stream()
+                .filter(wallet -> wallet.isActive() && !wallet.isExcludedFromTotal())
+                .toList();
     }
 
     @Override
     public BigDecimal calculateTotalBalance(Long userId) {
-        List<WalletEntity> wallets = jpaWalletRepository
-                .findByUserAndActiveTrueAndExcludedFromTotalFalse(
-                        entityReferenceHelper.getUserReference(userId)
-                );
-
-        return wallets.stream()
-                .map(WalletEntity::getCurrentBalance)
+        return findIncludedInTotalByUserId(userId).stream()
+                .map(Wallet::currentBalance)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
     }
 
@@ -123,10 +147,51 @@ public class WalletPersistenceAdapter implements WalletRepositoryPort {
         // Save both
         WalletEntity updatedFrom = jpaWalletRepository.save(fromWallet);
         WalletEntity updatedTo = jpaWalletRepository.save(toWallet);
+        userWalletCache.invalidate(List.of(fromWallet.getUser().getId(), toWallet.getUser().getId()));
 
         return Optional.of(new Wallet[]{
                 mapper.toDomain(updatedFrom),
                 mapper.toDomain(updatedTo)
         });
     }
+
+    @Override
+    public int applyBalanceAdjustments(Long userId, BalanceAdjustmentPlan plan) {
+        if (plan.isEmpty()) {
+            return 0;
+        }
+
+        // One UPDATE ... FROM (VALUES ...) for all wallets, moving the balance and the transaction
+        // statistics together, so each wallet row is rewritten once per write. The guard mirrors
+        // Wallet.addTransaction; a wallet whose balance does not move always passes it. The "ok"
+        // check makes the statement all-or-nothing, so a rejected wallet leaves the others untouched.
+        StringJoiner values = new StringJoiner(", ");
+        int position = 2;
+        for (int i = 0; i < plan.size(); i++) {
+            values.add("(CAST(?" + position++ + " AS BIGINT), CAST(?" + position++ + " AS NUMERIC), CAST(?"
+                    + position++ + " AS INTEGER))");
+        }
+        String guard = "w.user_id = ?1 AND (d.delta = 0 OR w.wallet_type = 'CREDIT_CARD' " +
+                "OR w.current_balance + d.delta >= 0)";
+        // Counts never drop below zero; only added transactions move the last transaction date
+        String sql = "WITH d(id, delta, count_delta) AS (VALUES " + values + "), " +
+                "ok AS (SELECT COUNT(*) = " + plan.size() + " AS all_ok FROM wallets w JOIN d ON w.id = d.id WHERE " + guard + ") " +
+                "UPDATE wallets w SET current_balance = w.current_balance + d.delta, " +
+                "transaction_count = GREATEST(COALESCE(w.transaction_count, 0) + d.count_delta, 0), " +
+                "last_transaction_date = CASE WHEN d.count_delta > 0 THEN CURRENT_TIMESTAMP " +
+                "ELSE w.last_transaction_date END, " +
+                "version = w.version + 1, updated_at = CURRENT_TIMESTAMP " +
+                "FROM d, ok WHERE ok.all_ok AND w.id = d.id AND " + guard;
+
+        Query query = entityManager.createNativeQuery(sql);
+        query.setParameter(1, userId);
+        position = 2;
+        for (Long walletId : plan.walletIds()) {
+            query.setParameter(position++, walletId);
+            query.setParameter(position++, plan.deltaOf(walletId));
+            query.setParameter(position++, plan.countDeltaOf(walletId));
+        }
+        userWalletCache.invalidate(userId);
+        return query.executeUpdate();
+    }
 }
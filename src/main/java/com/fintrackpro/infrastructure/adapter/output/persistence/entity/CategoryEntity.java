@@ -51,4 +51,8 @@ public class CategoryEntity {
 
     @UpdateTimestamp
     private LocalDateTime updatedAt;
+
+    // Assigned by the database on every insert and update, see V18 migration
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
 }
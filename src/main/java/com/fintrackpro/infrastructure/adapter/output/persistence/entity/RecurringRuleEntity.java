@@ -0,0 +1,98 @@
+package com.fintrackpro.infrastructure.adapter.output.persistence.entity;
+
+import com.fintrackpro.domain.valueobject.TransactionType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * JPA entity representing a recurring transaction template.
+ * Maps to the 'recurring_rules' table.
+ */
+@Entity
+@Table(name = "recurring_rules")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecurringRuleEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "wallet_id", nullable = false)
+    private Long walletId;
+
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    @Column(name = "to_wallet_id")
+    private Long toWalletId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TransactionType type;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+
+    @Column(nullable = false, length = 3)
+    private String currency;
+
+    @Column(length = 255)
+    private String description;
+
+    @Column(columnDefinition = "TEXT")
+    private String notes;
+
+    @Column(length = 255)
+    private String payee;
+
+    @Column(length = 500)
+    private String tags;
+
+    @Column(nullable = false, length = 100)
+    private String pattern;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "next_run_date")
+    private LocalDate nextRunDate;
+
+    @Column(name = "last_run_date")
+    private LocalDate lastRunDate;
+
+    @Column(name = "occurrences_generated", nullable = false)
+    private int occurrencesGenerated;
+
+    @Column(name = "deferred_until")
+    private LocalDateTime deferredUntil;
+
+    @Column(nullable = false)
+    private boolean active;
+
+    @Column(name = "seed_transaction_id")
+    private Long seedTransactionId;
+
+    @Column(name = "cancelled_at")
+    private LocalDateTime cancelledAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
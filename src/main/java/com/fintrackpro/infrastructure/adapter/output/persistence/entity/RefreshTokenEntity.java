@@ -18,8 +18,9 @@ public class RefreshTokenEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = true, columnDefinition = "TEXT")
-    private String token;
+    // SHA-256 of the token; the token itself is never stored
+    @Column(name = "token_hash", nullable = false, unique = true, columnDefinition = "BYTEA")
+    private byte[] tokenHash;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
@@ -5,7 +5,10 @@ import com.fintrackpro.domain.valueobject.TransactionType;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.PartitionKey;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -57,6 +60,8 @@ public class TransactionEntity {
     @Column(nullable = false, length = 3)
     private String currency;
 
+    // Updates and deletes of a loaded entity also match on the date, so they touch one partition
+    @PartitionKey
     @Column(nullable = false)
     private LocalDate transactionDate;
 
@@ -79,8 +84,9 @@ public class TransactionEntity {
     @Column(length = 255)
     private String location;
 
-    @Column(length = 500)
-    private String tags;
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(columnDefinition = "TEXT[]")
+    private String[] tags;
 
     @Column(length = 500)
     private String receiptUrl;
@@ -115,4 +121,8 @@ public class TransactionEntity {
 
     @Column(nullable = false)
     private Boolean deleted = false;
+
+    // Assigned by the database on every insert and update, see V18 migration
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
 }
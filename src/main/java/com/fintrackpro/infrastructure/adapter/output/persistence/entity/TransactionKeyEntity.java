@@ -0,0 +1,27 @@
+package com.fintrackpro.infrastructure.adapter.output.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * JPA entity representing the partition key of a transaction, looked up by ID so that queries
+ * by ID only touch the partition holding the row.
+ * Maps to the 'transaction_keys' table, which is only written by database triggers.
+ */
+@Entity
+@Table(name = "transaction_keys")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionKeyEntity {
+
+    @Id
+    private Long id;
+
+    @Column(name = "transaction_date", nullable = false)
+    private LocalDate transactionDate;
+}
@@ -97,11 +97,11 @@ public class WalletEntity {
     @Column(columnDefinition = "TEXT")
     private String notes;
 
-    // Transaction Statistics
-    @Column(name = "transaction_count", columnDefinition = "INTEGER DEFAULT 0")
+    // Transaction Statistics, written only by the balance adjustment statement
+    @Column(name = "transaction_count", updatable = false, columnDefinition = "INTEGER DEFAULT 0")
     private Integer transactionCount;
 
-    @Column(name = "last_transaction_date")
+    @Column(name = "last_transaction_date", updatable = false)
     private LocalDateTime lastTransactionDate;
 
     // Audit Fields
@@ -128,6 +128,10 @@ public class WalletEntity {
     @Column(nullable = false, columnDefinition = "BOOLEAN DEFAULT FALSE")
     private boolean deleted;
 
+    // Assigned by the database on every insert and update, see V18 migration
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
+
     @PrePersist
     @PreUpdate
     private void validate() {
@@ -3,7 +3,10 @@ package com.fintrackpro.infrastructure.adapter.output.persistence.repository;
 import com.fintrackpro.domain.valueobject.CategoryType;
 import com.fintrackpro.infrastructure.adapter.output.persistence.entity.CategoryEntity;
 import com.fintrackpro.infrastructure.adapter.output.persistence.entity.UserEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -38,4 +41,12 @@ public interface JpaCategoryRepository extends JpaRepository<CategoryEntity, Lon
      * Count custom categories for a user
      */
     long countByUserAndIsSystemFalse(UserEntity user);
+
+    /**
+     * Find the user's and the system categories changed after a sync position
+     */
+    @Query("SELECT c FROM CategoryEntity c WHERE (c.user.id = :userId OR c.user IS NULL) " +
+            "AND c.changeSeq > :changeSeq ORDER BY c.changeSeq")
+    List<CategoryEntity> findChangedAfter(@Param("userId") Long userId, @Param("changeSeq") long changeSeq,
+                                          Pageable pageable);
 }
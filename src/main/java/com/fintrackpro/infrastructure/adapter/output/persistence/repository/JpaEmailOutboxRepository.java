@@ -0,0 +1,52 @@
+package com.fintrackpro.infrastructure.adapter.output.persistence.repository;
+
+import com.fintrackpro.infrastructure.adapter.output.persistence.entity.EmailOutboxEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface JpaEmailOutboxRepository extends JpaRepository<EmailOutboxEntity, Long> {
+
+    /**
+     * Locks up to {@code limit} emails that are ready, including emails whose dispatcher lease expired.
+     * Emails locked by another dispatcher are skipped.
+     */
+    @Query(value = "SELECT * FROM email_outbox " +
+            "WHERE (status = 'PENDING' AND next_attempt_at <= :now) " +
+            "OR (status = 'PROCESSING' AND locked_until < :now) " +
+            "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<EmailOutboxEntity> lockReady(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE EmailOutboxEntity e SET e.status = com.fintrackpro.domain.valueobject.OutboxStatus.PROCESSING, " +
+            "e.lockedUntil = :lockedUntil WHERE e.id IN :ids")
+    int markProcessing(@Param("ids") Collection<Long> ids, @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    @Modifying
+    @Query("UPDATE EmailOutboxEntity e SET e.status = com.fintrackpro.domain.valueobject.OutboxStatus.DISPATCHED, " +
+            "e.dispatchedAt = :now, e.lockedUntil = null, e.lastError = null WHERE e.id IN :ids")
+    int markDispatched(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE EmailOutboxEntity e SET e.status = com.fintrackpro.domain.valueobject.OutboxStatus.PENDING, " +
+            "e.attempts = e.attempts + 1, e.nextAttemptAt = :nextAttemptAt, e.lockedUntil = null, e.lastError = :error " +
+            "WHERE e.id = :id")
+    int reschedule(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("error") String error);
+
+    @Modifying
+    @Query("UPDATE EmailOutboxEntity e SET e.status = com.fintrackpro.domain.valueobject.OutboxStatus.FAILED, " +
+            "e.attempts = e.attempts + 1, e.lockedUntil = null, e.lastError = :error WHERE e.id = :id")
+    int markFailed(@Param("id") Long id, @Param("error") String error);
+
+    @Modifying
+    @Query("DELETE FROM EmailOutboxEntity e WHERE e.status = com.fintrackpro.domain.valueobject.OutboxStatus.DISPATCHED " +
+            "AND e.dispatchedAt < :before")
+    int deleteDispatchedBefore(@Param("before") LocalDateTime before);
+}
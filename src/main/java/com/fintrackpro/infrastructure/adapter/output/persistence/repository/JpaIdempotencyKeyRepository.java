@@ -0,0 +1,53 @@
+package com.fintrackpro.infrastructure.adapter.output.persistence.repository;
+
+import com.fintrackpro.infrastructure.adapter.output.persistence.entity.IdempotencyKeyEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface JpaIdempotencyKeyRepository extends JpaRepository<IdempotencyKeyEntity, Long> {
+
+    Optional<IdempotencyKeyEntity> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
+
+    /**
+     * Inserts a claim row unless the key exists and has not expired; an expired row the purge has
+     * not reached yet is taken over. Returns 1 when the claim was won.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_keys (user_id, idempotency_key, request_path, request_hash, status, " +
+            "created_at, expires_at) VALUES (:userId, :key, :requestPath, :requestHash, 'IN_PROGRESS', :now, :expiresAt) " +
+            "ON CONFLICT (user_id, idempotency_key) DO UPDATE SET request_path = EXCLUDED.request_path, " +
+            "request_hash = EXCLUDED.request_hash, status = 'IN_PROGRESS', response_status = NULL, " +
+            "response_body = NULL, created_at = EXCLUDED.created_at, expires_at = EXCLUDED.expires_at " +
+            "WHERE idempotency_keys.expires_at < :now", nativeQuery = true)
+    int insertUnlessLive(@Param("userId") Long userId,
+                         @Param("key") String key,
+                         @Param("requestPath") String requestPath,
+                         @Param("requestHash") byte[] requestHash,
+                         @Param("now") LocalDateTime now,
+                         @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("UPDATE IdempotencyKeyEntity k SET k.status = com.fintrackpro.domain.valueobject.IdempotencyStatus.COMPLETED, " +
+            "k.responseStatus = :responseStatus, k.responseBody = :responseBody " +
+            "WHERE k.userId = :userId AND k.idempotencyKey = :key")
+    int markCompleted(@Param("userId") Long userId,
+                      @Param("key") String key,
+                      @Param("responseStatus") int responseStatus,
+                      @Param("responseBody") String responseBody);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyKeyEntity k WHERE k.userId = :userId AND k.idempotencyKey = :key " +
+            "AND k.status = com.fintrackpro.domain.valueobject.IdempotencyStatus.IN_PROGRESS")
+    int deleteInProgress(@Param("userId") Long userId, @Param("key") String key);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyKeyEntity k WHERE k.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
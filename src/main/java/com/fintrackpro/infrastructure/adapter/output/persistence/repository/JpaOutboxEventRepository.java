@@ -0,0 +1,72 @@
+package com.fintrackpro.infrastructure.adapter.output.persistence.repository;
+
+import com.fintrackpro.infrastructure.adapter.output.persistence.entity.OutboxEventEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface JpaOutboxEventRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    /**
+     * Oldest unfinished event per user that is not part of {@code claimedIds}.
+     */
+    interface UserBlocker {
+        Long getUserId();
+
+        Long getBlockerId();
+    }
+
+    /**
+     * Locks up to {@code limit} events that are ready, including events whose dispatcher lease expired.
+     * Events locked by another dispatcher are skipped.
+     */
+    @Query(value = "SELECT * FROM outbox_events " +
+            "WHERE (status = 'PENDING' AND next_attempt_at <= :now) " +
+            "OR (status = 'PROCESSING' AND locked_until < :now) " +
+            "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEventEntity> lockReady(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Query(value = "SELECT user_id AS userId, MIN(id) AS blockerId FROM outbox_events " +
+            "WHERE user_id IN (:userIds) AND status IN ('PENDING', 'PROCESSING') AND id NOT IN (:claimedIds) " +
+            "GROUP BY user_id", nativeQuery = true)
+    List<UserBlocker> findBlockers(@Param("userIds") Collection<Long> userIds,
+                                   @Param("claimedIds") Collection<Long> claimedIds);
+
+    @Modifying
+    @Query("UPDATE OutboxEventEntity e SET e.status = com.fintrackpro.domain.valueobject.OutboxStatus.PROCESSING, " +
+            "e.lockedUntil = :lockedUntil WHERE e.id IN :ids")
+    int markProcessing(@Param("ids") Collection<Long> ids, @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    @Modifying
+    @Query("UPDATE OutboxEventEntity e SET e.status = com.fintrackpro.domain.valueobject.OutboxStatus.DISPATCHED, " +
+            "e.dispatchedAt = :now, e.lockedUntil = null, e.lastError = null WHERE e.id IN :ids")
+    int markDispatched(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE OutboxEventEntity e SET e.status = com.fintrackpro.domain.valueobject.OutboxStatus.PENDING, " +
+            "e.lockedUntil = null WHERE e.id IN :ids")
+    int release(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE OutboxEventEntity e SET e.status = com.fintrackpro.domain.valueobject.OutboxStatus.PENDING, " +
+            "e.attempts = e.attempts + 1, e.nextAttemptAt = :nextAttemptAt, e.lockedUntil = null, e.lastError = :error " +
+            "WHERE e.id = :id")
+    int reschedule(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("error") String error);
+
+    @Modifying
+    @Query("UPDATE OutboxEventEntity e SET e.status = com.fintrackpro.domain.valueobject.OutboxStatus.FAILED, " +
+            "e.attempts = e.attempts + 1, e.lockedUntil = null, e.lastError = :error WHERE e.id = :id")
+    int markFailed(@Param("id") Long id, @Param("error") String error);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEventEntity e WHERE e.status = com.fintrackpro.domain.valueobject.OutboxStatus.DISPATCHED " +
+            "AND e.dispatchedAt < :before")
+    int deleteDispatchedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,38 @@
+package com.fintrackpro.infrastructure.adapter.output.persistence.repository;
+
+import com.fintrackpro.infrastructure.adapter.output.persistence.entity.RecurringRuleEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface JpaRecurringRuleRepository extends JpaRepository<RecurringRuleEntity, Long> {
+
+    Optional<RecurringRuleEntity> findByIdAndUserId(Long id, Long userId);
+
+    Optional<RecurringRuleEntity> findBySeedTransactionId(Long seedTransactionId);
+
+    List<RecurringRuleEntity> findByUserIdOrderByIdDesc(Long userId);
+
+    /**
+     * Locks up to {@code limit} due rules, and their users, for the current transaction.
+     * Rules already locked by another node are skipped, so concurrent schedulers never
+     * claim the same rule. Rules of users that are locked by a write in progress are skipped
+     * too: the users lock is taken before the rows everywhere else, and waiting for it here
+     * while holding rule rows could deadlock.
+     */
+    @Query(value = "SELECT r.* FROM recurring_rules r JOIN users u ON u.id = r.user_id " +
+            "WHERE r.active = true AND r.next_run_date <= :asOf " +
+            "AND (r.deferred_until IS NULL OR r.deferred_until <= :now) " +
+            "ORDER BY r.next_run_date, r.id LIMIT :limit " +
+            "FOR UPDATE OF r SKIP LOCKED FOR NO KEY UPDATE OF u SKIP LOCKED", nativeQuery = true)
+    List<RecurringRuleEntity> claimDue(@Param("asOf") LocalDate asOf,
+                                       @Param("now") LocalDateTime now,
+                                       @Param("limit") int limit);
+}
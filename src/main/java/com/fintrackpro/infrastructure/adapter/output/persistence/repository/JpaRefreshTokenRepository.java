@@ -14,13 +14,17 @@ import java.util.Optional;
 @Repository
 public interface JpaRefreshTokenRepository extends JpaRepository<RefreshTokenEntity, Long> {
 
-    Optional<RefreshTokenEntity> findByToken(String token);
+    Optional<RefreshTokenEntity> findByTokenHash(byte[] tokenHash);
 
     List<RefreshTokenEntity> findByUser(UserEntity user);
 
     @Query("SELECT rt FROM RefreshTokenEntity rt WHERE rt.user = :user AND rt.revoked = false AND rt.expiresAt > :now")
     List<RefreshTokenEntity> findValidTokensByUser(UserEntity user, LocalDateTime now);
 
+    @Modifying
+    @Query("UPDATE RefreshTokenEntity rt SET rt.revoked = true, rt.revokedAt = :now WHERE rt.id = :id AND rt.revoked = false")
+    void revoke(Long id, LocalDateTime now);
+
     @Modifying
     @Query("UPDATE RefreshTokenEntity rt SET rt.revoked = true, rt.revokedAt = :now WHERE rt.user = :user AND rt.revoked = false")
     void revokeAllUserTokens(UserEntity user, LocalDateTime now);
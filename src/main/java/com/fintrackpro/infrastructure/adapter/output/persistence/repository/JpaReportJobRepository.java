@@ -0,0 +1,86 @@
+package com.fintrackpro.infrastructure.adapter.output.persistence.repository;
+
+import com.fintrackpro.infrastructure.adapter.output.persistence.entity.ReportJobEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface JpaReportJobRepository extends JpaRepository<ReportJobEntity, Long> {
+
+    Optional<ReportJobEntity> findByIdAndUserId(Long id, Long userId);
+
+    @Query("SELECT j FROM ReportJobEntity j WHERE j.userId = :userId ORDER BY j.createdAt DESC, j.id DESC")
+    List<ReportJobEntity> findRecentByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Inserts a queued job unless the user already has {@code maxActive} jobs queued or running.
+     * The count and the insert are one statement; the caller locks the user's row first, so the
+     * count also sees jobs queued by a request that committed while this one waited for the lock.
+     */
+    @Query(value = "INSERT INTO report_jobs (user_id, type, format, start_date, end_date, status, created_at) " +
+            "SELECT :userId, :type, :format, :startDate, :endDate, 'QUEUED', :createdAt " +
+            "WHERE (SELECT COUNT(*) FROM report_jobs WHERE user_id = :userId " +
+            "AND status IN ('QUEUED', 'RUNNING')) < :maxActive " +
+            "RETURNING *", nativeQuery = true)
+    Optional<ReportJobEntity> insertQueuedIfActiveBelow(@Param("userId") Long userId,
+                                                        @Param("type") String type,
+                                                        @Param("format") String format,
+                                                        @Param("startDate") LocalDate startDate,
+                                                        @Param("endDate") LocalDate endDate,
+                                                        @Param("createdAt") LocalDateTime createdAt,
+                                                        @Param("maxActive") int maxActive);
+
+    /**
+     * Deletes up to {@code limit} completed or failed jobs that finished before {@code finishedBefore}.
+     *
+     * @return the file ID of each deleted job, null for jobs without a file
+     */
+    @Query(value = "DELETE FROM report_jobs WHERE id IN (SELECT id FROM report_jobs " +
+            "WHERE status IN ('COMPLETED', 'FAILED') AND completed_at < :finishedBefore " +
+            "ORDER BY completed_at LIMIT :limit) RETURNING file_id", nativeQuery = true)
+    List<String> deleteFinishedBefore(@Param("finishedBefore") LocalDateTime finishedBefore,
+                                      @Param("limit") int limit);
+
+    /**
+     * Blob store content is shared by identical files, so a report's file may also be another
+     * report's, or a receipt or attachment of a live or archived transaction.
+     *
+     * @param fileIds blob IDs
+     * @param urls    the same IDs as {@code blob:} URLs
+     * @return the blob IDs among {@code fileIds} that are still referred to
+     */
+    @Query(value = "SELECT file_id FROM report_jobs WHERE file_id IN (:fileIds) " +
+            "UNION SELECT substring(receipt_url FROM 6) FROM transactions WHERE receipt_url IN (:urls) " +
+            "UNION SELECT substring(attachment_url FROM 6) FROM transactions WHERE attachment_url IN (:urls) " +
+            "UNION SELECT substring(receipt_url FROM 6) FROM transactions_archive WHERE receipt_url IN (:urls) " +
+            "UNION SELECT substring(attachment_url FROM 6) FROM transactions_archive WHERE attachment_url IN (:urls)",
+            nativeQuery = true)
+    List<String> findReferencedFileIds(@Param("fileIds") Collection<String> fileIds,
+                                       @Param("urls") Collection<String> urls);
+
+    /**
+     * Locks up to {@code limit} queued jobs for the current transaction, oldest first.
+     * Jobs already locked by another node are skipped.
+     */
+    @Query(value = "SELECT * FROM report_jobs WHERE status = 'QUEUED' " +
+            "ORDER BY created_at, id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<ReportJobEntity> lockQueued(@Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE ReportJobEntity j SET j.status = com.fintrackpro.domain.valueobject.ReportStatus.FAILED, " +
+            "j.errorMessage = :message, j.completedAt = :now " +
+            "WHERE j.status = com.fintrackpro.domain.valueobject.ReportStatus.RUNNING AND j.startedAt < :startedBefore")
+    int failRunningStartedBefore(@Param("startedBefore") LocalDateTime startedBefore,
+                                 @Param("message") String message,
+                                 @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,25 @@
+package com.fintrackpro.infrastructure.adapter.output.persistence.repository;
+
+import com.fintrackpro.infrastructure.adapter.output.persistence.entity.SyncTombstoneEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface JpaSyncTombstoneRepository extends JpaRepository<SyncTombstoneEntity, Long> {
+
+    @Query("SELECT t FROM SyncTombstoneEntity t WHERE t.userId = :userId AND t.changeSeq > :changeSeq " +
+            "ORDER BY t.changeSeq")
+    List<SyncTombstoneEntity> findChangedAfter(@Param("userId") Long userId, @Param("changeSeq") long changeSeq,
+                                               Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM SyncTombstoneEntity t WHERE t.deletedAt < :cutoff")
+    int deleteByDeletedAtBefore(@Param("cutoff") LocalDateTime cutoff);
+}
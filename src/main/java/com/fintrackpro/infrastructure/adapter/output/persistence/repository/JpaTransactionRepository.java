@@ -1,8 +1,15 @@
 package com.fintrackpro.infrastructure.adapter.output.persistence.repository;
 
+import com.fintrackpro.domain.model.CategoryTotal;
+import com.fintrackpro.domain.model.DailyTotal;
+import com.fintrackpro.domain.model.DayOfWeekTotal;
+import com.fintrackpro.domain.model.TransactionListItem;
 import com.fintrackpro.domain.valueobject.TransactionType;
 import com.fintrackpro.infrastructure.adapter.output.persistence.entity.TransactionEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.repository.query.Param;
@@ -10,43 +17,128 @@ import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface JpaTransactionRepository
-                extends JpaRepository<TransactionEntity, Long>, JpaSpecificationExecutor<TransactionEntity> {
+                extends JpaRepository<TransactionEntity, Long>, JpaSpecificationExecutor<TransactionEntity>,
+                TransactionListItemRepository {
 
-        List<TransactionEntity> findByUserIdAndDeletedFalseOrderByTransactionDateDesc(Long userId);
+        /**
+         * Condition matching a transaction by ID. The primary key is (id, transaction_date), so the
+         * date is looked up first; without it every partition's primary key index would be probed.
+         */
+        String BY_ID = "t.id = :id AND t.transactionDate = " +
+                        "(SELECT k.transactionDate FROM TransactionKeyEntity k WHERE k.id = :id) ";
 
-        List<TransactionEntity> findByUserIdAndWalletIdAndDeletedFalseOrderByTransactionDateDesc(
-                        Long userId, Long walletId);
+        @Query("SELECT t FROM TransactionEntity t WHERE " + BY_ID + "AND t.deleted = false")
+        Optional<TransactionEntity> findByIdAndDeletedFalse(@Param("id") Long id);
 
-        List<TransactionEntity> findByUserIdAndCategoryIdAndDeletedFalseOrderByTransactionDateDesc(
-                        Long userId, Long categoryId);
+        @Query("SELECT t.user.id FROM TransactionEntity t WHERE " + BY_ID + "AND t.deleted = false")
+        Optional<Long> findUserIdById(@Param("id") Long id);
 
-        List<TransactionEntity> findByUserIdAndTypeAndDeletedFalseOrderByTransactionDateDesc(
-                        Long userId, TransactionType type);
+        /**
+         * Constructor expression of the list read model. Selects only the columns a list row shows,
+         * so notes and the other wide columns are neither read nor mapped.
+         */
+        String LIST_ITEM = "SELECT new com.fintrackpro.domain.model.TransactionListItem(" +
+                        "t.id, t.wallet.id, t.category.id, t.toWallet.id, t.type, t.amount, t.currency, " +
+                        "t.transactionDate, t.description, t.payee, t.status, array_to_string(t.tags, ','), " +
+                        "t.isRecurring) FROM TransactionEntity t ";
 
-        @Query("SELECT t FROM TransactionEntity t WHERE t.user.id = :userId " +
+        @Query(LIST_ITEM + "WHERE t.user.id = :userId AND t.deleted = false ORDER BY t.transactionDate DESC")
+        List<TransactionListItem> findListItemsByUserId(@Param("userId") Long userId);
+
+        @Query(LIST_ITEM + "WHERE t.user.id = :userId AND t.wallet.id = :walletId AND t.deleted = false " +
+                        "ORDER BY t.transactionDate DESC")
+        List<TransactionListItem> findListItemsByUserIdAndWalletId(
+                        @Param("userId") Long userId,
+                        @Param("walletId") Long walletId);
+
+        @Query(LIST_ITEM + "WHERE t.user.id = :userId AND t.category.id = :categoryId AND t.deleted = false " +
+                        "ORDER BY t.transactionDate DESC")
+        List<TransactionListItem> findListItemsByUserIdAndCategoryId(
+                        @Param("userId") Long userId,
+                        @Param("categoryId") Long categoryId);
+
+        @Query(LIST_ITEM + "WHERE t.user.id = :userId AND t.type = :type AND t.deleted = false " +
+                        "ORDER BY t.transactionDate DESC")
+        List<TransactionListItem> findListItemsByUserIdAndType(
+                        @Param("userId") Long userId,
+                        @Param("type") TransactionType type);
+
+        @Query(LIST_ITEM + "WHERE t.user.id = :userId " +
                         "AND t.transactionDate BETWEEN :startDate AND :endDate " +
                         "AND t.deleted = false ORDER BY t.transactionDate DESC")
-        List<TransactionEntity> findByUserIdAndDateRange(
+        List<TransactionListItem> findListItemsByUserIdAndDateRange(
                         @Param("userId") Long userId,
                         @Param("startDate") LocalDate startDate,
                         @Param("endDate") LocalDate endDate);
 
-        @Query("SELECT t FROM TransactionEntity t WHERE t.user.id = :userId " +
+        @Query(LIST_ITEM + "WHERE t.user.id = :userId " +
                         "AND t.deleted = false ORDER BY t.transactionDate DESC, t.createdAt DESC")
-        List<TransactionEntity> findRecentByUserId(@Param("userId") Long userId,
-                        org.springframework.data.domain.Pageable pageable);
+        List<TransactionListItem> findRecentListItemsByUserId(@Param("userId") Long userId, Pageable pageable);
 
-        @Query("SELECT t FROM TransactionEntity t WHERE t.user.id = :userId " +
-                        "AND (LOWER(t.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
-                        "OR LOWER(t.notes) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) " +
-                        "AND t.deleted = false ORDER BY t.transactionDate DESC")
-        List<TransactionEntity> searchByDescription(
+        /**
+         * Loads the given transactions. The dates of the rows are passed along with their IDs so that
+         * only the partitions holding them are read; a date matching another ID's row costs a probe, not a row.
+         */
+        @Query(LIST_ITEM + "WHERE t.id IN :ids AND t.transactionDate IN :dates AND t.deleted = false")
+        List<TransactionListItem> findListItemsByIdIn(
+                        @Param("ids") Collection<Long> ids,
+                        @Param("dates") Collection<LocalDate> dates);
+
+        /**
+         * Delta sync: the user's transactions changed after a sequence, soft-deleted ones included.
+         */
+        @Query("SELECT t FROM TransactionEntity t WHERE t.user.id = :userId AND t.changeSeq > :changeSeq " +
+                        "ORDER BY t.changeSeq")
+        List<TransactionEntity> findChangedAfter(
                         @Param("userId") Long userId,
-                        @Param("searchTerm") String searchTerm);
+                        @Param("changeSeq") long changeSeq,
+                        Pageable pageable);
+
+        String SEARCH_TEXT = "transaction_search_text(t.description, t.payee, t.location, t.notes)";
+
+        // The term as a literal substring: its wildcards and the escape character are escaped
+        String SEARCH_SUBSTRING = "'%' || replace(replace(replace(lower(:term), '\\', '\\\\'), " +
+                        "'%', '\\%'), '_', '\\_') || '%'";
+
+        String SEARCH_MATCH = "t.user_id = :userId AND t.deleted = false " +
+                        "AND (t.search_vector @@ websearch_to_tsquery('simple', :term) " +
+                        "OR " + SEARCH_TEXT + " LIKE " + SEARCH_SUBSTRING + " ESCAPE '\\' " +
+                        "OR lower(:term) <% " + SEARCH_TEXT + ")";
+
+        /**
+         * Ranked search over description, payee, location and notes, see V15 migration.
+         * Word matches come first, then substring and fuzzy matches by similarity, then the newest.
+         * Both conditions are served by the per-user GIN indexes. Returns keys only; the rows are
+         * loaded with {@link #findListItemsByIdIn(Collection, Collection)}.
+         */
+        @Query(value = "SELECT t.id AS id, t.transaction_date AS \"transactionDate\" FROM transactions t WHERE " +
+                        SEARCH_MATCH + " " +
+                        "ORDER BY ts_rank_cd(t.search_vector, websearch_to_tsquery('simple', :term)) DESC, " +
+                        "word_similarity(lower(:term), " + SEARCH_TEXT + ") DESC, " +
+                        "t.transaction_date DESC, t.id DESC",
+                        countQuery = "SELECT COUNT(*) FROM transactions t WHERE " + SEARCH_MATCH,
+                        nativeQuery = true)
+        Page<TransactionKey> searchKeys(
+                        @Param("userId") Long userId,
+                        @Param("term") String term,
+                        Pageable pageable);
+
+        @Query(value = "SELECT t.payee, COUNT(*) FROM transactions t " +
+                        "WHERE t.user_id = :userId AND t.deleted = false AND t.payee <> '' " +
+                        "GROUP BY t.payee ORDER BY COUNT(*) DESC LIMIT :limit", nativeQuery = true)
+        List<Object[]> countByPayee(@Param("userId") Long userId, @Param("limit") int limit);
+
+        @Query(value = "SELECT t.description, COUNT(*) FROM transactions t " +
+                        "WHERE t.user_id = :userId AND t.deleted = false AND t.description <> '' " +
+                        "GROUP BY t.description ORDER BY COUNT(*) DESC LIMIT :limit", nativeQuery = true)
+        List<Object[]> countByDescription(@Param("userId") Long userId, @Param("limit") int limit);
 
         boolean existsByCategoryIdAndDeletedFalse(Long categoryId);
 
@@ -66,45 +158,131 @@ public interface JpaTransactionRepository
                         @Param("startDate") LocalDate startDate,
                         @Param("endDate") LocalDate endDate);
 
-        @Query("SELECT t.category.id, t.category.name, t.category.color, SUM(t.amount), COUNT(t) " +
+        @Query("SELECT new com.fintrackpro.domain.model.CategoryTotal(" +
+                        "t.category.id, t.category.name, t.category.color, SUM(t.amount), COUNT(t)) " +
                         "FROM TransactionEntity t " +
                         "WHERE t.user.id = :userId AND t.type = :type AND t.transactionDate BETWEEN :startDate AND :endDate AND t.deleted = false "
                         +
                         "GROUP BY t.category.id, t.category.name, t.category.color " +
                         "ORDER BY SUM(t.amount) DESC")
-        List<Object[]> sumAmountByUserIdAndTypeGroupByCategory(
+        List<CategoryTotal> sumAmountByUserIdAndTypeGroupByCategory(
                         @Param("userId") Long userId,
                         @Param("type") TransactionType type,
                         @Param("startDate") LocalDate startDate,
                         @Param("endDate") LocalDate endDate);
 
-        @Query("SELECT t.transactionDate, SUM(t.amount) " +
+        @Query("SELECT new com.fintrackpro.domain.model.DailyTotal(t.transactionDate, SUM(t.amount)) " +
                         "FROM TransactionEntity t " +
                         "WHERE t.user.id = :userId AND t.type = :type AND t.transactionDate BETWEEN :startDate AND :endDate AND t.deleted = false "
                         +
                         "GROUP BY t.transactionDate " +
                         "ORDER BY t.transactionDate ASC")
-        List<Object[]> sumAmountByUserIdAndTypeGroupByDate(
+        List<DailyTotal> sumAmountByUserIdAndTypeGroupByDate(
                         @Param("userId") Long userId,
                         @Param("type") TransactionType type,
                         @Param("startDate") LocalDate startDate,
                         @Param("endDate") LocalDate endDate);
 
-        @Query("SELECT FUNCTION('DAYNAME', t.transactionDate) as day, SUM(t.amount), COUNT(t) " +
+        // PostgreSQL has no DAYNAME; FMDay is the full day name without padding
+        @Query("SELECT new com.fintrackpro.domain.model.DayOfWeekTotal(" +
+                        "CAST(FUNCTION('to_char', t.transactionDate, 'FMDay') AS String), SUM(t.amount), COUNT(t)) " +
                         "FROM TransactionEntity t " +
                         "WHERE t.user.id = :userId AND t.type = :type AND t.transactionDate BETWEEN :startDate AND :endDate AND t.deleted = false "
                         +
-                        "GROUP BY day " +
+                        "GROUP BY FUNCTION('to_char', t.transactionDate, 'FMDay') " +
                         "ORDER BY SUM(t.amount) DESC")
-        List<Object[]> sumAmountByUserIdAndTypeGroupByDayOfWeek(
+        List<DayOfWeekTotal> sumAmountByUserIdAndTypeGroupByDayOfWeek(
                         @Param("userId") Long userId,
                         @Param("type") TransactionType type,
                         @Param("startDate") LocalDate startDate,
                         @Param("endDate") LocalDate endDate);
 
+        // Unnests the tags of the user's rows in range; the rows come from idx_transactions_user_type_date
+        @Query(value = "SELECT tag, SUM(t.amount) AS amount, COUNT(*) AS transaction_count " +
+                        "FROM transactions t CROSS JOIN LATERAL unnest(t.tags) AS tag " +
+                        "WHERE t.user_id = :userId AND t.type = :type " +
+                        "AND t.transaction_date BETWEEN :startDate AND :endDate AND t.deleted = false " +
+                        "GROUP BY tag ORDER BY amount DESC, tag", nativeQuery = true)
+        List<Object[]> sumAmountByUserIdAndTypeGroupByTag(
+                        @Param("userId") Long userId,
+                        @Param("type") String type,
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDate") LocalDate endDate);
+
         @Query("SELECT COUNT(t) FROM TransactionEntity t WHERE t.user.id = :userId AND t.transactionDate BETWEEN :startDate AND :endDate AND t.deleted = false")
         Long countByUserIdAndDateRange(
                         @Param("userId") Long userId,
                         @Param("startDate") LocalDate startDate,
                         @Param("endDate") LocalDate endDate);
+
+        @Modifying
+        @Query("UPDATE TransactionEntity t SET t.deleted = true, t.deletedAt = :now, t.updatedAt = :now " +
+                        "WHERE " + BY_ID + "AND t.deleted = false")
+        int softDeleteById(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+        @Modifying
+        @Query("UPDATE TransactionEntity t SET t.receiptUrl = :url, t.updatedAt = :now " +
+                        "WHERE " + BY_ID + "AND t.deleted = false")
+        int updateReceiptUrl(@Param("id") Long id, @Param("url") String url, @Param("now") LocalDateTime now);
+
+        @Modifying
+        @Query("UPDATE TransactionEntity t SET t.attachmentUrl = :url, t.updatedAt = :now " +
+                        "WHERE " + BY_ID + "AND t.deleted = false")
+        int updateAttachmentUrl(@Param("id") Long id, @Param("url") String url, @Param("now") LocalDateTime now);
+
+        String ARCHIVE_COLUMNS = "id, user_id, wallet_id, category_id, to_wallet_id, type, amount, currency, transaction_date, description, notes, status, reference_number, payee, location, tags, receipt_url, attachment_url, is_recurring, recurring_pattern, recurring_group_id, created_at, updated_at, created_by, updated_by, deleted_at, deleted";
+
+        /**
+         * Moves up to {@code batchSize} soft-deleted rows into transactions_archive.
+         * Rows locked by concurrent writers are skipped and picked up by a later batch, and so are
+         * rows of users locked by a write in progress: their delete triggers lock the users, and
+         * writers take that lock before the rows.
+         */
+        @Modifying
+        @Query(value = "WITH batch AS (SELECT t.id, t.transaction_date FROM transactions t JOIN users u ON u.id = t.user_id " +
+                        "WHERE t.deleted = true ORDER BY t.id LIMIT :batchSize " +
+                        "FOR UPDATE OF t SKIP LOCKED FOR NO KEY UPDATE OF u SKIP LOCKED), " +
+                        "moved AS (DELETE FROM transactions t USING batch b " +
+                        "WHERE t.id = b.id AND t.transaction_date = b.transaction_date RETURNING t.*) " +
+                        "INSERT INTO transactions_archive (" + ARCHIVE_COLUMNS + ") " +
+                        "SELECT " + ARCHIVE_COLUMNS + " FROM moved", nativeQuery = true)
+        int archiveDeletedBatch(@Param("batchSize") int batchSize);
+
+        /**
+         * Moves up to {@code batchSize} transactions dated before {@code horizon} into transactions_archive.
+         */
+        @Modifying
+        @Query(value = "WITH batch AS (SELECT t.id, t.transaction_date FROM transactions t JOIN users u ON u.id = t.user_id " +
+                        "WHERE t.transaction_date < :horizon ORDER BY t.id LIMIT :batchSize " +
+                        "FOR UPDATE OF t SKIP LOCKED FOR NO KEY UPDATE OF u SKIP LOCKED), " +
+                        "moved AS (DELETE FROM transactions t USING batch b " +
+                        "WHERE t.id = b.id AND t.transaction_date = b.transaction_date RETURNING t.*) " +
+                        "INSERT INTO transactions_archive (" + ARCHIVE_COLUMNS + ") " +
+                        "SELECT " + ARCHIVE_COLUMNS + " FROM moved", nativeQuery = true)
+        int archiveOlderThanBatch(@Param("horizon") LocalDate horizon, @Param("batchSize") int batchSize);
+
+        /**
+         * Creates the monthly partition containing {@code month}, see V9 migration.
+         *
+         * @return the partition name, or null if it already existed
+         */
+        @Query(value = "SELECT create_transactions_partition(CAST(:month AS DATE))", nativeQuery = true)
+        String createMonthlyPartition(@Param("month") LocalDate month);
+
+        /**
+         * Detaches all monthly partitions that end on or before {@code before}, see V9 migration.
+         *
+         * @return the names of the detached partitions
+         */
+        @Query(value = "SELECT detach_transactions_partitions_before(CAST(:before AS DATE))", nativeQuery = true)
+        List<String> detachPartitionsBefore(@Param("before") LocalDate before);
+
+        /**
+         * Primary key of a transaction.
+         */
+        interface TransactionKey {
+                Long getId();
+
+                LocalDate getTransactionDate();
+        }
 }
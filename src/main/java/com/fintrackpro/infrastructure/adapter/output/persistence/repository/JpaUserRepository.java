@@ -3,6 +3,8 @@ package com.fintrackpro.infrastructure.adapter.output.persistence.repository;
 import com.fintrackpro.domain.model.User;
 import com.fintrackpro.infrastructure.adapter.output.persistence.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -19,4 +21,10 @@ public interface JpaUserRepository extends JpaRepository<UserEntity, Long> {
     Optional<UserEntity> findByEmailOrUsername(String email, String username);
 
     Optional<UserEntity> findByEmailVerificationToken(String token);
+
+    /**
+     * Takes the same row lock as the data version and change sequence triggers (V17, V18).
+     */
+    @Query(value = "SELECT id FROM users WHERE id = :id FOR NO KEY UPDATE", nativeQuery = true)
+    Optional<Long> lockForWrite(@Param("id") Long id);
 }
@@ -3,8 +3,10 @@ package com.fintrackpro.infrastructure.adapter.output.persistence.repository;
 import com.fintrackpro.domain.valueobject.WalletType;
 import com.fintrackpro.infrastructure.adapter.output.persistence.entity.UserEntity;
 import com.fintrackpro.infrastructure.adapter.output.persistence.entity.WalletEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -23,4 +25,11 @@ public interface JpaWalletRepository extends JpaRepository<WalletEntity, Long> {
    List<WalletEntity> findByUserAndActiveTrue(UserEntity user);
 
    List<WalletEntity> findByUserAndActiveTrueAndExcludedFromTotalFalse(UserEntity user);
+
+   @Query("SELECT w.user.id FROM WalletEntity w WHERE w.id = :id")
+   Optional<Long> findUserIdById(@Param("id") Long id);
+
+   @Query("SELECT w FROM WalletEntity w WHERE w.user.id = :userId AND w.changeSeq > :changeSeq ORDER BY w.changeSeq")
+   List<WalletEntity> findChangedAfter(@Param("userId") Long userId, @Param("changeSeq") long changeSeq,
+                                       Pageable pageable);
 }
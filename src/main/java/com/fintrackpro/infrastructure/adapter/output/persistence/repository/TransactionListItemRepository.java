@@ -0,0 +1,28 @@
+package com.fintrackpro.infrastructure.adapter.output.persistence.repository;
+
+import com.fintrackpro.domain.model.TransactionListItem;
+import com.fintrackpro.infrastructure.adapter.output.persistence.entity.TransactionEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Specification queries that select the {@link TransactionListItem} read model instead of
+ * whole entities, for the filtered and cursor-paginated transaction lists and the export.
+ */
+public interface TransactionListItemRepository {
+
+    Page<TransactionListItem> findListItems(Specification<TransactionEntity> spec, Pageable pageable);
+
+    List<TransactionListItem> findListItems(Specification<TransactionEntity> spec, Sort sort, int limit);
+
+    /**
+     * Streams the matching rows from a server-side cursor, {@code fetchSize} rows per round trip.
+     * Must be closed inside the transaction that opened it.
+     */
+    Stream<TransactionListItem> streamListItems(Specification<TransactionEntity> spec, Sort sort, int fetchSize);
+}
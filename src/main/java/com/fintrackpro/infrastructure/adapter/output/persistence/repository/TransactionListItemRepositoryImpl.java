@@ -0,0 +1,89 @@
+package com.fintrackpro.infrastructure.adapter.output.persistence.repository;
+
+import com.fintrackpro.domain.model.TransactionListItem;
+import com.fintrackpro.infrastructure.adapter.output.persistence.entity.TransactionEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Criteria implementation of {@link TransactionListItemRepository}, picked up by Spring Data
+ * as a fragment of {@link JpaTransactionRepository}.
+ */
+@RequiredArgsConstructor
+class TransactionListItemRepositoryImpl implements TransactionListItemRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<TransactionListItem> findListItems(Specification<TransactionEntity> spec, Pageable pageable) {
+        TypedQuery<TransactionListItem> query = select(spec, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        // The count only runs when the page alone cannot tell the total
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<TransactionListItem> findListItems(Specification<TransactionEntity> spec, Sort sort, int limit) {
+        return select(spec, sort).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public Stream<TransactionListItem> streamListItems(Specification<TransactionEntity> spec, Sort sort, int fetchSize) {
+        // The driver only uses a cursor for a fetch size inside a transaction; projections
+        // are not managed, so the persistence context stays empty however many rows pass
+        return select(spec, sort)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+
+    private TypedQuery<TransactionListItem> select(Specification<TransactionEntity> spec, Sort sort) {
+        HibernateCriteriaBuilder cb = (HibernateCriteriaBuilder) entityManager.getCriteriaBuilder();
+        CriteriaQuery<TransactionListItem> query = cb.createQuery(TransactionListItem.class);
+        Root<TransactionEntity> root = query.from(TransactionEntity.class);
+
+        // Same columns as JpaTransactionRepository.LIST_ITEM
+        query.select(cb.construct(TransactionListItem.class,
+                root.get("id"),
+                root.get("wallet").get("id"),
+                root.get("category").get("id"),
+                root.get("toWallet").get("id"),
+                root.get("type"),
+                root.get("amount"),
+                root.get("currency"),
+                root.get("transactionDate"),
+                root.get("description"),
+                root.get("payee"),
+                root.get("status"),
+                cb.arrayToString(root.<String[]>get("tags"), ","),
+                root.get("isRecurring")));
+        query.where(spec.toPredicate(root, query, cb));
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        return entityManager.createQuery(query);
+    }
+
+    private long count(Specification<TransactionEntity> spec) {
+        HibernateCriteriaBuilder cb = (HibernateCriteriaBuilder) entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<TransactionEntity> root = query.from(TransactionEntity.class);
+        query.select(cb.count(root));
+        query.where(spec.toPredicate(root, query, cb));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -1,8 +1,12 @@
 package com.fintrackpro.infrastructure.adapter.output.persistence.repository;
 
+import com.fintrackpro.domain.model.Transaction;
+import com.fintrackpro.domain.model.TransactionCursor;
 import com.fintrackpro.domain.model.TransactionFilter;
 import com.fintrackpro.infrastructure.adapter.output.persistence.entity.TransactionEntity;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.ArrayList;
@@ -49,7 +53,34 @@ public class TransactionSpecification {
                 predicates.add(cb.lessThanOrEqualTo(root.get("amount"), filter.maxAmount()));
             }
 
+            if (!filter.tags().isEmpty()) {
+                // Renders as tags @> string_to_array(?, ','), which the GIN index on tags serves. A bound
+                // String[] would arrive as varchar[], for which text[] has no @> operator; normalized
+                // tags never contain the comma.
+                Expression<String[]> tags = cb.function("string_to_array", String[].class,
+                        cb.literal(Transaction.joinTags(filter.tags())), cb.literal(","));
+                predicates.add(((HibernateCriteriaBuilder) cb).arrayIncludes(root.<String[]>get("tags"), tags));
+            }
+
             return cb.and(predicates.toArray(new Predicate[0]));
         };
     }
+
+    /**
+     * Seek predicate for keyset pagination in (transactionDate DESC, id DESC) order: rows strictly
+     * after the cursor. The redundant upper bound on the date lets the scan of
+     * idx_transactions_user_date_id and partition pruning start at the cursor.
+     */
+    public static Specification<TransactionEntity> after(TransactionCursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) {
+                return cb.conjunction();
+            }
+            return cb.and(
+                    cb.lessThanOrEqualTo(root.get("transactionDate"), cursor.transactionDate()),
+                    cb.or(
+                            cb.lessThan(root.get("transactionDate"), cursor.transactionDate()),
+                            cb.lessThan(root.get("id"), cursor.id())));
+        };
+    }
 }
@@ -0,0 +1,230 @@
+package com.fintrackpro.infrastructure.adapter.output.report;
+
+import com.fintrackpro.domain.model.CategoryTotal;
+import com.fintrackpro.domain.model.MonthlyTotal;
+import com.fintrackpro.domain.model.ReportContent;
+import com.fintrackpro.domain.model.TransactionListItem;
+import com.fintrackpro.domain.valueobject.ReportType;
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Element;
+import com.lowagie.text.Font;
+import com.lowagie.text.FontFactory;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.Phrase;
+import com.lowagie.text.pdf.PdfPCell;
+import com.lowagie.text.pdf.PdfPTable;
+import com.lowagie.text.pdf.PdfWriter;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * PDF report written page by page. The transaction table is marked incomplete and added to the
+ * document every {@link #FLUSH_ROWS} rows, which lays out and writes the pages those rows fill
+ * and drops them from memory; the header row repeats on every page.
+ */
+final class PdfReportWriter {
+
+    private static final int FLUSH_ROWS = 200;
+    private static final float[] TRANSACTION_WIDTHS = {10, 24, 16, 13, 12, 8, 10, 6, 9};
+    private static final Color HEADER_BACKGROUND = new Color(0xE8, 0xEC, 0xF1);
+    private static final Color BAR_COLOR = new Color(0x4A, 0x90, 0xE2);
+
+    private static final Font TITLE = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 16);
+    private static final Font HEADING = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 11);
+    private static final Font BOLD = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 8);
+    private static final Font NORMAL = FontFactory.getFont(FontFactory.HELVETICA, 8);
+
+    private final ReportContent content;
+    private final DecimalFormat amountFormat = new DecimalFormat("#,##0.00", DecimalFormatSymbols.getInstance(Locale.ENGLISH));
+    private final DecimalFormat percentFormat = new DecimalFormat("0.0%", DecimalFormatSymbols.getInstance(Locale.ENGLISH));
+
+    PdfReportWriter(ReportContent content) {
+        this.content = content;
+    }
+
+    void write(OutputStream out) throws IOException {
+        Document document = new Document(PageSize.A4, 36, 36, 40, 40);
+        try {
+            PdfWriter writer = PdfWriter.getInstance(document, out);
+            // The caller owns the stream
+            writer.setCloseStream(false);
+            document.open();
+
+            document.add(new Paragraph(ReportText.title(content), TITLE));
+            document.add(new Paragraph(ReportText.period(content), NORMAL));
+            document.add(spacer());
+            document.add(summary());
+
+            if (!content.months().isEmpty()) {
+                document.add(heading("By month"));
+                document.add(months());
+            }
+            document.add(heading("Expenses by category"));
+            document.add(categories(content.expenseCategories(), content.totalExpense()));
+            document.add(heading("Income by category"));
+            document.add(categories(content.incomeCategories(), content.totalIncome()));
+
+            if (content.type() == ReportType.MONTHLY_STATEMENT) {
+                document.newPage();
+                document.add(heading("Transactions"));
+                writeTransactions(document);
+            }
+        } catch (DocumentException e) {
+            throw new IOException("Could not write PDF report", e);
+        } finally {
+            if (document.isOpen()) {
+                document.close();
+            }
+        }
+    }
+
+    private void writeTransactions(Document document) throws DocumentException {
+        PdfPTable table = new PdfPTable(TRANSACTION_WIDTHS);
+        table.setWidthPercentage(100);
+        table.setHeaderRows(1);
+        table.setComplete(false);
+        for (String header : ReportText.TRANSACTION_HEADERS) {
+            table.addCell(headerCell(header));
+        }
+
+        Iterator<TransactionListItem> rows = content.transactions().iterator();
+        int pending = 0;
+        while (rows.hasNext()) {
+            TransactionListItem row = rows.next();
+            table.addCell(cell(String.valueOf(row.transactionDate())));
+            table.addCell(cell(ReportText.nullToEmpty(row.description())));
+            table.addCell(cell(ReportText.nullToEmpty(row.payee())));
+            table.addCell(cell(ReportText.categoryName(content, row)));
+            table.addCell(cell(ReportText.walletName(content, row)));
+            table.addCell(cell(row.type().name()));
+            table.addCell(amountCell(row.amount()));
+            table.addCell(cell(ReportText.nullToEmpty(row.currency())));
+            table.addCell(cell(row.status() != null ? row.status().name() : ""));
+            if (++pending == FLUSH_ROWS) {
+                document.add(table);
+                pending = 0;
+            }
+        }
+        table.setComplete(true);
+        document.add(table);
+    }
+
+    private PdfPTable summary() {
+        PdfPTable table = new PdfPTable(new float[]{3, 2});
+        table.setWidthPercentage(40);
+        table.setHorizontalAlignment(Element.ALIGN_LEFT);
+        summaryRow(table, "Income", content.totalIncome());
+        summaryRow(table, "Expense", content.totalExpense());
+        summaryRow(table, "Net", content.net());
+        return table;
+    }
+
+    private void summaryRow(PdfPTable table, String label, BigDecimal amount) {
+        table.addCell(new PdfPCell(new Phrase(label, BOLD)));
+        table.addCell(amountCell(amount));
+    }
+
+    private PdfPTable months() {
+        PdfPTable table = new PdfPTable(new float[]{3, 2, 2, 2});
+        table.setWidthPercentage(70);
+        table.setHorizontalAlignment(Element.ALIGN_LEFT);
+        table.setHeaderRows(1);
+        for (String header : ReportText.MONTH_HEADERS) {
+            table.addCell(headerCell(header));
+        }
+        for (MonthlyTotal month : content.months()) {
+            table.addCell(cell(ReportText.month(month.month())));
+            table.addCell(amountCell(month.income()));
+            table.addCell(amountCell(month.expense()));
+            table.addCell(amountCell(month.net()));
+        }
+        return table;
+    }
+
+    /**
+     * Category table with a bar per row showing the category's share of the total.
+     */
+    private PdfPTable categories(List<CategoryTotal> categories, BigDecimal total) {
+        PdfPTable table = new PdfPTable(new float[]{4, 2, 1.5f, 1.5f, 4});
+        table.setWidthPercentage(100);
+        table.setHeaderRows(1);
+        for (String header : ReportText.CATEGORY_HEADERS) {
+            table.addCell(headerCell(header));
+        }
+        table.addCell(headerCell(""));
+        for (CategoryTotal category : categories) {
+            double share = ReportText.share(category.amount(), total);
+            table.addCell(cell(ReportText.categoryName(category)));
+            table.addCell(amountCell(category.amount()));
+            table.addCell(rightAligned(percentFormat.format(share)));
+            table.addCell(rightAligned(String.valueOf(category.transactionCount())));
+            table.addCell(barCell(share));
+        }
+        if (categories.isEmpty()) {
+            PdfPCell none = cell("No transactions in this period");
+            none.setColspan(5);
+            table.addCell(none);
+        }
+        return table;
+    }
+
+    private PdfPCell barCell(double share) {
+        PdfPTable bar = new PdfPTable(new float[]{(float) Math.max(share, 0.001), (float) Math.max(1 - share, 0.001)});
+        bar.setWidthPercentage(100);
+        PdfPCell filled = new PdfPCell();
+        filled.setBackgroundColor(BAR_COLOR);
+        filled.setBorder(PdfPCell.NO_BORDER);
+        filled.setFixedHeight(6);
+        PdfPCell empty = new PdfPCell();
+        empty.setBorder(PdfPCell.NO_BORDER);
+        empty.setFixedHeight(6);
+        bar.addCell(filled);
+        bar.addCell(empty);
+
+        PdfPCell cell = new PdfPCell(bar);
+        cell.setVerticalAlignment(Element.ALIGN_MIDDLE);
+        cell.setPadding(3);
+        return cell;
+    }
+
+    private PdfPCell headerCell(String text) {
+        PdfPCell cell = new PdfPCell(new Phrase(text, BOLD));
+        cell.setBackgroundColor(HEADER_BACKGROUND);
+        return cell;
+    }
+
+    private PdfPCell cell(String text) {
+        return new PdfPCell(new Phrase(text, NORMAL));
+    }
+
+    private PdfPCell amountCell(BigDecimal amount) {
+        return rightAligned(amountFormat.format(amount));
+    }
+
+    private PdfPCell rightAligned(String text) {
+        PdfPCell cell = cell(text);
+        cell.setHorizontalAlignment(Element.ALIGN_RIGHT);
+        return cell;
+    }
+
+    private static Paragraph heading(String text) {
+        Paragraph heading = new Paragraph(text, HEADING);
+        heading.setSpacingBefore(14);
+        heading.setSpacingAfter(6);
+        return heading;
+    }
+
+    private static Paragraph spacer() {
+        return new Paragraph(" ", NORMAL);
+    }
+}
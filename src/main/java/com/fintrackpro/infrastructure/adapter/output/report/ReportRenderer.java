@@ -0,0 +1,28 @@
+package com.fintrackpro.infrastructure.adapter.output.report;
+
+import com.fintrackpro.application.port.output.ReportRendererPort;
+import com.fintrackpro.domain.model.ReportContent;
+import com.fintrackpro.domain.valueobject.ReportFormat;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes reports as streaming Excel workbooks (SXSSF) or PDF documents (OpenPDF).
+ *
+ * Both writers hold a fixed window of transaction rows: the workbook flushes rows to a
+ * temporary file once the window is full, the PDF writer adds its table to the document in
+ * chunks, which writes out every completed page.
+ */
+@Component
+public class ReportRenderer implements ReportRendererPort {
+
+    @Override
+    public void render(ReportContent content, ReportFormat format, OutputStream out) throws IOException {
+        switch (format) {
+            case XLSX -> new XlsxReportWriter(content).write(out);
+            case PDF -> new PdfReportWriter(content).write(out);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.fintrackpro.infrastructure.adapter.output.report;
+
+import com.fintrackpro.domain.model.CategoryTotal;
+import com.fintrackpro.domain.model.ReportContent;
+import com.fintrackpro.domain.model.TransactionListItem;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * Titles and cell texts shared by the report writers.
+ */
+final class ReportText {
+
+    static final String[] TRANSACTION_HEADERS =
+            {"Date", "Description", "Payee", "Category", "Wallet", "Type", "Amount", "Currency", "Status"};
+    static final String[] CATEGORY_HEADERS = {"Category", "Amount", "Share", "Transactions"};
+    static final String[] MONTH_HEADERS = {"Month", "Income", "Expense", "Net"};
+
+    private static final DateTimeFormatter MONTH = DateTimeFormatter.ofPattern("MMMM yyyy", Locale.ENGLISH);
+
+    private ReportText() {
+    }
+
+    static String title(ReportContent content) {
+        return switch (content.type()) {
+            case MONTHLY_STATEMENT -> "Monthly statement " + MONTH.format(content.startDate());
+            case CATEGORY_REPORT -> "Category report";
+            case YEARLY_SUMMARY -> "Yearly summary " + content.startDate().getYear();
+        };
+    }
+
+    static String period(ReportContent content) {
+        return content.startDate() + " to " + content.endDate();
+    }
+
+    static String month(YearMonth month) {
+        return MONTH.format(month);
+    }
+
+    static String categoryName(CategoryTotal category) {
+        return category.categoryName() != null ? category.categoryName() : "Uncategorized";
+    }
+
+    static String categoryName(ReportContent content, TransactionListItem row) {
+        return row.categoryId() != null ? content.categoryNames().getOrDefault(row.categoryId(), "") : "";
+    }
+
+    static String walletName(ReportContent content, TransactionListItem row) {
+        return content.walletNames().getOrDefault(row.walletId(), "");
+    }
+
+    /**
+     * @return share of {@code amount} in {@code total} as a fraction between 0 and 1
+     */
+    static double share(BigDecimal amount, BigDecimal total) {
+        if (total.signum() == 0) {
+            return 0;
+        }
+        return amount.divide(total, 4, RoundingMode.HALF_UP).doubleValue();
+    }
+
+    static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
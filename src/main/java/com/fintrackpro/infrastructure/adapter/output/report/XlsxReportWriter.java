@@ -0,0 +1,185 @@
+package com.fintrackpro.infrastructure.adapter.output.report;
+
+import com.fintrackpro.domain.model.CategoryTotal;
+import com.fintrackpro.domain.model.MonthlyTotal;
+import com.fintrackpro.domain.model.ReportContent;
+import com.fintrackpro.domain.model.TransactionListItem;
+import com.fintrackpro.domain.valueobject.ReportType;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Excel report in SXSSF streaming mode. Only the last {@link #ROW_WINDOW} rows of a sheet are
+ * kept in memory; older rows are flushed to a compressed temporary file and copied into the
+ * workbook when it is written.
+ */
+final class XlsxReportWriter {
+
+    private static final int ROW_WINDOW = 100;
+    private static final int MAX_ROWS_PER_SHEET = SpreadsheetVersion.EXCEL2007.getMaxRows();
+    private static final int[] TRANSACTION_WIDTHS = {12, 40, 28, 22, 20, 10, 14, 9, 11};
+
+    private final ReportContent content;
+
+    private SXSSFWorkbook workbook;
+    private CellStyle boldStyle;
+    private CellStyle titleStyle;
+    private CellStyle dateStyle;
+    private CellStyle amountStyle;
+    private CellStyle percentStyle;
+
+    XlsxReportWriter(ReportContent content) {
+        this.content = content;
+    }
+
+    void write(OutputStream out) throws IOException {
+        workbook = new SXSSFWorkbook(ROW_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try {
+            createStyles();
+            writeSummary();
+            if (content.type() == ReportType.MONTHLY_STATEMENT) {
+                writeTransactions();
+            }
+            workbook.write(out);
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    private void createStyles() {
+        Font bold = workbook.createFont();
+        bold.setBold(true);
+        boldStyle = workbook.createCellStyle();
+        boldStyle.setFont(bold);
+
+        Font title = workbook.createFont();
+        title.setBold(true);
+        title.setFontHeightInPoints((short) 14);
+        titleStyle = workbook.createCellStyle();
+        titleStyle.setFont(title);
+
+        dateStyle = workbook.createCellStyle();
+        dateStyle.setDataFormat(workbook.createDataFormat().getFormat("yyyy-mm-dd"));
+        amountStyle = workbook.createCellStyle();
+        amountStyle.setDataFormat(workbook.createDataFormat().getFormat("#,##0.00"));
+        percentStyle = workbook.createCellStyle();
+        percentStyle.setDataFormat(workbook.createDataFormat().getFormat("0.0%"));
+    }
+
+    private void writeSummary() {
+        Sheet sheet = workbook.createSheet("Summary");
+        sheet.setColumnWidth(0, 30 * 256);
+        for (int column = 1; column < 4; column++) {
+            sheet.setColumnWidth(column, 16 * 256);
+        }
+
+        int r = 0;
+        text(sheet.createRow(r++), 0, ReportText.title(content), titleStyle);
+        text(sheet.createRow(r++), 0, ReportText.period(content), null);
+        r++;
+        r = amountRow(sheet, r, "Income", content.totalIncome());
+        r = amountRow(sheet, r, "Expense", content.totalExpense());
+        r = amountRow(sheet, r, "Net", content.net());
+
+        if (!content.months().isEmpty()) {
+            r = header(sheet, r + 1, "By month", ReportText.MONTH_HEADERS);
+            for (MonthlyTotal month : content.months()) {
+                Row row = sheet.createRow(r++);
+                text(row, 0, ReportText.month(month.month()), null);
+                amount(row, 1, month.income());
+                amount(row, 2, month.expense());
+                amount(row, 3, month.net());
+            }
+        }
+        r = categories(sheet, r + 1, "Expenses by category", content.expenseCategories(), content.totalExpense());
+        categories(sheet, r + 1, "Income by category", content.incomeCategories(), content.totalIncome());
+    }
+
+    private int categories(Sheet sheet, int r, String title, List<CategoryTotal> categories, BigDecimal total) {
+        r = header(sheet, r, title, ReportText.CATEGORY_HEADERS);
+        for (CategoryTotal category : categories) {
+            Row row = sheet.createRow(r++);
+            text(row, 0, ReportText.categoryName(category), null);
+            amount(row, 1, category.amount());
+            row.createCell(2).setCellValue(ReportText.share(category.amount(), total));
+            row.getCell(2).setCellStyle(percentStyle);
+            row.createCell(3).setCellValue(category.transactionCount());
+        }
+        return r;
+    }
+
+    private void writeTransactions() {
+        Iterator<TransactionListItem> rows = content.transactions().iterator();
+        int sheetNumber = 1;
+        do {
+            Sheet sheet = workbook.createSheet(sheetNumber == 1 ? "Transactions" : "Transactions " + sheetNumber);
+            sheet.createFreezePane(0, 1);
+            for (int column = 0; column < TRANSACTION_WIDTHS.length; column++) {
+                sheet.setColumnWidth(column, TRANSACTION_WIDTHS[column] * 256);
+            }
+            headerRow(sheet.createRow(0), ReportText.TRANSACTION_HEADERS);
+
+            int r = 1;
+            while (r < MAX_ROWS_PER_SHEET && rows.hasNext()) {
+                transaction(sheet.createRow(r++), rows.next());
+            }
+            sheetNumber++;
+        } while (rows.hasNext());
+    }
+
+    private void transaction(Row row, TransactionListItem item) {
+        row.createCell(0).setCellValue(item.transactionDate());
+        row.getCell(0).setCellStyle(dateStyle);
+        text(row, 1, ReportText.nullToEmpty(item.description()), null);
+        text(row, 2, ReportText.nullToEmpty(item.payee()), null);
+        text(row, 3, ReportText.categoryName(content, item), null);
+        text(row, 4, ReportText.walletName(content, item), null);
+        text(row, 5, item.type().name(), null);
+        amount(row, 6, item.amount());
+        text(row, 7, ReportText.nullToEmpty(item.currency()), null);
+        text(row, 8, item.status() != null ? item.status().name() : "", null);
+    }
+
+    private int amountRow(Sheet sheet, int r, String label, BigDecimal value) {
+        Row row = sheet.createRow(r);
+        text(row, 0, label, boldStyle);
+        amount(row, 1, value);
+        return r + 1;
+    }
+
+    private int header(Sheet sheet, int r, String title, String[] headers) {
+        text(sheet.createRow(r), 0, title, titleStyle);
+        headerRow(sheet.createRow(r + 1), headers);
+        return r + 2;
+    }
+
+    private void headerRow(Row row, String[] headers) {
+        for (int column = 0; column < headers.length; column++) {
+            text(row, column, headers[column], boldStyle);
+        }
+    }
+
+    private void text(Row row, int column, String value, CellStyle style) {
+        row.createCell(column).setCellValue(value);
+        if (style != null) {
+            row.getCell(column).setCellStyle(style);
+        }
+    }
+
+    private void amount(Row row, int column, BigDecimal value) {
+        row.createCell(column).setCellValue(value.doubleValue());
+        row.getCell(column).setCellStyle(amountStyle);
+    }
+}
@@ -0,0 +1,162 @@
+package com.fintrackpro.infrastructure.adapter.output.wallet;
+
+import com.fintrackpro.domain.model.Wallet;
+import com.fintrackpro.infrastructure.datasource.ReplicaRoutingContext;
+import com.fintrackpro.infrastructure.etag.UserDataVersionCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Cache of each user's wallet list, as loaded from the wallets table.
+ *
+ * Every wallet write in {@code WalletPersistenceAdapter} invalidates the owner's entry, at once
+ * and again when the transaction completes, ahead of other completion callbacks.
+ * Invalidation leaves a marker in place of the entry,
+ * and a load only stores its result if the entry it started from is still there.
+ *
+ * Each entry is tagged with the user's data version, read before the wallets on the same
+ * connection, and is only served while {@link UserDataVersionCache} reports that version; this
+ * is how changes made through other nodes are noticed. Once {@code app.wallet.user-cache-max-entries}
+ * is reached, markers are pruned and, if that does not free any room, the cache starts over.
+ */
+@Component
+public class UserWalletCache {
+
+    private static final String VERSION_SQL = "SELECT data_version FROM users WHERE id = ?";
+
+    private final UserDataVersionCache dataVersionCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxEntries;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    public UserWalletCache(UserDataVersionCache dataVersionCache,
+                           JdbcTemplate jdbcTemplate,
+                           @Value("${app.wallet.user-cache-max-entries:100000}") int maxEntries) {
+        this.dataVersionCache = dataVersionCache;
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * @param loader reads the user's wallets from the database
+     * @return the cached wallets, or the loaded ones if none are cached for the current version
+     */
+    public List<Wallet> get(Long userId, Supplier<List<Wallet>> loader) {
+        Entry cached = entries.get(userId);
+        if (cached != null && cached.wallets() != null
+                && cached.version() == dataVersionCache.currentVersion(userId)) {
+            return cached.wallets();
+        }
+
+        Entry loaded;
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            loaded = load(userId, loader);
+        } else {
+            // Without a transaction the two reads could come from different servers
+            loaded = ReplicaRoutingContext.onPrimary(() -> load(userId, loader));
+        }
+        if (cached != null) {
+            entries.replace(userId, cached, loaded);
+        } else {
+            makeRoom();
+            entries.putIfAbsent(userId, loaded);
+        }
+        return loaded.wallets();
+    }
+
+    public void invalidate(Long userId) {
+        invalidate(List.of(userId));
+    }
+
+    public void invalidate(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        markInvalid(userIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new InvalidateOnCompletion(List.copyOf(userIds)));
+        }
+    }
+
+    private void makeRoom() {
+        if (entries.size() < maxEntries) {
+            return;
+        }
+        // A load racing a dropped marker may store an old list, but with its old version tag
+        entries.values().removeIf(entry -> entry.wallets() == null);
+        if (entries.size() >= maxEntries) {
+            entries.clear();
+        }
+    }
+
+    private Entry load(Long userId, Supplier<List<Wallet>> loader) {
+        // The version is read first, so the wallets are at least as new as their tag
+        long version;
+        try {
+            Long current = jdbcTemplate.queryForObject(VERSION_SQL, Long.class, userId);
+            version = current != null ? current : -1;
+        } catch (EmptyResultDataAccessException e) {
+            version = -1;
+        }
+        return new Entry(List.copyOf(loader.get()), version);
+    }
+
+    private void markInvalid(Collection<Long> userIds) {
+        for (Long userId : userIds) {
+            entries.put(userId, new Entry(null, -1));
+        }
+    }
+
+    private final class InvalidateOnCompletion implements TransactionSynchronization, Ordered {
+
+        private final List<Long> userIds;
+
+        private InvalidateOnCompletion(List<Long> userIds) {
+            this.userIds = userIds;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            markInvalid(userIds);
+        }
+    }
+
+    /**
+     * A cached list, or an invalidation marker when {@code wallets} is null. Compared by
+     * identity, so every invalidation is distinct from the entry a load started from.
+     */
+    private static final class Entry {
+
+        private final List<Wallet> wallets;
+        private final long version;
+
+        private Entry(List<Wallet> wallets, long version) {
+            this.wallets = wallets;
+            this.version = version;
+        }
+
+        List<Wallet> wallets() {
+            return wallets;
+        }
+
+        long version() {
+            return version;
+        }
+    }
+}
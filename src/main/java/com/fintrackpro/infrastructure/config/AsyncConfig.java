@@ -0,0 +1,79 @@
+package com.fintrackpro.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Executors for background work that runs outside the request threads.
+ */
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * Virtual-thread executor for outbox event handlers. Handlers mostly wait on the database,
+     * so the concurrency limit is what bounds connection pool usage, not the thread count.
+     */
+    @Bean(name = "eventDispatchExecutor")
+    public SimpleAsyncTaskExecutor eventDispatchExecutor(
+            @Value("${app.outbox.max-concurrency:16}") int maxConcurrency) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("outbox-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(maxConcurrency);
+        return executor;
+    }
+
+    /**
+     * Virtual-thread executor for the email outbox. Each task renders and sends one chunk of
+     * emails over its own SMTP connection, so the concurrency limit is the number of open
+     * connections to the mail server.
+     */
+    @Bean(name = "emailDispatchExecutor")
+    public SimpleAsyncTaskExecutor emailDispatchExecutor(
+            @Value("${app.email.outbox.max-connections:2}") int maxConnections) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("email-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(maxConnections);
+        return executor;
+    }
+
+    /**
+     * Small fixed pool for thumbnail rendering. Decoding images is CPU and heap heavy, so the
+     * thread count bounds how many are in memory at once; when the queue is full new work is
+     * dropped and picked up again on the next thumbnail request.
+     */
+    @Bean(name = "thumbnailExecutor")
+    public ThreadPoolTaskExecutor thumbnailExecutor(
+            @Value("${app.blob.thumbnail-threads:2}") int threads,
+            @Value("${app.blob.thumbnail-queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("thumbnail-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    /**
+     * Fixed pool of report workers. Each running report holds a database connection and a row
+     * window in memory, so the thread count bounds both; the scheduler only claims as many
+     * queued jobs as there are idle workers.
+     */
+    @Bean(name = "reportExecutor")
+    public ThreadPoolTaskExecutor reportExecutor(@Value("${app.report.workers:2}") int workers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("report-");
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(workers);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
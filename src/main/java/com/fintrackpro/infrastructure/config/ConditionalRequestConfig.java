@@ -0,0 +1,29 @@
+package com.fintrackpro.infrastructure.config;
+
+import com.fintrackpro.infrastructure.etag.DataVersionETagInterceptor;
+import com.fintrackpro.infrastructure.etag.DataVersionInvalidationInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers ETag support on the endpoints clients poll for the user's wallets, categories
+ * and analytics, and data version invalidation on every authenticated write.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ConditionalRequestConfig implements WebMvcConfigurer {
+
+    private final DataVersionETagInterceptor dataVersionETagInterceptor;
+    private final DataVersionInvalidationInterceptor dataVersionInvalidationInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(dataVersionETagInterceptor)
+                .addPathPatterns("/api/v1/wallets/**", "/api/v1/categories/**", "/api/v1/analytics/**");
+        registry.addInterceptor(dataVersionInvalidationInterceptor)
+                .addPathPatterns("/api/**")
+                .excludePathPatterns("/api/v1/auth/**");
+    }
+}
@@ -0,0 +1,39 @@
+package com.fintrackpro.infrastructure.config;
+
+import com.fintrackpro.infrastructure.security.JwtSigningAlgorithm;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.core.io.Resource;
+
+import java.util.List;
+
+/**
+ * Token signing keys.
+ *
+ * With no {@code keys} configured, the single RSA pair in {@code public-key}/{@code private-key}
+ * signs with RS256, as before. Otherwise every listed key verifies tokens and the one named by
+ * {@code signing-key-id} signs new ones; a key without a private key can only verify. Rotating
+ * means adding the new key, switching {@code signing-key-id} to it and removing the old key once
+ * the tokens it signed have expired.
+ *
+ * @param publicKey    PEM public key of the single-key setup
+ * @param privateKey   PEM private key of the single-key setup
+ * @param keys         keys of the multi-key setup
+ * @param signingKeyId ID of the key that signs, required with {@code keys}
+ */
+@ConfigurationProperties(prefix = "app.jwt")
+public record JwtKeyProperties(
+        Resource publicKey,
+        Resource privateKey,
+        List<Key> keys,
+        String signingKeyId
+) {
+
+    /**
+     * @param id         key ID, sent as {@code kid} in the header of the tokens the key signs
+     * @param algorithm  RS256, ES256 or EdDSA
+     * @param publicKey  PEM public key (X.509 SubjectPublicKeyInfo)
+     * @param privateKey PEM private key (PKCS#8); only needed by the signing key
+     */
+    public record Key(String id, JwtSigningAlgorithm algorithm, Resource publicKey, Resource privateKey) {
+    }
+}
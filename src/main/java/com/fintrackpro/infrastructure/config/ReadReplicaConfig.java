@@ -0,0 +1,119 @@
+package com.fintrackpro.infrastructure.config;
+
+import com.fintrackpro.application.port.input.CurrentUserProvider;
+import com.fintrackpro.infrastructure.datasource.ReadYourWritesInterceptor;
+import com.fintrackpro.infrastructure.datasource.ReplicaAwareJpaTransactionManager;
+import com.fintrackpro.infrastructure.datasource.Replica;
+import com.fintrackpro.infrastructure.datasource.ReplicaLagMonitor;
+import com.fintrackpro.infrastructure.datasource.ReplicaRoutingDataSource;
+import com.fintrackpro.infrastructure.etag.UserDataVersionCache;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replica routing, enabled by listing replica JDBC URLs in {@code app.datasource.replica.urls}.
+ *
+ * The primary pool is still configured through {@code spring.datasource.*}. Each replica gets
+ * its own smaller pool with the primary's credentials unless replica ones are set. Read-only
+ * transactions go to a replica whose lag is within {@code app.datasource.replica.max-lag-ms};
+ * everything else, and reads of users who changed data within that window, go to the primary.
+ * The transaction manager replaces Spring Boot's so routing can see the read-only flag.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "urls")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @Primary
+    public ReplicaRoutingDataSource dataSource(
+            @Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+            DataSourceProperties properties,
+            @Value("${app.datasource.replica.urls}") List<String> urls,
+            @Value("${app.datasource.replica.username:}") String username,
+            @Value("${app.datasource.replica.password:}") String password,
+            @Value("${app.datasource.replica.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${app.datasource.replica.max-lag-ms:1000}") long maxLagMillis) {
+        List<Replica> replicas = new ArrayList<>();
+        for (String url : urls) {
+            String name = "replica-" + replicas.size();
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName(name);
+            pool.setJdbcUrl(url.trim());
+            pool.setDriverClassName(properties.determineDriverClassName());
+            pool.setUsername(username.isBlank() ? properties.determineUsername() : username);
+            pool.setPassword(password.isBlank() ? properties.determinePassword() : password);
+            pool.setMaximumPoolSize(maximumPoolSize);
+            pool.setReadOnly(true);
+            // A replica that is down at startup must not keep the application from starting
+            pool.setInitializationFailTimeout(-1);
+            pool.setDataSourceProperties(primaryDataSource.getDataSourceProperties());
+            replicas.add(new Replica(name, pool));
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, maxLagMillis);
+    }
+
+    @Bean
+    public ReplicaAwareJpaTransactionManager transactionManager(
+            EntityManagerFactory entityManagerFactory,
+            ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers) {
+        ReplicaAwareJpaTransactionManager transactionManager = new ReplicaAwareJpaTransactionManager(entityManagerFactory);
+        transactionManagerCustomizers.ifAvailable(customizers -> customizers.customize(transactionManager));
+        return transactionManager;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+                                               ReplicaRoutingDataSource dataSource, MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(primaryDataSource, dataSource.replicas(), meterRegistry);
+    }
+
+    /**
+     * Separate from the data source beans: the interceptor's dependencies need the data source.
+     */
+    @Configuration
+    static class ReadYourWritesConfig implements WebMvcConfigurer {
+
+        private final UserDataVersionCache dataVersionCache;
+        private final CurrentUserProvider currentUserProvider;
+        private final long stickyWindowMillis;
+
+        ReadYourWritesConfig(UserDataVersionCache dataVersionCache,
+                             CurrentUserProvider currentUserProvider,
+                             @Value("${app.datasource.replica.max-lag-ms:1000}") long maxLagMillis,
+                             @Value("${app.datasource.replica.lag-check-interval-ms:1000}") long lagCheckIntervalMillis) {
+            this.dataVersionCache = dataVersionCache;
+            this.currentUserProvider = currentUserProvider;
+            // A replica may fall behind by up to one check interval before routing notices
+            this.stickyWindowMillis = maxLagMillis + lagCheckIntervalMillis;
+        }
+
+        @Override
+        public void addInterceptors(InterceptorRegistry registry) {
+            registry.addInterceptor(new ReadYourWritesInterceptor(dataVersionCache, currentUserProvider, stickyWindowMillis))
+                    .addPathPatterns("/api/**")
+                    .excludePathPatterns("/api/v1/auth/**");
+        }
+    }
+}
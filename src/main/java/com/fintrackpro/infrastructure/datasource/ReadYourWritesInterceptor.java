@@ -0,0 +1,81 @@
+package com.fintrackpro.infrastructure.datasource;
+
+import com.fintrackpro.application.port.input.CurrentUserProvider;
+import com.fintrackpro.infrastructure.etag.UserDataVersionCache;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps a request on the primary while a replica may not have the user's latest changes.
+ *
+ * Writing requests always use the primary. When one completes, after its transactions
+ * committed, the time is recorded for the user, and their reads stay on the primary for the
+ * window after it, which covers the replica lag tolerance plus one lag check. Reads also stay
+ * there while the user's data version changed within the window, which covers changes made
+ * through other nodes once the version cache sees them.
+ */
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String WRITER_ATTRIBUTE = ReadYourWritesInterceptor.class.getName() + ".writer";
+    // Stamps only matter within the window; past this size the expired ones are dropped
+    private static final int PRUNE_THRESHOLD = 10_000;
+
+    private final UserDataVersionCache dataVersionCache;
+    private final CurrentUserProvider currentUserProvider;
+    private final long windowNanos;
+    private final Map<Long, Long> lastWrites = new ConcurrentHashMap<>();
+
+    public ReadYourWritesInterceptor(UserDataVersionCache dataVersionCache,
+                                     CurrentUserProvider currentUserProvider,
+                                     long windowMillis) {
+        this.dataVersionCache = dataVersionCache;
+        this.currentUserProvider = currentUserProvider;
+        this.windowNanos = windowMillis * 1_000_000;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Long userId = currentUserProvider.getCurrentUserId();
+        boolean read = HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+        if (!read) {
+            request.setAttribute(WRITER_ATTRIBUTE, userId);
+        }
+        ReplicaRoutingContext.begin(!read || wroteRecently(userId)
+                || dataVersionCache.changedWithin(userId, windowNanos / 1_000_000));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        ReplicaRoutingContext.end();
+        if (request.getAttribute(WRITER_ATTRIBUTE) instanceof Long userId) {
+            recordWrite(userId);
+        }
+    }
+
+    // Streaming responses continue on another thread; afterCompletion is not called on this one
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        ReplicaRoutingContext.end();
+    }
+
+    private boolean wroteRecently(Long userId) {
+        Long writtenAt = lastWrites.get(userId);
+        return writtenAt != null && System.nanoTime() - writtenAt < windowNanos;
+    }
+
+    private void recordWrite(Long userId) {
+        long now = System.nanoTime();
+        if (lastWrites.size() >= PRUNE_THRESHOLD) {
+            lastWrites.values().removeIf(writtenAt -> now - writtenAt >= windowNanos);
+        }
+        lastWrites.put(userId, now);
+    }
+}
@@ -0,0 +1,42 @@
+package com.fintrackpro.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * A read replica's connection pool and its last measured replication lag.
+ */
+public final class Replica {
+
+    /** Lag value while the replica is unreachable or its lag is unknown */
+    static final long UNKNOWN_LAG = -1;
+
+    private final String name;
+    private final HikariDataSource dataSource;
+    private volatile long lagMillis = UNKNOWN_LAG;
+
+    public Replica(String name, HikariDataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public HikariDataSource dataSource() {
+        return dataSource;
+    }
+
+    long lagMillis() {
+        return lagMillis;
+    }
+
+    void lagMillis(long lagMillis) {
+        this.lagMillis = lagMillis;
+    }
+
+    boolean isUsable(long maxLagMillis) {
+        long lag = lagMillis;
+        return lag != UNKNOWN_LAG && lag <= maxLagMillis;
+    }
+}
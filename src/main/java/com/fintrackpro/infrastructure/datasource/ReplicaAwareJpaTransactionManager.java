@@ -0,0 +1,30 @@
+package com.fintrackpro.infrastructure.datasource;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+/**
+ * Tells {@link ReplicaRoutingDataSource} whether the transaction being started is read-only.
+ *
+ * Hibernate takes the connection while the transaction begins, but Spring only publishes the
+ * read-only flag once it has begun, so the routing data source cannot rely on
+ * {@code TransactionSynchronizationManager}. Joined transactions keep the connection of the
+ * transaction they join.
+ */
+public class ReplicaAwareJpaTransactionManager extends JpaTransactionManager {
+
+    public ReplicaAwareJpaTransactionManager(EntityManagerFactory entityManagerFactory) {
+        super(entityManagerFactory);
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        ReplicaRoutingContext.transactionBeginning(definition.isReadOnly());
+        try {
+            super.doBegin(transaction, definition);
+        } finally {
+            ReplicaRoutingContext.transactionBegun();
+        }
+    }
+}
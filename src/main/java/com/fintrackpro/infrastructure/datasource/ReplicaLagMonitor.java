@@ -0,0 +1,84 @@
+package com.fintrackpro.infrastructure.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Measures the replication lag of each read replica.
+ *
+ * Every check first reads the primary's current WAL position. A replica that has replayed up
+ * to it has no lag; otherwise the lag is the age of the last transaction it replayed. Comparing
+ * with the primary rather than with what the replica received keeps a replica whose WAL
+ * receiver disconnected from reporting no lag while it falls behind. A server that is not in
+ * recovery, such as a second local database standing in for a replica, has no lag. A replica
+ * that cannot be queried, or any replica while the primary cannot be, gets an unknown lag and
+ * receives no reads until the next successful check. Published as
+ * {@code datasource.replica.lag}, tagged with the replica name.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String PRIMARY_LSN_SQL = "SELECT pg_current_wal_lsn()::text";
+    private static final String LAG_SQL = "SELECT CASE " +
+            "WHEN NOT pg_is_in_recovery() THEN 0 " +
+            "WHEN pg_last_wal_replay_lsn() >= CAST(? AS pg_lsn) THEN 0 " +
+            "ELSE (EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) * 1000)::BIGINT END";
+    private static final int QUERY_TIMEOUT_SECONDS = 2;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+
+    public ReplicaLagMonitor(DataSource primary, List<Replica> replicas, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = replicas;
+        for (Replica replica : replicas) {
+            Gauge.builder("datasource.replica.lag", replica, Replica::lagMillis)
+                    .description("Replication lag of the read replica; -1 while unknown")
+                    .tag("replica", replica.name())
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval-ms:1000}")
+    public void checkLag() {
+        String primaryLsn;
+        try {
+            primaryLsn = query(primary).queryForObject(PRIMARY_LSN_SQL, String.class);
+        } catch (Exception e) {
+            if (replicas.stream().anyMatch(replica -> replica.lagMillis() != Replica.UNKNOWN_LAG)) {
+                log.warn("Cannot read the primary's WAL position, replica lag is unknown: {}", e.getMessage());
+            }
+            replicas.forEach(replica -> replica.lagMillis(Replica.UNKNOWN_LAG));
+            return;
+        }
+        for (Replica replica : replicas) {
+            replica.lagMillis(measure(replica, primaryLsn));
+        }
+    }
+
+    private long measure(Replica replica, String primaryLsn) {
+        try {
+            Long lag = query(replica.dataSource()).queryForObject(LAG_SQL, Long.class, primaryLsn);
+            // A standby that has not replayed anything yet has no replay timestamp
+            return lag != null ? Math.max(lag, 0) : Replica.UNKNOWN_LAG;
+        } catch (Exception e) {
+            if (replica.lagMillis() != Replica.UNKNOWN_LAG) {
+                log.warn("Read replica {} is unavailable, reading from the primary: {}", replica.name(), e.getMessage());
+            }
+            return Replica.UNKNOWN_LAG;
+        }
+    }
+
+    private static JdbcTemplate query(DataSource dataSource) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setQueryTimeout(QUERY_TIMEOUT_SECONDS);
+        return jdbcTemplate;
+    }
+}
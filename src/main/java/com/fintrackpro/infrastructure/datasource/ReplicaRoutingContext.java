@@ -0,0 +1,69 @@
+package com.fintrackpro.infrastructure.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Per-thread input for {@link ReplicaRoutingDataSource}.
+ *
+ * A connection goes to a replica only if it is taken while a read-only transaction begins and
+ * nothing pins the thread to the primary. Pins come from two places: a request
+ * {@linkplain #begin(boolean) scope}, which stays pinned once a read-write transaction has begun
+ * in it, so later reads of the request see the write; and {@link #onPrimary(Supplier)} for reads
+ * that must be exact. Threads without a scope, such as schedulers and workers, are only pinned
+ * by the latter.
+ */
+public final class ReplicaRoutingContext {
+
+    private static final ThreadLocal<Scope> REQUEST = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> READ_ONLY_BEGIN = new ThreadLocal<>();
+    private static final ThreadLocal<Integer> PRIMARY_ONLY = ThreadLocal.withInitial(() -> 0);
+
+    private ReplicaRoutingContext() {
+    }
+
+    public static void begin(boolean primaryRequired) {
+        Scope scope = new Scope();
+        scope.primaryRequired = primaryRequired;
+        REQUEST.set(scope);
+    }
+
+    public static void end() {
+        REQUEST.remove();
+    }
+
+    /**
+     * Runs {@code reader} with every transaction it begins on the primary.
+     */
+    public static <T> T onPrimary(Supplier<T> reader) {
+        PRIMARY_ONLY.set(PRIMARY_ONLY.get() + 1);
+        try {
+            return reader.get();
+        } finally {
+            PRIMARY_ONLY.set(PRIMARY_ONLY.get() - 1);
+        }
+    }
+
+    static void transactionBeginning(boolean readOnly) {
+        READ_ONLY_BEGIN.set(readOnly);
+        Scope scope = REQUEST.get();
+        if (!readOnly && scope != null) {
+            scope.primaryRequired = true;
+        }
+    }
+
+    static void transactionBegun() {
+        READ_ONLY_BEGIN.remove();
+    }
+
+    static boolean replicaAllowed() {
+        if (!Boolean.TRUE.equals(READ_ONLY_BEGIN.get()) || PRIMARY_ONLY.get() > 0) {
+            return false;
+        }
+        Scope scope = REQUEST.get();
+        return scope == null || !scope.primaryRequired;
+    }
+
+    private static final class Scope {
+        private boolean primaryRequired;
+    }
+}
@@ -0,0 +1,54 @@
+package com.fintrackpro.infrastructure.etag;
+
+import com.fintrackpro.application.port.input.CurrentUserProvider;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Conditional GET for read endpoints whose responses depend only on the user's data.
+ *
+ * The ETag combines the user's data version with the request URL, the language and the date
+ * (some analytics are relative to today). A matching {@code If-None-Match} is answered with
+ * 304 before the controller runs, so no use case or query is executed. Writes invalidate the
+ * cached data version through {@link DataVersionInvalidationInterceptor}, on every API path.
+ */
+@Component
+@RequiredArgsConstructor
+public class DataVersionETagInterceptor implements HandlerInterceptor {
+
+    private final UserDataVersionCache dataVersionCache;
+    private final CurrentUserProvider currentUserProvider;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!isRead(request)) {
+            return true;
+        }
+
+        long version = dataVersionCache.currentVersion(currentUserProvider.getCurrentUserId());
+        if (version < 0) {
+            return true;
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        return !new ServletWebRequest(request, response).checkNotModified(eTag(request, version));
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        return HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+    }
+
+    private static String eTag(HttpServletRequest request, long version) {
+        int variant = Objects.hash(request.getRequestURI(), request.getQueryString(),
+                request.getHeader(HttpHeaders.ACCEPT_LANGUAGE), LocalDate.now());
+        return "\"" + version + "-" + Integer.toHexString(variant) + "\"";
+    }
+}
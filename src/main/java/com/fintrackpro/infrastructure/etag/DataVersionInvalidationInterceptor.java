@@ -0,0 +1,47 @@
+package com.fintrackpro.infrastructure.etag;
+
+import com.fintrackpro.application.port.input.CurrentUserProvider;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Invalidates the user's cached data version around every writing API request, whatever it
+ * changes: transactions, recurring rules and attachments move balances and statistics just
+ * like wallet and category writes do.
+ *
+ * The version is dropped before the handler and again once the request completes, after its
+ * transactions committed, so a read in between cannot keep the old version and the user's
+ * next read sees their own write at once.
+ */
+@Component
+@RequiredArgsConstructor
+public class DataVersionInvalidationInterceptor implements HandlerInterceptor {
+
+    private static final String USER_ATTRIBUTE = DataVersionInvalidationInterceptor.class.getName() + ".userId";
+
+    private final UserDataVersionCache dataVersionCache;
+    private final CurrentUserProvider currentUserProvider;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod())) {
+            return true;
+        }
+        Long userId = currentUserProvider.getCurrentUserId();
+        dataVersionCache.invalidate(userId);
+        request.setAttribute(USER_ATTRIBUTE, userId);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(USER_ATTRIBUTE) instanceof Long userId) {
+            dataVersionCache.invalidate(userId);
+        }
+    }
+}
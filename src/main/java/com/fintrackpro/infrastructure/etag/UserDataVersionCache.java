@@ -0,0 +1,89 @@
+package com.fintrackpro.infrastructure.etag;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory copy of {@code users.data_version}, the counter that database triggers increase
+ * on every write to a user's wallets, categories and transactions.
+ *
+ * Entries are trusted for {@code app.etag.version-ttl-ms}. Every writing API request on this
+ * node {@linkplain #invalidate(Long) invalidates} the entry once it completes; writes made
+ * elsewhere (other nodes, schedulers, outbox handlers) are seen once the entry expires. The cache also remembers when it first
+ * saw each version, which tells read routing whether a replica may still lack the change.
+ */
+@Component
+public class UserDataVersionCache {
+
+    private static final String VERSION_SQL = "SELECT data_version FROM users WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final Map<Long, Entry> versions = new ConcurrentHashMap<>();
+
+    public UserDataVersionCache(JdbcTemplate jdbcTemplate,
+                                @Value("${app.etag.version-ttl-ms:1000}") long ttlMillis,
+                                @Value("${app.etag.max-entries:100000}") int maxEntries) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttlNanos = ttlMillis * 1_000_000;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * @return the user's data version, or -1 if the user does not exist
+     */
+    public long currentVersion(Long userId) {
+        return entry(userId).version();
+    }
+
+    /**
+     * Whether the user's data may have changed within the given time. A version this node has
+     * not seen before counts as changed just now, so the answer errs towards true.
+     */
+    public boolean changedWithin(Long userId, long millis) {
+        return System.nanoTime() - entry(userId).changedAt() < millis * 1_000_000;
+    }
+
+    /**
+     * Drops the cached version, keeping nothing of it: the next lookup reloads it and treats
+     * it as a fresh change.
+     */
+    public void invalidate(Long userId) {
+        versions.remove(userId);
+    }
+
+    private Entry entry(Long userId) {
+        long now = System.nanoTime();
+        Entry cached = versions.get(userId);
+        if (cached != null && now - cached.loadedAt() < ttlNanos) {
+            return cached;
+        }
+        long version = load(userId);
+        // Expired entries are kept until pruned, so an unchanged version keeps its change time
+        long changedAt = cached != null && cached.version() == version ? cached.changedAt() : now;
+        if (versions.size() >= maxEntries) {
+            versions.values().removeIf(entry -> now - entry.loadedAt() >= ttlNanos);
+        }
+        Entry loaded = new Entry(version, now, changedAt);
+        versions.put(userId, loaded);
+        return loaded;
+    }
+
+    private long load(Long userId) {
+        try {
+            Long version = jdbcTemplate.queryForObject(VERSION_SQL, Long.class, userId);
+            return version != null ? version : -1;
+        } catch (EmptyResultDataAccessException e) {
+            return -1;
+        }
+    }
+
+    private record Entry(long version, long loadedAt, long changedAt) {
+    }
+}
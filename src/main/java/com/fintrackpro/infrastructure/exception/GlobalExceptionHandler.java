@@ -93,6 +93,40 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.CONFLICT);
     }
 
+    /**
+     * Handle UnprocessableRequestException
+     */
+    @ExceptionHandler(UnprocessableRequestException.class)
+    public ResponseEntity<ApiResponse<Void>> handleUnprocessableRequestException(
+            UnprocessableRequestException ex, WebRequest request) {
+
+        log.warn("Unprocessable request: {}", ex.getMessage());
+
+        ApiResponse<Void> response = ApiResponse.error(
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", "")
+        );
+
+        return new ResponseEntity<>(response, HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    /**
+     * Handle TooManyRequestsException
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiResponse<Void>> handleTooManyRequestsException(
+            TooManyRequestsException ex, WebRequest request) {
+
+        log.warn("Too many requests: {}", ex.getMessage());
+
+        ApiResponse<Void> response = ApiResponse.error(
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", "")
+        );
+
+        return new ResponseEntity<>(response, HttpStatus.TOO_MANY_REQUESTS);
+    }
+
     /**
      * Handle BusinessException
      */
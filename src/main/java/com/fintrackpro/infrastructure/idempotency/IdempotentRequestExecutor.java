@@ -0,0 +1,168 @@
+package com.fintrackpro.infrastructure.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintrackpro.application.port.input.CurrentUserProvider;
+import com.fintrackpro.application.port.output.IdempotencyKeyRepositoryPort;
+import com.fintrackpro.domain.exception.ConflictException;
+import com.fintrackpro.domain.exception.InvalidRequestException;
+import com.fintrackpro.domain.exception.UnprocessableRequestException;
+import com.fintrackpro.domain.model.IdempotencyRecord;
+import com.fintrackpro.infrastructure.adapter.input.dto.response.ApiResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Executes write requests at most once per {@code Idempotency-Key}.
+ *
+ * The claim, the request's own writes and the stored response share one database transaction,
+ * so either all of them commit or none do; a crash cannot leave a key claimed without an outcome.
+ * A fresh key costs an insert and an update in that transaction. A retry of a request this instance
+ * recently completed is replayed from the adapter's in-memory cache without touching the database;
+ * other retries cost one indexed read on the (user_id, idempotency_key) unique index, after waiting
+ * for the original request's transaction if it is still running. Requests without a key run as before.
+ *
+ * A key is bound to the request it was first used with by the SHA-256 of the request as
+ * serialized JSON, so formatting differences in the body do not matter; reusing the key with a
+ * different request is rejected with 422 rather than answered with an unrelated response.
+ */
+@Slf4j
+@Component
+public class IdempotentRequestExecutor {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyKeyRepositoryPort idempotencyKeyRepositoryPort;
+    private final CurrentUserProvider currentUserProvider;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final long ttlHours;
+
+    public IdempotentRequestExecutor(IdempotencyKeyRepositoryPort idempotencyKeyRepositoryPort,
+                                     CurrentUserProvider currentUserProvider,
+                                     ObjectMapper objectMapper,
+                                     TransactionTemplate transactionTemplate,
+                                     @Value("${app.idempotency.ttl-hours:24}") long ttlHours) {
+        this.idempotencyKeyRepositoryPort = idempotencyKeyRepositoryPort;
+        this.currentUserProvider = currentUserProvider;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.ttlHours = ttlHours;
+    }
+
+    /**
+     * Runs {@code action} unless a request with the same key has already completed, in which case
+     * the stored response is replayed.
+     *
+     * @param key         the Idempotency-Key header value, may be null
+     * @param requestPath the path of the request, keys may not be reused across paths
+     * @param request     the deserialized request body, keys may not be reused with a different one
+     * @param dataType    the type of {@link ApiResponse#getData()} used to deserialize replays
+     * @param action      the request handler
+     * @return the original or replayed response
+     */
+    public <T> ResponseEntity<ApiResponse<T>> execute(String key,
+                                                      String requestPath,
+                                                      Object request,
+                                                      Class<T> dataType,
+                                                      Supplier<ResponseEntity<ApiResponse<T>>> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidRequestException("Idempotency key is too long", HEADER,
+                    "must be at most " + MAX_KEY_LENGTH + " characters");
+        }
+
+        Long userId = currentUserProvider.getCurrentUserId();
+        byte[] requestHash = fingerprint(request);
+
+        Optional<IdempotencyRecord> cached = idempotencyKeyRepositoryPort.findCached(userId, key);
+        if (cached.isPresent()) {
+            return replay(cached.get(), key, requestPath, requestHash, dataType);
+        }
+
+        // An exception thrown by the action rolls back its writes and the claim together
+        return transactionTemplate.execute(status -> {
+            if (!idempotencyKeyRepositoryPort.claim(userId, key, requestPath, requestHash,
+                    LocalDateTime.now().plusHours(ttlHours))) {
+                return replay(userId, key, requestPath, requestHash, dataType);
+            }
+
+            ResponseEntity<ApiResponse<T>> response = action.get();
+            if (!response.getStatusCode().is2xxSuccessful()) {
+                idempotencyKeyRepositoryPort.release(userId, key);
+                return response;
+            }
+
+            idempotencyKeyRepositoryPort.complete(userId, key, response.getStatusCode().value(),
+                    serialize(response.getBody()));
+            return response;
+        });
+    }
+
+    private <T> ResponseEntity<ApiResponse<T>> replay(Long userId, String key, String requestPath, byte[] requestHash,
+                                                      Class<T> dataType) {
+        Optional<IdempotencyRecord> existing = idempotencyKeyRepositoryPort.find(userId, key);
+        if (existing.isEmpty()) {
+            // Purged between our claim attempt and the read; ask the client to retry
+            throw new ConflictException("Request with this idempotency key is being processed, retry later");
+        }
+        return replay(existing.get(), key, requestPath, requestHash, dataType);
+    }
+
+    private <T> ResponseEntity<ApiResponse<T>> replay(IdempotencyRecord record, String key, String requestPath,
+                                                      byte[] requestHash, Class<T> dataType) {
+        if (!record.requestPath().equals(requestPath)) {
+            throw new InvalidRequestException("Idempotency key was already used for a different request", HEADER,
+                    "already used for " + record.requestPath());
+        }
+        if (record.requestHash() != null && !MessageDigest.isEqual(record.requestHash(), requestHash)) {
+            throw new UnprocessableRequestException(
+                    "Idempotency key was already used with a different request body");
+        }
+        if (!record.isCompleted() || record.responseBody() == null) {
+            throw new ConflictException("Request with this idempotency key is being processed, retry later");
+        }
+
+        log.info("Replaying stored response for idempotency key {}", key);
+        try {
+            JavaType type = objectMapper.getTypeFactory().constructParametricType(ApiResponse.class, dataType);
+            ApiResponse<T> body = objectMapper.readValue(record.responseBody(), type);
+            return ResponseEntity.status(record.responseStatus()).body(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored idempotent response could not be read", e);
+        }
+    }
+
+    private String serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            // Rolls back the request's writes with the claim, so a retry runs it again
+            throw new IllegalStateException("Response could not be stored for its idempotency key", e);
+        }
+    }
+
+    private byte[] fingerprint(Object request) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Request could not be serialized for its idempotency key", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
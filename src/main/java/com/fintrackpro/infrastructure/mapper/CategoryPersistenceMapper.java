@@ -15,6 +15,7 @@ public interface CategoryPersistenceMapper {
 
     @InheritInverseConfiguration
     @Mapping(target = "user", source = "userId", qualifiedByName = "mapUserId")
+    @Mapping(target = "changeSeq", ignore = true)
     CategoryEntity toEntity(Category domain);
 
     @Named("mapUserId")
@@ -0,0 +1,68 @@
+package com.fintrackpro.infrastructure.mapper;
+
+import com.fintrackpro.domain.model.RecurringRule;
+import com.fintrackpro.domain.valueobject.RecurrencePattern;
+import com.fintrackpro.infrastructure.adapter.output.persistence.entity.RecurringRuleEntity;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RecurringRulePersistenceMapper {
+
+    public RecurringRuleEntity toEntity(RecurringRule domain) {
+        if (domain == null) return null;
+        return RecurringRuleEntity.builder()
+                .id(domain.id())
+                .userId(domain.userId())
+                .walletId(domain.walletId())
+                .categoryId(domain.categoryId())
+                .toWalletId(domain.toWalletId())
+                .type(domain.type())
+                .amount(domain.amount())
+                .currency(domain.currency())
+                .description(domain.description())
+                .notes(domain.notes())
+                .payee(domain.payee())
+                .tags(domain.tags())
+                .pattern(domain.pattern().toRule())
+                .startDate(domain.startDate())
+                .nextRunDate(domain.nextRunDate())
+                .lastRunDate(domain.lastRunDate())
+                .occurrencesGenerated(domain.occurrencesGenerated())
+                .deferredUntil(domain.deferredUntil())
+                .active(domain.active())
+                .seedTransactionId(domain.seedTransactionId())
+                .cancelledAt(domain.cancelledAt())
+                .createdAt(domain.createdAt())
+                .updatedAt(domain.updatedAt())
+                .build();
+    }
+
+    public RecurringRule toDomain(RecurringRuleEntity entity) {
+        if (entity == null) return null;
+        return RecurringRule.builder()
+                .id(entity.getId())
+                .userId(entity.getUserId())
+                .walletId(entity.getWalletId())
+                .categoryId(entity.getCategoryId())
+                .toWalletId(entity.getToWalletId())
+                .type(entity.getType())
+                .amount(entity.getAmount())
+                .currency(entity.getCurrency())
+                .description(entity.getDescription())
+                .notes(entity.getNotes())
+                .payee(entity.getPayee())
+                .tags(entity.getTags())
+                .pattern(RecurrencePattern.parse(entity.getPattern()))
+                .startDate(entity.getStartDate())
+                .nextRunDate(entity.getNextRunDate())
+                .lastRunDate(entity.getLastRunDate())
+                .occurrencesGenerated(entity.getOccurrencesGenerated())
+                .deferredUntil(entity.getDeferredUntil())
+                .active(entity.isActive())
+                .seedTransactionId(entity.getSeedTransactionId())
+                .cancelledAt(entity.getCancelledAt())
+                .createdAt(entity.getCreatedAt())
+                .updatedAt(entity.getUpdatedAt())
+                .build();
+    }
+}
@@ -7,9 +7,10 @@ import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring", uses = {UserPersistenceMapper.class})
 public interface RefreshTokenPersistenceMapper {
-    @Mapping(target = "user", ignore = true)
+    @Mapping(target = "token", ignore = true)
     RefreshToken toDomain(RefreshTokenEntity entity);
 
     @Mapping(target = "user", ignore = true)
+    @Mapping(target = "tokenHash", ignore = true)
     RefreshTokenEntity toEntity(RefreshToken domain);
 }
@@ -0,0 +1,47 @@
+package com.fintrackpro.infrastructure.mapper;
+
+import com.fintrackpro.domain.model.ReportJob;
+import com.fintrackpro.infrastructure.adapter.output.persistence.entity.ReportJobEntity;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ReportJobPersistenceMapper {
+
+    public ReportJobEntity toEntity(ReportJob domain) {
+        if (domain == null) return null;
+        return ReportJobEntity.builder()
+                .id(domain.id())
+                .userId(domain.userId())
+                .type(domain.type())
+                .format(domain.format())
+                .startDate(domain.startDate())
+                .endDate(domain.endDate())
+                .status(domain.status())
+                .fileId(domain.fileId())
+                .fileSize(domain.fileSize())
+                .errorMessage(domain.errorMessage())
+                .createdAt(domain.createdAt())
+                .startedAt(domain.startedAt())
+                .completedAt(domain.completedAt())
+                .build();
+    }
+
+    public ReportJob toDomain(ReportJobEntity entity) {
+        if (entity == null) return null;
+        return ReportJob.builder()
+                .id(entity.getId())
+                .userId(entity.getUserId())
+                .type(entity.getType())
+                .format(entity.getFormat())
+                .startDate(entity.getStartDate())
+                .endDate(entity.getEndDate())
+                .status(entity.getStatus())
+                .fileId(entity.getFileId())
+                .fileSize(entity.getFileSize())
+                .errorMessage(entity.getErrorMessage())
+                .createdAt(entity.getCreatedAt())
+                .startedAt(entity.getStartedAt())
+                .completedAt(entity.getCompletedAt())
+                .build();
+    }
+}
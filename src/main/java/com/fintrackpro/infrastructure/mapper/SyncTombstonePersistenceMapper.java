@@ -0,0 +1,18 @@
+package com.fintrackpro.infrastructure.mapper;
+
+import com.fintrackpro.domain.model.SyncTombstone;
+import com.fintrackpro.infrastructure.adapter.output.persistence.entity.SyncTombstoneEntity;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SyncTombstonePersistenceMapper {
+
+    public SyncTombstone toDomain(SyncTombstoneEntity entity) {
+        if (entity == null) return null;
+        return new SyncTombstone(
+                entity.getChangeSeq(),
+                entity.getEntityType(),
+                entity.getEntityId(),
+                entity.getDeletedAt());
+    }
+}
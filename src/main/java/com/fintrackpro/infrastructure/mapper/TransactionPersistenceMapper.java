@@ -10,6 +10,9 @@ import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
 
+import java.util.Arrays;
+import java.util.List;
+
 @Mapper(componentModel = "spring")
 public interface TransactionPersistenceMapper {
 
@@ -17,6 +20,7 @@ public interface TransactionPersistenceMapper {
     @Mapping(target = "walletId", source = "wallet.id")
     @Mapping(target = "categoryId", source = "category.id")
     @Mapping(target = "toWalletId", source = "toWallet.id")
+    @Mapping(target = "tags", source = "tags", qualifiedByName = "tagsToString")
     Transaction toDomain(TransactionEntity entity);
 
     @InheritInverseConfiguration
@@ -24,6 +28,8 @@ public interface TransactionPersistenceMapper {
     @Mapping(target = "wallet", source = "walletId", qualifiedByName = "mapWallet")
     @Mapping(target = "category", source = "categoryId", qualifiedByName = "mapCategory")
     @Mapping(target = "toWallet", source = "toWalletId", qualifiedByName = "mapWallet")
+    @Mapping(target = "tags", source = "tags", qualifiedByName = "tagsToArray")
+    @Mapping(target = "changeSeq", ignore = true)
     TransactionEntity toEntity(Transaction domain);
 
     @Named("mapUser")
@@ -52,4 +58,15 @@ public interface TransactionPersistenceMapper {
         category.setId(categoryId);
         return category;
     }
+
+    @Named("tagsToArray")
+    default String[] tagsToArray(String tags) {
+        List<String> parsed = Transaction.parseTags(tags);
+        return parsed.isEmpty() ? null : parsed.toArray(String[]::new);
+    }
+
+    @Named("tagsToString")
+    default String tagsToString(String[] tags) {
+        return tags == null ? null : Transaction.joinTags(Arrays.asList(tags));
+    }
 }
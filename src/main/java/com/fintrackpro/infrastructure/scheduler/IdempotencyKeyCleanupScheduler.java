@@ -0,0 +1,30 @@
+package com.fintrackpro.infrastructure.scheduler;
+
+import com.fintrackpro.application.port.output.IdempotencyKeyRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyKeyCleanupScheduler {
+
+    private final IdempotencyKeyRepositoryPort idempotencyKeyRepositoryPort;
+
+    /**
+     * Purge expired idempotency keys every hour
+     */
+    @Scheduled(cron = "0 15 * * * *")
+    public void cleanupExpiredKeys() {
+        try {
+            int deleted = idempotencyKeyRepositoryPort.deleteExpired(LocalDateTime.now());
+            log.info("Purged {} expired idempotency keys", deleted);
+        } catch (Exception e) {
+            log.error("Error cleaning up expired idempotency keys", e);
+        }
+    }
+}
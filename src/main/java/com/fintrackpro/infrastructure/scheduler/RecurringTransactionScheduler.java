@@ -0,0 +1,51 @@
+package com.fintrackpro.infrastructure.scheduler;
+
+import com.fintrackpro.application.port.input.RecurringTransactionUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Materializes due recurring transactions. Every batch claims its rules with
+ * FOR UPDATE SKIP LOCKED, so all application nodes can run this job at the same time.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RecurringTransactionScheduler {
+
+    private final RecurringTransactionUseCase recurringTransactionUseCase;
+
+    @Value("${app.recurring.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.recurring.max-batches-per-run:100}")
+    private int maxBatchesPerRun;
+
+    /**
+     * Materialize recurring transactions every 15 minutes
+     */
+    @Scheduled(cron = "${app.recurring.cron:0 */15 * * * *}")
+    public void materializeRecurringTransactions() {
+        LocalDate today = LocalDate.now();
+        int rules = 0;
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                int claimed = recurringTransactionUseCase.materializeDueOccurrences(today, batchSize);
+                rules += claimed;
+                if (claimed < batchSize) {
+                    break;
+                }
+            }
+            if (rules > 0) {
+                log.info("Processed {} recurring rules", rules);
+            }
+        } catch (Exception e) {
+            log.error("Error materializing recurring transactions", e);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.fintrackpro.infrastructure.scheduler;
+
+import com.fintrackpro.application.port.input.ReportUseCase;
+import com.fintrackpro.domain.model.ReportJob;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands queued report jobs to the report workers. Jobs are claimed with FOR UPDATE SKIP LOCKED
+ * and only as many as this node has idle workers, so several nodes share the queue and a
+ * busy node leaves the rest for the others.
+ */
+@Slf4j
+@Component
+public class ReportJobScheduler {
+
+    private final ReportUseCase reportUseCase;
+    private final TaskExecutor reportExecutor;
+    private final int workers;
+    private final int timeoutMinutes;
+    private final AtomicInteger running = new AtomicInteger();
+
+    public ReportJobScheduler(ReportUseCase reportUseCase,
+                              @Qualifier("reportExecutor") TaskExecutor reportExecutor,
+                              @Value("${app.report.workers:2}") int workers,
+                              @Value("${app.report.timeout-minutes:30}") int timeoutMinutes) {
+        this.reportUseCase = reportUseCase;
+        this.reportExecutor = reportExecutor;
+        this.workers = workers;
+        this.timeoutMinutes = timeoutMinutes;
+    }
+
+    @Scheduled(fixedDelayString = "${app.report.poll-interval-ms:2000}")
+    public void dispatchQueuedReports() {
+        int idle = workers - running.get();
+        if (idle <= 0) {
+            return;
+        }
+        try {
+            for (ReportJob job : reportUseCase.claimQueuedReports(idle)) {
+                dispatch(job);
+            }
+        } catch (Exception e) {
+            log.error("Error dispatching report jobs", e);
+        }
+    }
+
+    /**
+     * Fails jobs left running by a node that stopped, every five minutes
+     */
+    @Scheduled(cron = "${app.report.stale-cron:0 */5 * * * *}")
+    public void failStaleReports() {
+        try {
+            int failed = reportUseCase.failStaleReports(LocalDateTime.now().minusMinutes(timeoutMinutes));
+            if (failed > 0) {
+                log.warn("Failed {} report jobs that did not finish within {} minutes", failed, timeoutMinutes);
+            }
+        } catch (Exception e) {
+            log.error("Error failing stale report jobs", e);
+        }
+    }
+
+    /**
+     * Purges finished jobs past the retention period and their files, nightly at 04:30
+     */
+    @Scheduled(cron = "${app.report.retention-cron:0 30 4 * * *}")
+    public void purgeExpiredReports() {
+        try {
+            int purged = reportUseCase.purgeExpiredReports();
+            if (purged > 0) {
+                log.info("Purged {} expired report jobs", purged);
+            }
+        } catch (Exception e) {
+            log.error("Error purging expired report jobs", e);
+        }
+    }
+
+    private void dispatch(ReportJob job) {
+        running.incrementAndGet();
+        try {
+            reportExecutor.execute(() -> {
+                try {
+                    reportUseCase.runReport(job);
+                } finally {
+                    running.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            running.decrementAndGet();
+            reportUseCase.releaseReport(job);
+            log.debug("No report worker free, job {} goes back to the queue", job.id());
+        }
+    }
+}
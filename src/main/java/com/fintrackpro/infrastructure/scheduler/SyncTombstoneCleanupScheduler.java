@@ -0,0 +1,28 @@
+package com.fintrackpro.infrastructure.scheduler;
+
+import com.fintrackpro.application.port.input.SyncUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SyncTombstoneCleanupScheduler {
+
+    private final SyncUseCase syncUseCase;
+
+    /**
+     * Purge sync tombstones past their retention daily at 3:45 AM
+     */
+    @Scheduled(cron = "0 45 3 * * *")
+    public void purgeTombstones() {
+        try {
+            int deleted = syncUseCase.purgeTombstones();
+            log.info("Purged {} sync tombstones", deleted);
+        } catch (Exception e) {
+            log.error("Error purging sync tombstones", e);
+        }
+    }
+}
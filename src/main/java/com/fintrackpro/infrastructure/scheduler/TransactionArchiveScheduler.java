@@ -0,0 +1,68 @@
+package com.fintrackpro.infrastructure.scheduler;
+
+import com.fintrackpro.infrastructure.adapter.output.persistence.repository.JpaTransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.function.IntSupplier;
+
+/**
+ * Moves soft-deleted transactions, and optionally transactions older than the retention
+ * horizon, from the transactions table into transactions_archive.
+ * Each batch runs in its own short transaction so locks are held briefly and
+ * several instances can archive concurrently without blocking each other.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionArchiveScheduler {
+
+    private final JpaTransactionRepository transactionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.archive.max-batches-per-run:200}")
+    private int maxBatchesPerRun;
+
+    // 0 disables archiving by age; only soft-deleted rows are moved
+    @Value("${app.archive.retention-days:0}")
+    private int retentionDays;
+
+    /**
+     * Archive transactions every night at 3 AM
+     */
+    @Scheduled(cron = "${app.archive.cron:0 0 3 * * *}")
+    public void archiveTransactions() {
+        try {
+            int deleted = drain(() -> transactionRepository.archiveDeletedBatch(batchSize));
+            log.info("Archived {} soft-deleted transactions", deleted);
+
+            if (retentionDays > 0) {
+                LocalDate horizon = LocalDate.now().minusDays(retentionDays);
+                int aged = drain(() -> transactionRepository.archiveOlderThanBatch(horizon, batchSize));
+                log.info("Archived {} transactions dated before {}", aged, horizon);
+            }
+        } catch (Exception e) {
+            log.error("Error archiving transactions", e);
+        }
+    }
+
+    private int drain(IntSupplier batch) {
+        int total = 0;
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            Integer moved = transactionTemplate.execute(status -> batch.getAsInt());
+            if (moved == null || moved == 0) {
+                break;
+            }
+            total += moved;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,67 @@
+package com.fintrackpro.infrastructure.scheduler;
+
+import com.fintrackpro.infrastructure.adapter.output.persistence.repository.JpaTransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Maintains the monthly partitions of the transactions table (see V9 migration).
+ * Partitions are created ahead of time so inserts never land in the default partition,
+ * and months past the optional retention horizon are detached for cheap archival.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionPartitionScheduler {
+
+    private final JpaTransactionRepository transactionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.partition.months-ahead:3}")
+    private int monthsAhead;
+
+    // 0 keeps every partition attached
+    @Value("${app.partition.detach-after-months:0}")
+    private int detachAfterMonths;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintainPartitions();
+    }
+
+    /**
+     * Check partitions every day at 1 AM
+     */
+    @Scheduled(cron = "${app.partition.cron:0 0 1 * * *}")
+    public void maintainPartitions() {
+        try {
+            LocalDate firstOfMonth = LocalDate.now().withDayOfMonth(1);
+            for (int i = 0; i <= monthsAhead; i++) {
+                LocalDate month = firstOfMonth.plusMonths(i);
+                String created = transactionTemplate.execute(status -> transactionRepository.createMonthlyPartition(month));
+                if (created != null) {
+                    log.info("Created transactions partition {}", created);
+                }
+            }
+
+            if (detachAfterMonths > 0) {
+                LocalDate horizon = firstOfMonth.minusMonths(detachAfterMonths);
+                List<String> detached = transactionTemplate.execute(status -> transactionRepository.detachPartitionsBefore(horizon));
+                if (detached != null && !detached.isEmpty()) {
+                    log.info("Detached transactions partitions before {}: {}", horizon, detached);
+                }
+            }
+        } catch (Exception e) {
+            log.error("Error maintaining transactions partitions", e);
+        }
+    }
+}
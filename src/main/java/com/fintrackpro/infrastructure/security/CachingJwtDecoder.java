@@ -0,0 +1,99 @@
+package com.fintrackpro.infrastructure.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers tokens that the wrapped decoder has already verified.
+ *
+ * A client sends the same access token with every request for as long as it is valid, and
+ * each of those would otherwise be parsed and RSA-verified again. Verified tokens are kept
+ * under the SHA-256 of the token, so the cache holds no usable credentials, until their
+ * {@code exp}; after that the wrapped decoder decides again, with its clock skew. Tokens that
+ * fail verification are never cached. Once {@code app.jwt.decoder-cache.max-entries} is
+ * reached, expired entries are pruned and, if that does not free any room, newly verified
+ * tokens are not cached.
+ *
+ * Lookups are published as {@code jwt.decoder.cache.requests}, tagged hit or miss, and the
+ * number of cached tokens as {@code jwt.decoder.cache.size}.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final int maxEntries;
+    private final Map<ByteBuffer, Jwt> verified = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public CachingJwtDecoder(JwtDecoder delegate, int maxEntries, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.maxEntries = maxEntries;
+
+        this.hits = requestCounter(meterRegistry, "hit");
+        this.misses = requestCounter(meterRegistry, "miss");
+        Gauge.builder("jwt.decoder.cache.size", verified, Map::size)
+                .description("Verified tokens in the decoder cache")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        ByteBuffer key = digest(token);
+        Instant now = Instant.now();
+        Jwt cached = verified.get(key);
+        if (cached != null) {
+            if (isLive(cached, now)) {
+                hits.increment();
+                return cached;
+            }
+            verified.remove(key, cached);
+        }
+
+        misses.increment();
+        Jwt jwt = delegate.decode(token);
+        if (jwt.getExpiresAt() != null && isLive(jwt, now) && hasRoom(now)) {
+            verified.put(key, jwt);
+        }
+        return jwt;
+    }
+
+    private boolean hasRoom(Instant now) {
+        if (verified.size() < maxEntries) {
+            return true;
+        }
+        verified.values().removeIf(jwt -> !isLive(jwt, now));
+        return verified.size() < maxEntries;
+    }
+
+    private static boolean isLive(Jwt jwt, Instant now) {
+        return now.isBefore(jwt.getExpiresAt());
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("jwt.decoder.cache.requests")
+                .description("Token verifications, by whether the verified token was cached")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,154 @@
+package com.fintrackpro.infrastructure.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.util.Base64URL;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.EdECPrivateKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The keys that verify tokens and the one among them that signs new tokens.
+ *
+ * Every key carries its ID and algorithm, so a token's {@code kid} header selects the key that
+ * verifies it. Tokens signed before key IDs were introduced have no {@code kid} and are
+ * verified by any key of their algorithm.
+ */
+public final class JwtKeyRing {
+
+    // X.509 SubjectPublicKeyInfo of an Ed25519 key: 12 bytes of fixed header, then the raw key
+    private static final int ED25519_KEY_LENGTH = 32;
+
+    private final JWKSet keys;
+    private final JWK signingKey;
+    private final JwtSigningAlgorithm signingAlgorithm;
+
+    public JwtKeyRing(List<JWK> keys, String signingKeyId) {
+        this.keys = new JWKSet(keys);
+        this.signingKey = this.keys.getKeyByKeyId(signingKeyId);
+        if (signingKey == null || !signingKey.isPrivate()) {
+            throw new IllegalStateException("No private key configured for signing key ID " + signingKeyId);
+        }
+        this.signingAlgorithm = JwtSigningAlgorithm.valueOf(signingKey.getAlgorithm().getName());
+    }
+
+    /**
+     * Reads a key pair from PEM resources.
+     *
+     * @param id         the key ID, or null to use the key's RFC 7638 thumbprint
+     * @param privateKey the private key, or null for a key that only verifies
+     */
+    public static JWK readKey(String id, JwtSigningAlgorithm algorithm, Resource publicKey, Resource privateKey) {
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance(algorithm.keyAlgorithm());
+            PublicKey pub = keyFactory.generatePublic(new X509EncodedKeySpec(readPem(publicKey)));
+            PrivateKey priv = privateKey != null
+                    ? keyFactory.generatePrivate(new PKCS8EncodedKeySpec(readPem(privateKey)))
+                    : null;
+            return toJwk(id, algorithm, pub, priv);
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to load " + algorithm + " key " + id, e);
+        }
+    }
+
+    /**
+     * @param id         the key ID, or null to use the key's RFC 7638 thumbprint
+     * @param privateKey the private key, or null for a key that only verifies
+     */
+    public static JWK toJwk(String id, JwtSigningAlgorithm algorithm, PublicKey publicKey, PrivateKey privateKey) {
+        if (id == null) {
+            return toJwk(thumbprint(toJwk("", algorithm, publicKey, null)), algorithm, publicKey, privateKey);
+        }
+        return switch (algorithm) {
+            case RS256 -> {
+                RSAKey.Builder builder = new RSAKey.Builder((RSAPublicKey) publicKey);
+                if (privateKey != null) {
+                    builder.privateKey((RSAPrivateKey) privateKey);
+                }
+                yield builder.keyID(id).algorithm(algorithm.jwsAlgorithm()).keyUse(KeyUse.SIGNATURE).build();
+            }
+            case ES256 -> {
+                ECPublicKey ecPublicKey = (ECPublicKey) publicKey;
+                if (!Curve.P_256.equals(Curve.forECParameterSpec(ecPublicKey.getParams()))) {
+                    throw new IllegalStateException("ES256 key " + id + " is not on the P-256 curve");
+                }
+                ECKey.Builder builder = new ECKey.Builder(Curve.P_256, ecPublicKey);
+                if (privateKey != null) {
+                    builder.privateKey((ECPrivateKey) privateKey);
+                }
+                yield builder.keyID(id).algorithm(algorithm.jwsAlgorithm()).keyUse(KeyUse.SIGNATURE).build();
+            }
+            case EdDSA -> {
+                byte[] encoded = publicKey.getEncoded();
+                byte[] x = Arrays.copyOfRange(encoded, encoded.length - ED25519_KEY_LENGTH, encoded.length);
+                OctetKeyPair.Builder builder = new OctetKeyPair.Builder(Curve.Ed25519, Base64URL.encode(x));
+                if (privateKey != null) {
+                    byte[] d = ((EdECPrivateKey) privateKey).getBytes()
+                            .orElseThrow(() -> new IllegalStateException("Ed25519 key " + id + " is not extractable"));
+                    builder.d(Base64URL.encode(d));
+                }
+                yield builder.keyID(id).algorithm(algorithm.jwsAlgorithm()).keyUse(KeyUse.SIGNATURE).build();
+            }
+        };
+    }
+
+    private static String thumbprint(JWK key) {
+        try {
+            return key.computeThumbprint().toString();
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Failed to compute key thumbprint", e);
+        }
+    }
+
+    public JWK signingKey() {
+        return signingKey;
+    }
+
+    public JwtSigningAlgorithm signingAlgorithm() {
+        return signingAlgorithm;
+    }
+
+    /**
+     * @return the public halves of all keys, as published at the JWKS endpoint
+     */
+    public JWKSet publicKeys() {
+        return keys.toPublicJWKSet();
+    }
+
+    public Set<JWSAlgorithm> algorithms() {
+        return keys.getKeys().stream()
+                .map(key -> JWSAlgorithm.parse(key.getAlgorithm().getName()))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private static byte[] readPem(Resource resource) throws IOException {
+        String pem = new String(resource.getInputStream().readAllBytes(), StandardCharsets.US_ASCII)
+                .replaceAll("-----(BEGIN|END) [A-Z ]+-----", "")
+                .replaceAll("\\s", "");
+        return Base64.getDecoder().decode(pem);
+    }
+}
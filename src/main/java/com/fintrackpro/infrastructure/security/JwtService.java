@@ -10,8 +10,10 @@ import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
 import org.springframework.stereotype.Service;
 
+import java.security.SecureRandom;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Base64;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,6 +21,9 @@ import java.util.stream.Collectors;
 @Slf4j
 public class JwtService {
 
+    private static final int REFRESH_TOKEN_BYTES = 32;
+
+    private final SecureRandom secureRandom = new SecureRandom();
     private final JwtEncoder jwtEncoder;
     private final JwtDecoder jwtDecoder;
 
@@ -49,23 +54,13 @@ public class JwtService {
     }
 
     /**
-     * Generate refresh token
+     * Generate refresh token: 256 random bits, URL-safe. It is only ever looked up in the
+     * database, so it carries no claims and needs no signature.
      */
-    public String generateRefreshToken(String username, String email, Long userId) {
-        Instant now = Instant.now();
-        Instant expiry = now.plus(refreshExpiration, ChronoUnit.MILLIS);
-
-        JwtClaimsSet claims = JwtClaimsSet.builder()
-                .issuer("fintrack-pro")
-                .issuedAt(now)
-                .expiresAt(expiry)
-                .subject(username)
-                .claim("email", email)
-                .claim("userId", userId)
-                .claim("type", "refresh")
-                .build();
-
-        return jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+    public String generateRefreshToken() {
+        byte[] token = new byte[REFRESH_TOKEN_BYTES];
+        secureRandom.nextBytes(token);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token);
     }
 
     /**
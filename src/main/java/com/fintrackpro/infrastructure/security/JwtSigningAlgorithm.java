@@ -0,0 +1,37 @@
+package com.fintrackpro.infrastructure.security;
+
+import com.nimbusds.jose.JWSAlgorithm;
+
+/**
+ * Signature algorithms supported for access and refresh tokens, with the key type each needs.
+ */
+public enum JwtSigningAlgorithm {
+
+    /** RSASSA-PKCS1-v1_5 with SHA-256; an RSA key of at least 2048 bits */
+    RS256(JWSAlgorithm.RS256, "RSA"),
+
+    /** ECDSA with SHA-256; an EC key on the P-256 curve */
+    ES256(JWSAlgorithm.ES256, "EC"),
+
+    /** Ed25519 signatures; an Ed25519 key */
+    EdDSA(JWSAlgorithm.EdDSA, "Ed25519");
+
+    private final JWSAlgorithm jwsAlgorithm;
+    private final String keyAlgorithm;
+
+    JwtSigningAlgorithm(JWSAlgorithm jwsAlgorithm, String keyAlgorithm) {
+        this.jwsAlgorithm = jwsAlgorithm;
+        this.keyAlgorithm = keyAlgorithm;
+    }
+
+    public JWSAlgorithm jwsAlgorithm() {
+        return jwsAlgorithm;
+    }
+
+    /**
+     * @return the JCA {@code KeyFactory} algorithm of the keys
+     */
+    public String keyAlgorithm() {
+        return keyAlgorithm;
+    }
+}
@@ -0,0 +1,77 @@
+package com.fintrackpro.infrastructure.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.crypto.factories.DefaultJWSSignerFactory;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtEncodingException;
+
+import java.net.URL;
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * Signs tokens with the signing key of a {@link JwtKeyRing}, naming it in the {@code kid} header.
+ *
+ * Used instead of {@code NimbusJwtEncoder}, which cannot select Ed25519 keys. The signer is
+ * created once; the Nimbus signers are thread-safe.
+ */
+public class KeyRingJwtEncoder implements JwtEncoder {
+
+    private final JwtKeyRing keyRing;
+    private final JWSSigner signer;
+
+    public KeyRingJwtEncoder(JwtKeyRing keyRing) {
+        this.keyRing = keyRing;
+        try {
+            this.signer = new DefaultJWSSignerFactory()
+                    .createJWSSigner(keyRing.signingKey(), keyRing.signingAlgorithm().jwsAlgorithm());
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Failed to create signer for key " + keyRing.signingKey().getKeyID(), e);
+        }
+    }
+
+    @Override
+    public Jwt encode(JwtEncoderParameters parameters) throws JwtEncodingException {
+        if (parameters.getJwsHeader() != null
+                && !keyRing.signingAlgorithm().name().equals(parameters.getJwsHeader().getAlgorithm().getName())) {
+            throw new JwtEncodingException("Tokens are signed with " + keyRing.signingAlgorithm()
+                    + ", not " + parameters.getJwsHeader().getAlgorithm().getName());
+        }
+
+        JWSHeader header = new JWSHeader.Builder(keyRing.signingAlgorithm().jwsAlgorithm())
+                .keyID(keyRing.signingKey().getKeyID())
+                .build();
+        JwtClaimsSet claims = parameters.getClaims();
+        JWTClaimsSet.Builder jwtClaims = new JWTClaimsSet.Builder();
+        claims.getClaims().forEach((name, value) -> jwtClaims.claim(name, toJson(value)));
+
+        SignedJWT jwt = new SignedJWT(header, jwtClaims.build());
+        try {
+            jwt.sign(signer);
+        } catch (JOSEException e) {
+            throw new JwtEncodingException("Failed to sign the token: " + e.getMessage(), e);
+        }
+        return Jwt.withTokenValue(jwt.serialize())
+                .headers(headers -> headers.putAll(header.toJSONObject()))
+                .claims(claimValues -> claimValues.putAll(claims.getClaims()))
+                .build();
+    }
+
+    // Dates are serialized as seconds since the epoch, as registered claims require
+    private static Object toJson(Object value) {
+        if (value instanceof Instant instant) {
+            return Date.from(instant);
+        }
+        if (value instanceof URL url) {
+            return url.toExternalForm();
+        }
+        return value;
+    }
+}
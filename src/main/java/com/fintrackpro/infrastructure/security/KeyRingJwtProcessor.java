@@ -0,0 +1,97 @@
+package com.fintrackpro.infrastructure.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.Ed25519Verifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.proc.BadJOSEException;
+import com.nimbusds.jose.proc.BadJWSException;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.nimbusds.jwt.proc.BadJWTException;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Verifies signed tokens against the keys of a {@link JwtKeyRing}.
+ *
+ * The key is picked by the token's {@code kid}; tokens without one are tried against every key
+ * of their algorithm. Verifiers are created once per key, working from the keys directly rather
+ * than through Java key objects, which Ed25519 keys do not convert to. Only the signature is
+ * checked here: expiry and the other claims are left to the decoder's validators. Unsigned and
+ * encrypted tokens are rejected, as {@link DefaultJWTProcessor} does without key selectors.
+ */
+public class KeyRingJwtProcessor extends DefaultJWTProcessor<SecurityContext> {
+
+    private final Map<String, KeyVerifier> byKeyId = new HashMap<>();
+    private final Map<JWSAlgorithm, List<JWSVerifier>> byAlgorithm = new HashMap<>();
+
+    public KeyRingJwtProcessor(JwtKeyRing keyRing) {
+        for (JWK key : keyRing.publicKeys().getKeys()) {
+            JWSAlgorithm algorithm = JWSAlgorithm.parse(key.getAlgorithm().getName());
+            JWSVerifier verifier = verifier(key);
+            byKeyId.put(key.getKeyID(), new KeyVerifier(algorithm, verifier));
+            byAlgorithm.computeIfAbsent(algorithm, a -> new ArrayList<>()).add(verifier);
+        }
+    }
+
+    @Override
+    public JWTClaimsSet process(SignedJWT signedJWT, SecurityContext context) throws BadJOSEException, JOSEException {
+        JWSHeader header = signedJWT.getHeader();
+        List<JWSVerifier> candidates;
+        if (header.getKeyID() != null) {
+            KeyVerifier keyVerifier = byKeyId.get(header.getKeyID());
+            candidates = keyVerifier != null && keyVerifier.algorithm().equals(header.getAlgorithm())
+                    ? List.of(keyVerifier.verifier())
+                    : List.of();
+        } else {
+            candidates = byAlgorithm.getOrDefault(header.getAlgorithm(), List.of());
+        }
+        if (candidates.isEmpty()) {
+            throw new BadJOSEException("Signed JWT rejected: Another algorithm expected, or no matching key(s) found");
+        }
+        for (JWSVerifier verifier : candidates) {
+            if (signedJWT.verify(verifier)) {
+                try {
+                    return signedJWT.getJWTClaimsSet();
+                } catch (ParseException e) {
+                    throw new BadJWTException("Payload of JWS object is not a valid JSON object", e);
+                }
+            }
+        }
+        throw new BadJWSException("Signed JWT rejected: Invalid signature");
+    }
+
+    private static JWSVerifier verifier(JWK key) {
+        try {
+            if (key instanceof RSAKey rsaKey) {
+                return new RSASSAVerifier(rsaKey);
+            }
+            if (key instanceof ECKey ecKey) {
+                return new ECDSAVerifier(ecKey);
+            }
+            if (key instanceof OctetKeyPair octetKeyPair) {
+                return new Ed25519Verifier(octetKeyPair);
+            }
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Failed to create verifier for key " + key.getKeyID(), e);
+        }
+        throw new IllegalStateException("Unsupported key type " + key.getKeyType() + " for key " + key.getKeyID());
+    }
+
+    private record KeyVerifier(JWSAlgorithm algorithm, JWSVerifier verifier) {
+    }
+}
@@ -1,8 +1,8 @@
 package com.fintrackpro.infrastructure.security;
 
-import com.fintrackpro.infrastructure.adapter.output.persistence.entity.RefreshTokenEntity;
+import com.fintrackpro.application.port.output.RefreshTokenRepositoryPort;
+import com.fintrackpro.domain.model.RefreshToken;
 import com.fintrackpro.infrastructure.adapter.output.persistence.entity.UserEntity;
-import com.fintrackpro.infrastructure.adapter.output.persistence.repository.JpaRefreshTokenRepository;
 import com.fintrackpro.infrastructure.adapter.output.persistence.repository.JpaUserRepository;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -29,7 +29,7 @@ public class OAuth2LoginSuccessHandler extends SavedRequestAwareAuthenticationSu
 
     private final JwtService jwtService;
     private final JpaUserRepository userRepository;
-    private final JpaRefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenRepositoryPort refreshTokenRepositoryPort;
 
     @Value("${app.frontend.url:http://192.168.100.152:8080}")
     private String frontendUrl;
@@ -78,7 +78,7 @@ public class OAuth2LoginSuccessHandler extends SavedRequestAwareAuthenticationSu
 
         // Generate Tokens
         String accessToken = jwtService.generateToken(user.getUsername(), user.getEmail(), user.getId());
-        String refreshToken = jwtService.generateRefreshToken(user.getUsername(), user.getEmail(), user.getId());
+        String refreshToken = jwtService.generateRefreshToken();
 
         // Save Refresh Token
         saveRefreshToken(user, refreshToken, request);
@@ -91,14 +91,13 @@ public class OAuth2LoginSuccessHandler extends SavedRequestAwareAuthenticationSu
     }
 
     private void saveRefreshToken(UserEntity user, String token, HttpServletRequest request) {
-        RefreshTokenEntity refreshTokenEntity = RefreshTokenEntity.builder()
+        RefreshToken refreshToken = RefreshToken.builder()
                 .token(token)
-                .user(user)
                 .expiresAt(LocalDateTime.now().plusSeconds(jwtService.getRefreshExpiration() / 1000))
                 .ipAddress(request.getRemoteAddr())
                 .userAgent(request.getHeader("User-Agent"))
                 .build();
 
-        refreshTokenRepository.save(refreshTokenEntity);
+        refreshTokenRepositoryPort.save(refreshToken, user.getId());
     }
 }
@@ -0,0 +1,44 @@
+-- Migration: Create recurring rules table
+-- Description: Templates for recurring transactions, materialized into transactions by the recurring scheduler
+-- Author: FinTrackPro
+-- Date: 2026-01-19
+
+CREATE TABLE IF NOT EXISTS recurring_rules (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    wallet_id BIGINT NOT NULL,
+    category_id BIGINT,
+    to_wallet_id BIGINT,
+    type VARCHAR(20) NOT NULL,
+    amount NUMERIC(19, 2) NOT NULL,
+    currency VARCHAR(3) NOT NULL DEFAULT 'USD',
+    description VARCHAR(255),
+    notes TEXT,
+    payee VARCHAR(255),
+    tags VARCHAR(500),
+    pattern VARCHAR(100) NOT NULL,
+    start_date DATE NOT NULL,
+    next_run_date DATE,
+    last_run_date DATE,
+    occurrences_generated INTEGER NOT NULL DEFAULT 0,
+    deferred_until TIMESTAMP,
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_recurring_rule_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT fk_recurring_rule_wallet FOREIGN KEY (wallet_id) REFERENCES wallets(id) ON DELETE CASCADE,
+    CONSTRAINT fk_recurring_rule_category FOREIGN KEY (category_id) REFERENCES category(id) ON DELETE SET NULL,
+    CONSTRAINT fk_recurring_rule_to_wallet FOREIGN KEY (to_wallet_id) REFERENCES wallets(id) ON DELETE CASCADE,
+    CONSTRAINT chk_recurring_rule_amount_positive CHECK (amount > 0)
+);
+
+-- The scheduler only ever looks at active rules that are due
+CREATE INDEX idx_recurring_rules_due ON recurring_rules(next_run_date, id) WHERE active = TRUE;
+CREATE INDEX idx_recurring_rules_user_id ON recurring_rules(user_id);
+
+COMMENT ON TABLE recurring_rules IS 'Recurring transaction templates; transactions.recurring_group_id points at the rule';
+COMMENT ON COLUMN recurring_rules.pattern IS 'RRULE-like pattern, e.g. FREQ=MONTHLY;INTERVAL=1;BYMONTHDAY=15;COUNT=12';
+COMMENT ON COLUMN recurring_rules.next_run_date IS 'Date of the next occurrence to materialize, NULL once the rule is exhausted';
+COMMENT ON COLUMN recurring_rules.occurrences_generated IS 'Number of occurrences materialized so far, including the first transaction';
+COMMENT ON COLUMN recurring_rules.deferred_until IS 'Set when an occurrence could not be applied (e.g. insufficient funds); retried after this time';
@@ -0,0 +1,31 @@
+-- Migration: Create outbox events table
+-- Description: Transactional outbox for domain events, written in the same transaction as the change
+--              and dispatched asynchronously to in-process handlers
+-- Author: FinTrackPro
+-- Date: 2026-01-21
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id BIGINT,
+    event_type VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    locked_until TIMESTAMP,
+    last_error TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    dispatched_at TIMESTAMP
+);
+
+-- Dispatcher polling and per-user ordering checks only ever look at unfinished events
+CREATE INDEX idx_outbox_events_pending ON outbox_events(next_attempt_at, id) WHERE status IN ('PENDING', 'PROCESSING');
+CREATE INDEX idx_outbox_events_user_pending ON outbox_events(user_id, id) WHERE status IN ('PENDING', 'PROCESSING');
+CREATE INDEX idx_outbox_events_dispatched_at ON outbox_events(dispatched_at) WHERE status = 'DISPATCHED';
+
+COMMENT ON TABLE outbox_events IS 'Transactional outbox of domain events, delivered at least once and in order per user';
+COMMENT ON COLUMN outbox_events.status IS 'PENDING, PROCESSING (claimed until locked_until), DISPATCHED or FAILED';
+COMMENT ON COLUMN outbox_events.payload IS 'JSON serialized event';
+COMMENT ON COLUMN outbox_events.locked_until IS 'Lease of the dispatcher instance processing the event';
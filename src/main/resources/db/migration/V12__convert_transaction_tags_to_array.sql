@@ -0,0 +1,25 @@
+-- Migration: Convert transaction tags to a text array
+-- Description: Replaces the comma-separated tags column with a normalized TEXT[] and a GIN index,
+--              so tag filters and tag aggregates no longer need LIKE scans
+-- Author: FinTrackPro
+-- Date: 2026-01-24
+
+-- Same rules as Transaction.parseTags: split on commas, trim, lowercase, drop blanks and duplicates
+CREATE FUNCTION pg_temp.normalize_tags(raw TEXT) RETURNS TEXT[]
+LANGUAGE sql IMMUTABLE AS $$
+    SELECT NULLIF(ARRAY(
+        SELECT DISTINCT lower(btrim(tag))
+        FROM unnest(string_to_array(raw, ',')) AS tag
+        WHERE btrim(tag) <> ''
+        ORDER BY 1
+    ), '{}')
+$$;
+
+-- Rewrites every partition; new partitions inherit the type through CREATE TABLE ... LIKE
+ALTER TABLE transactions ALTER COLUMN tags TYPE TEXT[] USING pg_temp.normalize_tags(tags);
+ALTER TABLE transactions_archive ALTER COLUMN tags TYPE TEXT[] USING pg_temp.normalize_tags(tags);
+
+-- Serves @> (has all tags) and && (has any tag) filters
+CREATE INDEX idx_transactions_tags ON transactions USING GIN (tags);
+
+COMMENT ON COLUMN transactions.tags IS 'Lowercase, de-duplicated tags of the transaction';
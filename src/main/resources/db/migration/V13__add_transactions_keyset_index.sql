@@ -0,0 +1,8 @@
+-- Migration: Add keyset pagination index for transactions
+-- Description: Matches the (transaction_date DESC, id DESC) order and seek predicate of cursor pagination,
+--              so every page is an index range scan that stops after the page size
+-- Author: FinTrackPro
+-- Date: 2026-01-26
+
+CREATE INDEX idx_transactions_user_date_id ON transactions (user_id, transaction_date DESC, id DESC)
+    WHERE deleted = false;
@@ -0,0 +1,29 @@
+-- Migration: Match transaction indexes to the query shapes
+-- Description: Every list and analytics query filters user_id, deleted = false and usually type or a date
+--              range. Replaces the single-column indexes with composite partial ones and drops the
+--              low-selectivity indexes that the planner never picks for those queries.
+-- Author: FinTrackPro
+-- Date: 2026-01-27
+
+-- Low selectivity (a handful of values each) and never the leading filter of a query
+DROP INDEX IF EXISTS idx_transactions_type;
+DROP INDEX IF EXISTS idx_transactions_status;
+DROP INDEX IF EXISTS idx_transactions_deleted;
+
+-- Superseded by idx_transactions_user_date_id (V13), which covers the same prefix for live rows
+DROP INDEX IF EXISTS idx_transactions_user_date;
+
+-- Totals and breakdowns by type over a date range
+CREATE INDEX idx_transactions_user_type_date ON transactions (user_id, type, transaction_date)
+    WHERE deleted = false;
+
+-- Wallet and category transaction lists, newest first
+CREATE INDEX idx_transactions_user_wallet_date ON transactions (user_id, wallet_id, transaction_date DESC)
+    WHERE deleted = false;
+CREATE INDEX idx_transactions_user_category_date ON transactions (user_id, category_id, transaction_date DESC)
+    WHERE deleted = false;
+
+-- idx_transactions_wallet_id and idx_transactions_category_id stay for the ON DELETE actions of their
+-- foreign keys; to_wallet_id had none, so deleting a wallet scanned every partition
+CREATE INDEX idx_transactions_to_wallet_id ON transactions (to_wallet_id)
+    WHERE to_wallet_id IS NOT NULL;
@@ -0,0 +1,66 @@
+-- Migration: Full-text and trigram search on transactions
+-- Description: Adds a generated tsvector over description, payee, location and notes, and trigram
+--              matching over the same text, both indexed per user, for ranked transaction search
+-- Author: FinTrackPro
+-- Date: 2026-01-31
+
+-- Trusted extensions since PostgreSQL 13, so the application role can create them.
+-- btree_gin lets user_id lead the GIN indexes, so a search only reads the user's entries.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+-- Word matches: description and payee rank above location, location above notes.
+-- 'simple' does no stemming, which suits merchant names and mixed-language descriptions.
+-- Rewrites every partition once.
+ALTER TABLE transactions ADD COLUMN search_vector TSVECTOR GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple'::regconfig, coalesce(description, '')), 'A') ||
+    setweight(to_tsvector('simple'::regconfig, coalesce(payee, '')), 'A') ||
+    setweight(to_tsvector('simple'::regconfig, coalesce(location, '')), 'B') ||
+    setweight(to_tsvector('simple'::regconfig, coalesce(notes, '')), 'C')
+) STORED;
+
+-- Substring and fuzzy matches run against this text. It is only indexed, not stored,
+-- and queries must call the function exactly like the index does.
+CREATE FUNCTION transaction_search_text(description TEXT, payee TEXT, location TEXT, notes TEXT) RETURNS TEXT
+LANGUAGE sql IMMUTABLE PARALLEL SAFE AS $$
+    SELECT lower(coalesce(description, '') || ' ' || coalesce(payee, '') || ' ' ||
+                 coalesce(location, '') || ' ' || coalesce(notes, ''))
+$$;
+
+CREATE INDEX idx_transactions_search_vector ON transactions USING GIN (user_id, search_vector)
+    WHERE deleted = false;
+CREATE INDEX idx_transactions_search_trgm ON transactions
+    USING GIN (user_id, transaction_search_text(description, payee, location, notes) gin_trgm_ops)
+    WHERE deleted = false;
+
+-- New partitions must carry the generation expression to be attached, and a generated column
+-- cannot be written, so the rows moved out of the default partition are copied by column name.
+CREATE OR REPLACE FUNCTION create_transactions_partition(p_month DATE) RETURNS TEXT AS $$
+DECLARE
+    v_start DATE := date_trunc('month', p_month)::DATE;
+    v_end DATE := (date_trunc('month', p_month) + INTERVAL '1 month')::DATE;
+    v_name TEXT := 'transactions_p' || to_char(p_month, 'YYYY_MM');
+    v_columns TEXT;
+BEGIN
+    IF to_regclass(v_name) IS NOT NULL THEN
+        RETURN NULL;
+    END IF;
+
+    SELECT string_agg(quote_ident(attname), ', ' ORDER BY attnum)
+    INTO v_columns
+    FROM pg_attribute
+    WHERE attrelid = 'transactions'::regclass AND attnum > 0 AND NOT attisdropped AND attgenerated = '';
+
+    EXECUTE format('CREATE TABLE %I (LIKE transactions INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING GENERATED)',
+                   v_name);
+    EXECUTE format('INSERT INTO %I (%s) SELECT %s FROM transactions_default WHERE transaction_date >= %L AND transaction_date < %L',
+                   v_name, v_columns, v_columns, v_start, v_end);
+    EXECUTE format('DELETE FROM transactions_default WHERE transaction_date >= %L AND transaction_date < %L',
+                   v_start, v_end);
+    EXECUTE format('ALTER TABLE transactions ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   v_name, v_start, v_end);
+    RETURN v_name;
+END;
+$$ LANGUAGE plpgsql;
+
+COMMENT ON COLUMN transactions.search_vector IS 'Weighted words of description, payee, location and notes for full-text search';
@@ -0,0 +1,31 @@
+-- Migration: Create report jobs table
+-- Description: Queue and results of asynchronous PDF and Excel report generation
+-- Author: FinTrackPro
+-- Date: 2026-02-02
+
+CREATE TABLE IF NOT EXISTS report_jobs (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    type VARCHAR(30) NOT NULL,
+    format VARCHAR(10) NOT NULL,
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'QUEUED',
+    file_id VARCHAR(64),
+    file_size BIGINT,
+    error_message VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    started_at TIMESTAMP,
+    completed_at TIMESTAMP,
+
+    CONSTRAINT fk_report_job_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT chk_report_job_period CHECK (end_date >= start_date)
+);
+
+CREATE INDEX idx_report_jobs_user_created ON report_jobs(user_id, created_at DESC, id DESC);
+-- Workers only look at jobs that are waiting or running
+CREATE INDEX idx_report_jobs_pending ON report_jobs(status, created_at, id) WHERE status IN ('QUEUED', 'RUNNING');
+
+COMMENT ON TABLE report_jobs IS 'Report generation requests; finished reports are files in the blob store';
+COMMENT ON COLUMN report_jobs.status IS 'QUEUED, RUNNING, COMPLETED or FAILED';
+COMMENT ON COLUMN report_jobs.file_id IS 'Blob store ID (SHA-256) of the generated file once COMPLETED';
@@ -0,0 +1,51 @@
+-- Migration: Per-user data version
+-- Description: Counter on users that every write to the user's wallets, categories and transactions
+--              increases in the same database transaction; read endpoints derive their ETags from it
+-- Author: FinTrackPro
+-- Date: 2026-02-04
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS data_version BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN users.data_version IS 'Increased by triggers on every change to the user''s wallets, categories or transactions';
+
+-- Statement-level, so a batch insert or a bulk update bumps each affected user once.
+-- The users rows are locked in id order, so statements touching several users cannot deadlock
+-- each other on them. NO KEY UPDATE is the lock the UPDATE below takes anyway: it serializes
+-- writers of one user, but does not conflict with the KEY SHARE lock that the foreign key check
+-- of the triggering insert already holds on the same row. FOR UPDATE would, and two concurrent
+-- inserts for one user would deadlock.
+CREATE OR REPLACE FUNCTION bump_user_data_version() RETURNS trigger AS $$
+BEGIN
+    PERFORM 1 FROM users
+    WHERE id IN (SELECT user_id FROM changed_rows WHERE user_id IS NOT NULL)
+    ORDER BY id
+    FOR NO KEY UPDATE;
+
+    UPDATE users SET data_version = data_version + 1
+    WHERE id IN (SELECT user_id FROM changed_rows WHERE user_id IS NOT NULL);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Transition tables only allow one event per trigger, hence three triggers per table.
+-- On the partitioned transactions table they see the rows of every partition.
+CREATE TRIGGER trg_wallets_data_version_insert AFTER INSERT ON wallets
+    REFERENCING NEW TABLE AS changed_rows FOR EACH STATEMENT EXECUTE FUNCTION bump_user_data_version();
+CREATE TRIGGER trg_wallets_data_version_update AFTER UPDATE ON wallets
+    REFERENCING NEW TABLE AS changed_rows FOR EACH STATEMENT EXECUTE FUNCTION bump_user_data_version();
+CREATE TRIGGER trg_wallets_data_version_delete AFTER DELETE ON wallets
+    REFERENCING OLD TABLE AS changed_rows FOR EACH STATEMENT EXECUTE FUNCTION bump_user_data_version();
+
+CREATE TRIGGER trg_category_data_version_insert AFTER INSERT ON category
+    REFERENCING NEW TABLE AS changed_rows FOR EACH STATEMENT EXECUTE FUNCTION bump_user_data_version();
+CREATE TRIGGER trg_category_data_version_update AFTER UPDATE ON category
+    REFERENCING NEW TABLE AS changed_rows FOR EACH STATEMENT EXECUTE FUNCTION bump_user_data_version();
+CREATE TRIGGER trg_category_data_version_delete AFTER DELETE ON category
+    REFERENCING OLD TABLE AS changed_rows FOR EACH STATEMENT EXECUTE FUNCTION bump_user_data_version();
+
+CREATE TRIGGER trg_transactions_data_version_insert AFTER INSERT ON transactions
+    REFERENCING NEW TABLE AS changed_rows FOR EACH STATEMENT EXECUTE FUNCTION bump_user_data_version();
+CREATE TRIGGER trg_transactions_data_version_update AFTER UPDATE ON transactions
+    REFERENCING NEW TABLE AS changed_rows FOR EACH STATEMENT EXECUTE FUNCTION bump_user_data_version();
+CREATE TRIGGER trg_transactions_data_version_delete AFTER DELETE ON transactions
+    REFERENCING OLD TABLE AS changed_rows FOR EACH STATEMENT EXECUTE FUNCTION bump_user_data_version();
@@ -0,0 +1,84 @@
+-- Migration: Change tracking for delta sync
+-- Description: Stamps every wallet, category and transaction row with a change sequence on insert and
+--              update, and records hard deletes as tombstones, so clients can pull only what changed
+--              after the last sequence they saw
+-- Author: FinTrackPro
+-- Date: 2026-02-06
+
+CREATE SEQUENCE IF NOT EXISTS sync_change_seq;
+
+-- Existing rows are numbered in place; on transactions this rewrites every partition once
+ALTER TABLE wallets ADD COLUMN change_seq BIGINT NOT NULL DEFAULT nextval('sync_change_seq');
+ALTER TABLE category ADD COLUMN change_seq BIGINT NOT NULL DEFAULT nextval('sync_change_seq');
+ALTER TABLE transactions ADD COLUMN change_seq BIGINT NOT NULL DEFAULT nextval('sync_change_seq');
+
+-- Built per partition on transactions; serves "changes of one user after a sequence, in order"
+CREATE INDEX idx_wallets_user_change_seq ON wallets (user_id, change_seq);
+CREATE INDEX idx_category_user_change_seq ON category (user_id, change_seq);
+CREATE INDEX idx_transactions_user_change_seq ON transactions (user_id, change_seq);
+
+CREATE TABLE sync_tombstones (
+    change_seq BIGINT PRIMARY KEY DEFAULT nextval('sync_change_seq'),
+    user_id BIGINT NOT NULL,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    deleted_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_sync_tombstones_user_change_seq ON sync_tombstones (user_id, change_seq);
+CREATE INDEX idx_sync_tombstones_deleted_at ON sync_tombstones (deleted_at);
+
+COMMENT ON TABLE sync_tombstones IS 'Hard-deleted wallets, categories and archived soft-deleted transactions, kept for delta sync until purged';
+
+-- A sequence number is only handed out while holding the owner's users row lock, which is kept
+-- until commit. Changes of one user therefore commit in sequence order: once a reader sees a
+-- sequence, no lower one of that user can appear later, and a client can resume strictly after it.
+-- Ordering only needs a lock that conflicts with itself: NO KEY UPDATE, the same the data version
+-- triggers (V17) take. Unlike FOR UPDATE it does not conflict with the KEY SHARE locks of foreign
+-- key checks on users, so it neither blocks nor waits for inserts into other tables of the user.
+CREATE OR REPLACE FUNCTION stamp_sync_change_seq() RETURNS trigger AS $$
+BEGIN
+    IF NEW.user_id IS NOT NULL THEN
+        PERFORM 1 FROM users WHERE id = NEW.user_id FOR NO KEY UPDATE;
+    END IF;
+    NEW.change_seq := nextval('sync_change_seq');
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_wallets_change_seq BEFORE INSERT OR UPDATE ON wallets
+    FOR EACH ROW EXECUTE FUNCTION stamp_sync_change_seq();
+CREATE TRIGGER trg_category_change_seq BEFORE INSERT OR UPDATE ON category
+    FOR EACH ROW EXECUTE FUNCTION stamp_sync_change_seq();
+CREATE TRIGGER trg_transactions_change_seq BEFORE INSERT OR UPDATE ON transactions
+    FOR EACH ROW EXECUTE FUNCTION stamp_sync_change_seq();
+
+-- TG_ARGV[0] is the entity type. On transactions only soft-deleted rows leave a tombstone: the
+-- archiver also moves live rows past the retention horizon, which clients keep. Rows removed by
+-- deleting their user leave none; there is no foreign key, as the user row is already gone then.
+CREATE OR REPLACE FUNCTION record_sync_tombstones() RETURNS trigger AS $$
+BEGIN
+    PERFORM 1 FROM users
+    WHERE id IN (SELECT user_id FROM deleted_rows WHERE user_id IS NOT NULL)
+    ORDER BY id
+    FOR NO KEY UPDATE;
+
+    IF TG_ARGV[0] = 'TRANSACTION' THEN
+        INSERT INTO sync_tombstones (user_id, entity_type, entity_id)
+        SELECT d.user_id, TG_ARGV[0], d.id FROM deleted_rows d JOIN users u ON u.id = d.user_id
+        WHERE d.deleted ORDER BY d.user_id, d.id;
+    ELSE
+        INSERT INTO sync_tombstones (user_id, entity_type, entity_id)
+        SELECT d.user_id, TG_ARGV[0], d.id FROM deleted_rows d JOIN users u ON u.id = d.user_id
+        ORDER BY d.user_id, d.id;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_wallets_sync_tombstones AFTER DELETE ON wallets
+    REFERENCING OLD TABLE AS deleted_rows FOR EACH STATEMENT EXECUTE FUNCTION record_sync_tombstones('WALLET');
+CREATE TRIGGER trg_category_sync_tombstones AFTER DELETE ON category
+    REFERENCING OLD TABLE AS deleted_rows FOR EACH STATEMENT EXECUTE FUNCTION record_sync_tombstones('CATEGORY');
+CREATE TRIGGER trg_transactions_sync_tombstones AFTER DELETE ON transactions
+    REFERENCING OLD TABLE AS deleted_rows FOR EACH STATEMENT EXECUTE FUNCTION record_sync_tombstones('TRANSACTION');
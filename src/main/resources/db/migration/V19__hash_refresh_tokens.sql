@@ -0,0 +1,23 @@
+-- Migration: Store refresh tokens as digests
+-- Description: Replaces the full token text, indexed twice, with its 32-byte SHA-256 digest under a
+--              single unique index. New refresh tokens are opaque random values; tokens issued before
+--              keep working, because their digest is computed here from the stored value
+-- Author: FinTrackPro
+-- Date: 2026-02-07
+
+-- No need to carry over what the nightly cleanup would delete anyway
+DELETE FROM refresh_tokens WHERE expires_at < CURRENT_TIMESTAMP;
+
+ALTER TABLE refresh_tokens ADD COLUMN token_hash BYTEA;
+UPDATE refresh_tokens SET token_hash = sha256(convert_to(token, 'UTF8'));
+ALTER TABLE refresh_tokens ALTER COLUMN token_hash SET NOT NULL;
+ALTER TABLE refresh_tokens ADD CONSTRAINT chk_refresh_tokens_token_hash_length
+    CHECK (octet_length(token_hash) = 32);
+
+-- Drops the UNIQUE constraint's index along with the column
+DROP INDEX IF EXISTS idx_refresh_tokens_token;
+ALTER TABLE refresh_tokens DROP COLUMN token;
+
+CREATE UNIQUE INDEX idx_refresh_tokens_token_hash ON refresh_tokens(token_hash);
+
+COMMENT ON COLUMN refresh_tokens.token_hash IS 'SHA-256 of the refresh token as sent by the client';
@@ -0,0 +1,28 @@
+-- Migration: Create email outbox table
+-- Description: Emails are queued in the transaction that triggers them and rendered and sent in
+--              batches by a background dispatcher, so requests never wait for the mail server
+-- Author: FinTrackPro
+-- Date: 2026-02-10
+
+CREATE TABLE IF NOT EXISTS email_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    email_type VARCHAR(50) NOT NULL,
+    recipient VARCHAR(255) NOT NULL,
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    locked_until TIMESTAMP,
+    last_error TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    dispatched_at TIMESTAMP
+);
+
+-- The dispatcher only ever polls unfinished emails
+CREATE INDEX idx_email_outbox_pending ON email_outbox(next_attempt_at, id) WHERE status IN ('PENDING', 'PROCESSING');
+CREATE INDEX idx_email_outbox_dispatched_at ON email_outbox(dispatched_at) WHERE status = 'DISPATCHED';
+
+COMMENT ON TABLE email_outbox IS 'Queued emails, rendered and sent asynchronously, at least once';
+COMMENT ON COLUMN email_outbox.email_type IS 'Template the email is rendered with';
+COMMENT ON COLUMN email_outbox.payload IS 'JSON object of template parameters; may contain verification or reset tokens';
+COMMENT ON COLUMN email_outbox.status IS 'PENDING, PROCESSING (claimed until locked_until), DISPATCHED or FAILED';
@@ -0,0 +1,18 @@
+-- Migration: Record which events the wallet statistics were adjusted for
+-- Description: Outbox events are delivered at least once. The statistics flush inserts a key per
+--              event and wallet in the transaction that applies the change, and skips changes
+--              whose key already exists, so a redelivered event is counted once
+-- Author: FinTrackPro
+-- Date: 2026-02-12
+
+CREATE TABLE IF NOT EXISTS wallet_statistics_events (
+    event_id BIGINT NOT NULL,
+    wallet_id BIGINT NOT NULL,
+    applied_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (event_id, wallet_id)
+);
+
+CREATE INDEX idx_wallet_statistics_events_applied_at ON wallet_statistics_events(applied_at);
+
+COMMENT ON TABLE wallet_statistics_events IS 'Outbox events already applied to wallet statistics, kept while a redelivery is possible';
+COMMENT ON COLUMN wallet_statistics_events.event_id IS 'ID of the outbox event';
@@ -0,0 +1,10 @@
+-- Migration: Fingerprint idempotent requests
+-- Description: Stores the SHA-256 of the request a key was first used with, so reusing the key
+--              for a different request is rejected instead of replaying an unrelated response
+-- Author: FinTrackPro
+-- Date: 2026-02-12
+
+-- Left NULL for keys stored before; those are not compared
+ALTER TABLE idempotency_keys ADD COLUMN request_hash BYTEA;
+
+COMMENT ON COLUMN idempotency_keys.request_hash IS 'SHA-256 of the JSON serialized request body the key was first used with';
@@ -0,0 +1,7 @@
+-- Migration: Drop the wallet statistics event keys
+-- Description: Transaction counts and last transaction dates are now moved by the same statement
+--              that adjusts the wallet balance, so no per-event deduplication is needed
+-- Author: FinTrackPro
+-- Date: 2026-02-14
+
+DROP TABLE IF EXISTS wallet_statistics_events;
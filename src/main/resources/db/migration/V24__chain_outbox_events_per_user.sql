@@ -0,0 +1,16 @@
+-- Migration: Chain each user's outbox events
+-- Description: Every event records the ID of the user's previous event, and the last event of a
+--              write records the user's data version after it. In-memory read models can then
+--              tell whether an event directly follows what they hold, and which version they reach
+-- Author: FinTrackPro
+-- Date: 2026-02-14
+
+-- Left NULL on events written before; consumers treat them as unchained
+ALTER TABLE outbox_events ADD COLUMN previous_event_id BIGINT;
+ALTER TABLE outbox_events ADD COLUMN data_version BIGINT;
+
+-- Serves the previous event lookup on every insert and the latest event lookup of index loads
+CREATE INDEX idx_outbox_events_user_id ON outbox_events(user_id, id);
+
+COMMENT ON COLUMN outbox_events.previous_event_id IS 'ID of the user''s latest event when this one was written, NULL if there was none';
+COMMENT ON COLUMN outbox_events.data_version IS 'users.data_version after the write, set on the last event the write published for the user';
@@ -0,0 +1,36 @@
+-- Migration: Track the seed transaction and cancellation of recurring rules
+-- Description: A rule remembers the transaction that started it, so updating that transaction
+--              re-anchors the rule and deleting it cancels the rule. Cancelled rules are never
+--              rescheduled, unlike rules that ran out of occurrences
+-- Author: FinTrackPro
+-- Date: 2026-02-15
+
+ALTER TABLE recurring_rules ADD COLUMN seed_transaction_id BIGINT;
+ALTER TABLE recurring_rules ADD COLUMN cancelled_at TIMESTAMP;
+
+-- The seed is inserted right after its rule, before any materialized occurrence,
+-- so it has the lowest ID of the rule's transactions, archived ones included
+UPDATE recurring_rules r
+SET seed_transaction_id = s.id
+FROM (
+    SELECT recurring_group_id, min(id) AS id
+    FROM (
+        SELECT recurring_group_id, id FROM transactions WHERE recurring_group_id IS NOT NULL
+        UNION ALL
+        SELECT recurring_group_id, id FROM transactions_archive WHERE recurring_group_id IS NOT NULL
+    ) t
+    GROUP BY recurring_group_id
+) s
+WHERE s.recurring_group_id = r.id;
+
+-- Rules whose seed was deleted before this migration stop as if it had been deleted after it
+UPDATE recurring_rules r
+SET active = FALSE, next_run_date = NULL, deferred_until = NULL, cancelled_at = CURRENT_TIMESTAMP
+WHERE EXISTS (SELECT 1 FROM transactions t WHERE t.id = r.seed_transaction_id AND t.deleted = TRUE)
+   OR EXISTS (SELECT 1 FROM transactions_archive a WHERE a.id = r.seed_transaction_id AND a.deleted = TRUE);
+
+CREATE UNIQUE INDEX idx_recurring_rules_seed_transaction_id ON recurring_rules(seed_transaction_id)
+    WHERE seed_transaction_id IS NOT NULL;
+
+COMMENT ON COLUMN recurring_rules.seed_transaction_id IS 'Transaction that started the series (occurrence 0); not a foreign key, the transactions key is (id, transaction_date)';
+COMMENT ON COLUMN recurring_rules.cancelled_at IS 'Set when the rule was cancelled, by the user or by deleting its seed transaction';
@@ -0,0 +1,91 @@
+-- Migration: Global transaction ID lookup
+-- Description: Maps every transaction ID to its transaction_date. The transactions primary key is
+--              (id, transaction_date), so a lookup by ID alone has to probe the primary key index of
+--              every monthly partition. Looking the date up here first lets PostgreSQL prune the
+--              lookup to the one partition holding the row
+-- Author: FinTrackPro
+-- Date: 2026-02-16
+
+CREATE TABLE transaction_keys (
+    id BIGINT PRIMARY KEY,
+    transaction_date DATE NOT NULL
+);
+
+-- Row movement between partitions may arrive as DELETE and INSERT or as one UPDATE, depending on
+-- the server version; both orders leave the current date behind
+CREATE OR REPLACE FUNCTION maintain_transaction_keys() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        DELETE FROM transaction_keys WHERE id = OLD.id;
+    ELSE
+        INSERT INTO transaction_keys (id, transaction_date) VALUES (NEW.id, NEW.transaction_date)
+        ON CONFLICT (id) DO UPDATE SET transaction_date = EXCLUDED.transaction_date;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_transactions_keys_insert AFTER INSERT ON transactions
+    FOR EACH ROW EXECUTE FUNCTION maintain_transaction_keys();
+CREATE TRIGGER trg_transactions_keys_update AFTER UPDATE OF transaction_date ON transactions
+    FOR EACH ROW WHEN (OLD.transaction_date IS DISTINCT FROM NEW.transaction_date)
+    EXECUTE FUNCTION maintain_transaction_keys();
+CREATE TRIGGER trg_transactions_keys_delete AFTER DELETE ON transactions
+    FOR EACH ROW EXECUTE FUNCTION maintain_transaction_keys();
+
+INSERT INTO transaction_keys (id, transaction_date)
+SELECT id, transaction_date FROM transactions;
+
+-- Creating a partition moves matching rows out of the default partition, which deletes their
+-- keys, into a table that is not a partition yet, so no trigger adds them back; this does
+CREATE OR REPLACE FUNCTION create_transactions_partition(p_month DATE) RETURNS TEXT AS $$
+DECLARE
+    v_start DATE := date_trunc('month', p_month)::DATE;
+    v_end DATE := (date_trunc('month', p_month) + INTERVAL '1 month')::DATE;
+    v_name TEXT := 'transactions_p' || to_char(p_month, 'YYYY_MM');
+    v_columns TEXT;
+BEGIN
+    IF to_regclass(v_name) IS NOT NULL THEN
+        RETURN NULL;
+    END IF;
+
+    SELECT string_agg(quote_ident(attname), ', ' ORDER BY attnum)
+    INTO v_columns
+    FROM pg_attribute
+    WHERE attrelid = 'transactions'::regclass AND attnum > 0 AND NOT attisdropped AND attgenerated = '';
+
+    EXECUTE format('CREATE TABLE %I (LIKE transactions INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING GENERATED)',
+                   v_name);
+    EXECUTE format('INSERT INTO %I (%s) SELECT %s FROM transactions_default WHERE transaction_date >= %L AND transaction_date < %L',
+                   v_name, v_columns, v_columns, v_start, v_end);
+    EXECUTE format('DELETE FROM transactions_default WHERE transaction_date >= %L AND transaction_date < %L',
+                   v_start, v_end);
+    EXECUTE format('ALTER TABLE transactions ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   v_name, v_start, v_end);
+    EXECUTE format('INSERT INTO transaction_keys (id, transaction_date) SELECT id, transaction_date FROM %I', v_name);
+    RETURN v_name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Detached rows are no longer transactions, so their keys go with them
+CREATE OR REPLACE FUNCTION detach_transactions_partitions_before(p_before DATE) RETURNS SETOF TEXT AS $$
+DECLARE
+    v_name TEXT;
+BEGIN
+    FOR v_name IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'transactions'::regclass
+          AND c.relname ~ '^transactions_p[0-9]{4}_[0-9]{2}$'
+          AND (to_date(substring(c.relname FROM 15), 'YYYY_MM') + INTERVAL '1 month')::DATE <= p_before
+        ORDER BY c.relname
+    LOOP
+        EXECUTE format('ALTER TABLE transactions DETACH PARTITION %I', v_name);
+        EXECUTE format('DELETE FROM transaction_keys k USING %I t WHERE k.id = t.id', v_name);
+        RETURN NEXT v_name;
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+COMMENT ON TABLE transaction_keys IS 'transaction_date of every transaction ID, maintained by triggers; lets lookups by ID prune to one partition';
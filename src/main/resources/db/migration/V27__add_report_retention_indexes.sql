@@ -0,0 +1,14 @@
+-- Migration: Indexes for purging expired reports
+-- Description: Finished report jobs are purged after the retention period, and their files with
+--              them unless a report, receipt or attachment still points to the same content
+-- Author: FinTrackPro
+-- Date: 2026-02-17
+
+CREATE INDEX idx_report_jobs_finished ON report_jobs(completed_at) WHERE status IN ('COMPLETED', 'FAILED');
+CREATE INDEX idx_report_jobs_file_id ON report_jobs(file_id) WHERE file_id IS NOT NULL;
+
+-- Blob references ('blob:<sha256>') and external URLs; most rows have neither
+CREATE INDEX idx_transactions_receipt_url ON transactions(receipt_url) WHERE receipt_url IS NOT NULL;
+CREATE INDEX idx_transactions_attachment_url ON transactions(attachment_url) WHERE attachment_url IS NOT NULL;
+CREATE INDEX idx_transactions_archive_receipt_url ON transactions_archive(receipt_url) WHERE receipt_url IS NOT NULL;
+CREATE INDEX idx_transactions_archive_attachment_url ON transactions_archive(attachment_url) WHERE attachment_url IS NOT NULL;
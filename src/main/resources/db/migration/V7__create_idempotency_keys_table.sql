@@ -0,0 +1,28 @@
+-- Migration: Create idempotency keys table
+-- Description: Dedupe store for retried write requests carrying an Idempotency-Key header
+-- Author: FinTrackPro
+-- Date: 2026-01-12
+
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    idempotency_key VARCHAR(100) NOT NULL,
+    request_path VARCHAR(255) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'IN_PROGRESS',
+    response_status INTEGER,
+    response_body TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at TIMESTAMP NOT NULL,
+
+    CONSTRAINT fk_idempotency_key_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT uk_idempotency_keys_user_key UNIQUE (user_id, idempotency_key)
+);
+
+-- The unique constraint above is the only index used on the request path; this one serves the TTL purge
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys(expires_at);
+
+COMMENT ON TABLE idempotency_keys IS 'Stored responses of idempotent write requests, purged after expires_at';
+COMMENT ON COLUMN idempotency_keys.idempotency_key IS 'Client supplied Idempotency-Key header value';
+COMMENT ON COLUMN idempotency_keys.request_path IS 'Request path the key was first used with';
+COMMENT ON COLUMN idempotency_keys.status IS 'IN_PROGRESS while the original request runs, COMPLETED once the response is stored';
+COMMENT ON COLUMN idempotency_keys.response_body IS 'Serialized JSON body replayed for retries';
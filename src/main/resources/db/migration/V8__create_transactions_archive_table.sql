@@ -0,0 +1,46 @@
+-- Migration: Create transactions archive table
+-- Description: Cold storage for soft-deleted and aged-out transactions moved off the hot transactions table
+-- Author: FinTrackPro
+-- Date: 2026-01-14
+
+CREATE TABLE IF NOT EXISTS transactions_archive (
+    id BIGINT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    wallet_id BIGINT NOT NULL,
+    category_id BIGINT,
+    to_wallet_id BIGINT,
+    type VARCHAR(20) NOT NULL,
+    amount NUMERIC(19, 2) NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    transaction_date DATE NOT NULL,
+    description VARCHAR(255),
+    notes TEXT,
+    status VARCHAR(20) NOT NULL,
+    reference_number VARCHAR(100),
+    payee VARCHAR(255),
+    location VARCHAR(255),
+    tags VARCHAR(500),
+    receipt_url VARCHAR(500),
+    attachment_url VARCHAR(500),
+    is_recurring BOOLEAN NOT NULL,
+    recurring_pattern VARCHAR(100),
+    recurring_group_id BIGINT,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    created_by BIGINT,
+    updated_by BIGINT,
+    deleted_at TIMESTAMP,
+    deleted BOOLEAN NOT NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    -- Wallet and category references are intentionally not enforced: archived rows outlive them
+    CONSTRAINT fk_transaction_archive_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_transactions_archive_user_date ON transactions_archive(user_id, transaction_date);
+
+-- Lets the archiver find soft-deleted rows without scanning the live ones
+CREATE INDEX idx_transactions_deleted_pending ON transactions(id) WHERE deleted = TRUE;
+
+COMMENT ON TABLE transactions_archive IS 'Soft-deleted and aged-out transactions moved off the transactions table by the archiver';
+COMMENT ON COLUMN transactions_archive.archived_at IS 'When the row was moved into the archive';
@@ -0,0 +1,166 @@
+-- Migration: Partition transactions by month
+-- Description: Rebuilds transactions as a table range-partitioned on transaction_date (one partition per month)
+--              so date-bounded queries are pruned to the months they touch and old months can be detached.
+-- Author: FinTrackPro
+-- Date: 2026-01-16
+
+-- 1. Move the existing table out of the way, keeping its id sequence alive for the new table
+ALTER SEQUENCE transactions_id_seq OWNED BY NONE;
+ALTER TABLE transactions ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE transactions RENAME TO transactions_legacy;
+ALTER TABLE transactions_legacy RENAME CONSTRAINT transactions_pkey TO transactions_legacy_pkey;
+
+DROP INDEX IF EXISTS idx_transactions_user_id;
+DROP INDEX IF EXISTS idx_transactions_wallet_id;
+DROP INDEX IF EXISTS idx_transactions_category_id;
+DROP INDEX IF EXISTS idx_transactions_date;
+DROP INDEX IF EXISTS idx_transactions_type;
+DROP INDEX IF EXISTS idx_transactions_status;
+DROP INDEX IF EXISTS idx_transactions_deleted;
+DROP INDEX IF EXISTS idx_transactions_deleted_pending;
+
+-- 2. Partitioned parent. The partition key has to be part of the primary key;
+--    ids still come from a single sequence and stay unique across partitions.
+CREATE TABLE transactions (
+    id BIGINT NOT NULL DEFAULT nextval('transactions_id_seq'),
+    user_id BIGINT NOT NULL,
+    wallet_id BIGINT NOT NULL,
+    category_id BIGINT,
+    to_wallet_id BIGINT,
+    type VARCHAR(20) NOT NULL,
+    amount NUMERIC(19, 2) NOT NULL,
+    currency VARCHAR(3) NOT NULL DEFAULT 'USD',
+    transaction_date DATE NOT NULL DEFAULT CURRENT_DATE,
+    description VARCHAR(255),
+    notes TEXT,
+    status VARCHAR(20) NOT NULL DEFAULT 'COMPLETED',
+    reference_number VARCHAR(100),
+    payee VARCHAR(255),
+    location VARCHAR(255),
+    tags VARCHAR(500),
+    receipt_url VARCHAR(500),
+    attachment_url VARCHAR(500),
+    is_recurring BOOLEAN NOT NULL DEFAULT FALSE,
+    recurring_pattern VARCHAR(100),
+    recurring_group_id BIGINT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by BIGINT,
+    updated_by BIGINT,
+    deleted_at TIMESTAMP,
+    deleted BOOLEAN NOT NULL DEFAULT FALSE,
+
+    CONSTRAINT pk_transactions PRIMARY KEY (id, transaction_date),
+    CONSTRAINT fk_transaction_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT fk_transaction_wallet FOREIGN KEY (wallet_id) REFERENCES wallets(id) ON DELETE CASCADE,
+    CONSTRAINT fk_transaction_category FOREIGN KEY (category_id) REFERENCES category(id) ON DELETE SET NULL,
+    CONSTRAINT fk_transaction_to_wallet FOREIGN KEY (to_wallet_id) REFERENCES wallets(id) ON DELETE CASCADE,
+    CONSTRAINT chk_transaction_amount_positive CHECK (amount >= 0),
+    CONSTRAINT chk_transaction_currency_length CHECK (LENGTH(currency) = 3)
+) PARTITION BY RANGE (transaction_date);
+
+ALTER SEQUENCE transactions_id_seq OWNED BY transactions.id;
+
+-- Catches dates outside every monthly partition (far past or far future)
+CREATE TABLE transactions_default PARTITION OF transactions DEFAULT;
+
+-- 3. Partition maintenance functions, also called by TransactionPartitionScheduler
+
+-- Creates the partition for the month containing p_month. Rows already sitting in the
+-- default partition for that month are moved into it. Returns the partition name, or NULL if it existed.
+CREATE OR REPLACE FUNCTION create_transactions_partition(p_month DATE) RETURNS TEXT AS $$
+DECLARE
+    v_start DATE := date_trunc('month', p_month)::DATE;
+    v_end DATE := (date_trunc('month', p_month) + INTERVAL '1 month')::DATE;
+    v_name TEXT := 'transactions_p' || to_char(p_month, 'YYYY_MM');
+BEGIN
+    IF to_regclass(v_name) IS NOT NULL THEN
+        RETURN NULL;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE transactions INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', v_name);
+    EXECUTE format('INSERT INTO %I SELECT * FROM transactions_default WHERE transaction_date >= %L AND transaction_date < %L',
+                   v_name, v_start, v_end);
+    EXECUTE format('DELETE FROM transactions_default WHERE transaction_date >= %L AND transaction_date < %L',
+                   v_start, v_end);
+    EXECUTE format('ALTER TABLE transactions ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   v_name, v_start, v_end);
+    RETURN v_name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Detaches every monthly partition that ends on or before p_before. The detached tables are
+-- left in place as plain tables so they can be dumped and dropped. Returns their names.
+CREATE OR REPLACE FUNCTION detach_transactions_partitions_before(p_before DATE) RETURNS SETOF TEXT AS $$
+DECLARE
+    v_name TEXT;
+BEGIN
+    FOR v_name IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'transactions'::regclass
+          AND c.relname ~ '^transactions_p[0-9]{4}_[0-9]{2}$'
+          AND (to_date(substring(c.relname FROM 15), 'YYYY_MM') + INTERVAL '1 month')::DATE <= p_before
+        ORDER BY c.relname
+    LOOP
+        EXECUTE format('ALTER TABLE transactions DETACH PARTITION %I', v_name);
+        RETURN NEXT v_name;
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 4. Monthly partitions for existing history (capped at ten years back) and the next three months
+DO $$
+DECLARE
+    v_month DATE;
+    v_first DATE;
+BEGIN
+    SELECT GREATEST(date_trunc('month', COALESCE(MIN(transaction_date), CURRENT_DATE)),
+                    date_trunc('month', CURRENT_DATE) - INTERVAL '10 years')::DATE
+    INTO v_first
+    FROM transactions_legacy;
+
+    v_month := v_first;
+    WHILE v_month <= (date_trunc('month', CURRENT_DATE) + INTERVAL '3 months')::DATE LOOP
+        PERFORM create_transactions_partition(v_month);
+        v_month := (v_month + INTERVAL '1 month')::DATE;
+    END LOOP;
+END;
+$$;
+
+-- 5. Copy the data and drop the old heap
+INSERT INTO transactions (id, user_id, wallet_id, category_id, to_wallet_id, type, amount, currency,
+                          transaction_date, description, notes, status, reference_number, payee, location,
+                          tags, receipt_url, attachment_url, is_recurring, recurring_pattern, recurring_group_id,
+                          created_at, updated_at, created_by, updated_by, deleted_at, deleted)
+SELECT id, user_id, wallet_id, category_id, to_wallet_id, type, amount, currency,
+       transaction_date, description, notes, status, reference_number, payee, location,
+       tags, receipt_url, attachment_url, is_recurring, recurring_pattern, recurring_group_id,
+       created_at, updated_at, created_by, updated_by, deleted_at, deleted
+FROM transactions_legacy;
+
+DROP TABLE transactions_legacy;
+
+-- 6. Indexes are declared on the parent and created on every partition, including future ones.
+--    Within a partition the date is already narrowed down, so user lookups lead with user_id.
+CREATE INDEX idx_transactions_user_date ON transactions(user_id, transaction_date);
+CREATE INDEX idx_transactions_wallet_id ON transactions(wallet_id);
+CREATE INDEX idx_transactions_category_id ON transactions(category_id);
+CREATE INDEX idx_transactions_type ON transactions(type);
+CREATE INDEX idx_transactions_status ON transactions(status);
+CREATE INDEX idx_transactions_deleted ON transactions(deleted);
+CREATE INDEX idx_transactions_deleted_pending ON transactions(id) WHERE deleted = TRUE;
+
+ANALYZE transactions;
+
+COMMENT ON TABLE transactions IS 'Stores all financial transactions (income, expense, and transfers), partitioned by month of transaction_date';
+COMMENT ON COLUMN transactions.user_id IS 'Owner of the transaction';
+COMMENT ON COLUMN transactions.wallet_id IS 'Wallet associated with the transaction (source for transfers)';
+COMMENT ON COLUMN transactions.category_id IS 'Category for income/expense';
+COMMENT ON COLUMN transactions.to_wallet_id IS 'Destination wallet for transfers';
+COMMENT ON COLUMN transactions.type IS 'INCOME, EXPENSE, or TRANSFER';
+COMMENT ON COLUMN transactions.amount IS 'Transaction amount';
+COMMENT ON COLUMN transactions.currency IS 'ISO 4217 three-letter currency code';
+COMMENT ON COLUMN transactions.transaction_date IS 'Date when the transaction occurred; partition key';
+COMMENT ON TABLE transactions_default IS 'Default partition for transaction dates without a monthly partition';
@@ -0,0 +1,195 @@
+package com.fintrackpro.application.service;
+
+import com.fintrackpro.domain.exception.InvalidRequestException;
+import com.fintrackpro.domain.model.Category;
+import com.fintrackpro.domain.model.SyncBatch;
+import com.fintrackpro.domain.model.SyncChange;
+import com.fintrackpro.domain.model.SyncToken;
+import com.fintrackpro.domain.model.SyncTombstone;
+import com.fintrackpro.domain.model.Transaction;
+import com.fintrackpro.domain.model.Wallet;
+import com.fintrackpro.domain.port.output.CategoryRepositoryPort;
+import com.fintrackpro.domain.port.output.SyncTombstoneRepositoryPort;
+import com.fintrackpro.domain.port.output.TransactionRepositoryPort;
+import com.fintrackpro.domain.port.output.WalletRepositoryPort;
+import com.fintrackpro.domain.valueobject.SyncEntityType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SyncServiceTest {
+
+    private static final Long USER = 1L;
+    private static final int RETENTION_DAYS = 30;
+
+    @Mock
+    private WalletRepositoryPort walletRepositoryPort;
+
+    @Mock
+    private CategoryRepositoryPort categoryRepositoryPort;
+
+    @Mock
+    private TransactionRepositoryPort transactionRepositoryPort;
+
+    @Mock
+    private SyncTombstoneRepositoryPort syncTombstoneRepositoryPort;
+
+    @InjectMocks
+    private SyncService syncService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(syncService, "tombstoneRetentionDays", RETENTION_DAYS);
+    }
+
+    @Test
+    void firstSyncIsAFullSyncWithoutTombstones() {
+        changes(0, 3, wallets(1, 4), categories(2), transactions(3, 5));
+
+        SyncBatch batch = syncService.sync(USER, null, 3);
+
+        assertThat(batch.fullSync()).isTrue();
+        assertThat(batch.hasMore()).isTrue();
+        assertThat(batch.wallets()).extracting(SyncChange::changeSeq).containsExactly(1L);
+        assertThat(batch.categories()).extracting(SyncChange::changeSeq).containsExactly(2L);
+        assertThat(batch.transactions()).extracting(SyncChange::changeSeq).containsExactly(3L);
+        assertThat(batch.deleted()).isEmpty();
+        assertThat(SyncToken.decode(batch.nextToken()).changeSeq()).isEqualTo(3);
+        verifyNoInteractions(syncTombstoneRepositoryPort);
+    }
+
+    @Test
+    void pagesThroughAllChangesInSequenceOrder() {
+        changes(0, 2, wallets(1, 4), categories(2), transactions(3));
+        SyncBatch first = syncService.sync(USER, null, 2);
+
+        changes(2, 2, wallets(4), categories(), transactions(3));
+        tombstones(2, 2, List.of());
+        SyncBatch second = syncService.sync(USER, first.nextToken(), 2);
+
+        changes(4, 2, wallets(), categories(), transactions());
+        tombstones(4, 2, List.of());
+        SyncBatch third = syncService.sync(USER, second.nextToken(), 2);
+
+        assertThat(first.hasMore()).isTrue();
+        assertThat(second.fullSync()).isFalse();
+        assertThat(second.hasMore()).isFalse();
+        assertThat(second.transactions()).extracting(SyncChange::changeSeq).containsExactly(3L);
+        assertThat(second.wallets()).extracting(SyncChange::changeSeq).containsExactly(4L);
+        assertThat(third.hasMore()).isFalse();
+        assertThat(SyncToken.decode(third.nextToken()).changeSeq()).isEqualTo(4);
+    }
+
+    @Test
+    void incrementalSyncIncludesTombstonesInTheSameWindow() {
+        String since = new SyncToken(10, Instant.now()).encode();
+        changes(10, 2, wallets(11), categories(), transactions());
+        tombstones(10, 2, List.of(tombstone(12), tombstone(13)));
+
+        SyncBatch batch = syncService.sync(USER, since, 2);
+
+        assertThat(batch.fullSync()).isFalse();
+        assertThat(batch.hasMore()).isTrue();
+        assertThat(batch.wallets()).extracting(SyncChange::changeSeq).containsExactly(11L);
+        assertThat(batch.deleted()).extracting(SyncTombstone::changeSeq).containsExactly(12L);
+        assertThat(SyncToken.decode(batch.nextToken()).changeSeq()).isEqualTo(12);
+    }
+
+    @Test
+    void tokenOlderThanTheTombstoneRetentionStartsOver() {
+        String since = new SyncToken(10, Instant.now().minus(Duration.ofDays(RETENTION_DAYS + 1))).encode();
+        changes(0, 5, wallets(1), categories(), transactions());
+
+        SyncBatch batch = syncService.sync(USER, since, 5);
+
+        assertThat(batch.fullSync()).isTrue();
+        assertThat(batch.wallets()).hasSize(1);
+        verifyNoInteractions(syncTombstoneRepositoryPort);
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        assertThatThrownBy(() -> syncService.sync(USER, "bm90IGEgdG9rZW4", 10))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    void purgesTombstonesOneDayAfterTokensExpire() {
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(syncTombstoneRepositoryPort.deleteDeletedBefore(cutoff.capture())).thenReturn(7);
+        LocalDateTime before = LocalDateTime.now();
+
+        assertThat(syncService.purgeTombstones()).isEqualTo(7);
+
+        assertThat(cutoff.getValue())
+                .isBetween(before.minusDays(RETENTION_DAYS + 1), LocalDateTime.now().minusDays(RETENTION_DAYS + 1));
+    }
+
+    @Test
+    void noChangesKeepThePosition() {
+        String since = new SyncToken(10, Instant.now()).encode();
+        changes(10, 5, wallets(), categories(), transactions());
+        tombstones(10, 5, List.of());
+
+        SyncBatch batch = syncService.sync(USER, since, 5);
+
+        assertThat(batch.hasMore()).isFalse();
+        assertThat(SyncToken.decode(batch.nextToken()).changeSeq()).isEqualTo(10);
+        verify(walletRepositoryPort).findChangedAfter(USER, 10, 6);
+    }
+
+    private void changes(long after, int limit, List<SyncChange<Wallet>> wallets,
+                         List<SyncChange<Category>> categories, List<SyncChange<Transaction>> transactions) {
+        when(walletRepositoryPort.findChangedAfter(USER, after, limit + 1)).thenReturn(wallets);
+        when(categoryRepositoryPort.findChangedAfter(USER, after, limit + 1)).thenReturn(categories);
+        when(transactionRepositoryPort.findChangedAfter(USER, after, limit + 1)).thenReturn(transactions);
+    }
+
+    private void tombstones(long after, int limit, List<SyncTombstone> tombstones) {
+        when(syncTombstoneRepositoryPort.findByUserIdAfter(USER, after, limit + 1)).thenReturn(tombstones);
+    }
+
+    private static List<SyncChange<Wallet>> wallets(long... sequences) {
+        return Arrays.stream(sequences)
+                .mapToObj(seq -> new SyncChange<>(seq, Wallet.builder().id(seq).userId(USER).build()))
+                .toList();
+    }
+
+    private static List<SyncChange<Category>> categories(long... sequences) {
+        return Arrays.stream(sequences)
+                .mapToObj(seq -> new SyncChange<>(seq,
+                        new Category(seq, "Category " + seq, null, null, null, false, USER, null, null)))
+                .toList();
+    }
+
+    private static List<SyncChange<Transaction>> transactions(long... sequences) {
+        return Arrays.stream(sequences)
+                .mapToObj(seq -> new SyncChange<>(seq, Transaction.createExpense(
+                        USER, 1L, 1L, BigDecimal.ONE, "Transaction " + seq, LocalDate.of(2026, 3, 1))))
+                .toList();
+    }
+
+    private static SyncTombstone tombstone(long changeSeq) {
+        return new SyncTombstone(changeSeq, SyncEntityType.TRANSACTION, changeSeq, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,105 @@
+package com.fintrackpro.application.service;
+
+import com.fintrackpro.application.port.input.TransactionUseCase;
+import com.fintrackpro.domain.model.Transaction;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs writes of one user against the same wallet at the same time.
+ *
+ * Deleting a transaction writes the transaction row before the wallet, creating one writes the
+ * wallet first, and the database triggers lock the user after each written row. Without the user
+ * lock that every write use case takes up front, these pairs deadlock.
+ */
+@SpringBootTest
+@Testcontainers
+class TransactionServiceConcurrencyTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final int ROUNDS = 100;
+    private static final long MAX_CREATE_DELAY_MICROS = 5_000;
+    private static final BigDecimal AMOUNT = new BigDecimal("10.00");
+
+    @Autowired
+    private TransactionUseCase transactionUseCase;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentDeleteAndCreateForOneUserDoNotDeadlock() throws Exception {
+        Long userId = jdbcTemplate.queryForObject(
+                "INSERT INTO users (username, email, password, created_at, updated_at) " +
+                        "VALUES ('concurrency', 'concurrency@example.com', 'x', now(), now()) RETURNING id",
+                Long.class);
+        Long walletId = jdbcTemplate.queryForObject(
+                "INSERT INTO wallets (user_id, name, wallet_type, current_balance) " +
+                        "VALUES (?, 'Cash', 'CASH', 0) RETURNING id",
+                Long.class, userId);
+        Long categoryId = jdbcTemplate.queryForObject(
+                "INSERT INTO category (name, type, user_id) VALUES ('Salary', 'INCOME', ?) RETURNING id",
+                Long.class, userId);
+
+        List<Long> seeded = new ArrayList<>();
+        for (int i = 0; i < ROUNDS; i++) {
+            seeded.add(transactionUseCase.createTransaction(income(userId, walletId, categoryId)).id());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (Long id : seeded) {
+                CyclicBarrier barrier = new CyclicBarrier(2);
+                Future<?> delete = executor.submit(() -> {
+                    barrier.await();
+                    transactionUseCase.deleteTransaction(id);
+                    return null;
+                });
+                long delayMicros = ThreadLocalRandom.current().nextLong(MAX_CREATE_DELAY_MICROS);
+                Future<?> create = executor.submit(() -> {
+                    barrier.await();
+                    // Lets the delete's soft delete, which locks the user via the trigger, go first
+                    TimeUnit.MICROSECONDS.sleep(delayMicros);
+                    return transactionUseCase.createTransaction(income(userId, walletId, categoryId));
+                });
+                delete.get(30, TimeUnit.SECONDS);
+                create.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Map<String, Object> wallet = jdbcTemplate.queryForMap(
+                "SELECT current_balance, transaction_count FROM wallets WHERE id = ?", walletId);
+        assertThat((BigDecimal) wallet.get("current_balance"))
+                .isEqualByComparingTo(AMOUNT.multiply(BigDecimal.valueOf(ROUNDS)));
+        assertThat(wallet.get("transaction_count")).isEqualTo(ROUNDS);
+    }
+
+    private static Transaction income(Long userId, Long walletId, Long categoryId) {
+        return Transaction.createIncome(userId, walletId, categoryId, AMOUNT, "Salary", LocalDate.now());
+    }
+}
@@ -0,0 +1,103 @@
+package com.fintrackpro.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BalanceAdjustmentPlanTest {
+
+    private static final Long USER = 1L;
+    private static final Long CASH = 10L;
+    private static final Long BANK = 20L;
+    private static final Long SAVINGS = 30L;
+    private static final LocalDate DATE = LocalDate.of(2026, 3, 1);
+
+    @Test
+    void creatingAnExpenseDebitsItsWallet() {
+        BalanceAdjustmentPlan plan = BalanceAdjustmentPlan.between(null, expense(CASH, "25.00"));
+
+        assertThat(plan.walletIds()).containsExactly(CASH);
+        assertThat(plan.deltaOf(CASH)).isEqualByComparingTo("-25.00");
+        assertThat(plan.countDeltaOf(CASH)).isEqualTo(1);
+    }
+
+    @Test
+    void deletingATransferRevertsBothWallets() {
+        Transaction transfer = Transaction.createTransfer(USER, CASH, BANK, new BigDecimal("40.00"), "Move", DATE);
+
+        BalanceAdjustmentPlan plan = BalanceAdjustmentPlan.between(transfer, null);
+
+        assertThat(plan.walletIds()).containsExactly(CASH, BANK);
+        assertThat(plan.deltaOf(CASH)).isEqualByComparingTo("40.00");
+        assertThat(plan.deltaOf(BANK)).isEqualByComparingTo("-40.00");
+        assertThat(plan.countDeltaOf(CASH)).isEqualTo(-1);
+        assertThat(plan.countDeltaOf(BANK)).isEqualTo(-1);
+    }
+
+    @Test
+    void updateThatKeepsAmountTypeAndWalletIsEmpty() {
+        Transaction before = expense(CASH, "25.00");
+        Transaction after = before.toBuilder().description("Lunch").amount(new BigDecimal("25.0")).build();
+
+        BalanceAdjustmentPlan plan = BalanceAdjustmentPlan.between(before, after);
+
+        assertThat(plan.isEmpty()).isTrue();
+        assertThat(plan.size()).isZero();
+    }
+
+    @Test
+    void changingTheAmountOnlyMovesTheBalance() {
+        BalanceAdjustmentPlan plan = BalanceAdjustmentPlan.between(expense(CASH, "25.00"), expense(CASH, "30.00"));
+
+        assertThat(plan.deltaOf(CASH)).isEqualByComparingTo("-5.00");
+        assertThat(plan.countDeltaOf(CASH)).isZero();
+        assertThat(plan.walletIds()).containsExactly(CASH);
+    }
+
+    @Test
+    void movingToAnotherWalletMovesBalanceAndCount() {
+        BalanceAdjustmentPlan plan = BalanceAdjustmentPlan.between(expense(CASH, "25.00"), income(BANK, "25.00"));
+
+        assertThat(plan.deltaOf(CASH)).isEqualByComparingTo("25.00");
+        assertThat(plan.countDeltaOf(CASH)).isEqualTo(-1);
+        assertThat(plan.deltaOf(BANK)).isEqualByComparingTo("25.00");
+        assertThat(plan.countDeltaOf(BANK)).isEqualTo(1);
+    }
+
+    @Test
+    void combineNetsAllRemovedAndAddedTransactions() {
+        Transaction transfer = Transaction.createTransfer(USER, BANK, SAVINGS, new BigDecimal("100.00"), "Save", DATE);
+
+        BalanceAdjustmentPlan plan = BalanceAdjustmentPlan.combine(
+                List.of(expense(CASH, "10.00"), expense(CASH, "5.00")),
+                List.of(income(CASH, "15.00"), transfer));
+
+        assertThat(plan.walletIds()).containsExactly(CASH, BANK, SAVINGS);
+        assertThat(plan.deltaOf(CASH)).isEqualByComparingTo("30.00");
+        assertThat(plan.countDeltaOf(CASH)).isEqualTo(-1);
+        assertThat(plan.deltaOf(BANK)).isEqualByComparingTo("-100.00");
+        assertThat(plan.deltaOf(SAVINGS)).isEqualByComparingTo("100.00");
+        assertThat(plan.countDeltaOf(SAVINGS)).isEqualTo(1);
+    }
+
+    @Test
+    void unknownWalletsHaveNoChange() {
+        BalanceAdjustmentPlan plan = BalanceAdjustmentPlan.combine(List.of(), List.of());
+
+        assertThat(plan.isEmpty()).isTrue();
+        assertThat(plan.deltaOf(CASH)).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(plan.countDeltaOf(CASH)).isZero();
+    }
+
+    private static Transaction expense(Long walletId, String amount) {
+        return Transaction.createExpense(USER, walletId, 5L, new BigDecimal(amount), "Groceries", DATE);
+    }
+
+    private static Transaction income(Long walletId, String amount) {
+        return Transaction.createIncome(USER, walletId, 6L, new BigDecimal(amount), "Refund", DATE);
+    }
+}
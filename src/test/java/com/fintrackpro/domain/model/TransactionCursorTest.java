@@ -0,0 +1,42 @@
+package com.fintrackpro.domain.model;
+
+import com.fintrackpro.domain.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransactionCursorTest {
+
+    @Test
+    void decodesWhatItEncodes() {
+        TransactionCursor cursor = new TransactionCursor(LocalDate.of(2026, 2, 28), 9_007_199_254_740_993L);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("=", "+", "/");
+        assertThat(TransactionCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void missingCursorMeansTheFirstPage() {
+        assertThat(TransactionCursor.decode(null)).isNull();
+        assertThat(TransactionCursor.decode("  ")).isNull();
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        assertThatThrownBy(() -> TransactionCursor.decode("not base64!")).isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> TransactionCursor.decode(encode("2026-02-28"))).isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> TransactionCursor.decode(encode("2026-02-30|1"))).isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> TransactionCursor.decode(encode("2026-02-28|x"))).isInstanceOf(InvalidRequestException.class);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
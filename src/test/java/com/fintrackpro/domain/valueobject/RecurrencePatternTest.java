@@ -0,0 +1,80 @@
+package com.fintrackpro.domain.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecurrencePatternTest {
+
+    @Test
+    void parsesAllPartsAndWritesThemBackCanonically() {
+        RecurrencePattern pattern = RecurrencePattern.parse(" freq=monthly; interval=2 ;BYMONTHDAY=15;COUNT=12;UNTIL=20261231T000000Z ");
+
+        assertThat(pattern).isEqualTo(new RecurrencePattern(
+                RecurrenceFrequency.MONTHLY, 2, 15, 12, LocalDate.of(2026, 12, 31)));
+        assertThat(pattern.toRule()).isEqualTo("FREQ=MONTHLY;INTERVAL=2;BYMONTHDAY=15;COUNT=12;UNTIL=20261231");
+        assertThat(RecurrencePattern.parse(pattern.toRule())).isEqualTo(pattern);
+    }
+
+    @Test
+    void bareFrequencyIsShorthandForFreq() {
+        assertThat(RecurrencePattern.parse("WEEKLY").toRule()).isEqualTo("FREQ=WEEKLY;INTERVAL=1");
+    }
+
+    @Test
+    void rejectsInvalidPatterns() {
+        assertThatThrownBy(() -> RecurrencePattern.parse(" ")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurrencePattern.parse("INTERVAL=2")).hasMessageContaining("frequency");
+        assertThatThrownBy(() -> RecurrencePattern.parse("FREQ=HOURLY")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurrencePattern.parse("FREQ=DAILY;INTERVAL=0")).hasMessageContaining("interval");
+        assertThatThrownBy(() -> RecurrencePattern.parse("FREQ=DAILY;INTERVAL=x")).hasMessageContaining("INTERVAL=X");
+        assertThatThrownBy(() -> RecurrencePattern.parse("FREQ=MONTHLY;BYMONTHDAY=32")).hasMessageContaining("BYMONTHDAY");
+        assertThatThrownBy(() -> RecurrencePattern.parse("FREQ=WEEKLY;BYMONTHDAY=1")).hasMessageContaining("monthly");
+        assertThatThrownBy(() -> RecurrencePattern.parse("FREQ=DAILY;COUNT=0")).hasMessageContaining("COUNT");
+        assertThatThrownBy(() -> RecurrencePattern.parse("FREQ=DAILY;UNTIL=2026-12-31")).hasMessageContaining("UNTIL");
+        assertThatThrownBy(() -> RecurrencePattern.parse("FREQ=DAILY;BYDAY=MO")).hasMessageContaining("BYDAY");
+    }
+
+    @Test
+    void occurrencesStepByInterval() {
+        LocalDate start = LocalDate.of(2026, 3, 10);
+
+        assertThat(RecurrencePattern.parse("FREQ=DAILY;INTERVAL=3").occurrence(start, 2)).isEqualTo("2026-03-16");
+        assertThat(RecurrencePattern.parse("FREQ=WEEKLY;INTERVAL=2").occurrence(start, 1)).isEqualTo("2026-03-24");
+        assertThat(RecurrencePattern.parse("FREQ=YEARLY").occurrence(start, 4)).isEqualTo("2030-03-10");
+        assertThat(RecurrencePattern.parse("FREQ=YEARLY").occurrence(start, 0)).isEqualTo(start);
+    }
+
+    @Test
+    void monthlyOccurrencesDoNotDriftAfterAShortMonth() {
+        RecurrencePattern monthly = RecurrencePattern.parse("MONTHLY");
+        LocalDate start = LocalDate.of(2026, 1, 31);
+
+        assertThat(monthly.occurrence(start, 1)).isEqualTo("2026-02-28");
+        assertThat(monthly.occurrence(start, 2)).isEqualTo("2026-03-31");
+        assertThat(monthly.occurrence(start, 3)).isEqualTo("2026-04-30");
+    }
+
+    @Test
+    void byMonthDayIsClampedToTheEndOfTheMonth() {
+        RecurrencePattern pattern = RecurrencePattern.parse("FREQ=MONTHLY;BYMONTHDAY=30");
+        LocalDate start = LocalDate.of(2026, 1, 5);
+
+        assertThat(pattern.occurrence(start, 0)).isEqualTo(start);
+        assertThat(pattern.occurrence(start, 1)).isEqualTo("2026-02-28");
+        assertThat(pattern.occurrence(start, 2)).isEqualTo("2026-03-30");
+    }
+
+    @Test
+    void permitsOccurrencesWithinCountAndUntil() {
+        RecurrencePattern pattern = RecurrencePattern.parse("FREQ=DAILY;COUNT=3;UNTIL=20260310");
+
+        assertThat(pattern.permits(2, LocalDate.of(2026, 3, 10))).isTrue();
+        assertThat(pattern.permits(3, LocalDate.of(2026, 3, 1))).isFalse();
+        assertThat(pattern.permits(0, LocalDate.of(2026, 3, 11))).isFalse();
+        assertThat(RecurrencePattern.parse("DAILY").permits(10_000, LocalDate.of(2100, 1, 1))).isTrue();
+    }
+}
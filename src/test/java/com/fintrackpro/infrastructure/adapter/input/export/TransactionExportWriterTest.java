@@ -0,0 +1,106 @@
+package com.fintrackpro.infrastructure.adapter.input.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fintrackpro.domain.model.TransactionListItem;
+import com.fintrackpro.domain.valueobject.ExportFormat;
+import com.fintrackpro.domain.valueobject.TransactionStatus;
+import com.fintrackpro.domain.valueobject.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransactionExportWriterTest {
+
+    // Like the application's mapper: dates as ISO strings
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Test
+    void csvHasAHeaderAndOneCrlfTerminatedLinePerRow() throws IOException {
+        String csv = export(ExportFormat.CSV, List.of(
+                expense(1L, "12.50", "Lunch", null, null),
+                transfer(2L)));
+
+        assertThat(csv).isEqualTo(
+                "id,transaction_date,type,amount,currency,description,payee,status,tags,wallet_id,category_id,to_wallet_id,recurring\r\n"
+                        + "1,2026-03-01,EXPENSE,12.50,EUR,Lunch,,COMPLETED,,10,5,,false\r\n"
+                        + "2,2026-03-02,TRANSFER,100,EUR,,,,,10,,20,true\r\n");
+    }
+
+    @Test
+    void csvQuotesTextWithSeparatorsQuotesOrLineBreaks() throws IOException {
+        String csv = export(ExportFormat.CSV, List.of(
+                expense(1L, "1", "Say \"hi\", twice", "Line\nbreak", "a,b")));
+
+        assertThat(csv.lines().skip(1).findFirst().orElseThrow())
+                .isEqualTo("1,2026-03-01,EXPENSE,1,EUR,\"Say \"\"hi\"\", twice\",\"Line");
+        assertThat(csv).contains("break\",COMPLETED,\"a,b\",10,5,,false\r\n");
+    }
+
+    @Test
+    void csvDefusesTextThatSpreadsheetsWouldRunAsFormulas() throws IOException {
+        String csv = export(ExportFormat.CSV, List.of(
+                expense(1L, "1", "=HYPERLINK(\"x\")", "@SUM(A1)", "-1+1")));
+
+        assertThat(csv).contains(",\"'=HYPERLINK(\"\"x\"\")\",'@SUM(A1),COMPLETED,'-1+1,");
+    }
+
+    @Test
+    void ndjsonWritesOneJsonObjectPerLine() throws IOException {
+        String ndjson = export(ExportFormat.NDJSON, List.of(
+                expense(1L, "12.50", "Line\nbreak", null, "food"),
+                transfer(2L)));
+
+        assertThat(ndjson).endsWith("\n");
+        List<String> lines = ndjson.lines().toList();
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("id").asLong()).isEqualTo(1);
+        assertThat(first.get("transactionDate").asText()).isEqualTo("2026-03-01");
+        assertThat(first.get("amount").decimalValue()).isEqualByComparingTo("12.50");
+        assertThat(first.get("description").asText()).isEqualTo("Line\nbreak");
+        assertThat(first.get("tags").asText()).isEqualTo("food");
+        JsonNode second = objectMapper.readTree(lines.get(1));
+        assertThat(second.get("type").asText()).isEqualTo("TRANSFER");
+        assertThat(second.get("toWalletId").asLong()).isEqualTo(20);
+    }
+
+    @Test
+    void emptyExportIsOnlyTheCsvHeaderOrNothing() throws IOException {
+        assertThat(export(ExportFormat.CSV, List.of())).startsWith("id,").endsWith("recurring\r\n");
+        assertThat(export(ExportFormat.NDJSON, List.of())).isEmpty();
+    }
+
+    private String export(ExportFormat format, List<TransactionListItem> rows) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (TransactionExportWriter writer = TransactionExportWriter.create(format, out, objectMapper)) {
+            for (TransactionListItem row : rows) {
+                writer.write(row);
+            }
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static TransactionListItem expense(Long id, String amount, String description, String payee,
+                                               String tags) {
+        return new TransactionListItem(id, 10L, 5L, null, TransactionType.EXPENSE, new BigDecimal(amount), "EUR",
+                LocalDate.of(2026, 3, 1), description, payee, TransactionStatus.COMPLETED, tags, null);
+    }
+
+    private static TransactionListItem transfer(Long id) {
+        return new TransactionListItem(id, 10L, null, 20L, TransactionType.TRANSFER, new BigDecimal("100"), "EUR",
+                LocalDate.of(2026, 3, 2), null, null, null, null, true);
+    }
+}
@@ -0,0 +1,78 @@
+package com.fintrackpro.infrastructure.adapter.output.autocomplete;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixIndexTest {
+
+    @Test
+    void suggestsValuesWithThePrefixIgnoringCaseMostUsedFirst() {
+        PrefixIndex index = PrefixIndex.of(counts("Starbucks", 3L, "Stadtwerke", 7L, "Spotify", 9L, "Rent", 20L));
+
+        assertThat(index.suggest(" st", 10)).containsExactly("Stadtwerke", "Starbucks");
+        assertThat(index.suggest("S", 2)).containsExactly("Spotify", "Stadtwerke");
+        assertThat(index.suggest("x", 10)).isEmpty();
+    }
+
+    @Test
+    void blankPrefixSuggestsFromAllValues() {
+        PrefixIndex index = PrefixIndex.of(counts("Rent", 20L, "Spotify", 9L));
+
+        assertThat(index.suggest(null, 10)).containsExactly("Rent", "Spotify");
+        assertThat(index.suggest("", 1)).containsExactly("Rent");
+    }
+
+    @Test
+    void equalWeightsAreSuggestedAlphabetically() {
+        PrefixIndex index = PrefixIndex.of(counts("Bakery", 2L, "Bank", 2L, "Bar", 2L));
+
+        assertThat(index.suggest("ba", 2)).containsExactly("Bakery", "Bank");
+    }
+
+    @Test
+    void valuesDifferingInCaseShareTheFirstSpelling() {
+        PrefixIndex index = PrefixIndex.of(counts("REWE", 1L, "Rewe ", 4L, "Aldi", 3L));
+
+        assertThat(index.suggest("", 10)).containsExactly("REWE", "Aldi");
+    }
+
+    @Test
+    void applyAddsAndRemovesWeightsWithoutChangingTheOriginal() {
+        PrefixIndex index = PrefixIndex.of(counts("Rent", 2L, "Rewe", 1L));
+
+        PrefixIndex updated = index.apply(Map.of("Rewe", -1, "Restaurant", 5, "rent", 1), 10);
+
+        assertThat(updated.suggest("re", 10)).containsExactly("Restaurant", "Rent");
+        assertThat(index.suggest("re", 10)).containsExactly("Rent", "Rewe");
+    }
+
+    @Test
+    void applyDropsTheLeastUsedValuesOverTheLimit() {
+        PrefixIndex index = PrefixIndex.of(counts("Rent", 9L, "Rewe", 1L));
+
+        PrefixIndex updated = index.apply(Map.of("Aldi", 4), 2);
+
+        assertThat(updated.suggest("", 10)).containsExactly("Rent", "Aldi");
+    }
+
+    @Test
+    void emptiedIndexIsTheSharedEmptyOne() {
+        PrefixIndex index = PrefixIndex.of(counts("Rent", 1L));
+
+        assertThat(index.apply(Map.of("Rent", -1), 10)).isSameAs(PrefixIndex.EMPTY);
+        assertThat(PrefixIndex.EMPTY.estimatedBytes()).isZero();
+        assertThat(index.estimatedBytes()).isPositive();
+    }
+
+    private static Map<String, Long> counts(Object... valuesAndCounts) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (int i = 0; i < valuesAndCounts.length; i += 2) {
+            counts.put((String) valuesAndCounts[i], (Long) valuesAndCounts[i + 1]);
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,223 @@
+package com.fintrackpro.infrastructure.adapter.output.email;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintrackpro.domain.valueobject.OutboxStatus;
+import com.fintrackpro.infrastructure.adapter.output.persistence.entity.EmailOutboxEntity;
+import com.fintrackpro.infrastructure.adapter.output.persistence.repository.JpaEmailOutboxRepository;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxDispatcherTest {
+
+    private static final int BATCH_SIZE = 4;
+    private static final int MESSAGES_PER_CONNECTION = 2;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long BASE_BACKOFF_MS = 1000;
+    private static final String BOUNCE = "bounce@example.com";
+
+    @Mock
+    private JpaEmailOutboxRepository emailOutboxRepository;
+
+    @Mock
+    private EmailRenderer renderer;
+
+    @Mock
+    private JavaMailSender mailSender;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final Session session = Session.getInstance(new Properties());
+    private final List<List<String>> connections = Collections.synchronizedList(new ArrayList<>());
+
+    private EmailOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new EmailOutboxDispatcher(emailOutboxRepository, renderer, mailSender, new ObjectMapper(),
+                new SimpleAsyncTaskExecutor("email-test-"), new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(dispatcher, "fromEmail", "noreply@example.com");
+        ReflectionTestUtils.setField(dispatcher, "batchSize", BATCH_SIZE);
+        ReflectionTestUtils.setField(dispatcher, "messagesPerConnection", MESSAGES_PER_CONNECTION);
+        ReflectionTestUtils.setField(dispatcher, "leaseSeconds", 60);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", MAX_ATTEMPTS);
+        ReflectionTestUtils.setField(dispatcher, "baseBackoffMs", BASE_BACKOFF_MS);
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage(session));
+        when(renderer.render(any(), anyMap()))
+                .thenAnswer(invocation -> new EmailRenderer.RenderedEmail("Welcome", "<p>Hi</p>"));
+    }
+
+    @Test
+    void sendsClaimedEmailsOverOneConnectionPerChunk() {
+        List<EmailOutboxEntity> emails = List.of(email(1, "a@example.com"), email(2, "b@example.com"),
+                email(3, "c@example.com"));
+        when(emailOutboxRepository.lockReady(any(), eq(BATCH_SIZE))).thenReturn(emails);
+        recordSends();
+
+        dispatcher.dispatch();
+
+        assertThat(connections).extracting(List::size).containsExactlyInAnyOrder(2, 1);
+        assertThat(connections.stream().flatMap(List::stream))
+                .containsExactlyInAnyOrder("a@example.com", "b@example.com", "c@example.com");
+        verify(emailOutboxRepository).markProcessing(eq(List.of(1L, 2L, 3L)), any());
+        assertThat(dispatched()).containsExactlyInAnyOrder(1L, 2L, 3L);
+        verify(emailOutboxRepository, never()).reschedule(any(), any(), anyString());
+    }
+
+    @Test
+    void keepsClaimingWhileBatchesComeBackFull() {
+        List<EmailOutboxEntity> full = List.of(email(1, "a@example.com"), email(2, "b@example.com"),
+                email(3, "c@example.com"), email(4, "d@example.com"));
+        when(emailOutboxRepository.lockReady(any(), eq(BATCH_SIZE)))
+                .thenReturn(full, List.of(email(5, "e@example.com")));
+        recordSends();
+
+        dispatcher.dispatch();
+
+        assertThat(connections).hasSize(3);
+        verify(emailOutboxRepository, times(2)).lockReady(any(), eq(BATCH_SIZE));
+    }
+
+    @Test
+    void onlyTheRejectedEmailsOfAConnectionAreRetriedWithBackoff() {
+        EmailOutboxEntity bounced = email(2, BOUNCE);
+        bounced.setAttempts(1);
+        when(emailOutboxRepository.lockReady(any(), eq(BATCH_SIZE)))
+                .thenReturn(List.of(email(1, "a@example.com"), bounced));
+        recordSends();
+        LocalDateTime before = LocalDateTime.now();
+
+        dispatcher.dispatch();
+
+        assertThat(dispatched()).containsExactly(1L);
+        ArgumentCaptor<LocalDateTime> nextAttempt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(emailOutboxRepository).reschedule(eq(2L), nextAttempt.capture(), eq("mailbox unavailable"));
+        // Second attempt waits twice the base backoff
+        assertThat(nextAttempt.getValue())
+                .isAfterOrEqualTo(before.plusNanos(2 * BASE_BACKOFF_MS * 1_000_000))
+                .isBefore(LocalDateTime.now().plusNanos(2 * BASE_BACKOFF_MS * 1_000_000).plusSeconds(1));
+    }
+
+    @Test
+    void emailThatCannotBeRenderedDoesNotHoldBackTheOthers() {
+        EmailOutboxEntity broken = email(2, "b@example.com");
+        broken.setPayload("not json");
+        when(emailOutboxRepository.lockReady(any(), eq(BATCH_SIZE)))
+                .thenReturn(List.of(email(1, "a@example.com"), broken));
+        recordSends();
+
+        dispatcher.dispatch();
+
+        assertThat(connections).containsExactly(List.of("a@example.com"));
+        assertThat(dispatched()).containsExactly(1L);
+        verify(emailOutboxRepository).reschedule(eq(2L), any(), anyString());
+    }
+
+    @Test
+    void connectionFailureRetriesTheWholeChunk() {
+        when(emailOutboxRepository.lockReady(any(), eq(BATCH_SIZE)))
+                .thenReturn(List.of(email(1, "a@example.com"), email(2, "b@example.com")));
+        doAnswer(invocation -> {
+            throw new MailAuthenticationException("bad credentials");
+        }).when(mailSender).send(any(MimeMessage[].class));
+
+        dispatcher.dispatch();
+
+        verify(emailOutboxRepository).reschedule(eq(1L), any(), eq("bad credentials"));
+        verify(emailOutboxRepository).reschedule(eq(2L), any(), eq("bad credentials"));
+        verify(emailOutboxRepository, never()).markDispatched(any(), any());
+    }
+
+    @Test
+    void givesUpAfterTheLastAttempt() {
+        EmailOutboxEntity bounced = email(1, BOUNCE);
+        bounced.setAttempts(MAX_ATTEMPTS - 1);
+        when(emailOutboxRepository.lockReady(any(), eq(BATCH_SIZE))).thenReturn(List.of(bounced));
+        recordSends();
+
+        dispatcher.dispatch();
+
+        verify(emailOutboxRepository).markFailed(1L, "mailbox unavailable");
+        verify(emailOutboxRepository, never()).reschedule(any(), any(), anyString());
+    }
+
+    // Records the recipients sent over each connection; messages to BOUNCE are rejected
+    private void recordSends() {
+        doAnswer(invocation -> {
+            MimeMessage[] messages = (MimeMessage[]) invocation.getRawArguments()[0];
+            List<String> recipients = new ArrayList<>();
+            Map<Object, Exception> rejected = new LinkedHashMap<>();
+            for (MimeMessage message : messages) {
+                String recipient = recipient(message);
+                recipients.add(recipient);
+                if (BOUNCE.equals(recipient)) {
+                    rejected.put(message, new MessagingException("mailbox unavailable"));
+                }
+            }
+            connections.add(recipients);
+            if (!rejected.isEmpty()) {
+                throw new MailSendException(rejected);
+            }
+            return null;
+        }).when(mailSender).send(any(MimeMessage[].class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> dispatched() {
+        ArgumentCaptor<Collection<Long>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(emailOutboxRepository).markDispatched(ids.capture(), any());
+        return List.copyOf(ids.getValue());
+    }
+
+    private static String recipient(MimeMessage message) throws MessagingException {
+        return message.getRecipients(Message.RecipientType.TO)[0].toString();
+    }
+
+    private static EmailOutboxEntity email(long id, String recipient) {
+        return EmailOutboxEntity.builder()
+                .id(id)
+                .emailType(EmailType.WELCOME.name())
+                .recipient(recipient)
+                .payload("{\"name\":\"Alex\"}")
+                .status(OutboxStatus.PROCESSING)
+                .nextAttemptAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
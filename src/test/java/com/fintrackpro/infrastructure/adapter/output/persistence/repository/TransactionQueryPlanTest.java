@@ -0,0 +1,275 @@
+package com.fintrackpro.infrastructure.adapter.output.persistence.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintrackpro.domain.model.TransactionCursor;
+import com.fintrackpro.domain.model.TransactionFilter;
+import com.fintrackpro.domain.model.TransactionListItem;
+import com.fintrackpro.domain.valueobject.TransactionType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Plan regression tests for {@link JpaTransactionRepository}.
+ *
+ * Runs the migrations against a seeded PostgreSQL container, captures the SQL each repository
+ * method issues and fails unless every scan of a transactions partition in its generic plan is
+ * an index scan whose index condition covers the query's key columns: user_id, or id and
+ * transaction_date for lookups by primary key, so they can be pruned to one partition. A scan that reads a whole index and only filters the rows, like the primary
+ * key fallback for a query no other index can serve, fails as well as a sequential scan.
+ * Sequential scans are disabled while planning, so the outcome does not depend on table size
+ * and statistics.
+ *
+ * Archive and partition maintenance queries are left out: they work on whole old partitions,
+ * where a sequential scan is the right plan.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.fintrackpro.infrastructure.adapter.output.persistence.repository.CapturingStatementInspector")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TransactionQueryPlanTest {
+
+    // GENERIC_PLAN needs PostgreSQL 16
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private JpaTransactionRepository transactionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long userId;
+    private Long walletId;
+    private Long categoryId;
+    private Long transactionId;
+    private LocalDate transactionDate;
+
+    // EXPLAIN (GENERIC_PLAN) takes $n placeholders, which only the simple query protocol passes through
+    private Connection planner;
+
+    @BeforeAll
+    void seed() throws SQLException {
+        jdbcTemplate.execute("INSERT INTO users (username, email, password, created_at, updated_at) " +
+                "SELECT 'plan_user_' || g, 'plan_user_' || g || '@example.com', 'x', now(), now() " +
+                "FROM generate_series(1, 200) g");
+        jdbcTemplate.execute("INSERT INTO wallets (user_id, name, wallet_type) " +
+                "SELECT id, 'Main', 'CASH' FROM users WHERE username LIKE 'plan_user_%'");
+        jdbcTemplate.execute("INSERT INTO category (name, type, user_id) " +
+                "SELECT 'Food', 'EXPENSE', id FROM users WHERE username LIKE 'plan_user_%'");
+        // Every partition gets rows, as in production: an empty one is planned with whatever index
+        // is cheapest to read in full, which would say nothing about the indexes a query needs
+        jdbcTemplate.execute("SELECT create_transactions_partition((CURRENT_DATE - g * INTERVAL '1 month')::date) " +
+                "FROM generate_series(1, 4) g");
+        jdbcTemplate.execute("INSERT INTO transactions (user_id, wallet_id, category_id, type, amount, " +
+                "transaction_date, description, tags, deleted) " +
+                "SELECT w.user_id, w.id, c.id, CASE WHEN g % 4 = 0 THEN 'INCOME' ELSE 'EXPENSE' END, " +
+                "(g % 500) + 1, CURRENT_DATE + (g % 240) - 120, 'Seeded ' || g, " +
+                "CASE WHEN g % 3 = 0 THEN ARRAY['food', 'groceries'] END, g % 50 = 0 " +
+                "FROM wallets w JOIN category c ON c.user_id = w.user_id CROSS JOIN generate_series(1, 250) g");
+        jdbcTemplate.execute("ANALYZE");
+
+        userId = jdbcTemplate.queryForObject("SELECT MIN(user_id) FROM transactions", Long.class);
+        walletId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM wallets WHERE user_id = ?", Long.class, userId);
+        categoryId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM category WHERE user_id = ?", Long.class, userId);
+        transactionId = jdbcTemplate.queryForObject(
+                "SELECT MIN(id) FROM transactions WHERE user_id = ? AND deleted = false", Long.class, userId);
+        transactionDate = jdbcTemplate.queryForObject(
+                "SELECT transaction_date FROM transactions WHERE id = ?", LocalDate.class, transactionId);
+
+        Properties properties = new Properties();
+        properties.setProperty("user", postgres.getUsername());
+        properties.setProperty("password", postgres.getPassword());
+        properties.setProperty("preferQueryMode", "simple");
+        planner = DriverManager.getConnection(postgres.getJdbcUrl(), properties);
+        try (Statement statement = planner.createStatement()) {
+            statement.execute("SET enable_seqscan = off");
+        }
+    }
+
+    @AfterAll
+    void closePlanner() throws SQLException {
+        if (planner != null) {
+            planner.close();
+        }
+    }
+
+    Stream<Arguments> repositoryQueries() {
+        LocalDate end = LocalDate.now();
+        LocalDate start = end.minusDays(30);
+        LocalDateTime now = LocalDateTime.now();
+        return Stream.of(
+                byId("findByIdAndDeletedFalse", r -> r.findByIdAndDeletedFalse(transactionId)),
+                query("findListItemsByUserId", r -> r.findListItemsByUserId(userId)),
+                query("findListItemsByUserIdAndWalletId", r -> r.findListItemsByUserIdAndWalletId(userId, walletId)),
+                query("findListItemsByUserIdAndCategoryId", r ->
+                        r.findListItemsByUserIdAndCategoryId(userId, categoryId)),
+                query("findListItemsByUserIdAndType", r ->
+                        r.findListItemsByUserIdAndType(userId, TransactionType.EXPENSE)),
+                query("findListItemsByUserIdAndDateRange", r -> r.findListItemsByUserIdAndDateRange(userId, start, end)),
+                query("findRecentListItemsByUserId", r -> r.findRecentListItemsByUserId(userId, PageRequest.of(0, 10))),
+                byId("findListItemsByIdIn", r -> r.findListItemsByIdIn(List.of(transactionId), List.of(transactionDate))),
+                query("findChangedAfter", r -> r.findChangedAfter(userId, 1000, PageRequest.of(0, 501))),
+                query("searchKeys", r -> r.searchKeys(userId, "seeded", PageRequest.of(2, 20))),
+                query("countByPayee", r -> r.countByPayee(userId, 5000)),
+                query("countByDescription", r -> r.countByDescription(userId, 5000)),
+                query("sumAmountByUserIdAndTypeAndDateRange", r ->
+                        r.sumAmountByUserIdAndTypeAndDateRange(userId, TransactionType.EXPENSE, start, end)),
+                query("sumAmountByUserIdAndTypeGroupByCategory", r ->
+                        r.sumAmountByUserIdAndTypeGroupByCategory(userId, TransactionType.EXPENSE, start, end)),
+                query("sumAmountByUserIdAndTypeGroupByDate", r ->
+                        r.sumAmountByUserIdAndTypeGroupByDate(userId, TransactionType.EXPENSE, start, end)),
+                query("sumAmountByUserIdAndTypeGroupByDayOfWeek", r ->
+                        r.sumAmountByUserIdAndTypeGroupByDayOfWeek(userId, TransactionType.EXPENSE, start, end)),
+                query("sumAmountByUserIdAndTypeGroupByTag", r ->
+                        r.sumAmountByUserIdAndTypeGroupByTag(userId, TransactionType.EXPENSE.name(), start, end)),
+                query("countByUserIdAndDateRange", r -> r.countByUserIdAndDateRange(userId, start, end)),
+                byId("softDeleteById", r -> r.softDeleteById(transactionId, now)),
+                byId("updateReceiptUrl", r -> r.updateReceiptUrl(transactionId, "blob:plan", now)),
+                byId("updateAttachmentUrl", r -> r.updateAttachmentUrl(transactionId, "blob:plan", now)),
+                query("findListItems(filter, page)", r -> r.findListItems(
+                        TransactionSpecification.withFilter(userId, new TransactionFilter(
+                                start, end, null, walletId, TransactionType.EXPENSE, BigDecimal.ONE, null)),
+                        PageRequest.of(3, 20, Sort.by(Sort.Direction.DESC, "transactionDate")))),
+                query("findListItems(tags)", r -> r.findListItems(
+                        TransactionSpecification.withFilter(userId, new TransactionFilter(
+                                null, null, null, null, null, null, null, List.of("food"))),
+                        PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "transactionDate")))),
+                query("streamListItems(export)", r -> {
+                    try (Stream<TransactionListItem> rows = r.streamListItems(
+                            TransactionSpecification.withFilter(userId, new TransactionFilter(
+                                    start, end, null, null, null, null, null)),
+                            Sort.by(Sort.Order.desc("transactionDate"), Sort.Order.desc("id")), 500)) {
+                        rows.limit(1).forEach(row -> { });
+                    }
+                }),
+                query("findListItems(cursor)", r -> r.findListItems(
+                        TransactionSpecification.withFilter(userId, new TransactionFilter(
+                                        null, null, null, null, null, null, null))
+                                .and(TransactionSpecification.after(new TransactionCursor(end.minusDays(10), transactionId))),
+                        Sort.by(Sort.Order.desc("transactionDate"), Sort.Order.desc("id")), 21)));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    void repositoryQueryUsesIndexes(String name, List<String> keyColumns, Consumer<JpaTransactionRepository> query)
+            throws Exception {
+        CapturingStatementInspector.clear();
+        query.accept(transactionRepository);
+        entityManager.flush();
+
+        List<String> statements = CapturingStatementInspector.statements().stream()
+                .filter(sql -> sql.contains("transactions"))
+                .toList();
+        assertThat(statements).as("SQL issued by %s", name).isNotEmpty();
+
+        for (String sql : statements) {
+            JsonNode plan = explain(sql);
+            List<String> unkeyedScans = new ArrayList<>();
+            collectUnkeyedScans(plan, keyColumns, unkeyedScans);
+            assertThat(unkeyedScans)
+                    .as("Scans without an index condition on %s planned for %s:%n%s%n%s", keyColumns, name, sql,
+                            plan.toPrettyString())
+                    .isEmpty();
+        }
+    }
+
+    private static Arguments query(String name, Consumer<JpaTransactionRepository> query) {
+        return Arguments.of(name, List.of("user_id"), query);
+    }
+
+    private static Arguments byId(String name, Consumer<JpaTransactionRepository> query) {
+        return Arguments.of(name, List.of("id", "transaction_date"), query);
+    }
+
+    private JsonNode explain(String sql) throws Exception {
+        try (Statement statement = planner.createStatement();
+             ResultSet result = statement.executeQuery(
+                     "EXPLAIN (GENERIC_PLAN, FORMAT JSON) " + toNumberedParameters(sql))) {
+            result.next();
+            return objectMapper.readTree(result.getString(1)).get(0).get("Plan");
+        }
+    }
+
+    // JDBC placeholders become $1..$n, which EXPLAIN (GENERIC_PLAN) accepts without values
+    private static String toNumberedParameters(String sql) {
+        StringBuilder numbered = new StringBuilder(sql.length() + 16);
+        int parameter = 0;
+        boolean inLiteral = false;
+        for (char c : sql.toCharArray()) {
+            if (c == '\'') {
+                inLiteral = !inLiteral;
+            }
+            if (c == '?' && !inLiteral) {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return numbered.toString();
+    }
+
+    private static void collectUnkeyedScans(JsonNode node, List<String> keyColumns, List<String> unkeyedScans) {
+        String relation = node.path("Relation Name").asText("");
+        String nodeType = node.path("Node Type").asText();
+        if (relation.startsWith("transactions") && nodeType.endsWith("Scan") && !isKeyed(node, keyColumns)) {
+            unkeyedScans.add(nodeType + " on " + relation);
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectUnkeyedScans(child, keyColumns, unkeyedScans);
+        }
+    }
+
+    // Every row the scan reads must be found through the key columns, not just filtered on them
+    private static boolean isKeyed(JsonNode scan, List<String> keyColumns) {
+        List<JsonNode> children = new ArrayList<>();
+        scan.path("Plans").forEach(children::add);
+        return switch (scan.path("Node Type").asText()) {
+            case "Index Scan", "Index Only Scan", "Bitmap Index Scan" -> keyColumns.stream().allMatch(column ->
+                    Pattern.compile("\\b" + column + "\\b").matcher(scan.path("Index Cond").asText("")).find());
+            case "Bitmap Heap Scan" -> children.size() == 1 && isKeyed(children.get(0), keyColumns);
+            case "BitmapAnd" -> children.stream().anyMatch(child -> isKeyed(child, keyColumns));
+            case "BitmapOr" -> !children.isEmpty() && children.stream().allMatch(child -> isKeyed(child, keyColumns));
+            default -> false;
+        };
+    }
+}
@@ -0,0 +1,175 @@
+package com.fintrackpro.infrastructure.datasource;
+
+import com.fintrackpro.infrastructure.etag.UserDataVersionCache;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routes reads between the primary and a second database standing in for a replica.
+ *
+ * The stand-in has the schema but never receives the primary's rows, so a read can tell where
+ * it ran: a user inserted on the primary is only found there.
+ */
+@SpringBootTest(properties = "app.datasource.replica.lag-check-interval-ms=3600000")
+@Testcontainers
+class ReplicaRoutingTest {
+
+    @Container
+    static PostgreSQLContainer<?> primary = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Container
+    static PostgreSQLContainer<?> replica = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final long STICKY_WINDOW_MILLIS = 500;
+
+    @DynamicPropertySource
+    static void dataSources(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", primary::getJdbcUrl);
+        registry.add("spring.datasource.username", primary::getUsername);
+        registry.add("spring.datasource.password", primary::getPassword);
+        registry.add("app.datasource.replica.urls", replica::getJdbcUrl);
+        registry.add("app.datasource.replica.username", replica::getUsername);
+        registry.add("app.datasource.replica.password", replica::getPassword);
+    }
+
+    @BeforeAll
+    static void migrateReplica() {
+        Flyway.configure()
+                .dataSource(replica.getJdbcUrl(), replica.getUsername(), replica.getPassword())
+                .load()
+                .migrate();
+    }
+
+    @Autowired
+    private ReplicaRoutingDataSource dataSource;
+
+    @Autowired
+    private ReplicaLagMonitor lagMonitor;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserDataVersionCache dataVersionCache;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        // The stand-in is not in recovery, so it has no lag
+        lagMonitor.checkLag();
+        assertThat(dataSource.replicas()).allMatch(r -> r.lagMillis() == 0);
+        userId = insertUser("routing-" + System.nanoTime());
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingContext.end();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToTheReplica() {
+        assertThat(userVisible(true)).isFalse();
+    }
+
+    @Test
+    void readWriteTransactionsGoToThePrimary() {
+        assertThat(userVisible(false)).isTrue();
+    }
+
+    @Test
+    void onPrimaryKeepsReadOnlyTransactionsOnThePrimary() {
+        assertThat(ReplicaRoutingContext.onPrimary(() -> userVisible(true))).isTrue();
+    }
+
+    @Test
+    void readsAfterAWriteInTheSameRequestGoToThePrimary() {
+        ReplicaRoutingContext.begin(false);
+        assertThat(userVisible(true)).isFalse();
+
+        userVisible(false);
+
+        assertThat(userVisible(true)).isTrue();
+    }
+
+    @Test
+    void replicasWithUnknownLagAreSkipped() {
+        dataSource.replicas().forEach(r -> r.lagMillis(Replica.UNKNOWN_LAG));
+
+        assertThat(userVisible(true)).isTrue();
+    }
+
+    @Test
+    void readsOfAUserWhoJustWroteStayOnThePrimaryForTheWindow() throws Exception {
+        Long otherUserId = insertUser("other-" + System.nanoTime());
+        AtomicLong currentUser = new AtomicLong();
+        ReadYourWritesInterceptor interceptor =
+                new ReadYourWritesInterceptor(dataVersionCache, currentUser::get, STICKY_WINDOW_MILLIS);
+        // Versions the cache has not seen count as fresh changes; let both users' first sighting age out
+        dataVersionCache.currentVersion(userId);
+        dataVersionCache.currentVersion(otherUserId);
+        Thread.sleep(STICKY_WINDOW_MILLIS + 100);
+
+        currentUser.set(userId);
+        request(interceptor, "POST", () -> true);
+
+        assertThat(request(interceptor, "GET", () -> userVisible(true))).isTrue();
+        currentUser.set(otherUserId);
+        assertThat(request(interceptor, "GET", () -> userVisible(true))).isFalse();
+
+        Thread.sleep(STICKY_WINDOW_MILLIS + 100);
+        currentUser.set(userId);
+        assertThat(request(interceptor, "GET", () -> userVisible(true))).isFalse();
+    }
+
+    private boolean request(ReadYourWritesInterceptor interceptor, String method,
+                            BooleanSupplier handler) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/v1/wallets");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, null);
+        try {
+            return handler.getAsBoolean();
+        } finally {
+            interceptor.afterCompletion(request, response, null, null);
+        }
+    }
+
+    private boolean userVisible(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        Integer count = template.execute(status -> jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM users WHERE id = ?", Integer.class, userId));
+        return count != null && count == 1;
+    }
+
+    // Outside a transaction, so on the primary
+    private Long insertUser(String username) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO users (username, email, password, created_at, updated_at) " +
+                        "VALUES (?, ?, 'x', now(), now()) RETURNING id",
+                Long.class, username, username + "@example.com");
+    }
+}
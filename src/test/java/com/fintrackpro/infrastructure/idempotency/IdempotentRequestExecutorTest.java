@@ -0,0 +1,246 @@
+package com.fintrackpro.infrastructure.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fintrackpro.application.port.output.IdempotencyKeyRepositoryPort;
+import com.fintrackpro.domain.exception.ConflictException;
+import com.fintrackpro.domain.exception.InvalidRequestException;
+import com.fintrackpro.domain.exception.UnprocessableRequestException;
+import com.fintrackpro.domain.model.IdempotencyRecord;
+import com.fintrackpro.domain.valueobject.IdempotencyStatus;
+import com.fintrackpro.infrastructure.adapter.input.dto.response.ApiResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the executor against an in-memory key store whose claims, completions and releases only
+ * become visible when the surrounding transaction commits, as with the database adapter.
+ */
+class IdempotentRequestExecutorTest {
+
+    private static final Long USER = 1L;
+    private static final String KEY = "3f1c9a52-key";
+    private static final String PATH = "/api/v1/transactions";
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final InMemoryKeys keys = new InMemoryKeys();
+    private final AtomicInteger transactions = new AtomicInteger();
+    private final IdempotentRequestExecutor executor = new IdempotentRequestExecutor(
+            keys, () -> USER, objectMapper, new TransactionTemplate(keys.transactionManager(transactions)), 24);
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @Test
+    void requestsWithoutAKeyRunEveryTime() {
+        execute(null, Map.of("amount", 10), created("first"));
+        execute(" ", Map.of("amount", 10), created("first"));
+
+        assertThat(runs).hasValue(2);
+        assertThat(transactions).hasValue(0);
+        assertThat(keys.committed).isEmpty();
+    }
+
+    @Test
+    void retryReplaysTheStoredResponseWithoutRunningAgain() {
+        ResponseEntity<ApiResponse<String>> original = execute(KEY, Map.of("amount", 10), created("first"));
+        ResponseEntity<ApiResponse<String>> replay = execute(KEY, Map.of("amount", 10), created("second"));
+
+        assertThat(runs).hasValue(1);
+        assertThat(replay.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(replay.getBody().getData()).isEqualTo("first");
+        assertThat(replay.getBody().getMessage()).isEqualTo(original.getBody().getMessage());
+        assertThat(keys.committed.get(KEY).isCompleted()).isTrue();
+    }
+
+    @Test
+    void retryOfARecentlyCompletedRequestIsReplayedFromTheCache() {
+        execute(KEY, Map.of("amount", 10), created("first"));
+        execute(KEY, Map.of("amount", 10), created("second"));
+        int transactionsBefore = transactions.get();
+
+        ResponseEntity<ApiResponse<String>> replay = execute(KEY, Map.of("amount", 10), created("third"));
+
+        assertThat(replay.getBody().getData()).isEqualTo("first");
+        assertThat(transactions).hasValue(transactionsBefore);
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void reusingAKeyWithADifferentBodyIsRejected() {
+        execute(KEY, Map.of("amount", 10), created("first"));
+
+        assertThatThrownBy(() -> execute(KEY, Map.of("amount", 11), created("second")))
+                .isInstanceOf(UnprocessableRequestException.class);
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void reusingAKeyOnAnotherPathIsRejected() {
+        execute(KEY, Map.of("amount", 10), created("first"));
+
+        assertThatThrownBy(() -> executor.execute(KEY, "/api/v1/wallets", Map.of("amount", 10), String.class,
+                created("second")))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    void unsuccessfulResponseReleasesTheKey() {
+        execute(KEY, Map.of("amount", 10), () -> ResponseEntity.badRequest().body(ApiResponse.<String>builder().build()));
+        ResponseEntity<ApiResponse<String>> retry = execute(KEY, Map.of("amount", 10), created("second"));
+
+        assertThat(runs).hasValue(2);
+        assertThat(retry.getBody().getData()).isEqualTo("second");
+    }
+
+    @Test
+    void failingRequestRollsBackItsClaim() {
+        assertThatThrownBy(() -> execute(KEY, Map.of("amount", 10), () -> {
+            throw new IllegalStateException("boom");
+        })).hasMessage("boom");
+
+        assertThat(keys.committed).isEmpty();
+        assertThat(execute(KEY, Map.of("amount", 10), created("second")).getBody().getData()).isEqualTo("second");
+    }
+
+    @Test
+    void keyOfARequestStillInProgressIsAConflict() {
+        keys.committed.put(KEY, IdempotencyRecord.builder()
+                .userId(USER)
+                .idempotencyKey(KEY)
+                .requestPath(PATH)
+                .status(IdempotencyStatus.IN_PROGRESS)
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .build());
+
+        assertThatThrownBy(() -> execute(KEY, Map.of("amount", 10), created("second")))
+                .isInstanceOf(ConflictException.class);
+        assertThat(runs).hasValue(0);
+    }
+
+    @Test
+    void rejectsOverlongKeys() {
+        assertThatThrownBy(() -> execute("k".repeat(101), Map.of("amount", 10), created("first")))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    private ResponseEntity<ApiResponse<String>> execute(String key, Object request,
+                                                        Supplier<ResponseEntity<ApiResponse<String>>> action) {
+        return executor.execute(key, PATH, request, String.class, () -> {
+            runs.incrementAndGet();
+            return action.get();
+        });
+    }
+
+    private static Supplier<ResponseEntity<ApiResponse<String>>> created(String data) {
+        return () -> ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success("Created", data));
+    }
+
+    /**
+     * Keys of one user; writes go to {@code pending} and reach {@code committed} on commit.
+     */
+    private static final class InMemoryKeys implements IdempotencyKeyRepositoryPort {
+
+        final Map<String, IdempotencyRecord> committed = new HashMap<>();
+        final Map<String, IdempotencyRecord> cached = new HashMap<>();
+        private Map<String, Optional<IdempotencyRecord>> pending = new HashMap<>();
+
+        PlatformTransactionManager transactionManager(AtomicInteger transactions) {
+            return new PlatformTransactionManager() {
+                @Override
+                public TransactionStatus getTransaction(TransactionDefinition definition) {
+                    transactions.incrementAndGet();
+                    pending = new HashMap<>();
+                    return new SimpleTransactionStatus();
+                }
+
+                @Override
+                public void commit(TransactionStatus status) {
+                    pending.forEach((key, record) -> {
+                        if (record.isPresent()) {
+                            committed.put(key, record.get());
+                        } else {
+                            committed.remove(key);
+                        }
+                    });
+                    pending = new HashMap<>();
+                }
+
+                @Override
+                public void rollback(TransactionStatus status) {
+                    pending = new HashMap<>();
+                }
+            };
+        }
+
+        @Override
+        public Optional<IdempotencyRecord> find(Long userId, String key) {
+            Optional<IdempotencyRecord> record = pending.containsKey(key)
+                    ? pending.get(key)
+                    : Optional.ofNullable(committed.get(key));
+            record.filter(IdempotencyRecord::isCompleted).ifPresent(r -> cached.put(key, r));
+            return record;
+        }
+
+        @Override
+        public Optional<IdempotencyRecord> findCached(Long userId, String key) {
+            return Optional.ofNullable(cached.get(key));
+        }
+
+        @Override
+        public boolean claim(Long userId, String key, String requestPath, byte[] requestHash,
+                             LocalDateTime expiresAt) {
+            if (find(userId, key).filter(record -> !record.isExpired()).isPresent()) {
+                return false;
+            }
+            pending.put(key, Optional.of(IdempotencyRecord.builder()
+                    .userId(userId)
+                    .idempotencyKey(key)
+                    .requestPath(requestPath)
+                    .requestHash(requestHash)
+                    .status(IdempotencyStatus.IN_PROGRESS)
+                    .createdAt(LocalDateTime.now())
+                    .expiresAt(expiresAt)
+                    .build()));
+            return true;
+        }
+
+        @Override
+        public void complete(Long userId, String key, int responseStatus, String responseBody) {
+            IdempotencyRecord claimed = pending.get(key).orElseThrow();
+            pending.put(key, Optional.of(claimed.toBuilder()
+                    .status(IdempotencyStatus.COMPLETED)
+                    .responseStatus(responseStatus)
+                    .responseBody(responseBody)
+                    .build()));
+        }
+
+        @Override
+        public void release(Long userId, String key) {
+            pending.put(key, Optional.empty());
+        }
+
+        @Override
+        public int deleteExpired(LocalDateTime now) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}